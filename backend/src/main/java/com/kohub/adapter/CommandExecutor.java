@@ -0,0 +1,59 @@
+package com.kohub.adapter;
+
+import com.kohub.domain.host.entity.Host;
+
+import java.time.Duration;
+
+/**
+ * 원격 명령 실행 인터페이스
+ * {@link AdapterCapability#ACTION_EXECUTE} 기능을 가진 어댑터가 구현한다.
+ */
+public interface CommandExecutor {
+
+    /**
+     * 호스트에서 명령 실행
+     * @param host 대상 호스트
+     * @param command 실행할 명령
+     * @param timeout 최대 실행 시간
+     * @return 실행 결과
+     */
+    CommandResult execute(Host host, String command, Duration timeout);
+
+    /**
+     * 명령 실행 상태
+     */
+    enum Status {
+        /** 정상 종료 (exit code 0) */
+        SUCCESS,
+        /** 비정상 종료 */
+        FAILED,
+        /** 시간 초과 */
+        TIMEOUT,
+        /** 실행 불가 (SSH 설정 없음 등) */
+        SKIPPED,
+        /** 어댑터 오류 */
+        ERROR
+    }
+
+    /**
+     * 명령 실행 결과
+     */
+    record CommandResult(Status status, Integer exitCode, String output) {
+
+        public static CommandResult of(int exitCode, String output) {
+            return new CommandResult(exitCode == 0 ? Status.SUCCESS : Status.FAILED, exitCode, output);
+        }
+
+        public static CommandResult timeout() {
+            return new CommandResult(Status.TIMEOUT, null, null);
+        }
+
+        public static CommandResult skipped(String reason) {
+            return new CommandResult(Status.SKIPPED, null, reason);
+        }
+
+        public static CommandResult error(String message) {
+            return new CommandResult(Status.ERROR, null, message);
+        }
+    }
+}
@@ -1,18 +1,22 @@
 package com.kohub.adapter;
 
+import com.kohub.adapter.prometheus.PrometheusAdapter;
 import com.kohub.adapter.uptime.UptimeKumaAdapter;
 import com.kohub.common.response.ApiResponse;
+import com.kohub.domain.correlation.service.AlertCorrelationService;
 import com.kohub.domain.host.service.HostAdapterService;
+import com.kohub.domain.ticket.dto.TicketRequest;
 import com.kohub.domain.ticket.dto.TicketResponse;
-import com.kohub.domain.ticket.service.TicketService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 /**
  * Webhook 수신 컨트롤러
@@ -24,7 +28,7 @@ import java.util.UUID;
 public class WebhookController {
 
     private final Map<String, ToolAdapter> adapters;
-    private final TicketService ticketService;
+    private final AlertCorrelationService alertCorrelationService;
     private final HostAdapterService hostAdapterService;
 
     /**
@@ -67,13 +71,21 @@ public class WebhookController {
         final UUID finalHostId = hostId;
         return adapter.handleWebhookWithHostMapping(payload, finalHostId)
                 .map(request -> {
-                    TicketResponse ticket = ticketService.create(request, null);
+                    AlertCorrelationService.Result result = alertCorrelationService.process(List.of(request));
+                    String hostIdValue = finalHostId != null ? finalHostId.toString() : null;
+                    if (result.created().isEmpty()) {
+                        log.info("Webhook 알림을 기존 인시던트에 연결: parentIds={}, hostId={}",
+                                result.parentIds(), finalHostId);
+                        return ResponseEntity.ok(ApiResponse.success(
+                                new WebhookResult(true, "Correlated to open incident",
+                                        firstId(result.parentIds()), hostIdValue)));
+                    }
+                    TicketResponse ticket = result.created().get(0);
                     log.info("Webhook으로 티켓 생성 완료: ticketId={}, hostId={}", 
                             ticket.getId(), finalHostId);
                     return ResponseEntity.ok(ApiResponse.success(
                             new WebhookResult(true, "Ticket created", 
-                                    ticket.getId().toString(), 
-                                    finalHostId != null ? finalHostId.toString() : null)));
+                                    ticket.getId().toString(), hostIdValue)));
                 })
                 .orElseGet(() -> {
                     log.info("Webhook 처리됨 (티켓 생성 없음)");
@@ -84,6 +96,9 @@ public class WebhookController {
 
     /**
      * Prometheus Alertmanager Webhook 수신
+     * - 상관 분석을 쓰면 그룹의 firing alert마다 티켓 생성 요청으로 변환하고,
+     *   같은 호스트/태그의 열린 인시던트가 있으면 새 티켓 대신 상위 티켓 활동으로 연결
+     * - 상관 분석을 끄면 첫 번째 firing alert만 티켓으로 생성
      */
     @PostMapping("/prometheus")
     public ResponseEntity<ApiResponse<WebhookResult>> handlePrometheus(
@@ -93,26 +108,43 @@ public class WebhookController {
         log.info("Prometheus Alertmanager Webhook 수신");
         log.debug("Payload: {}", payload);
         
-        ToolAdapter adapter = adapters.get("prometheus");
+        PrometheusAdapter adapter = (PrometheusAdapter) adapters.get(PrometheusAdapter.ADAPTER_NAME);
         if (adapter == null) {
             log.error("prometheus 어댑터를 찾을 수 없습니다");
             return ResponseEntity.ok(ApiResponse.success(
                     new WebhookResult(false, "Adapter not found", null, null)));
         }
         
-        return adapter.handleWebhook(payload, headers)
-                .map(request -> {
-                    TicketResponse ticket = ticketService.create(request, null);
-                    log.info("Prometheus Alert으로 티켓 생성: ticketId={}", ticket.getId());
-                    return ResponseEntity.ok(ApiResponse.success(
-                            new WebhookResult(true, "Ticket created from Prometheus alert", 
-                                    ticket.getId().toString(), null)));
-                })
-                .orElseGet(() -> {
-                    log.info("Prometheus Webhook 처리됨 (티켓 생성 없음 - resolved 또는 무시됨)");
-                    return ResponseEntity.ok(ApiResponse.success(
-                            new WebhookResult(true, "Processed (no ticket created)", null, null)));
-                });
+        // instance 라벨로 호스트 매핑 (상관 분석 키)
+        Function<String, Optional<UUID>> hostByInstance = instance ->
+                hostAdapterService.findHostIdByExternalId(PrometheusAdapter.ADAPTER_NAME, instance);
+        List<TicketRequest> requests = alertCorrelationService.isEnabled()
+                ? adapter.handleWebhookBatch(payload, hostByInstance)
+                : adapter.handleWebhookWithHostMapping(payload, hostByInstance).stream().toList();
+        if (requests.isEmpty()) {
+            log.info("Prometheus Webhook 처리됨 (티켓 생성 없음 - resolved 또는 무시됨)");
+            return ResponseEntity.ok(ApiResponse.success(
+                    new WebhookResult(true, "Processed (no ticket created)", null, null)));
+        }
+
+        // 상관 분석: 같은 인시던트의 alert는 상위 티켓 활동으로 연결
+        AlertCorrelationService.Result result = alertCorrelationService.process(requests);
+        List<TicketResponse> tickets = result.created();
+        log.info("Prometheus Alert 처리: alerts={}, created={}, correlated={}",
+                requests.size(), tickets.size(), result.correlated());
+        if (tickets.size() == 1 && result.correlated() == 0) {
+            return ResponseEntity.ok(ApiResponse.success(
+                    new WebhookResult(true, "Ticket created from Prometheus alert",
+                            tickets.get(0).getId().toString(), null)));
+        }
+        return ResponseEntity.ok(ApiResponse.success(
+                new WebhookResult(true, String.format("%d tickets created, %d alerts correlated from Prometheus alerts",
+                        tickets.size(), result.correlated()),
+                        !tickets.isEmpty() ? tickets.get(0).getId().toString() : firstId(result.parentIds()), null)));
+    }
+
+    private static String firstId(List<UUID> ids) {
+        return ids.isEmpty() ? null : ids.get(0).toString();
     }
 
     /**
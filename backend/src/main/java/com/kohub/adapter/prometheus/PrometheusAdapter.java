@@ -17,6 +17,7 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.*;
+import java.util.function.Function;
 
 /**
  * Prometheus Alertmanager 어댑터
@@ -62,34 +63,67 @@ public class PrometheusAdapter implements ToolAdapter {
 
     @Override
     public Optional<TicketRequest> handleWebhook(String payload, Map<String, String> headers) {
+        return handleWebhookWithHostMapping(payload, instance -> Optional.empty());
+    }
+
+    /**
+     * instance 라벨로 호스트를 매핑하여 변환
+     */
+    public Optional<TicketRequest> handleWebhookWithHostMapping(String payload,
+                                                               Function<String, Optional<UUID>> hostByInstance) {
+        // 첫 번째 firing alert 처리
+        return firingAlerts(payload).stream()
+                .findFirst()
+                .map(alert -> createTicketFromAlert(alert, hostOf(alert, hostByInstance)));
+    }
+
+    /**
+     * 그룹의 firing alert 전체를 변환 (상관 분석이 같은 인시던트의 alert를 상위 티켓으로 묶을 때 사용)
+     * 같은 instance는 한 번만 조회한다.
+     */
+    public List<TicketRequest> handleWebhookBatch(String payload, Function<String, Optional<UUID>> hostByInstance) {
+        Map<String, Optional<UUID>> hosts = new HashMap<>();
+        List<TicketRequest> requests = new ArrayList<>();
+        for (JsonNode alert : firingAlerts(payload)) {
+            requests.add(createTicketFromAlert(alert,
+                    hostOf(alert, instance -> hosts.computeIfAbsent(instance, hostByInstance))));
+        }
+        return requests;
+    }
+
+    private List<JsonNode> firingAlerts(String payload) {
         try {
             JsonNode root = objectMapper.readTree(payload);
             JsonNode alerts = root.get("alerts");
             
             if (alerts == null || !alerts.isArray() || alerts.isEmpty()) {
                 log.debug("Prometheus Webhook: alerts 없음");
-                return Optional.empty();
+                return List.of();
             }
 
-            // 첫 번째 firing alert 처리
+            List<JsonNode> firing = new ArrayList<>();
             for (JsonNode alert : alerts) {
                 String status = alert.path("status").asText();
                 if (!"firing".equals(status)) continue;
 
-                return Optional.of(createTicketFromAlert(alert));
+                firing.add(alert);
             }
-
-            return Optional.empty();
+            return firing;
         } catch (Exception e) {
             log.error("Prometheus Webhook 파싱 실패: {}", e.getMessage(), e);
-            return Optional.empty();
+            return List.of();
         }
     }
 
+    private UUID hostOf(JsonNode alert, Function<String, Optional<UUID>> hostByInstance) {
+        String instance = alert.path("labels").path("instance").asText("");
+        return instance.isEmpty() ? null : hostByInstance.apply(instance).orElse(null);
+    }
+
     /**
      * Alert에서 티켓 생성
      */
-    private TicketRequest createTicketFromAlert(JsonNode alert) {
+    private TicketRequest createTicketFromAlert(JsonNode alert, UUID hostId) {
         JsonNode labels = alert.path("labels");
         JsonNode annotations = alert.path("annotations");
 
@@ -107,6 +141,7 @@ public class PrometheusAdapter implements ToolAdapter {
                 .priority(mapSeverityToPriority(severity))
                 .source(com.kohub.domain.ticket.entity.TicketSource.PROMETHEUS)
                 .sourceEventId(String.format("prometheus:%s:%s", alertName, instance))
+                .hostId(hostId)
                 .build();
     }
 
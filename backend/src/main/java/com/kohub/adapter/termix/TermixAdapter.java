@@ -1,17 +1,29 @@
 package com.kohub.adapter.termix;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.kohub.adapter.AdapterCapability;
 import com.kohub.adapter.AdapterType;
+import com.kohub.adapter.CommandExecutor;
 import com.kohub.adapter.ToolAdapter;
 import com.kohub.domain.host.entity.Host;
 import com.kohub.domain.ticket.dto.TicketRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
 
+import java.net.SocketTimeoutException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,12 +32,14 @@ import java.util.UUID;
  * Termix SSH 터미널 어댑터
  * 
  * 호스트에 대한 웹 터미널 접속 URL을 생성하고,
- * 세션 로그를 수집하는 기능을 제공
+ * 세션 로그 수집 및 비대화형 명령 실행 기능을 제공
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class TermixAdapter implements ToolAdapter {
+public class TermixAdapter implements ToolAdapter, CommandExecutor {
+
+    private final RestTemplateBuilder restTemplateBuilder;
 
     @Value("${kohub.termix.base-url:http://localhost:8080}")
     private String baseUrl;
@@ -33,6 +47,9 @@ public class TermixAdapter implements ToolAdapter {
     @Value("${kohub.termix.api-key:}")
     private String apiKey;
 
+    @Value("${kohub.termix.connect-timeout-ms:5000}")
+    private long connectTimeoutMillis;
+
     @Override
     public String getName() {
         return "termix";
@@ -126,6 +143,55 @@ public class TermixAdapter implements ToolAdapter {
         );
     }
     
+    /**
+     * 비대화형 명령 실행 (Termix exec API)
+     * 요청 단위 connect/read timeout으로 호스트별 최대 실행 시간을 보장한다.
+     * (블로킹 I/O는 스레드 인터럽트로 중단되지 않으므로 호출자가 따로 취소하지 않는다)
+     */
+    @Override
+    public CommandResult execute(Host host, String command, Duration timeout) {
+        if (host.getSshConfig() == null || host.getSshConfig().getHost() == null) {
+            return CommandResult.skipped("SSH 설정이 없는 호스트입니다");
+        }
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("host", host.getSshConfig().getHost());
+        body.put("port", host.getSshConfig().getPort() != null ? host.getSshConfig().getPort() : 22);
+        body.put("user", host.getSshConfig().getUsername());
+        body.put("command", command);
+        body.put("timeoutSeconds", timeout.toSeconds());
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (apiKey != null && !apiKey.isBlank()) {
+            headers.setBearerAuth(apiKey);
+        }
+
+        RestTemplate restTemplate = restTemplateBuilder
+                .setConnectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .setReadTimeout(timeout)
+                .build();
+
+        try {
+            ResponseEntity<JsonNode> response = restTemplate.postForEntity(
+                    baseUrl + "/api/exec", new HttpEntity<>(body, headers), JsonNode.class);
+            JsonNode result = response.getBody();
+            if (result == null) {
+                return CommandResult.error("Termix 응답이 비어있습니다");
+            }
+            return CommandResult.of(result.path("exitCode").asInt(-1), result.path("output").asText(""));
+        } catch (ResourceAccessException e) {
+            if (e.getCause() instanceof SocketTimeoutException) {
+                return CommandResult.timeout();
+            }
+            log.warn("Termix 명령 실행 실패: host={}, error={}", host.getName(), e.getMessage());
+            return CommandResult.error(e.getMessage());
+        } catch (Exception e) {
+            log.warn("Termix 명령 실행 실패: host={}, error={}", host.getName(), e.getMessage());
+            return CommandResult.error(e.getMessage());
+        }
+    }
+    
     private String encode(String value) {
         if (value == null) return "";
         return URLEncoder.encode(value, StandardCharsets.UTF_8);
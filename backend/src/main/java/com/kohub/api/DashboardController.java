@@ -1,8 +1,9 @@
 package com.kohub.api;
 
 import com.kohub.common.response.ApiResponse;
+import com.kohub.domain.dashboard.dto.DashboardSummary;
+import com.kohub.domain.dashboard.service.DashboardSnapshotService;
 import com.kohub.domain.host.dto.HostStatsResponse;
-import com.kohub.domain.host.service.HostService;
 import com.kohub.domain.ticket.dto.TicketResponse;
 import com.kohub.domain.ticket.dto.TicketStatsResponse;
 import com.kohub.domain.ticket.service.TicketService;
@@ -23,21 +24,15 @@ import java.util.List;
 @RequiredArgsConstructor
 public class DashboardController {
 
-    private final HostService hostService;
     private final TicketService ticketService;
+    private final DashboardSnapshotService dashboardSnapshotService;
 
     /**
-     * 대시보드 요약 정보
+     * 대시보드 요약 정보 (변경 이벤트로 무효화되는 스냅샷)
      */
     @GetMapping("/summary")
     public ApiResponse<DashboardSummary> getSummary() {
-        HostStatsResponse hostStats = hostService.getStats();
-        TicketStatsResponse ticketStats = ticketService.getStats();
-        
-        var recentTickets = ticketService.getOpenTickets(PageRequest.of(0, 5))
-                .getContent();
-
-        return ApiResponse.success(new DashboardSummary(hostStats, ticketStats, recentTickets));
+        return ApiResponse.success(dashboardSnapshotService.getSummary());
     }
 
     /**
@@ -45,7 +40,7 @@ public class DashboardController {
      */
     @GetMapping("/hosts-status")
     public ApiResponse<HostStatsResponse> getHostStats() {
-        return ApiResponse.success(hostService.getStats());
+        return ApiResponse.success(dashboardSnapshotService.getHostStats());
     }
 
     /**
@@ -53,7 +48,7 @@ public class DashboardController {
      */
     @GetMapping("/tickets-status")
     public ApiResponse<TicketStatsResponse> getTicketStats() {
-        return ApiResponse.success(ticketService.getStats());
+        return ApiResponse.success(dashboardSnapshotService.getTicketStats());
     }
 
     /**
@@ -66,13 +61,4 @@ public class DashboardController {
                 .getContent();
         return ApiResponse.success(tickets);
     }
-
-    /**
-     * 대시보드 요약 DTO
-     */
-    public record DashboardSummary(
-            HostStatsResponse hosts,
-            TicketStatsResponse tickets,
-            List<TicketResponse> recentTickets
-    ) {}
 }
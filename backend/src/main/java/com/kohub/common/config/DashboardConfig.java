@@ -0,0 +1,26 @@
+package com.kohub.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 대시보드 설정
+ */
+@Configuration
+public class DashboardConfig {
+
+    /**
+     * 대시보드 스냅샷 병렬 계산용 Executor (호스트 통계/티켓 통계/최근 티켓)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor dashboardExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("dashboard-");
+        executor.setCorePoolSize(3);
+        executor.setMaxPoolSize(3);
+        executor.setQueueCapacity(30);
+        executor.initialize();
+        return executor;
+    }
+}
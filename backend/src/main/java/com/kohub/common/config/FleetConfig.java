@@ -0,0 +1,33 @@
+package com.kohub.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 다중 호스트 명령 실행 설정
+ */
+@Configuration
+public class FleetConfig {
+
+    /**
+     * 일괄 실행 워커 Executor
+     * 전체 배치의 동시 실행 수를 max-parallelism으로 제한하고, 나머지 워커는 큐에서 대기한다.
+     * 컨텍스트 종료 시 Spring이 종료한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor fleetCommandExecutor(
+            @Value("${kohub.fleet.max-parallelism:64}") int maxParallelism,
+            @Value("${kohub.fleet.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("fleet-worker-");
+        executor.setCorePoolSize(maxParallelism);
+        executor.setMaxPoolSize(maxParallelism);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setDaemon(true);
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,13 @@
+package com.kohub.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 (카운터 대사 등 주기 작업)
+ * 스레드 수는 spring.task.scheduling.pool.size로 지정한다 (기본 1개면 모든 작업이 한 스레드를 나눠 쓴다).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
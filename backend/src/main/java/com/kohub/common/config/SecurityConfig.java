@@ -28,12 +28,18 @@ import java.util.stream.Collectors;
  * sso.enabled 플래그로 인증 활성화 여부 제어
  * - true: Keycloak JWT 인증 + 공개 API 분리
  * - false: 모든 요청 허용 (개발용)
+ * 운영자 전용 API(OPERATOR_ENDPOINTS)는 SSO 여부와 관계없이 ADMIN/OPERATOR 역할을 요구한다.
  */
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
 public class SecurityConfig {
 
+    /**
+     * 운영자(ADMIN/OPERATOR) 전용 엔드포인트 - 다중 호스트 명령 실행
+     */
+    private static final String[] OPERATOR_ENDPOINTS = {"/api/v1/hosts/commands/**"};
+
     @Value("${sso.enabled:false}")
     private boolean ssoEnabled;
 
@@ -60,6 +66,7 @@ public class SecurityConfig {
                     .requestMatchers("/api/v1/webhooks/**").permitAll()
                     // 인증 API (로그인/토큰 갱신)
                     .requestMatchers("/api/v1/auth/**").permitAll()
+                    .requestMatchers(OPERATOR_ENDPOINTS).hasAnyRole("ADMIN", "OPERATOR")
                     // 나머지는 인증 필요
                     .anyRequest().authenticated()
                 )
@@ -67,8 +74,11 @@ public class SecurityConfig {
                     .jwt(jwt -> jwt.jwtAuthenticationConverter(keycloakJwtAuthenticationConverter()))
                 );
         } else {
-            // SSO 비활성화: 모든 요청 허용 (개발용)
-            http.authorizeHttpRequests(auth -> auth.anyRequest().permitAll());
+            // SSO 비활성화: 운영자 전용 API를 제외한 모든 요청 허용 (개발용)
+            http.authorizeHttpRequests(auth -> auth
+                .requestMatchers(OPERATOR_ENDPOINTS).hasAnyRole("ADMIN", "OPERATOR")
+                .anyRequest().permitAll()
+            );
         }
 
         return http.build();
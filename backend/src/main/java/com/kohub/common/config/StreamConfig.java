@@ -0,0 +1,46 @@
+package com.kohub.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 실시간 스트림(SSE) 설정
+ */
+@Configuration
+public class StreamConfig {
+
+    /**
+     * SSE 전송 전용 Executor (터미널 출력 스트림)
+     * 구독자당 최대 하나의 전송 작업만 점유한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor streamDeliveryExecutor(
+            @Value("${kohub.stream.delivery-threads:8}") int threads,
+            @Value("${kohub.stream.delivery-queue-capacity:1000}") int queueCapacity) {
+        return deliveryExecutor("sse-delivery-", threads, queueCapacity);
+    }
+
+    /**
+     * 변경 피드 전송 전용 Executor
+     * 화면 수만큼 구독자가 붙는 피드가 터미널 출력 전송을 밀어내지 않도록 분리한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor feedDeliveryExecutor(
+            @Value("${kohub.feed.delivery-threads:4}") int threads,
+            @Value("${kohub.feed.delivery-queue-capacity:1000}") int queueCapacity) {
+        return deliveryExecutor("feed-delivery-", threads, queueCapacity);
+    }
+
+    private static ThreadPoolTaskExecutor deliveryExecutor(String threadNamePrefix, int threads, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
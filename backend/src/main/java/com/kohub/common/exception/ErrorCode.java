@@ -22,11 +22,13 @@ public enum ErrorCode {
     HOST_NOT_FOUND("ERR_2001", "호스트를 찾을 수 없습니다", HttpStatus.NOT_FOUND),
     HOST_ALREADY_EXISTS("ERR_2002", "이미 존재하는 호스트입니다", HttpStatus.CONFLICT),
     HOST_CONNECTION_FAILED("ERR_2003", "호스트 연결에 실패했습니다", HttpStatus.BAD_GATEWAY),
+    TERMINAL_SESSION_NOT_FOUND("ERR_2004", "터미널 세션을 찾을 수 없습니다", HttpStatus.NOT_FOUND),
 
     // Ticket 에러 (3xxx)
     TICKET_NOT_FOUND("ERR_3001", "티켓을 찾을 수 없습니다", HttpStatus.NOT_FOUND),
     TICKET_INVALID_STATUS_TRANSITION("ERR_3002", "유효하지 않은 상태 전이입니다", HttpStatus.BAD_REQUEST),
     TICKET_ALREADY_ASSIGNED("ERR_3003", "이미 담당자가 배정된 티켓입니다", HttpStatus.CONFLICT),
+    TICKET_CONCURRENT_MODIFICATION("ERR_3004", "다른 요청이 티켓을 동시에 수정했습니다. 다시 시도해주세요", HttpStatus.CONFLICT),
 
     // Organization 에러 (4xxx)
     ORGANIZATION_NOT_FOUND("ERR_4001", "조직을 찾을 수 없습니다", HttpStatus.NOT_FOUND),
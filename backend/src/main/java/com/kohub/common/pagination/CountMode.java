@@ -0,0 +1,15 @@
+package com.kohub.common.pagination;
+
+/**
+ * 목록 조회 시 전체 건수 계산 방식
+ */
+public enum CountMode {
+    /** 정확한 COUNT 쿼리 실행 (기본값) */
+    EXACT,
+
+    /** COUNT 생략 - 다음 페이지 존재 여부(hasNext)만 제공 */
+    NONE,
+
+    /** 캐시된 추정치 사용 (pg_class.reltuples 또는 캐시된 COUNT) */
+    ESTIMATE
+}
@@ -0,0 +1,60 @@
+package com.kohub.common.pagination;
+
+import com.kohub.common.exception.BusinessException;
+import com.kohub.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.StringJoiner;
+
+/**
+ * 키셋 페이지네이션 커서 인코더
+ *
+ * 마지막 행의 정렬 키를 불투명(opaque) 토큰으로 변환한다.
+ * 토큰 형식: base64url("kind|key1|key2|...")
+ */
+public final class CursorCodec {
+
+    private static final String SEPARATOR = "|";
+
+    private CursorCodec() {
+    }
+
+    /**
+     * 커서 인코딩
+     * @param kind 커서 종류 (다른 목록의 커서 재사용 방지)
+     * @param keys 정렬 키 값
+     */
+    public static String encode(String kind, Object... keys) {
+        StringJoiner joiner = new StringJoiner(SEPARATOR);
+        joiner.add(kind);
+        for (Object key : keys) {
+            joiner.add(String.valueOf(key));
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(joiner.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 디코딩
+     * @return 정렬 키 값 (kind 제외)
+     */
+    public static String[] decode(String cursor, String kind, int keyCount) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != keyCount + 1 || !kind.equals(parts[0])) {
+                throw invalid();
+            }
+            String[] keys = new String[keyCount];
+            System.arraycopy(parts, 1, keys, 0, keyCount);
+            return keys;
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+    }
+
+    private static BusinessException invalid() {
+        return new BusinessException(ErrorCode.INVALID_REQUEST, "유효하지 않은 커서입니다");
+    }
+}
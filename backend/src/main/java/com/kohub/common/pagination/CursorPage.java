@@ -0,0 +1,36 @@
+package com.kohub.common.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋(커서) 페이지
+ * COUNT 쿼리 없이 다음 페이지 존재 여부와 커서만 제공한다.
+ *
+ * @param content 페이지 내용
+ * @param size 요청한 페이지 크기
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ */
+public record CursorPage<T>(List<T> content, int size, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(content.stream().<R>map(mapper).toList(), size, nextCursor);
+    }
+
+    /**
+     * size + 1개 조회 결과로 페이지 생성
+     * @param rows 최대 size + 1개의 행
+     * @param cursorOf 마지막 행 → 커서 변환
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, size, null);
+        }
+        List<T> content = rows.subList(0, size);
+        return new CursorPage<>(content, size, cursorOf.apply(content.get(size - 1)));
+    }
+}
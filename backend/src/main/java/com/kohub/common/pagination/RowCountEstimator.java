@@ -0,0 +1,89 @@
+package com.kohub.common.pagination;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록 전체 건수 추정기
+ *
+ * 필터 없는 목록은 PostgreSQL 통계(pg_class.reltuples)를, 필터 목록은
+ * COUNT 결과를 TTL 동안 캐시하여 매 요청마다 COUNT 쿼리가 실행되지 않도록 한다.
+ */
+@Slf4j
+@Component
+public class RowCountEstimator {
+
+    private static final String RELTUPLES_SQL =
+            "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final Map<String, CachedCount> cache = new ConcurrentHashMap<>();
+
+    public RowCountEstimator(
+            JdbcTemplate jdbcTemplate,
+            @Value("${kohub.pagination.count-cache-ttl-seconds:60}") long ttlSeconds,
+            @Value("${kohub.pagination.count-cache-max-entries:1000}") int maxEntries) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 테이블 전체 행 수 추정
+     * 통계가 없거나(ANALYZE 전) PostgreSQL이 아니면 fallback COUNT를 사용한다.
+     */
+    public long estimateTable(String table, LongSupplier fallback) {
+        return cached("table:" + table, () -> {
+            long estimate = queryReltuples(table);
+            return estimate >= 0 ? estimate : fallback.getAsLong();
+        });
+    }
+
+    /**
+     * COUNT 결과를 TTL 동안 캐시
+     * @param key 목록 + 필터 조합 키
+     */
+    public long cached(String key, LongSupplier counter) {
+        long now = System.nanoTime();
+        CachedCount cachedCount = cache.get(key);
+        if (cachedCount != null && now - cachedCount.loadedAt() < ttlNanos) {
+            return cachedCount.value();
+        }
+        if (cache.size() >= maxEntries) {
+            cache.clear();
+        }
+        long value = counter.getAsLong();
+        cache.put(key, new CachedCount(value, now));
+        return value;
+    }
+
+    /**
+     * 캐시 무효화 (키 접두사 기준)
+     */
+    public void evict(String keyPrefix) {
+        cache.keySet().removeIf(key -> key.startsWith(keyPrefix));
+    }
+
+    private long queryReltuples(String table) {
+        try {
+            Long value = jdbcTemplate.queryForObject(RELTUPLES_SQL, Long.class, table);
+            return value != null ? value : -1;
+        } catch (DataAccessException e) {
+            log.debug("행 수 통계 조회 불가, COUNT 사용: table={}, reason={}", table, e.getMessage());
+            return -1;
+        }
+    }
+
+    private record CachedCount(long value, long loadedAt) {
+    }
+}
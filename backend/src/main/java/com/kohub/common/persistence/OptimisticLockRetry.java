@@ -0,0 +1,95 @@
+package com.kohub.common.persistence;
+
+import com.kohub.common.exception.BusinessException;
+import com.kohub.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 낙관적 잠금 충돌 재시도
+ *
+ * 작업마다 새 트랜잭션을 열고, 버전 충돌(OptimisticLockingFailureException) 시
+ * 최신 상태로 다시 실행한다. 재시도 한도를 넘으면 ERR_3004(CONFLICT)로 응답한다.
+ * 이미 트랜잭션 안에서 호출되면 재시도 없이 호출자 트랜잭션에 참여한다.
+ *
+ * 충돌/재시도 소진 건수는 메트릭으로 노출된다.
+ * - kohub.optimistic_lock.conflicts{operation}
+ * - kohub.optimistic_lock.exhausted{operation}
+ */
+@Slf4j
+@Component
+public class OptimisticLockRetry {
+
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public OptimisticLockRetry(
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${kohub.optimistic-lock.max-attempts:3}") int maxAttempts,
+            @Value("${kohub.optimistic-lock.backoff-ms:20}") long backoffMillis) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+    }
+
+    /**
+     * 충돌 시 재시도하며 작업 실행
+     * @param operation 메트릭/로그용 작업 이름
+     */
+    public <T> T execute(String operation, Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (OptimisticLockingFailureException e) {
+                conflicts(operation).increment();
+                if (attempt >= maxAttempts) {
+                    exhausted(operation).increment();
+                    log.warn("동시 수정 재시도 소진: operation={}, attempts={}", operation, attempt);
+                    throw new BusinessException(ErrorCode.TICKET_CONCURRENT_MODIFICATION);
+                }
+                log.debug("동시 수정 감지, 재시도: operation={}, attempt={}", operation, attempt);
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        if (backoffMillis <= 0) {
+            return;
+        }
+        // 같은 티켓을 다시 동시에 갱신하지 않도록 지터 추가
+        long delay = backoffMillis * attempt + ThreadLocalRandom.current().nextLong(backoffMillis + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.TICKET_CONCURRENT_MODIFICATION);
+        }
+    }
+
+    private Counter conflicts(String operation) {
+        return meterRegistry.counter("kohub.optimistic_lock.conflicts", "operation", operation);
+    }
+
+    private Counter exhausted(String operation) {
+        return meterRegistry.counter("kohub.optimistic_lock.exhausted", "operation", operation);
+    }
+}
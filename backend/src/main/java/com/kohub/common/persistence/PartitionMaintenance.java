@@ -0,0 +1,63 @@
+package com.kohub.common.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 월 파티션 사전 생성
+ *
+ * created_at 월 RANGE 파티션 테이블(V8)에 앞으로 months-ahead 개월치 파티션을 미리 만들어 둔다.
+ * 기본 파티션이 없으므로 범위를 벗어난 INSERT가 실패하지 않도록 기동 시와 매일 실행한다.
+ * PostgreSQL 전용 (kohub.partitioning.enabled=true일 때만 등록)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "kohub.partitioning", name = "enabled", havingValue = "true")
+public class PartitionMaintenance {
+
+    /** 활성 월 파티션 테이블 */
+    static final List<String> PARTITIONED_TABLES = List.of("activities", "notifications");
+
+    private static final String ENSURE_SQL = "SELECT kohub_ensure_monthly_partitions(?, CAST(now() AS date), ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+
+    public PartitionMaintenance(
+            JdbcTemplate jdbcTemplate,
+            @Value("${kohub.partitioning.months-ahead:3}") int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = Math.max(1, monthsAhead);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        ensurePartitions();
+    }
+
+    /**
+     * 파티션 사전 생성 (이미 있으면 건너뜀)
+     */
+    @Scheduled(cron = "${kohub.partitioning.maintenance-cron:0 30 3 * * *}")
+    public void ensurePartitions() {
+        for (String table : PARTITIONED_TABLES) {
+            try {
+                Integer created = jdbcTemplate.queryForObject(ENSURE_SQL, Integer.class, table, monthsAhead);
+                if (created != null && created > 0) {
+                    log.info("월 파티션 생성: table={}, created={}", table, created);
+                }
+            } catch (DataAccessException e) {
+                log.error("월 파티션 생성 실패: table={}", table, e);
+            }
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.kohub.common.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.kohub.common.pagination.CursorPage;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -11,20 +14,40 @@ import java.util.List;
  */
 @Getter
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PageResponse<T> {
     
     private final List<T> data;
     private final PageInfo page;
+    private final CursorInfo cursor;
 
+    /**
+     * 페이지 정보
+     * COUNT 생략 모드에서는 totalElements/totalPages가 없고, 추정 모드에서는 totalEstimated=true
+     */
     @Getter
     @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class PageInfo {
         private final int number;
         private final int size;
-        private final long totalElements;
-        private final int totalPages;
+        private final Long totalElements;
+        private final Integer totalPages;
+        private final Boolean totalEstimated;
         private final boolean first;
         private final boolean last;
+        private final boolean hasNext;
+    }
+
+    /**
+     * 커서 페이지 정보 (COUNT 없음)
+     */
+    @Getter
+    @Builder
+    public static class CursorInfo {
+        private final int size;
+        private final boolean hasNext;
+        private final String nextCursor;
     }
 
     /**
@@ -40,6 +63,58 @@ public class PageResponse<T> {
                         .totalPages(page.getTotalPages())
                         .first(page.isFirst())
                         .last(page.isLast())
+                        .hasNext(page.hasNext())
+                        .build())
+                .build();
+    }
+
+    /**
+     * Spring Data Slice를 PageResponse로 변환 (전체 건수 없음)
+     */
+    public static <T> PageResponse<T> from(Slice<T> slice) {
+        return PageResponse.<T>builder()
+                .data(slice.getContent())
+                .page(sliceInfo(slice).build())
+                .build();
+    }
+
+    /**
+     * Spring Data Slice + 추정 전체 건수를 PageResponse로 변환
+     */
+    public static <T> PageResponse<T> from(Slice<T> slice, long estimatedTotal) {
+        // 마지막 페이지면 정확한 건수를 알 수 있고, 추정치가 조회 위치보다 작으면 보정
+        long seen = (long) slice.getNumber() * slice.getSize() + slice.getNumberOfElements();
+        long total = slice.hasNext() ? Math.max(estimatedTotal, seen + 1) : seen;
+        int totalPages = slice.getSize() == 0 ? 1 : (int) Math.ceil((double) total / slice.getSize());
+        return PageResponse.<T>builder()
+                .data(slice.getContent())
+                .page(sliceInfo(slice)
+                        .totalElements(total)
+                        .totalPages(totalPages)
+                        .totalEstimated(true)
+                        .build())
+                .build();
+    }
+
+    private static PageInfo.PageInfoBuilder sliceInfo(Slice<?> slice) {
+        return PageInfo.builder()
+                .number(slice.getNumber())
+                .size(slice.getSize())
+                .first(slice.isFirst())
+                .last(slice.isLast())
+                .hasNext(slice.hasNext());
+    }
+
+    /**
+     * 커서 페이지를 PageResponse로 변환
+     */
+    public static <T> PageResponse<T> from(CursorPage<T> page) {
+        return PageResponse.<T>builder()
+                .data(page.content())
+                .cursor(CursorInfo.builder()
+                        .size(page.size())
+                        .hasNext(page.hasNext())
+                        .nextCursor(page.nextCursor())
                         .build())
                 .build();
     }
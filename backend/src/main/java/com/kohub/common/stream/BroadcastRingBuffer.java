@@ -0,0 +1,107 @@
+package com.kohub.common.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 브로드캐스트 링 버퍼
+ *
+ * 발행자는 한 번만 기록하고, 각 구독자는 자신의 커서(시퀀스)로 읽는다.
+ * 용량을 넘어 뒤처진 구독자는 최신 위치로 건너뛰며 발행자를 막지 않는다.
+ */
+public class BroadcastRingBuffer<T> {
+
+    private final AtomicReferenceArray<Slot<T>> slots;
+    private final int capacity;
+
+    /**
+     * 다음에 기록될 시퀀스 (= 지금까지 발행된 항목 수)
+     */
+    private volatile long tail = 0L;
+
+    public BroadcastRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * 항목 발행
+     * @return 부여된 시퀀스
+     */
+    public synchronized long publish(T item) {
+        long sequence = tail;
+        slots.set(indexOf(sequence), new Slot<>(sequence, item));
+        tail = sequence + 1;
+        return sequence;
+    }
+
+    /**
+     * 다음 발행 시퀀스
+     */
+    public long tail() {
+        return tail;
+    }
+
+    /**
+     * 버퍼에 남아있는 가장 오래된 시퀀스
+     */
+    public long oldest() {
+        return Math.max(0L, tail - capacity);
+    }
+
+    /**
+     * 커서 위치부터 최대 maxItems개 읽기
+     * 커서가 이미 덮어쓰인 위치라면 최신 위치로 이동하고 건너뛴 개수를 반환한다.
+     */
+    public Batch<T> read(long cursor, int maxItems) {
+        long end = tail;
+        if (cursor < 0 || cursor > end) {
+            cursor = end;
+        }
+        if (cursor < end - capacity) {
+            return new Batch<>(List.of(), cursor, end, end - cursor);
+        }
+
+        List<T> items = new ArrayList<>((int) Math.min(maxItems, end - cursor));
+        long sequence = cursor;
+        while (sequence < end && items.size() < maxItems) {
+            Slot<T> slot = slots.get(indexOf(sequence));
+            if (slot == null || slot.sequence() != sequence) {
+                // 읽는 도중 발행자가 덮어씀 → 최신 위치로 이동
+                long latest = tail;
+                return new Batch<>(items, cursor, latest, latest - sequence);
+            }
+            items.add(slot.item());
+            sequence++;
+        }
+        return new Batch<>(items, cursor, sequence, 0L);
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private int indexOf(long sequence) {
+        return (int) (sequence % capacity);
+    }
+
+    private record Slot<T>(long sequence, T item) {}
+
+    /**
+     * 읽기 결과
+     * @param items 읽은 항목 (firstSequence부터 연속)
+     * @param firstSequence 첫 항목의 시퀀스
+     * @param nextCursor 다음 읽기 커서
+     * @param skipped 뒤처져서 건너뛴 항목 수
+     */
+    public record Batch<T>(List<T> items, long firstSequence, long nextCursor, long skipped) {
+
+        public boolean isEmpty() {
+            return items.isEmpty() && skipped == 0;
+        }
+    }
+}
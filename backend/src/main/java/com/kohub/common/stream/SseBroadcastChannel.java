@@ -0,0 +1,244 @@
+package com.kohub.common.stream;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SSE 팬아웃 채널
+ *
+ * 발행된 항목은 {@link BroadcastRingBuffer}에 한 번만 기록되고,
+ * 구독자마다 자신의 커서로 읽어 전송한다. 구독자별 대기열은 링 버퍼 위의 커서이므로 버퍼 크기로 제한되고,
+ * 뒤처지면 최신 위치로 건너뛴다.
+ *
+ * 전송은 구독자당 최대 하나의 작업으로 공유 Executor에서 수행하며, 작업 하나는 배치 하나만 보내고
+ * 남은 항목은 다시 예약해 스레드를 구독자끼리 번갈아 쓴다. SseEmitter.send는 블로킹이므로
+ * 한 번의 전송이 sendTimeoutMillis를 넘긴 구독자는 다음 발행 시 연결을 끊어 스레드를 돌려받는다.
+ */
+@Slf4j
+public class SseBroadcastChannel<T> {
+
+    /**
+     * 뒤처진 구독자가 최신 위치로 이동했을 때 전송하는 이벤트 이름
+     */
+    public static final String SKIPPED_EVENT = "skipped";
+
+    public static final long DEFAULT_SEND_TIMEOUT_MILLIS = 10_000L;
+
+    private final String name;
+    private final String eventName;
+    private final String idPrefix;
+    private final BroadcastRingBuffer<T> buffer;
+    private final Executor executor;
+    private final int maxBatch;
+    private final long sendTimeoutNanos;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed = false;
+
+    public SseBroadcastChannel(String name, String eventName, int bufferSize, int maxBatch, Executor executor) {
+        this(name, eventName, "", bufferSize, maxBatch, executor);
+    }
+
+    /**
+     * @param idPrefix 이벤트 ID 접두사 (재기동 후 이전 프로세스의 ID로 재개하지 않도록 구분)
+     */
+    public SseBroadcastChannel(String name, String eventName, String idPrefix, int bufferSize, int maxBatch,
+                               Executor executor) {
+        this(name, eventName, idPrefix, bufferSize, maxBatch, DEFAULT_SEND_TIMEOUT_MILLIS, executor);
+    }
+
+    /**
+     * @param sendTimeoutMillis 전송 한 번의 최대 블로킹 시간 (넘기면 구독 해제)
+     */
+    public SseBroadcastChannel(String name, String eventName, String idPrefix, int bufferSize, int maxBatch,
+                               long sendTimeoutMillis, Executor executor) {
+        this.name = name;
+        this.eventName = eventName;
+        this.idPrefix = idPrefix;
+        this.buffer = new BroadcastRingBuffer<>(bufferSize);
+        this.maxBatch = maxBatch;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        this.executor = executor;
+    }
+
+    /**
+     * 항목 발행 (구독자 수와 무관하게 O(구독자) 신호만 보냄)
+     */
+    public long publish(T item) {
+        long sequence = buffer.publish(item);
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            if (isStalled(subscriber, now)) {
+                evict(subscriber, new IOException("전송 시간 초과"));
+                continue;
+            }
+            schedule(subscriber);
+        }
+        return sequence;
+    }
+
+    /**
+     * 버퍼에 남아있는 가장 오래된 항목부터 구독
+     */
+    public SseEmitter subscribe(long timeoutMillis) {
+        return subscribe(buffer.oldest(), timeoutMillis);
+    }
+
+    /**
+     * 지정한 시퀀스부터 구독
+     */
+    public SseEmitter subscribe(long fromSequence, long timeoutMillis) {
+        SseEmitter emitter = createEmitter(timeoutMillis);
+        if (closed) {
+            emitter.complete();
+            return emitter;
+        }
+
+        Subscriber subscriber = new Subscriber(emitter, fromSequence);
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> {
+            subscribers.remove(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        log.debug("스트림 구독 시작: channel={}, from={}, subscribers={}", name, fromSequence, subscribers.size());
+        schedule(subscriber);
+        return emitter;
+    }
+
+    /**
+     * 채널 종료 (남은 항목 전송 후 모든 구독 종료)
+     */
+    public void close() {
+        closed = true;
+        for (Subscriber subscriber : subscribers) {
+            schedule(subscriber);
+        }
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    public long getLatestSequence() {
+        return buffer.tail() - 1;
+    }
+
+    /**
+     * 시퀀스가 아직 버퍼에 남아있는지 (재개 가능 여부)
+     */
+    public boolean isRetained(long sequence) {
+        return sequence >= buffer.oldest() && sequence <= buffer.tail();
+    }
+
+    /**
+     * SSE 응답 생성 (테스트에서 전송을 가로챌 수 있도록 분리)
+     */
+    protected SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private boolean isStalled(Subscriber subscriber, long now) {
+        long started = subscriber.sendStartedAt;
+        return started != 0L && now - started > sendTimeoutNanos;
+    }
+
+    private void evict(Subscriber subscriber, Exception cause) {
+        if (subscribers.remove(subscriber)) {
+            log.warn("느린 구독자 연결 종료: channel={}, reason={}", name, cause.getMessage());
+            subscriber.emitter.completeWithError(cause);
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            // Executor 포화: 다음 발행 시 다시 시도
+            subscriber.draining.set(false);
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            // 배치 하나만 보내고 양보 (남은 항목은 아래에서 다시 예약)
+            BroadcastRingBuffer.Batch<T> batch = buffer.read(subscriber.cursor, maxBatch);
+            if (!batch.isEmpty()) {
+                send(subscriber, batch);
+                subscriber.cursor = batch.nextCursor();
+            }
+            if (closed && subscriber.cursor >= buffer.tail()) {
+                subscribers.remove(subscriber);
+                subscriber.emitter.complete();
+                return;
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("스트림 구독 해제: channel={}, reason={}", name, e.getMessage());
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+
+        // 남은 항목 또는 drain 종료 직후 발행된 항목
+        if ((subscriber.cursor < buffer.tail() || closed) && subscribers.contains(subscriber)) {
+            schedule(subscriber);
+        }
+    }
+
+    private void send(Subscriber subscriber, BroadcastRingBuffer.Batch<T> batch) throws IOException {
+        subscriber.sendStartedAt = System.nanoTime();
+        try {
+            long sequence = batch.firstSequence();
+            for (T item : batch.items()) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(idPrefix + sequence++)
+                        .name(eventName)
+                        .data(item));
+            }
+            if (batch.skipped() > 0) {
+                log.debug("느린 구독자 최신 위치로 이동: channel={}, skipped={}", name, batch.skipped());
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(idPrefix + (batch.nextCursor() - 1))
+                        .name(SKIPPED_EVENT)
+                        .data(Map.of("skipped", batch.skipped())));
+            }
+        } finally {
+            subscriber.sendStartedAt = 0L;
+        }
+    }
+
+    /**
+     * 구독자 (전송 커서 보유)
+     */
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private volatile long cursor;
+        /** 진행 중인 전송 시작 시각 (nanoTime, 0이면 전송 중 아님) */
+        private volatile long sendStartedAt;
+
+        private Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.kohub.common.text;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 키워드 추출 (티켓 키워드 저장과 유사 티켓 검색어에 같은 규칙 적용)
+ */
+public final class KeywordExtractor {
+
+    // 불용어 (검색에서 제외할 단어)
+    private static final Set<String> STOP_WORDS = Set.of(
+            "은", "는", "이", "가", "을", "를", "의", "에", "에서", "으로", "로",
+            "a", "an", "the", "is", "are", "was", "were", "be", "been",
+            "and", "or", "not", "for", "to", "of", "in", "on", "at"
+    );
+
+    /** ticket_keywords.keyword 컬럼 길이 (더 긴 토큰은 해시/덤프 등으로 보고 제외) */
+    public static final int MAX_LENGTH = 100;
+
+    private KeywordExtractor() {
+    }
+
+    /**
+     * 제목 + 설명 키워드
+     */
+    public static Set<String> extract(String title, String description) {
+        return extract((title != null ? title : "") + " " + (description != null ? description : ""));
+    }
+
+    /**
+     * 텍스트에서 키워드 추출 (소문자, 2자 이상 MAX_LENGTH 이하, 불용어 제외)
+     */
+    public static Set<String> extract(String text) {
+        if (text == null || text.isBlank()) {
+            return Set.of();
+        }
+
+        return Arrays.stream(text.toLowerCase()
+                        .replaceAll("[^a-zA-Z0-9가-힣\\s]", " ")
+                        .split("\\s+"))
+                .filter(word -> word.length() >= 2 && word.length() <= MAX_LENGTH)
+                .filter(word -> !STOP_WORDS.contains(word))
+                .collect(Collectors.toSet());
+    }
+}
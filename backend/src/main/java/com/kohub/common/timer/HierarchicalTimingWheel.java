@@ -0,0 +1,211 @@
+package com.kohub.common.timer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계층형 타이밍 휠
+ *
+ * 레벨 i의 슬롯 하나는 wheelSize^i 틱을 담당한다. 타이머는 마감 틱까지의 거리에 맞는 레벨에 들어가고,
+ * 상위 레벨 슬롯 차례가 오면 한 단계 아래로 내려간다(cascade). 슬롯은 이중 연결 리스트라
+ * 등록/취소가 O(1)이며, 틱 진행 비용은 만료·하강하는 타이머 수에만 비례한다.
+ * 최상위 범위(wheelSize^levels 틱)를 넘는 마감은 최상위 마지막 슬롯에 두었다가 차례가 오면 다시 배치한다.
+ *
+ * 스레드 안전 (모든 연산은 인스턴스 잠금으로 직렬화)
+ *
+ * @param <T> 타이머 페이로드
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final Slot<T>[][] levels;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levelCount, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2 || levelCount < 1) {
+            throw new IllegalArgumentException("tickMillis > 0, wheelSize >= 2, levelCount >= 1");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.levels = new Slot[levelCount][wheelSize];
+        for (Slot<T>[] level : levels) {
+            for (int i = 0; i < wheelSize; i++) {
+                level[i] = new Slot<>();
+            }
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * 타이머 등록 (이미 지난 마감은 다음 틱에 만료)
+     */
+    public synchronized Timeout<T> schedule(T payload, long deadlineMillis) {
+        Timeout<T> timeout = new Timeout<>(this, payload, deadlineMillis, Math.max(deadlineMillis / tickMillis, currentTick + 1));
+        place(timeout, currentTick + 1);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * 현재 시각까지 틱을 진행하고 만료된 페이로드를 틱 순서대로 반환
+     */
+    public synchronized List<T> advanceTo(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        List<T> expired = new ArrayList<>();
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            Slot<T> slot = levels[0][(int) Math.floorMod(currentTick, (long) wheelSize)];
+            for (Timeout<T> t = slot.drain(); t != null; ) {
+                Timeout<T> next = t.next;
+                t.next = null;
+                size--;
+                expired.add(t.payload);
+                t = next;
+            }
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    synchronized boolean cancel(Timeout<T> timeout) {
+        if (timeout.slot == null) {
+            return false;
+        }
+        timeout.slot.remove(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * 상위 레벨 경계에 도달하면 해당 슬롯을 비우고 다시 배치
+     */
+    private void cascade() {
+        long span = 1;
+        for (int level = 1; level < levels.length; level++) {
+            span *= wheelSize;
+            if (currentTick % span != 0) {
+                return;
+            }
+            Slot<T> slot = levels[level][(int) Math.floorMod(currentTick / span, (long) wheelSize)];
+            for (Timeout<T> t = slot.drain(); t != null; ) {
+                Timeout<T> next = t.next;
+                t.next = null;
+                t.prev = null;
+                place(t, currentTick);
+                t = next;
+            }
+        }
+    }
+
+    /**
+     * 마감 틱과 현재 틱의 블록 거리가 wheelSize 미만인 가장 낮은 레벨에 배치
+     * (cascade 중에는 현재 틱 슬롯이 곧 비워지므로 earliestTick = currentTick)
+     */
+    private void place(Timeout<T> timeout, long earliestTick) {
+        long tick = Math.max(timeout.deadlineTick, earliestTick);
+        long span = 1;
+        for (int level = 0; level < levels.length; level++) {
+            long block = tick / span;
+            if (block - currentTick / span < wheelSize) {
+                levels[level][(int) Math.floorMod(block, (long) wheelSize)].add(timeout);
+                return;
+            }
+            span *= wheelSize;
+        }
+        // 범위 초과: 최상위 레벨에서 가장 늦게 돌아오는 슬롯에 두고 다시 배치
+        span /= wheelSize;
+        long farthest = currentTick / span + wheelSize - 1;
+        levels[levels.length - 1][(int) Math.floorMod(farthest, (long) wheelSize)].add(timeout);
+    }
+
+    /**
+     * 등록된 타이머 핸들
+     */
+    public static final class Timeout<T> {
+        private final HierarchicalTimingWheel<T> wheel;
+        private final T payload;
+        private final long deadlineMillis;
+        private final long deadlineTick;
+        private Slot<T> slot;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(HierarchicalTimingWheel<T> wheel, T payload, long deadlineMillis, long deadlineTick) {
+            this.wheel = wheel;
+            this.payload = payload;
+            this.deadlineMillis = deadlineMillis;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public T payload() {
+            return payload;
+        }
+
+        public long deadlineMillis() {
+            return deadlineMillis;
+        }
+
+        /**
+         * 취소 (O(1))
+         * @return 대기 중이던 타이머를 취소했으면 true, 이미 만료/취소되었으면 false
+         */
+        public boolean cancel() {
+            return wheel.cancel(this);
+        }
+    }
+
+    /**
+     * 슬롯 (이중 연결 리스트)
+     */
+    private static final class Slot<T> {
+        private Timeout<T> head;
+
+        void add(Timeout<T> timeout) {
+            timeout.slot = this;
+            timeout.prev = null;
+            timeout.next = head;
+            if (head != null) {
+                head.prev = timeout;
+            }
+            head = timeout;
+        }
+
+        void remove(Timeout<T> timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.slot = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+
+        /**
+         * 슬롯을 비우고 기존 목록의 머리를 반환 (각 노드는 슬롯에서 분리된 상태)
+         */
+        Timeout<T> drain() {
+            Timeout<T> first = head;
+            head = null;
+            for (Timeout<T> t = first; t != null; t = t.next) {
+                t.slot = null;
+                t.prev = null;
+            }
+            return first;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.kohub.domain.ai.repository;
+
+import com.kohub.domain.ai.service.TicketKeywordRow;
+import com.kohub.domain.ticket.entity.Ticket;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 유사 티켓 색인용 조회 (해결책이 있는 COMPLETED/CLOSED 티켓, 저장된 키워드만 조회)
+ */
+@org.springframework.stereotype.Repository
+public interface SimilarTicketRepository extends Repository<Ticket, UUID> {
+
+    String RESOLVED = "t.status IN (com.kohub.domain.ticket.entity.TicketStatus.COMPLETED, "
+            + "com.kohub.domain.ticket.entity.TicketStatus.CLOSED) "
+            + "AND t.resolutionSummary IS NOT NULL AND TRIM(t.resolutionSummary) <> '' ";
+
+    /**
+     * 색인 대상 첫 페이지 (id 순 키셋)
+     */
+    @Query("SELECT t.id FROM Ticket t WHERE " + RESOLVED + "ORDER BY t.id")
+    List<UUID> findResolvedIds(Limit limit);
+
+    /**
+     * 색인 대상 다음 페이지 (afterId 이후)
+     */
+    @Query("SELECT t.id FROM Ticket t WHERE " + RESOLVED + "AND t.id > :afterId ORDER BY t.id")
+    List<UUID> findResolvedIdsAfter(@Param("afterId") UUID afterId, Limit limit);
+
+    /**
+     * 색인 대상 여부
+     */
+    @Query("SELECT COUNT(t) > 0 FROM Ticket t WHERE " + RESOLVED + "AND t.id = :id")
+    boolean isResolved(@Param("id") UUID id);
+
+    /**
+     * 티켓별 저장된 키워드
+     */
+    @Query("SELECT new com.kohub.domain.ai.service.TicketKeywordRow(t.id, k) "
+            + "FROM Ticket t JOIN t.keywords k WHERE t.id IN :ids")
+    List<TicketKeywordRow> findKeywords(@Param("ids") Collection<UUID> ids);
+}
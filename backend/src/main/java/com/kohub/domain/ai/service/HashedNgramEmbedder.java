@@ -0,0 +1,87 @@
+package com.kohub.domain.ai.service;
+
+import java.util.Set;
+
+/**
+ * 해시 n-gram 임베딩 (외부 모델 없이 CPU에서 계산)
+ *
+ * 키워드 자체와 키워드의 문자 n-gram(경계 표시 포함)을 dimension 차원에 부호 있는 특징 해싱으로 더한 뒤 L2 정규화한다.
+ * 문자 n-gram은 "디스크"/"디스크가", "timeout"/"timeouts"처럼 형태가 조금 다른 키워드도 가깝게 만든다.
+ * 같은 입력이면 인스턴스와 재기동에 관계없이 같은 벡터가 나온다 (스냅샷 호환).
+ */
+public class HashedNgramEmbedder {
+
+    private static final float KEYWORD_WEIGHT = 2.0f;
+    private static final float NGRAM_WEIGHT = 1.0f;
+
+    private final int dimension;
+    private final int ngram;
+
+    public HashedNgramEmbedder(int dimension, int ngram) {
+        if (dimension <= 0 || ngram <= 0) {
+            throw new IllegalArgumentException("dimension > 0, ngram > 0");
+        }
+        this.dimension = dimension;
+        this.ngram = ngram;
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    public int ngram() {
+        return ngram;
+    }
+
+    /**
+     * 키워드 집합 임베딩 (키워드가 없으면 영벡터)
+     */
+    public float[] embed(Set<String> keywords) {
+        float[] vector = new float[dimension];
+        for (String keyword : keywords) {
+            add(vector, hash(keyword, 0, keyword.length(), 0x9E3779B9), KEYWORD_WEIGHT);
+            String padded = "<" + keyword + ">";
+            if (padded.length() <= ngram) {
+                continue;
+            }
+            for (int i = 0; i + ngram <= padded.length(); i++) {
+                add(vector, hash(padded, i, i + ngram, 0x85EBCA6B), NGRAM_WEIGHT);
+            }
+        }
+        normalize(vector);
+        return vector;
+    }
+
+    private void add(float[] vector, int hash, float weight) {
+        // 하위 비트로 차원, 최상위 비트로 부호 (충돌이 서로 상쇄되도록)
+        vector[Math.floorMod(hash, dimension)] += hash < 0 ? -weight : weight;
+    }
+
+    private static int hash(String text, int from, int to, int seed) {
+        int h = seed;
+        for (int i = from; i < to; i++) {
+            h = (h ^ text.charAt(i)) * 0x01000193;
+        }
+        // murmur3 fmix32
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static void normalize(float[] vector) {
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        if (norm == 0) {
+            return;
+        }
+        float scale = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= scale;
+        }
+    }
+}
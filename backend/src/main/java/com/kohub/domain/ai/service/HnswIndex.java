@@ -0,0 +1,642 @@
+package com.kohub.domain.ai.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * HNSW 벡터 유사 티켓 색인 (프로세스 내, 외부 벡터 DB 없음)
+ *
+ * 해결 티켓 키워드를 {@link HashedNgramEmbedder}로 임베딩해 계층형 근접 그래프(HNSW)에 넣고,
+ * 상위 계층에서 탐욕 탐색으로 진입점을 좁힌 뒤 0계층에서 efSearch 폭으로 코사인 k-NN을 찾는다.
+ * 계층당 이웃 수는 최대 m(0계층 2m)이며 이웃은 다양성 휴리스틱으로 고른다.
+ *
+ * 삽입은 증분이고, 수정/제거된 티켓은 삭제 표시 후 탐색 경로로만 쓰며 결과에서 뺀다.
+ * 전체 교체 시 바뀐 티켓만 반영하고, 삭제 표시가 많아지면 새 그래프를 잠금 밖에서 만들어 교체한다.
+ * 교체 중 들어온 변경은 반영/교체 직전에 다시 적용하여 잃지 않는다.
+ * 그래프는 파일 스냅샷으로 저장/복원할 수 있어 재기동 시 전체 재삽입을 피한다.
+ *
+ * 스레드 안전 (검색은 읽기 잠금, 색인 변경은 쓰기 잠금)
+ */
+public class HnswIndex implements SimilarTicketEngine {
+
+    private static final int SNAPSHOT_MAGIC = 0x4B484E53;
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final double COMPACT_RATIO = 0.25;
+
+    private final HashedNgramEmbedder embedder;
+    private final int m;
+    private final int efConstruction;
+    private final int efSearch;
+
+    private Graph graph;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    /**
+     * 전체 교체 중 들어온 변경 (티켓 → 벡터, 제거는 null), 교체 중이 아니면 null (쓰기 잠금으로 보호)
+     */
+    private Map<UUID, float[]> pendingWrites;
+
+    public HnswIndex(HashedNgramEmbedder embedder, int m, int efConstruction, int efSearch) {
+        if (m < 2 || efConstruction < m || efSearch <= 0) {
+            throw new IllegalArgumentException("m >= 2, efConstruction >= m, efSearch > 0");
+        }
+        this.embedder = embedder;
+        this.m = m;
+        this.efConstruction = efConstruction;
+        this.efSearch = efSearch;
+        this.graph = new Graph();
+    }
+
+    /**
+     * 전체 교체
+     * 차이 계산과 재구성은 쓰기 잠금 밖에서 하므로, 그동안 들어온 put/remove를 기록해 두었다가
+     * 반영/교체 직전에 같은 쓰기 잠금 안에서 다시 적용한다 (전체 교체끼리는 직렬화).
+     */
+    @Override
+    public void replaceAll(Map<UUID, Set<String>> keywordsByTicket) {
+        rebuildLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                pendingWrites = new LinkedHashMap<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            try {
+                replace(keywordsByTicket);
+            } finally {
+                lock.writeLock().lock();
+                try {
+                    pendingWrites = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void replace(Map<UUID, Set<String>> keywordsByTicket) {
+        Map<UUID, float[]> vectors = new HashMap<>(keywordsByTicket.size() * 4 / 3 + 1);
+        keywordsByTicket.forEach((ticketId, keywords) -> {
+            if (!keywords.isEmpty()) {
+                vectors.put(ticketId, embedder.embed(keywords));
+            }
+        });
+
+        // 바뀐 티켓만 계산 (읽기 잠금)
+        List<UUID> removed = new ArrayList<>();
+        List<UUID> changed = new ArrayList<>();
+        int deleted;
+        int total;
+        lock.readLock().lock();
+        try {
+            graph.byTicket.keySet().forEach(ticketId -> {
+                if (!vectors.containsKey(ticketId)) {
+                    removed.add(ticketId);
+                }
+            });
+            vectors.forEach((ticketId, vector) -> {
+                Integer node = graph.byTicket.get(ticketId);
+                if (node == null || !Arrays.equals(graph.nodes.get(node).vector, vector)) {
+                    changed.add(ticketId);
+                }
+            });
+            deleted = graph.deleted;
+            total = graph.nodes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        int garbage = deleted + removed.size() + changed.size();
+        if (total == 0 || garbage > COMPACT_RATIO * (total + changed.size())) {
+            // 새 그래프를 잠금 밖에서 구성 후 교체
+            Graph rebuilt = new Graph();
+            vectors.forEach(rebuilt::insert);
+            lock.writeLock().lock();
+            try {
+                pendingWrites.forEach(rebuilt::put);
+                graph = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            removed.forEach(graph::delete);
+            changed.forEach(ticketId -> {
+                graph.delete(ticketId);
+                graph.insert(ticketId, vectors.get(ticketId));
+            });
+            pendingWrites.forEach(graph::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void put(UUID ticketId, Set<String> keywords) {
+        float[] vector = keywords.isEmpty() ? null : embedder.embed(keywords);
+        lock.writeLock().lock();
+        try {
+            graph.put(ticketId, vector);
+            if (pendingWrites != null) {
+                pendingWrites.put(ticketId, vector);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(UUID ticketId) {
+        lock.writeLock().lock();
+        try {
+            graph.delete(ticketId);
+            if (pendingWrites != null) {
+                pendingWrites.put(ticketId, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 코사인 유사도 k-NN
+     */
+    @Override
+    public List<Match> search(Set<String> keywords, UUID excludeId, double minSimilarity, int limit) {
+        if (keywords.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        float[] query = embedder.embed(keywords);
+        TopMatches top = new TopMatches(limit);
+
+        lock.readLock().lock();
+        try {
+            if (graph.entryPoint < 0) {
+                return List.of();
+            }
+            int entry = graph.entryPoint;
+            for (int level = graph.maxLevel; level > 0; level--) {
+                entry = graph.greedy(query, entry, level);
+            }
+            LongHeap found = graph.searchLayer(query, entry, Math.max(efSearch, limit + 1), 0);
+            while (found.size() > 0) {
+                long scored = found.pop();
+                Node node = graph.nodes.get(nodeOf(scored));
+                if (node.deleted || node.ticketId.equals(excludeId)) {
+                    continue;
+                }
+                double similarity = 1 - distanceOf(scored);
+                if (similarity > minSimilarity) {
+                    top.offer(node.ticketId, similarity);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return top.ranked();
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return graph.byTicket.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제 표시된 노드 수
+     */
+    public int deletedCount() {
+        lock.readLock().lock();
+        try {
+            return graph.deleted;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 스냅샷 저장 (임시 파일에 쓴 뒤 교체)
+     */
+    public void save(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        lock.readLock().lock();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeInt(embedder.dimension());
+            out.writeInt(embedder.ngram());
+            out.writeInt(m);
+            out.writeInt(graph.nodes.size());
+            out.writeInt(graph.entryPoint);
+            out.writeInt(graph.maxLevel);
+            for (Node node : graph.nodes) {
+                out.writeLong(node.ticketId.getMostSignificantBits());
+                out.writeLong(node.ticketId.getLeastSignificantBits());
+                out.writeBoolean(node.deleted);
+                out.writeInt(node.level());
+                for (float value : node.vector) {
+                    out.writeFloat(value);
+                }
+                for (int level = 0; level <= node.level(); level++) {
+                    out.writeInt(node.counts[level]);
+                    for (int i = 0; i < node.counts[level]; i++) {
+                        out.writeInt(node.neighbors[level][i]);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 스냅샷 복원 (임베딩/그래프 설정이 다르면 IOException, 현재 색인은 유지)
+     */
+    public void load(Path path) throws IOException {
+        Graph loaded = new Graph();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                throw new IOException("HNSW 스냅샷 형식이 아닙니다: " + path);
+            }
+            int dimension = in.readInt();
+            int ngram = in.readInt();
+            int snapshotM = in.readInt();
+            if (dimension != embedder.dimension() || ngram != embedder.ngram() || snapshotM != m) {
+                throw new IOException("HNSW 스냅샷 설정 불일치: dimension=" + dimension + ", ngram=" + ngram
+                        + ", m=" + snapshotM);
+            }
+            int count = in.readInt();
+            loaded.entryPoint = in.readInt();
+            loaded.maxLevel = in.readInt();
+            for (int index = 0; index < count; index++) {
+                UUID ticketId = new UUID(in.readLong(), in.readLong());
+                boolean deleted = in.readBoolean();
+                int nodeLevel = in.readInt();
+                float[] vector = new float[dimension];
+                for (int i = 0; i < dimension; i++) {
+                    vector[i] = in.readFloat();
+                }
+                Node node = new Node(ticketId, vector, nodeLevel, m);
+                for (int level = 0; level <= nodeLevel; level++) {
+                    int neighbors = in.readInt();
+                    for (int i = 0; i < neighbors; i++) {
+                        node.neighbors[level][i] = in.readInt();
+                    }
+                    node.counts[level] = neighbors;
+                }
+                node.deleted = deleted;
+                loaded.nodes.add(node);
+                if (deleted) {
+                    loaded.deleted++;
+                } else {
+                    loaded.byTicket.put(ticketId, index);
+                }
+            }
+        } catch (RuntimeException e) {
+            throw new IOException("HNSW 스냅샷을 읽을 수 없습니다: " + path, e);
+        }
+        swap(loaded);
+    }
+
+    private void swap(Graph replacement) {
+        lock.writeLock().lock();
+        try {
+            graph = replacement;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 코사인 거리 (정규화 벡터, 1 - 내적, 0 이상)
+     */
+    private static float distance(float[] a, float[] b) {
+        float dot = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+        }
+        return Math.max(0f, 1 - dot);
+    }
+
+    /**
+     * (거리, 노드)를 long 하나로 (음이 아닌 float 비트는 크기 순서와 같음)
+     */
+    private static long scored(float distance, int node) {
+        return ((long) Float.floatToIntBits(distance) << 32) | node;
+    }
+
+    private static int nodeOf(long scored) {
+        return (int) scored;
+    }
+
+    private static float distanceOf(long scored) {
+        return Float.intBitsToFloat((int) (scored >>> 32));
+    }
+
+    private static final class Node {
+        private final UUID ticketId;
+        private final float[] vector;
+        private final int[][] neighbors;
+        private final int[] counts;
+        private boolean deleted;
+
+        private Node(UUID ticketId, float[] vector, int level, int m) {
+            this.ticketId = ticketId;
+            this.vector = vector;
+            this.neighbors = new int[level + 1][];
+            this.counts = new int[level + 1];
+            for (int i = 0; i <= level; i++) {
+                neighbors[i] = new int[i == 0 ? 2 * m : m];
+            }
+        }
+
+        private int level() {
+            return neighbors.length - 1;
+        }
+    }
+
+    /**
+     * 그래프 상태 (교체 단위)
+     */
+    private final class Graph {
+        private final List<Node> nodes = new ArrayList<>();
+        private final Map<UUID, Integer> byTicket = new HashMap<>();
+        private final SplittableRandom random = new SplittableRandom(0x5DEECE66DL);
+        private final double levelFactor = 1 / Math.log(m);
+        private int entryPoint = -1;
+        private int maxLevel = -1;
+        private int deleted;
+
+        /**
+         * 티켓 반영 (벡터가 같으면 그대로, null이면 제거)
+         */
+        private void put(UUID ticketId, float[] vector) {
+            Integer node = byTicket.get(ticketId);
+            if (node != null && vector != null && Arrays.equals(nodes.get(node).vector, vector)) {
+                return;
+            }
+            delete(ticketId);
+            if (vector != null) {
+                insert(ticketId, vector);
+            }
+        }
+
+        private void delete(UUID ticketId) {
+            Integer node = byTicket.remove(ticketId);
+            if (node != null) {
+                nodes.get(node).deleted = true;
+                deleted++;
+            }
+        }
+
+        private void insert(UUID ticketId, float[] vector) {
+            int level = (int) Math.floor(-Math.log(1 - random.nextDouble()) * levelFactor);
+            int index = nodes.size();
+            Node node = new Node(ticketId, vector, level, m);
+            nodes.add(node);
+            byTicket.put(ticketId, index);
+            if (entryPoint < 0) {
+                entryPoint = index;
+                maxLevel = level;
+                return;
+            }
+
+            int entry = entryPoint;
+            for (int l = maxLevel; l > level; l--) {
+                entry = greedy(vector, entry, l);
+            }
+            for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+                long[] candidates = searchLayer(vector, entry, efConstruction, l).drainAscending();
+                int[] selected = selectNeighbors(candidates, node.neighbors[l].length);
+                System.arraycopy(selected, 0, node.neighbors[l], 0, selected.length);
+                node.counts[l] = selected.length;
+                for (int neighbor : selected) {
+                    connect(neighbor, index, l);
+                }
+                entry = nodeOf(candidates[0]);
+            }
+            if (level > maxLevel) {
+                entryPoint = index;
+                maxLevel = level;
+            }
+        }
+
+        /**
+         * 해당 계층에서 가장 가까운 노드로 이동을 반복
+         */
+        private int greedy(float[] query, int entry, int level) {
+            int current = entry;
+            float best = distance(query, nodes.get(current).vector);
+            boolean moved = true;
+            while (moved) {
+                moved = false;
+                Node node = nodes.get(current);
+                for (int i = 0; i < node.counts[level]; i++) {
+                    int neighbor = node.neighbors[level][i];
+                    float d = distance(query, nodes.get(neighbor).vector);
+                    if (d < best) {
+                        best = d;
+                        current = neighbor;
+                        moved = true;
+                    }
+                }
+            }
+            return current;
+        }
+
+        /**
+         * 계층 내 ef 폭 탐색
+         * @return 가까운 ef개 (최대 힙, pop 시 먼 것부터)
+         */
+        private LongHeap searchLayer(float[] query, int entry, int ef, int level) {
+            BitSet visited = new BitSet(nodes.size());
+            visited.set(entry);
+            long start = scored(distance(query, nodes.get(entry).vector), entry);
+            LongHeap candidates = new LongHeap(ef * 2, false);
+            LongHeap results = new LongHeap(ef + 1, true);
+            candidates.push(start);
+            results.push(start);
+
+            while (candidates.size() > 0) {
+                long closest = candidates.pop();
+                if (distanceOf(closest) > distanceOf(results.peek()) && results.size() >= ef) {
+                    break;
+                }
+                Node node = nodes.get(nodeOf(closest));
+                for (int i = 0; i < node.counts[level]; i++) {
+                    int neighbor = node.neighbors[level][i];
+                    if (visited.get(neighbor)) {
+                        continue;
+                    }
+                    visited.set(neighbor);
+                    float d = distance(query, nodes.get(neighbor).vector);
+                    if (results.size() < ef || d < distanceOf(results.peek())) {
+                        long next = scored(d, neighbor);
+                        candidates.push(next);
+                        results.push(next);
+                        if (results.size() > ef) {
+                            results.pop();
+                        }
+                    }
+                }
+            }
+            return results;
+        }
+
+        /**
+         * 이웃 선택 휴리스틱: 이미 고른 이웃보다 기준점에 더 가까운 후보만 고름
+         * 빈 자리를 남겨 두어 이후 역방향 연결이 매번 재선택으로 이어지지 않게 한다.
+         * @param candidates 기준점과의 거리 오름차순
+         */
+        private int[] selectNeighbors(long[] candidates, int max) {
+            int[] selected = new int[Math.min(max, candidates.length)];
+            int count = 0;
+            for (int c = 0; c < candidates.length && count < selected.length; c++) {
+                int candidate = nodeOf(candidates[c]);
+                float toBase = distanceOf(candidates[c]);
+                boolean diverse = true;
+                for (int s = 0; s < count; s++) {
+                    if (distance(nodes.get(candidate).vector, nodes.get(selected[s]).vector) < toBase) {
+                        diverse = false;
+                        break;
+                    }
+                }
+                if (diverse) {
+                    selected[count++] = candidate;
+                }
+            }
+            return Arrays.copyOf(selected, count);
+        }
+
+        /**
+         * 역방향 연결 (이웃 수 초과 시 휴리스틱으로 다시 선택)
+         */
+        private void connect(int from, int to, int level) {
+            Node node = nodes.get(from);
+            int[] neighbors = node.neighbors[level];
+            if (node.counts[level] < neighbors.length) {
+                neighbors[node.counts[level]++] = to;
+                return;
+            }
+            long[] candidates = new long[neighbors.length + 1];
+            for (int i = 0; i < neighbors.length; i++) {
+                candidates[i] = scored(distance(node.vector, nodes.get(neighbors[i]).vector), neighbors[i]);
+            }
+            candidates[neighbors.length] = scored(distance(node.vector, nodes.get(to).vector), to);
+            Arrays.sort(candidates);
+            int[] selected = selectNeighbors(candidates, neighbors.length);
+            System.arraycopy(selected, 0, neighbors, 0, selected.length);
+            node.counts[level] = selected.length;
+        }
+    }
+
+    /**
+     * long 이진 힙 (박싱 없는 우선순위 큐)
+     */
+    private static final class LongHeap {
+        private long[] values;
+        private int size;
+        private final boolean max;
+
+        private LongHeap(int capacity, boolean max) {
+            this.values = new long[Math.max(2, capacity)];
+            this.max = max;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private long peek() {
+            return values[0];
+        }
+
+        private void push(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!before(value, values[parent])) {
+                    break;
+                }
+                values[i] = values[parent];
+                i = parent;
+            }
+            values[i] = value;
+        }
+
+        private long pop() {
+            long top = values[0];
+            long last = values[--size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && before(values[child + 1], values[child])) {
+                    child++;
+                }
+                if (!before(values[child], last)) {
+                    break;
+                }
+                values[i] = values[child];
+                i = child;
+            }
+            values[i] = last;
+            return top;
+        }
+
+        /**
+         * 거리 오름차순으로 모두 꺼냄 (최대 힙 전용)
+         */
+        private long[] drainAscending() {
+            long[] sorted = new long[size];
+            for (int i = sorted.length - 1; i >= 0; i--) {
+                sorted[i] = pop();
+            }
+            return sorted;
+        }
+
+        private boolean before(long a, long b) {
+            return max ? a > b : a < b;
+        }
+    }
+}
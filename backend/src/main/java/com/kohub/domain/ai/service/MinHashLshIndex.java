@@ -0,0 +1,415 @@
+package com.kohub.domain.ai.service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * MinHash/LSH 근사 유사 티켓 색인
+ *
+ * 티켓 키워드 집합마다 해시 함수 hashes개의 최솟값으로 int[] 서명을 만들고, 서명을 bands개 밴드(밴드당 rows = hashes / bands 행)로
+ * 나눠 밴드별 버킷에 넣는다. 검색 시 같은 버킷에 한 번이라도 걸린 티켓만 후보가 되고,
+ * 후보의 Jaccard 유사도는 서명 위치별 일치 비율로 추정한다 (표준 오차 ≈ sqrt(s(1-s)/hashes)).
+ *
+ * 유사도 s인 티켓이 후보가 될 확률은 1 - (1 - s^rows)^bands이다.
+ * 밴드를 늘리면(행을 줄이면) 낮은 유사도까지 재현율이 오르는 대신 후보가 늘고, 해시 수를 늘리면 추정이 정확해진다.
+ *
+ * 티켓은 재사용되는 int 슬롯에 두고 서명은 슬롯 순서의 평탄한 int[] 하나에 저장한다.
+ * 버킷은 밴드 키(long) → 첫 항목의 선형 탐사 표이고, 항목(슬롯 × 밴드)끼리 int[] 연결로 이어
+ * (티켓, 밴드) 쌍마다 박싱된 키/리스트/해시 노드를 두지 않는다.
+ * 한 티켓이 여러 밴드에서 걸리면 행 값이 처음 일치한 밴드에서만 후보로 세므로 검색마다 중복 제거 집합을 만들지 않는다.
+ *
+ * 스레드 안전 (검색은 읽기 잠금, 색인 변경은 쓰기 잠금)
+ */
+public class MinHashLshIndex implements SimilarTicketEngine {
+
+    private static final long SEED = 0x5DEECE66DL;
+    private static final int NONE = -1;
+    private static final int INITIAL_SLOTS = 16;
+
+    private final int hashes;
+    private final int bands;
+    private final int rows;
+    private final long[] salts;
+
+    // 티켓 슬롯 (티켓 ID ↔ 슬롯), 슬롯별 서명 (signatures[slot * hashes ..]), 항목별 같은 버킷의 다음 항목
+    private final Map<UUID, Integer> slots = new HashMap<>();
+    private UUID[] tickets = new UUID[INITIAL_SLOTS];
+    private int[] signatures;
+    private int[] next;
+    private int slotLimit;
+    private int[] freeSlots = new int[INITIAL_SLOTS];
+    private int freeCount;
+
+    // 버킷 표 (선형 탐사, 밴드 키 → 첫 항목, 비었으면 NONE)
+    private long[] bucketKeys = new long[INITIAL_SLOTS];
+    private int[] bucketHeads = newHeads(INITIAL_SLOTS);
+    private int bucketCount;
+
+    private final LongAdder examined = new LongAdder();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public MinHashLshIndex(int hashes, int bands) {
+        if (hashes <= 0 || bands <= 0 || hashes % bands != 0) {
+            throw new IllegalArgumentException("hashes > 0, bands > 0, hashes % bands == 0");
+        }
+        this.hashes = hashes;
+        this.bands = bands;
+        this.rows = hashes / bands;
+        this.signatures = new int[INITIAL_SLOTS * hashes];
+        this.next = new int[INITIAL_SLOTS * bands];
+        // 인스턴스 간 서명이 같도록 고정 시드
+        SplittableRandom random = new SplittableRandom(SEED);
+        this.salts = new long[hashes];
+        for (int i = 0; i < hashes; i++) {
+            salts[i] = random.nextLong();
+        }
+    }
+
+    @Override
+    public void replaceAll(Map<UUID, Set<String>> keywordsByTicket) {
+        // 서명 계산은 잠금 밖에서
+        Map<UUID, int[]> computed = new HashMap<>(keywordsByTicket.size() * 4 / 3 + 1);
+        keywordsByTicket.forEach((ticketId, keywords) -> {
+            if (!keywords.isEmpty()) {
+                computed.put(ticketId, signature(keywords));
+            }
+        });
+        lock.writeLock().lock();
+        try {
+            int capacity = Math.max(INITIAL_SLOTS, computed.size());
+            slots.clear();
+            tickets = new UUID[capacity];
+            signatures = new int[capacity * hashes];
+            next = new int[capacity * bands];
+            slotLimit = 0;
+            freeCount = 0;
+            // 버킷 수는 (티켓 × 밴드)보다 적으므로 티켓 수로 시작해 채워지는 대로 키움
+            int tableSize = tableSizeFor(computed.size());
+            bucketKeys = new long[tableSize];
+            bucketHeads = newHeads(tableSize);
+            bucketCount = 0;
+            computed.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void put(UUID ticketId, Set<String> keywords) {
+        int[] signature = keywords.isEmpty() ? null : signature(keywords);
+        lock.writeLock().lock();
+        try {
+            removeSignature(ticketId);
+            if (signature != null) {
+                add(ticketId, signature);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(UUID ticketId) {
+        lock.writeLock().lock();
+        try {
+            removeSignature(ticketId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Match> search(Set<String> keywords, UUID excludeId, double minSimilarity, int limit) {
+        if (keywords.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int[] query = signature(keywords);
+        TopMatches top = new TopMatches(limit);
+        int candidates = 0;
+
+        lock.readLock().lock();
+        try {
+            Integer excluded = excludeId == null ? null : slots.get(excludeId);
+            for (int band = 0; band < bands; band++) {
+                int bucket = findBucket(bandKey(band, query, 0));
+                if (bucketHeads[bucket] == NONE) {
+                    continue;
+                }
+                for (int entry = bucketHeads[bucket]; entry != NONE; entry = next[entry]) {
+                    int slot = entry / bands;
+                    // 밴드 키 충돌은 건너뛰고, 앞 밴드에서 이미 센 티켓은 다시 세지 않음
+                    if ((excluded != null && slot == excluded) || firstMatchingBand(query, slot) != band) {
+                        continue;
+                    }
+                    candidates++;
+                    double similarity = estimate(query, slot);
+                    if (similarity > minSimilarity) {
+                        top.offer(tickets[slot], similarity);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        examined.add(candidates);
+        return top.ranked();
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int bucketCount() {
+        lock.readLock().lock();
+        try {
+            return bucketCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 지금까지 검색에서 유사도를 추정한 후보 수 (벤치마크/진단용 누적값)
+     */
+    public long examinedCandidates() {
+        return examined.sum();
+    }
+
+    /**
+     * 키워드 집합의 MinHash 서명
+     */
+    int[] signature(Set<String> keywords) {
+        int[] signature = new int[hashes];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (String keyword : keywords) {
+            long base = mix(keyword.hashCode() * 0x9E3779B97F4A7C15L + keyword.length());
+            for (int i = 0; i < hashes; i++) {
+                int value = (int) mix(base ^ salts[i]);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * 서명 일치 비율 (Jaccard 추정)
+     */
+    double estimate(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < hashes; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / hashes;
+    }
+
+    private double estimate(int[] query, int slot) {
+        int offset = slot * hashes;
+        int equal = 0;
+        for (int i = 0; i < hashes; i++) {
+            if (query[i] == signatures[offset + i]) {
+                equal++;
+            }
+        }
+        return (double) equal / hashes;
+    }
+
+    /**
+     * 검색 서명과 행 값이 모두 같은 첫 밴드 (없으면 NONE)
+     */
+    private int firstMatchingBand(int[] query, int slot) {
+        int offset = slot * hashes;
+        for (int band = 0; band < bands; band++) {
+            int from = band * rows;
+            int i = from;
+            while (i < from + rows && query[i] == signatures[offset + i]) {
+                i++;
+            }
+            if (i == from + rows) {
+                return band;
+            }
+        }
+        return NONE;
+    }
+
+    private void add(UUID ticketId, int[] signature) {
+        int slot = allocateSlot();
+        tickets[slot] = ticketId;
+        System.arraycopy(signature, 0, signatures, slot * hashes, hashes);
+        slots.put(ticketId, slot);
+        for (int band = 0; band < bands; band++) {
+            link(bandKey(band, signatures, slot * hashes), slot * bands + band);
+        }
+    }
+
+    private void removeSignature(UUID ticketId) {
+        Integer slot = slots.remove(ticketId);
+        if (slot == null) {
+            return;
+        }
+        for (int band = 0; band < bands; band++) {
+            unlink(bandKey(band, signatures, slot * hashes), slot * bands + band);
+        }
+        tickets[slot] = null;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        int slot = slotLimit++;
+        if (slot == tickets.length) {
+            int capacity = tickets.length * 2;
+            tickets = Arrays.copyOf(tickets, capacity);
+            signatures = Arrays.copyOf(signatures, capacity * hashes);
+            next = Arrays.copyOf(next, capacity * bands);
+        }
+        return slot;
+    }
+
+    /**
+     * 항목을 버킷 맨 앞에 연결 (버킷이 없으면 생성)
+     */
+    private void link(long key, int entry) {
+        int bucket = findBucket(key);
+        if (bucketHeads[bucket] == NONE) {
+            bucketKeys[bucket] = key;
+            bucketHeads[bucket] = entry;
+            next[entry] = NONE;
+            if (++bucketCount * 2 > bucketHeads.length) {
+                resizeBuckets(bucketHeads.length * 2);
+            }
+        } else {
+            next[entry] = bucketHeads[bucket];
+            bucketHeads[bucket] = entry;
+        }
+    }
+
+    /**
+     * 항목을 버킷에서 분리 (버킷이 비면 제거)
+     */
+    private void unlink(long key, int entry) {
+        int bucket = findBucket(key);
+        int previous = NONE;
+        int current = bucketHeads[bucket];
+        while (current != NONE && current != entry) {
+            previous = current;
+            current = next[current];
+        }
+        if (current == NONE) {
+            return;
+        }
+        if (previous == NONE) {
+            bucketHeads[bucket] = next[entry];
+        } else {
+            next[previous] = next[entry];
+        }
+        if (bucketHeads[bucket] == NONE) {
+            deleteBucket(bucket);
+        }
+    }
+
+    /**
+     * 키가 있는 칸, 없으면 넣을 빈 칸
+     */
+    private int findBucket(long key) {
+        int mask = bucketHeads.length - 1;
+        int bucket = home(key, mask);
+        while (bucketHeads[bucket] != NONE && bucketKeys[bucket] != key) {
+            bucket = (bucket + 1) & mask;
+        }
+        return bucket;
+    }
+
+    /**
+     * 빈 칸 뒤의 항목을 제자리 쪽으로 당겨 탐사 사슬을 유지 (묘비 없음)
+     */
+    private void deleteBucket(int bucket) {
+        int mask = bucketHeads.length - 1;
+        int hole = bucket;
+        for (int i = (hole + 1) & mask; bucketHeads[i] != NONE; i = (i + 1) & mask) {
+            int home = home(bucketKeys[i], mask);
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                bucketKeys[hole] = bucketKeys[i];
+                bucketHeads[hole] = bucketHeads[i];
+                hole = i;
+            }
+        }
+        bucketHeads[hole] = NONE;
+        bucketCount--;
+    }
+
+    private void resizeBuckets(int size) {
+        long[] oldKeys = bucketKeys;
+        int[] oldHeads = bucketHeads;
+        bucketKeys = new long[size];
+        bucketHeads = newHeads(size);
+        for (int i = 0; i < oldHeads.length; i++) {
+            if (oldHeads[i] != NONE) {
+                int bucket = findBucket(oldKeys[i]);
+                bucketKeys[bucket] = oldKeys[i];
+                bucketHeads[bucket] = oldHeads[i];
+            }
+        }
+    }
+
+    /**
+     * 밴드 번호 + 밴드 행 값의 해시 (밴드가 다르면 같은 값이어도 다른 버킷)
+     */
+    private long bandKey(int band, int[] signature, int offset) {
+        long key = band + 1;
+        int from = offset + band * rows;
+        for (int i = from; i < from + rows; i++) {
+            key = mix(key * 31 + signature[i]);
+        }
+        return key;
+    }
+
+    private static int home(long key, int mask) {
+        return (int) (key ^ (key >>> 32)) & mask;
+    }
+
+    private static int tableSizeFor(int entries) {
+        int size = INITIAL_SLOTS;
+        while (size < entries * 2) {
+            size <<= 1;
+        }
+        return size;
+    }
+
+    private static int[] newHeads(int size) {
+        int[] heads = new int[size];
+        Arrays.fill(heads, NONE);
+        return heads;
+    }
+
+    /**
+     * SplitMix64 마무리 함수
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
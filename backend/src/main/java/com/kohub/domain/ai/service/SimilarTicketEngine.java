@@ -0,0 +1,82 @@
+package com.kohub.domain.ai.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 유사 티켓 검색 엔진 (해결 티켓 키워드 집합 색인)
+ *
+ * @see SimilarTicketIndex 역색인 + 정확한 Jaccard
+ * @see MinHashLshIndex MinHash 서명 + LSH 밴드 (근사)
+ */
+public interface SimilarTicketEngine {
+
+    /**
+     * 검색 결과
+     * @param similarity Jaccard 유사도 (근사 엔진은 추정값)
+     */
+    record Match(UUID ticketId, double similarity) {
+    }
+
+    /**
+     * 색인 전체 교체 (기동 시/주기적 재구성)
+     */
+    void replaceAll(Map<UUID, Set<String>> keywordsByTicket);
+
+    /**
+     * 티켓 색인 추가/갱신 (키워드가 없으면 제거)
+     */
+    void put(UUID ticketId, Set<String> keywords);
+
+    /**
+     * 티켓 색인 제거
+     */
+    void remove(UUID ticketId);
+
+    /**
+     * 유사 티켓 검색 (유사도 내림차순)
+     * @param excludeId     결과에서 제외할 티켓 (기준 티켓)
+     * @param minSimilarity 이 값보다 큰 유사도만 반환
+     */
+    List<Match> search(Set<String> keywords, UUID excludeId, double minSimilarity, int limit);
+
+    int size();
+
+    /**
+     * 상위 k개 유지 (유사도 같으면 id 순)
+     */
+    final class TopMatches {
+
+        private static final Comparator<Match> RANKING = Comparator.comparingDouble(Match::similarity)
+                .thenComparing(Match::ticketId, Comparator.reverseOrder());
+
+        private final int limit;
+        private final PriorityQueue<Match> heap;
+
+        public TopMatches(int limit) {
+            this.limit = limit;
+            this.heap = new PriorityQueue<>(limit + 1, RANKING);
+        }
+
+        public void offer(UUID ticketId, double similarity) {
+            if (heap.size() == limit && similarity < heap.peek().similarity()) {
+                return;
+            }
+            heap.add(new Match(ticketId, similarity));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        public List<Match> ranked() {
+            List<Match> ranked = new ArrayList<>(heap);
+            ranked.sort(RANKING.reversed());
+            return ranked;
+        }
+    }
+}
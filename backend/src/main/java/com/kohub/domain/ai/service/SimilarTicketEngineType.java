@@ -0,0 +1,13 @@
+package com.kohub.domain.ai.service;
+
+/**
+ * 유사 티켓 검색 엔진 종류
+ */
+public enum SimilarTicketEngineType {
+    /** 역색인 + 정확한 Jaccard ({@link SimilarTicketIndex}) */
+    EXACT,
+    /** MinHash 서명 + LSH 밴드 근사 검색 ({@link MinHashLshIndex}) */
+    MINHASH,
+    /** 해시 n-gram 벡터 + HNSW 그래프 코사인 k-NN ({@link HnswIndex}) */
+    HNSW
+}
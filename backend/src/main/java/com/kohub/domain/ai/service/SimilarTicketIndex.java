@@ -0,0 +1,450 @@
+package com.kohub.domain.ai.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 유사 티켓 역색인 (키워드 → 티켓 ID 목록, 정확한 유사도)
+ *
+ * 해결된 티켓의 키워드 집합을 색인해 두고, 검색 시 검색어 키워드의 포스팅 목록만 훑어
+ * 키워드를 하나 이상 공유하는 후보의 교집합 크기를 센다. Jaccard 유사도는
+ * |A∩B| / (|A| + |B| - |A∩B|)이므로 문서별 키워드 수만 있으면 문서 텍스트를 다시 읽지 않는다.
+ *
+ * 키워드 추천은 같은 포스팅 목록으로 BM25 점수를 매긴다 ({@link #rank}). 문서 수, 키워드별 문서 수(포스팅 크기),
+ * 전체 키워드 수는 색인 변경 시 함께 갱신되므로 코퍼스 통계를 따로 계산하지 않는다.
+ *
+ * 키워드는 용어 사전으로 int ID에 대응시키고, 티켓은 재사용되는 int 슬롯에 둔다. 티켓 키워드는 정렬된 용어 ID int[],
+ * 포스팅은 슬롯 번호 int[]로 저장해 (키워드, 티켓) 쌍마다 String/UUID 참조나 해시 노드를 두지 않는다.
+ * 검색 시 교집합 크기는 슬롯별 int 카운터로 세므로 후보 비교마다 집합을 만들지 않고,
+ * 카운터 배열은 풀에서 재사용해 질의마다 문서 수 크기로 할당하지 않는다.
+ * 포스팅이 빈 용어와 제거된 티켓의 ID/슬롯은 해제 후 재사용한다.
+ *
+ * 스레드 안전 (검색은 읽기 잠금, 색인 변경은 쓰기 잠금)
+ */
+public class SimilarTicketIndex implements SimilarTicketEngine {
+
+    /** BM25 단어 빈도 포화 */
+    static final double K1 = 1.2;
+    /** BM25 문서 길이 정규화 */
+    static final double B = 0.75;
+
+    private static final int[] EMPTY = new int[0];
+
+    // 용어 사전 (키워드 ↔ 용어 ID), 용어별 포스팅 (슬롯 번호, 크기 = 문서 빈도)
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final List<String> terms = new ArrayList<>();
+    private final List<int[]> postings = new ArrayList<>();
+    private int[] postingSizes = new int[16];
+    private final Deque<Integer> freeTerms = new ArrayDeque<>();
+
+    // 티켓 슬롯 (티켓 ID ↔ 슬롯), 슬롯별 정렬된 용어 ID
+    private final Map<UUID, Integer> slots = new HashMap<>();
+    private final List<UUID> tickets = new ArrayList<>();
+    private final List<int[]> documents = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+
+    private long totalKeywords;
+    private final LongAdder examined = new LongAdder();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Deque<Scratch> scratchPool = new ConcurrentLinkedDeque<>();
+
+    @Override
+    public void replaceAll(Map<UUID, Set<String>> keywordsByTicket) {
+        lock.writeLock().lock();
+        try {
+            termIds.clear();
+            terms.clear();
+            postings.clear();
+            postingSizes = new int[16];
+            freeTerms.clear();
+            slots.clear();
+            tickets.clear();
+            documents.clear();
+            freeSlots.clear();
+            totalKeywords = 0;
+            keywordsByTicket.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void put(UUID ticketId, Set<String> keywords) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(ticketId);
+            add(ticketId, keywords);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(UUID ticketId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(ticketId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Match> search(Set<String> keywords, UUID excludeId, double minSimilarity, int limit) {
+        if (keywords.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        TopMatches top = new TopMatches(limit);
+
+        Scratch scratch = acquireScratch();
+        int[] shared = null;
+        int[] candidates = null;
+        int candidateCount = 0;
+        lock.readLock().lock();
+        try {
+            int excluded = slotOf(excludeId);
+            scratch.ensureShared(documents.size());
+            shared = scratch.shared;
+            candidates = scratch.candidates;
+            for (String keyword : keywords) {
+                Integer term = termIds.get(keyword);
+                if (term == null) {
+                    continue;
+                }
+                int[] posting = postings.get(term);
+                for (int i = 0, size = postingSizes[term]; i < size; i++) {
+                    int slot = posting[i];
+                    if (slot != excluded && shared[slot]++ == 0) {
+                        candidates[candidateCount++] = slot;
+                    }
+                }
+            }
+            for (int i = 0; i < candidateCount; i++) {
+                int slot = candidates[i];
+                int intersection = shared[slot];
+                int union = keywords.size() + documents.get(slot).length - intersection;
+                double similarity = (double) intersection / union;
+                if (similarity > minSimilarity) {
+                    top.offer(tickets.get(slot), similarity);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+            for (int i = 0; i < candidateCount; i++) {
+                shared[candidates[i]] = 0;
+            }
+            releaseScratch(scratch);
+        }
+        examined.add(candidateCount);
+        return top.ranked();
+    }
+
+    /**
+     * BM25 키워드 추천 (점수 내림차순)
+     *
+     * 키워드 집합 색인이므로 단어 빈도는 1이고, 문서 점수는 공유 키워드 idf 합 × 문서 길이 보정이다.
+     * 흔한 단어(포스팅이 긴 키워드)는 idf가 작아 드문 오류 코드보다 점수에 덜 기여한다.
+     * 점수는 검색어 키워드(색인에 있는 것)를 모두 가진 가장 짧은 문서의 점수로 나눠 0~1로 맞춘다.
+     *
+     * @param minScore 이 값보다 큰 정규화 점수만 반환
+     */
+    public List<Match> rank(Set<String> keywords, UUID excludeId, double minScore, int limit) {
+        if (keywords.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        TopMatches top = new TopMatches(limit);
+
+        Scratch scratch = acquireScratch();
+        double[] idfSums = null;
+        int[] candidates = null;
+        int candidateCount = 0;
+        lock.readLock().lock();
+        try {
+            int documentCount = slots.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            int excluded = slotOf(excludeId);
+            double averageLength = (double) totalKeywords / documentCount;
+            scratch.ensureIdfSums(documents.size());
+            idfSums = scratch.idfSums;
+            candidates = scratch.candidates;
+            double ideal = 0;
+            for (String keyword : keywords) {
+                Integer term = termIds.get(keyword);
+                if (term == null) {
+                    continue;
+                }
+                int[] posting = postings.get(term);
+                int size = postingSizes[term];
+                double idf = idf(documentCount, size);
+                ideal += idf;
+                for (int i = 0; i < size; i++) {
+                    int slot = posting[i];
+                    if (slot == excluded) {
+                        continue;
+                    }
+                    if (idfSums[slot] == 0) {
+                        candidates[candidateCount++] = slot;
+                    }
+                    idfSums[slot] += idf;
+                }
+            }
+            // 문서 길이 1일 때의 보정값이 상한 (길이가 0인 문서는 색인하지 않음)
+            double bestNorm = lengthNorm(1, averageLength);
+            for (int i = 0; i < candidateCount; i++) {
+                int slot = candidates[i];
+                double norm = lengthNorm(documents.get(slot).length, averageLength);
+                double score = idfSums[slot] * norm / (ideal * bestNorm);
+                if (score > minScore) {
+                    top.offer(tickets.get(slot), score);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+            for (int i = 0; i < candidateCount; i++) {
+                idfSums[candidates[i]] = 0;
+            }
+            releaseScratch(scratch);
+        }
+        return top.ranked();
+    }
+
+    private Scratch acquireScratch() {
+        Scratch scratch = scratchPool.poll();
+        return scratch != null ? scratch : new Scratch();
+    }
+
+    private void releaseScratch(Scratch scratch) {
+        scratchPool.push(scratch);
+    }
+
+    /**
+     * 검색/추천용 슬롯별 카운터와 후보 목록 (질의마다 문서 수 크기 배열을 만들지 않도록 재사용)
+     * 사용 후 후보로 건드린 슬롯만 0으로 되돌려 반납하므로 재사용 비용은 후보 수에 비례한다.
+     * 배열은 슬롯 수가 늘면 키우며, 풀 크기는 동시 검색 수를 넘지 않는다.
+     */
+    private static final class Scratch {
+        private int[] shared = EMPTY;
+        private double[] idfSums = new double[0];
+        private int[] candidates = EMPTY;
+
+        private void ensureShared(int size) {
+            if (shared.length < size) {
+                shared = new int[grow(shared.length, size)];
+            }
+            ensureCandidates(size);
+        }
+
+        private void ensureIdfSums(int size) {
+            if (idfSums.length < size) {
+                idfSums = new double[grow(idfSums.length, size)];
+            }
+            ensureCandidates(size);
+        }
+
+        private void ensureCandidates(int size) {
+            if (candidates.length < size) {
+                candidates = new int[grow(candidates.length, size)];
+            }
+        }
+
+        private static int grow(int current, int required) {
+            return Math.max(required, current + (current >> 1));
+        }
+    }
+
+    /**
+     * BM25 idf (항상 양수)
+     */
+    static double idf(int documentCount, int documentFrequency) {
+        return Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    /**
+     * 단어 빈도 1의 BM25 단어 점수 계수 (k1 + 1) / (1 + k1 (1 - b + b·dl/avgdl))
+     */
+    static double lengthNorm(int length, double averageLength) {
+        return (K1 + 1) / (1 + K1 * (1 - B + B * length / averageLength));
+    }
+
+    /**
+     * 정렬된 용어 ID 배열의 교집합 크기 (병합, 할당 없음)
+     */
+    static int intersectionSize(int[] a, int[] b) {
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                count++;
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 색인된 두 티켓의 Jaccard 유사도 (둘 중 하나라도 색인에 없으면 0)
+     */
+    public double similarity(UUID a, UUID b) {
+        lock.readLock().lock();
+        try {
+            Integer slotA = slots.get(a);
+            Integer slotB = slots.get(b);
+            if (slotA == null || slotB == null) {
+                return 0;
+            }
+            int[] termsA = documents.get(slotA);
+            int[] termsB = documents.get(slotB);
+            int intersection = intersectionSize(termsA, termsB);
+            return (double) intersection / (termsA.length + termsB.length - intersection);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 지금까지 검색에서 유사도를 계산한 후보 수 (벤치마크/진단용 누적값)
+     */
+    public long examinedCandidates() {
+        return examined.sum();
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return termIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int slotOf(UUID ticketId) {
+        Integer slot = ticketId == null ? null : slots.get(ticketId);
+        return slot == null ? -1 : slot;
+    }
+
+    private void add(UUID ticketId, Set<String> keywords) {
+        if (keywords.isEmpty()) {
+            return;
+        }
+        int[] termArray = new int[keywords.size()];
+        int n = 0;
+        for (String keyword : keywords) {
+            termArray[n++] = termId(keyword);
+        }
+        Arrays.sort(termArray);
+
+        int slot;
+        if (freeSlots.isEmpty()) {
+            slot = documents.size();
+            tickets.add(ticketId);
+            documents.add(termArray);
+        } else {
+            slot = freeSlots.pop();
+            tickets.set(slot, ticketId);
+            documents.set(slot, termArray);
+        }
+        slots.put(ticketId, slot);
+        totalKeywords += termArray.length;
+        for (int term : termArray) {
+            appendPosting(term, slot);
+        }
+    }
+
+    private void removeDocument(UUID ticketId) {
+        Integer slot = slots.remove(ticketId);
+        if (slot == null) {
+            return;
+        }
+        int[] termArray = documents.get(slot);
+        totalKeywords -= termArray.length;
+        for (int term : termArray) {
+            removePosting(term, slot);
+        }
+        tickets.set(slot, null);
+        documents.set(slot, EMPTY);
+        freeSlots.push(slot);
+    }
+
+    private int termId(String keyword) {
+        Integer existing = termIds.get(keyword);
+        if (existing != null) {
+            return existing;
+        }
+        int term;
+        if (freeTerms.isEmpty()) {
+            term = terms.size();
+            terms.add(keyword);
+            postings.add(new int[2]);
+            if (term == postingSizes.length) {
+                postingSizes = Arrays.copyOf(postingSizes, term * 2);
+            }
+        } else {
+            term = freeTerms.pop();
+            terms.set(term, keyword);
+            postings.set(term, new int[2]);
+        }
+        termIds.put(keyword, term);
+        return term;
+    }
+
+    private void appendPosting(int term, int slot) {
+        int[] posting = postings.get(term);
+        int size = postingSizes[term];
+        if (size == posting.length) {
+            posting = Arrays.copyOf(posting, size * 2);
+            postings.set(term, posting);
+        }
+        posting[size] = slot;
+        postingSizes[term] = size + 1;
+    }
+
+    /**
+     * 포스팅에서 슬롯 제거 (순서 무관, 마지막 원소로 덮어씀), 비면 용어 해제
+     */
+    private void removePosting(int term, int slot) {
+        int[] posting = postings.get(term);
+        int size = postingSizes[term];
+        for (int i = 0; i < size; i++) {
+            if (posting[i] == slot) {
+                posting[i] = posting[--size];
+                break;
+            }
+        }
+        postingSizes[term] = size;
+        if (size == 0) {
+            termIds.remove(terms.get(term));
+            terms.set(term, null);
+            postings.set(term, EMPTY);
+            freeTerms.push(term);
+        }
+    }
+}
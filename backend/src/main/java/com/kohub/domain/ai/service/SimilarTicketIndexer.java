@@ -0,0 +1,230 @@
+package com.kohub.domain.ai.service;
+
+import com.kohub.domain.ai.repository.SimilarTicketRepository;
+import com.kohub.domain.ticket.entity.TicketStatus;
+import com.kohub.domain.ticket.event.TicketChangedEvent;
+import com.kohub.domain.ticket.event.TicketChangedEvent.ChangeType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 유사 티켓 색인 관리
+ *
+ * 검색 엔진은 kohub.ai.similar.engine으로 고른다 (EXACT: 역색인 정확 검색, MINHASH: MinHash/LSH 근사 검색,
+ * HNSW: 벡터 그래프 k-NN). HNSW는 스냅샷 경로가 있으면 첫 재구성 전에 스냅샷을 읽어 바뀐 티켓만 다시 넣고,
+ * 재구성 후와 종료 시 스냅샷을 저장한다.
+ * 키워드 추천은 엔진과 관계없이 역색인의 BM25 점수를 쓴다 (EXACT면 같은 색인을 공유).
+ * 기동 시 해결책이 있는 COMPLETED/CLOSED 티켓 ID를 키셋 페이지로 읽고 페이지별로 저장된 키워드(ticket_keywords)를 조회해
+ * 색인을 만든다 (티켓 텍스트를 다시 토큰화하지 않음). 이후에는 티켓 변경 이벤트로 해당 티켓만 다시 색인(또는 제거)한다.
+ * 다른 인스턴스의 변경과 보관 이동은 주기적인 재구성으로 반영한다.
+ * 재구성은 페이지 조회부터 교체까지 시간이 걸리므로, 그 사이 들어온 변경은 따로 모아 두었다가
+ * 모든 엔진(검색 엔진, 키워드 추천 색인)을 교체한 뒤 다시 적용해 다음 재구성까지 사라지지 않게 한다.
+ */
+@Slf4j
+@Component
+public class SimilarTicketIndexer {
+
+    private final SimilarTicketRepository ticketRepository;
+    private final int rebuildPageSize;
+    private final SimilarTicketEngineType engineType;
+    private final SimilarTicketEngine index;
+    private final SimilarTicketIndex keywordIndex;
+    private final Path snapshotPath;
+    private boolean snapshotChecked;
+
+    /**
+     * 재구성 중 들어온 변경 (티켓 → 키워드, 제거는 빈 집합), 재구성 중이 아니면 null (pendingLock으로 보호)
+     */
+    private Map<UUID, Set<String>> pendingWrites;
+    private final Object pendingLock = new Object();
+
+    public SimilarTicketIndexer(
+            SimilarTicketRepository ticketRepository,
+            @Value("${kohub.ai.similar.rebuild-page-size:5000}") int rebuildPageSize,
+            @Value("${kohub.ai.similar.engine:MINHASH}") SimilarTicketEngineType engineType,
+            @Value("${kohub.ai.similar.minhash.hashes:128}") int hashes,
+            @Value("${kohub.ai.similar.minhash.bands:64}") int bands,
+            @Value("${kohub.ai.similar.hnsw.dimension:256}") int dimension,
+            @Value("${kohub.ai.similar.hnsw.ngram:3}") int ngram,
+            @Value("${kohub.ai.similar.hnsw.m:16}") int m,
+            @Value("${kohub.ai.similar.hnsw.ef-construction:100}") int efConstruction,
+            @Value("${kohub.ai.similar.hnsw.ef-search:64}") int efSearch,
+            @Value("${kohub.ai.similar.hnsw.snapshot-path:}") String snapshotPath) {
+        this.ticketRepository = ticketRepository;
+        this.rebuildPageSize = Math.max(1, rebuildPageSize);
+        this.engineType = engineType;
+        this.keywordIndex = new SimilarTicketIndex();
+        this.index = switch (engineType) {
+            case EXACT -> keywordIndex;
+            case MINHASH -> new MinHashLshIndex(hashes, bands);
+            case HNSW -> new HnswIndex(new HashedNgramEmbedder(dimension, ngram), m, efConstruction, efSearch);
+        };
+        this.snapshotPath = index instanceof HnswIndex && !snapshotPath.isBlank() ? Path.of(snapshotPath) : null;
+    }
+
+    /**
+     * 색인 전체 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${kohub.ai.similar.rebuild-ms:3600000}",
+            initialDelayString = "${kohub.ai.similar.rebuild-ms:3600000}")
+    public synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+        if (!snapshotChecked) {
+            snapshotChecked = true;
+            loadSnapshot();
+        }
+        synchronized (pendingLock) {
+            pendingWrites = new LinkedHashMap<>();
+        }
+        Map<UUID, Set<String>> keywordsByTicket = new HashMap<>();
+        List<UUID> page = ticketRepository.findResolvedIds(Limit.of(rebuildPageSize));
+        while (!page.isEmpty()) {
+            keywordsByTicket.putAll(keywordsOf(page));
+            if (page.size() < rebuildPageSize) {
+                break;
+            }
+            page = ticketRepository.findResolvedIdsAfter(page.get(page.size() - 1), Limit.of(rebuildPageSize));
+        }
+        int replayed;
+        try {
+            index.replaceAll(keywordsByTicket);
+            if (index != keywordIndex) {
+                keywordIndex.replaceAll(keywordsByTicket);
+            }
+        } finally {
+            synchronized (pendingLock) {
+                // 교체된 색인에는 조회 이후의 변경이 빠져 있으므로 다시 적용
+                replayed = pendingWrites.size();
+                pendingWrites.forEach(this::write);
+                pendingWrites = null;
+            }
+        }
+        log.info("유사 티켓 색인 재구성 완료: engine={}, tickets={}, replayed={}, elapsedMs={}",
+                engineType, index.size(), replayed, System.currentTimeMillis() - started);
+        saveSnapshot();
+    }
+
+    @PreDestroy
+    public synchronized void saveSnapshot() {
+        if (snapshotPath == null) {
+            return;
+        }
+        try {
+            ((HnswIndex) index).save(snapshotPath);
+        } catch (IOException e) {
+            log.warn("HNSW 스냅샷 저장 실패: path={}, error={}", snapshotPath, e.getMessage());
+        }
+    }
+
+    /**
+     * 스냅샷 복원 (없거나 설정이 다르면 전체 삽입으로 진행)
+     */
+    private void loadSnapshot() {
+        if (snapshotPath == null || !Files.exists(snapshotPath)) {
+            return;
+        }
+        try {
+            ((HnswIndex) index).load(snapshotPath);
+            log.info("HNSW 스냅샷 복원: path={}, tickets={}", snapshotPath, index.size());
+        } catch (IOException e) {
+            log.warn("HNSW 스냅샷 복원 실패, 전체 삽입으로 진행: path={}, error={}", snapshotPath, e.getMessage());
+        }
+    }
+
+    /**
+     * 해결/종료/재오픈/수정 반영 (커밋 후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketChanged(TicketChangedEvent event) {
+        if (event.ticketId() == null || event.status() == null) {
+            return;
+        }
+        if (!isResolved(event.status())) {
+            remove(event.ticketId());
+            return;
+        }
+        // 배정/댓글/우선순위 상향은 제목/설명/해결책을 바꾸지 않음
+        if (event.changeType() == ChangeType.ASSIGNED || event.changeType() == ChangeType.COMMENTED
+                || event.changeType() == ChangeType.PRIORITY_CHANGED) {
+            return;
+        }
+        if (ticketRepository.isResolved(event.ticketId())) {
+            put(event.ticketId(), keywordsOf(List.of(event.ticketId())).getOrDefault(event.ticketId(), Set.of()));
+        } else {
+            remove(event.ticketId());
+        }
+    }
+
+    private void remove(UUID ticketId) {
+        put(ticketId, Set.of());
+    }
+
+    /**
+     * 색인 반영 (키워드가 없으면 제거), 재구성 중이면 교체 후 다시 적용하도록 기록
+     */
+    private void put(UUID ticketId, Set<String> keywords) {
+        synchronized (pendingLock) {
+            if (pendingWrites != null) {
+                pendingWrites.put(ticketId, keywords);
+            }
+            write(ticketId, keywords);
+        }
+    }
+
+    private void write(UUID ticketId, Set<String> keywords) {
+        index.put(ticketId, keywords);
+        if (index != keywordIndex) {
+            keywordIndex.put(ticketId, keywords);
+        }
+    }
+
+    /**
+     * 유사 티켓 검색
+     */
+    public List<SimilarTicketEngine.Match> search(Set<String> keywords, UUID excludeId, double minSimilarity,
+                                                  int limit) {
+        return index.search(keywords, excludeId, minSimilarity, limit);
+    }
+
+    /**
+     * 키워드 추천 (BM25)
+     */
+    public List<SimilarTicketEngine.Match> recommend(Set<String> keywords, double minScore, int limit) {
+        return keywordIndex.rank(keywords, null, minScore, limit);
+    }
+
+    /**
+     * 저장된 키워드 조회 (키워드가 없는 티켓은 빠짐)
+     */
+    public Map<UUID, Set<String>> keywordsOf(Collection<UUID> ticketIds) {
+        Map<UUID, Set<String>> keywords = new HashMap<>();
+        for (TicketKeywordRow row : ticketRepository.findKeywords(ticketIds)) {
+            keywords.computeIfAbsent(row.ticketId(), id -> new HashSet<>()).add(row.keyword());
+        }
+        return keywords;
+    }
+
+    private static boolean isResolved(TicketStatus status) {
+        return status == TicketStatus.COMPLETED || status == TicketStatus.CLOSED;
+    }
+}
@@ -1,21 +1,26 @@
 package com.kohub.domain.ai.service;
 
+import com.kohub.common.text.KeywordExtractor;
 import com.kohub.domain.ai.dto.SimilarTicketResponse;
 import com.kohub.domain.ticket.entity.Ticket;
-import com.kohub.domain.ticket.entity.TicketStatus;
 import com.kohub.domain.ticket.repository.TicketRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.*;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * 유사 티켓 검색 서비스
- * - 키워드 기반 유사도 계산
- * - 향후 Vector DB 연동 예정
+ * - 키워드 기반 유사도 계산 (해결 티켓 색인, {@link SimilarTicketIndexer})
+ * - 엔진 선택: 역색인 정확 검색, MinHash/LSH, 프로세스 내 HNSW 벡터 색인 ({@link HnswIndex})
  */
 @Service
 @RequiredArgsConstructor
@@ -23,14 +28,10 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class SimilarTicketService {
 
-    private final TicketRepository ticketRepository;
+    private static final double MIN_SIMILARITY = 0.1;
 
-    // 불용어 (검색에서 제외할 단어)
-    private static final Set<String> STOP_WORDS = Set.of(
-            "은", "는", "이", "가", "을", "를", "의", "에", "에서", "으로", "로",
-            "a", "an", "the", "is", "are", "was", "were", "be", "been",
-            "and", "or", "not", "for", "to", "of", "in", "on", "at"
-    );
+    private final TicketRepository ticketRepository;
+    private final SimilarTicketIndexer similarTicketIndexer;
 
     /**
      * 유사 티켓 검색
@@ -42,90 +43,63 @@ public class SimilarTicketService {
         Ticket sourceTicket = ticketRepository.findById(ticketId)
                 .orElseThrow(() -> new RuntimeException("티켓을 찾을 수 없습니다"));
 
-        return findSimilarTickets(sourceTicket.getTitle(), sourceTicket.getDescription(), ticketId, limit);
+        // 저장된 키워드 사용 (티켓 텍스트를 다시 토큰화하지 않음)
+        return search(Set.copyOf(sourceTicket.getKeywords()), ticketId, limit);
     }
 
     /**
      * 텍스트 기반 유사 티켓 검색
      */
     public List<SimilarTicketResponse> findSimilarTickets(String title, String description, UUID excludeId, int limit) {
-        // 소스 키워드 추출
-        Set<String> sourceKeywords = extractKeywords(title + " " + (description != null ? description : ""));
-        
-        if (sourceKeywords.isEmpty()) {
-            return List.of();
-        }
-
-        // 해결된 티켓에서 검색 (참고 가능한 해결책이 있는 티켓)
-        List<Ticket> completedTickets = ticketRepository.findAll().stream()
-                .filter(t -> t.getStatus() == TicketStatus.COMPLETED || t.getStatus() == TicketStatus.CLOSED)
-                .filter(t -> t.getResolutionSummary() != null && !t.getResolutionSummary().isBlank())
-                .filter(t -> excludeId == null || !t.getId().equals(excludeId))
-                .toList();
-
-        // 유사도 계산
-        List<TicketSimilarity> similarities = completedTickets.stream()
-                .map(ticket -> {
-                    Set<String> ticketKeywords = extractKeywords(
-                            ticket.getTitle() + " " + (ticket.getDescription() != null ? ticket.getDescription() : ""));
-                    double similarity = calculateJaccardSimilarity(sourceKeywords, ticketKeywords);
-                    Set<String> matchedWords = new HashSet<>(sourceKeywords);
-                    matchedWords.retainAll(ticketKeywords);
-                    return new TicketSimilarity(ticket, similarity, matchedWords);
-                })
-                .filter(ts -> ts.similarity > 0.1) // 최소 유사도
-                .sorted(Comparator.comparingDouble((TicketSimilarity ts) -> ts.similarity).reversed())
-                .limit(limit)
-                .toList();
-
-        return similarities.stream()
-                .map(ts -> SimilarTicketResponse.from(ts.ticket, ts.similarity, 
-                        String.join(", ", ts.matchedKeywords)))
-                .toList();
+        return search(KeywordExtractor.extract(title, description), excludeId, limit);
     }
 
     /**
-     * 키워드 기반 티켓 추천
+     * 키워드 기반 티켓 추천 (BM25, 드문 키워드일수록 높은 가중치)
      */
     public List<SimilarTicketResponse> recommendByKeywords(String keywords, int limit) {
-        return findSimilarTickets(keywords, null, null, limit);
+        Set<String> sourceKeywords = KeywordExtractor.extract(keywords);
+        if (sourceKeywords.isEmpty()) {
+            return List.of();
+        }
+        return toResponses(similarTicketIndexer.recommend(sourceKeywords, MIN_SIMILARITY, limit), sourceKeywords);
     }
 
     /**
-     * 텍스트에서 키워드 추출
+     * 색인에서 유사 해결 티켓 상위 limit개를 고른다.
      */
-    private Set<String> extractKeywords(String text) {
-        if (text == null || text.isBlank()) {
-            return Set.of();
+    private List<SimilarTicketResponse> search(Set<String> sourceKeywords, UUID excludeId, int limit) {
+        if (sourceKeywords.isEmpty()) {
+            return List.of();
         }
 
-        return Arrays.stream(text.toLowerCase()
-                        .replaceAll("[^a-zA-Z0-9가-힣\\s]", " ")
-                        .split("\\s+"))
-                .filter(word -> word.length() >= 2)
-                .filter(word -> !STOP_WORDS.contains(word))
-                .collect(Collectors.toSet());
+        // 해결된 티켓에서 검색 (참고 가능한 해결책이 있는 티켓), 최소 유사도 0.1
+        return toResponses(similarTicketIndexer.search(sourceKeywords, excludeId, MIN_SIMILARITY, limit),
+                sourceKeywords);
     }
 
     /**
-     * Jaccard 유사도 계산
+     * 결과 티켓과 저장된 키워드만 조회해 응답 구성 (점수 순서 유지)
      */
-    private double calculateJaccardSimilarity(Set<String> set1, Set<String> set2) {
-        if (set1.isEmpty() || set2.isEmpty()) {
-            return 0.0;
+    private List<SimilarTicketResponse> toResponses(List<SimilarTicketEngine.Match> matches,
+                                                    Set<String> sourceKeywords) {
+        if (matches.isEmpty()) {
+            return List.of();
         }
 
-        Set<String> intersection = new HashSet<>(set1);
-        intersection.retainAll(set2);
-
-        Set<String> union = new HashSet<>(set1);
-        union.addAll(set2);
-
-        return (double) intersection.size() / union.size();
+        List<UUID> ids = matches.stream().map(SimilarTicketEngine.Match::ticketId).toList();
+        Map<UUID, Ticket> tickets = ticketRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Ticket::getId, Function.identity()));
+        Map<UUID, Set<String>> keywords = similarTicketIndexer.keywordsOf(ids);
+
+        return matches.stream()
+                .filter(match -> tickets.containsKey(match.ticketId()))
+                .map(match -> {
+                    Set<String> matched = new TreeSet<>(keywords.getOrDefault(match.ticketId(), Set.of()));
+                    matched.retainAll(sourceKeywords);
+                    return SimilarTicketResponse.from(tickets.get(match.ticketId()), match.similarity(),
+                            String.join(", ", matched));
+                })
+                .toList();
     }
-
-    /**
-     * 내부 클래스: 티켓 유사도
-     */
-    private record TicketSimilarity(Ticket ticket, double similarity, Set<String> matchedKeywords) {}
 }
@@ -0,0 +1,9 @@
+package com.kohub.domain.ai.service;
+
+import java.util.UUID;
+
+/**
+ * 저장된 티켓 키워드 행 (ticket_keywords 프로젝션)
+ */
+public record TicketKeywordRow(UUID ticketId, String keyword) {
+}
@@ -0,0 +1,37 @@
+package com.kohub.domain.assignment.repository;
+
+import com.kohub.domain.assignment.service.OpenAssignment;
+import com.kohub.domain.ticket.entity.Ticket;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 운영자 부하 집계용 티켓 조회 (필요한 컬럼만 프로젝션)
+ */
+@org.springframework.stereotype.Repository
+public interface AssignmentTicketRepository extends Repository<Ticket, UUID> {
+
+    String OPEN_ASSIGNMENT = "SELECT new com.kohub.domain.assignment.service.OpenAssignment("
+            + "t.id, t.assigneeId, t.priority) FROM Ticket t "
+            + "WHERE t.assigneeId IS NOT NULL "
+            + "AND t.status NOT IN (com.kohub.domain.ticket.entity.TicketStatus.RESOLVED, "
+            + "com.kohub.domain.ticket.entity.TicketStatus.COMPLETED, "
+            + "com.kohub.domain.ticket.entity.TicketStatus.CLOSED) ";
+
+    /**
+     * 담당자가 있는 미종료 티켓 첫 페이지 (id 순 키셋)
+     */
+    @Query(OPEN_ASSIGNMENT + "ORDER BY t.id")
+    List<OpenAssignment> findOpenAssignments(Limit limit);
+
+    /**
+     * 담당자가 있는 미종료 티켓 다음 페이지 (afterId 이후)
+     */
+    @Query(OPEN_ASSIGNMENT + "AND t.id > :afterId ORDER BY t.id")
+    List<OpenAssignment> findOpenAssignmentsAfter(@Param("afterId") UUID afterId, Limit limit);
+}
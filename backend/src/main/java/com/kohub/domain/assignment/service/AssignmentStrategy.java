@@ -0,0 +1,15 @@
+package com.kohub.domain.assignment.service;
+
+/**
+ * 자동 배정 전략
+ */
+public enum AssignmentStrategy {
+    /** 가장 오래전에 배정받은 운영자 순서 */
+    ROUND_ROBIN,
+
+    /** 미종료 티켓 부하(우선순위 가중)가 가장 작은 운영자 */
+    LEAST_LOADED,
+
+    /** 티켓 조직 소속 운영자 중 최소 부하, 없으면 전체 최소 부하 */
+    ORGANIZATION_AFFINITY
+}
@@ -0,0 +1,15 @@
+package com.kohub.domain.assignment.service;
+
+import com.kohub.domain.ticket.entity.TicketPriority;
+
+import java.util.UUID;
+
+/**
+ * 담당자가 있는 미종료 티켓 (프로젝션)
+ */
+public record OpenAssignment(
+        UUID ticketId,
+        UUID assigneeId,
+        TicketPriority priority
+) {
+}
@@ -0,0 +1,259 @@
+package com.kohub.domain.assignment.service;
+
+import com.kohub.domain.ticket.entity.TicketPriority;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.ToIntFunction;
+
+/**
+ * 운영자별 미종료 티켓 부하 색인
+ *
+ * 티켓별 (담당자, 가중치)를 기억해 배정/전이 이벤트마다 담당자 부하를 증감하고,
+ * 운영자를 (부하, 마지막 배정 순번)과 (마지막 배정 순번) 순서의 정렬 집합에 두어 전략별 후보를 O(log n)에 고른다.
+ * 조직별 정렬 집합을 따로 두어 조직 우선 배정도 같은 비용이다.
+ * 부하는 우선순위 가중 합이다 (CRITICAL 8, HIGH 4, MEDIUM 2, LOW 1).
+ *
+ * 스레드 안전 (모든 연산은 인스턴스 잠금으로 직렬화)
+ */
+public class OperatorLoadIndex {
+
+    private static final Comparator<Operator> BY_LOAD = Comparator.<Operator>comparingInt(o -> o.load)
+            .thenComparingLong(o -> o.turn)
+            .thenComparing(o -> o.id);
+    private static final Comparator<Operator> BY_TURN = Comparator.<Operator>comparingLong(o -> o.turn)
+            .thenComparing(o -> o.id);
+
+    private final Map<UUID, Operator> operators = new HashMap<>();
+    private final NavigableSet<Operator> byLoad = new TreeSet<>(BY_LOAD);
+    private final NavigableSet<Operator> byTurn = new TreeSet<>(BY_TURN);
+    private final Map<UUID, NavigableSet<Operator>> byOrganization = new HashMap<>();
+    private final Map<UUID, Entry> tickets = new HashMap<>();
+    private long sequence;
+
+    /**
+     * 배정 후보 운영자
+     */
+    public record Candidate(UUID id, UUID organizationId) {
+    }
+
+    /**
+     * 운영자 목록 교체 (기존 운영자의 배정 순번은 유지, 부하는 티켓 색인에서 다시 계산)
+     */
+    public synchronized void replaceOperators(Collection<Candidate> candidates) {
+        Map<UUID, Operator> previous = new HashMap<>(operators);
+        operators.clear();
+        byLoad.clear();
+        byTurn.clear();
+        byOrganization.clear();
+        for (Candidate candidate : candidates) {
+            Operator before = previous.get(candidate.id());
+            Operator operator = new Operator(candidate.id(), candidate.organizationId());
+            operator.turn = before != null ? before.turn : 0;
+            operators.put(operator.id, operator);
+        }
+        for (Entry entry : tickets.values()) {
+            Operator operator = operators.get(entry.assigneeId);
+            if (operator != null) {
+                operator.load += entry.weight;
+            }
+        }
+        operators.values().forEach(this::link);
+    }
+
+    /**
+     * 티켓 색인 교체 (대사)
+     * @return 색인과 실제 값이 달랐던 티켓 수
+     */
+    public synchronized int replaceAssignments(Collection<OpenAssignment> assignments) {
+        Map<UUID, Entry> actual = new HashMap<>();
+        for (OpenAssignment assignment : assignments) {
+            actual.put(assignment.ticketId(), new Entry(assignment.assigneeId(), weight(assignment.priority())));
+        }
+        int drift = 0;
+        for (Map.Entry<UUID, Entry> known : tickets.entrySet()) {
+            if (!known.getValue().equals(actual.get(known.getKey()))) {
+                drift++;
+            }
+        }
+        for (UUID ticketId : actual.keySet()) {
+            if (!tickets.containsKey(ticketId)) {
+                drift++;
+            }
+        }
+        tickets.clear();
+        tickets.putAll(actual);
+        for (Operator operator : operators.values()) {
+            unlink(operator);
+            operator.load = 0;
+        }
+        for (Entry entry : tickets.values()) {
+            Operator operator = operators.get(entry.assigneeId);
+            if (operator != null) {
+                operator.load += entry.weight;
+            }
+        }
+        operators.values().forEach(this::link);
+        return drift;
+    }
+
+    /**
+     * 티켓 변경 반영 (같은 값이 다시 와도 결과가 같다)
+     * @param priority null이면 기존 가중치 유지
+     * @param open     미종료 여부 (종료면 색인에서 제거)
+     */
+    public synchronized void apply(UUID ticketId, UUID assigneeId, TicketPriority priority, boolean open) {
+        Entry previous = tickets.get(ticketId);
+        Entry next = null;
+        if (open && assigneeId != null) {
+            int weight = priority != null ? weight(priority)
+                    : previous != null ? previous.weight : weight(TicketPriority.MEDIUM);
+            next = new Entry(assigneeId, weight);
+        }
+        if (next == null ? previous == null : next.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            addLoad(previous.assigneeId, -previous.weight);
+        }
+        if (next != null) {
+            tickets.put(ticketId, next);
+            addLoad(next.assigneeId, next.weight);
+        } else {
+            tickets.remove(ticketId);
+        }
+    }
+
+    /**
+     * 전략에 맞는 운영자를 고르고 배정 순번을 갱신
+     * @return 후보가 없으면 null
+     */
+    public synchronized UUID pick(AssignmentStrategy strategy, UUID organizationId) {
+        return pick(strategy, organizationId, operatorId -> 0);
+    }
+
+    /**
+     * 아직 색인에 반영되지 않은 부하(커밋 전 배정)를 더해 운영자를 고름
+     * 부하 순서로 훑다가 색인 부하가 현재 최솟값 이상이 되면 멈추므로, 예약 부하가 있는 운영자 수만큼만 더 본다.
+     * @param pendingLoad 운영자별 미반영 부하 (0 이상)
+     */
+    public synchronized UUID pick(AssignmentStrategy strategy, UUID organizationId, ToIntFunction<UUID> pendingLoad) {
+        Operator chosen = switch (strategy) {
+            case ROUND_ROBIN -> first(byTurn);
+            case LEAST_LOADED -> leastLoaded(byLoad, pendingLoad);
+            case ORGANIZATION_AFFINITY -> {
+                Operator local = organizationId != null
+                        ? leastLoaded(byOrganization.get(organizationId), pendingLoad) : null;
+                yield local != null ? local : leastLoaded(byLoad, pendingLoad);
+            }
+        };
+        if (chosen == null) {
+            return null;
+        }
+        unlink(chosen);
+        chosen.turn = ++sequence;
+        link(chosen);
+        return chosen.id;
+    }
+
+    /**
+     * 운영자 부하 (색인에 없으면 0)
+     */
+    public synchronized int loadOf(UUID operatorId) {
+        Operator operator = operators.get(operatorId);
+        return operator != null ? operator.load : 0;
+    }
+
+    public synchronized int operatorCount() {
+        return operators.size();
+    }
+
+    public synchronized int ticketCount() {
+        return tickets.size();
+    }
+
+    static int weight(TicketPriority priority) {
+        return switch (priority) {
+            case CRITICAL -> 8;
+            case HIGH -> 4;
+            case MEDIUM -> 2;
+            case LOW -> 1;
+        };
+    }
+
+    private void addLoad(UUID operatorId, int delta) {
+        Operator operator = operators.get(operatorId);
+        if (operator == null) {
+            // 운영자가 아닌 담당자: 티켓 색인에만 두고 운영자 목록 교체 시 반영
+            return;
+        }
+        unlink(operator);
+        operator.load += delta;
+        link(operator);
+    }
+
+    private void link(Operator operator) {
+        byLoad.add(operator);
+        byTurn.add(operator);
+        if (operator.organizationId != null) {
+            byOrganization.computeIfAbsent(operator.organizationId, id -> new TreeSet<>(BY_LOAD)).add(operator);
+        }
+    }
+
+    /**
+     * 정렬 키(부하/순번)를 바꾸기 전에 정렬 집합에서 분리
+     */
+    private void unlink(Operator operator) {
+        byLoad.remove(operator);
+        byTurn.remove(operator);
+        if (operator.organizationId != null) {
+            NavigableSet<Operator> organization = byOrganization.get(operator.organizationId);
+            if (organization != null) {
+                organization.remove(operator);
+            }
+        }
+    }
+
+    private static Operator first(NavigableSet<Operator> operators) {
+        return operators == null || operators.isEmpty() ? null : operators.first();
+    }
+
+    private static Operator leastLoaded(NavigableSet<Operator> operators, ToIntFunction<UUID> pendingLoad) {
+        if (operators == null) {
+            return null;
+        }
+        Operator best = null;
+        long bestLoad = Long.MAX_VALUE;
+        for (Operator operator : operators) {
+            if (operator.load >= bestLoad) {
+                break;
+            }
+            long load = (long) operator.load + pendingLoad.applyAsInt(operator.id);
+            if (load < bestLoad) {
+                best = operator;
+                bestLoad = load;
+            }
+        }
+        return best;
+    }
+
+    private record Entry(UUID assigneeId, int weight) {
+    }
+
+    private static final class Operator {
+        private final UUID id;
+        private final UUID organizationId;
+        private int load;
+        private long turn;
+
+        Operator(UUID id, UUID organizationId) {
+            this.id = id;
+            this.organizationId = organizationId;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.kohub.domain.assignment.service;
+
+import com.kohub.domain.assignment.repository.AssignmentTicketRepository;
+import com.kohub.domain.ticket.entity.Ticket;
+import com.kohub.domain.ticket.entity.TicketPriority;
+import com.kohub.domain.ticket.entity.TicketSource;
+import com.kohub.domain.ticket.entity.TicketStatus;
+import com.kohub.domain.ticket.event.TicketChangedEvent;
+import com.kohub.domain.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 티켓 자동 배정
+ *
+ * 웹훅 등 수동 생성이 아닌 티켓은 생성 시점에 운영자 부하 색인에서 담당자를 골라 배정한다.
+ * 색인은 기동 시 담당자가 있는 미종료 티켓을 키셋 페이지로 읽어 만들고, 이후에는 티켓 변경 이벤트로 갱신하며
+ * 다른 인스턴스의 변경은 주기적인 대사로 보정한다. 배정 시 운영자별 COUNT 조회를 하지 않는다.
+ */
+@Slf4j
+@Component
+public class TicketAutoAssigner {
+
+    private final AssignmentTicketRepository ticketRepository;
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final AssignmentStrategy strategy;
+    private final int rebuildPageSize;
+
+    private final OperatorLoadIndex index = new OperatorLoadIndex();
+    private volatile boolean ready;
+
+    public TicketAutoAssigner(
+            AssignmentTicketRepository ticketRepository,
+            UserRepository userRepository,
+            @Value("${kohub.ticket.assignment.enabled:false}") boolean enabled,
+            @Value("${kohub.ticket.assignment.strategy:LEAST_LOADED}") AssignmentStrategy strategy,
+            @Value("${kohub.ticket.assignment.rebuild-page-size:5000}") int rebuildPageSize) {
+        this.ticketRepository = ticketRepository;
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.strategy = strategy;
+        this.rebuildPageSize = Math.max(1, rebuildPageSize);
+    }
+
+    /**
+     * 기동 시 색인 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        reconcile();
+        ready = true;
+    }
+
+    /**
+     * 운영자 목록과 티켓 부하를 DB 기준으로 다시 맞춤
+     */
+    @Scheduled(fixedDelayString = "${kohub.ticket.assignment.reconcile-ms:300000}",
+            initialDelayString = "${kohub.ticket.assignment.reconcile-ms:300000}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        index.replaceOperators(userRepository.findOperators().stream()
+                .map(user -> new OperatorLoadIndex.Candidate(user.getId(), user.getOrganizationId()))
+                .toList());
+
+        List<OpenAssignment> assignments = new ArrayList<>();
+        List<OpenAssignment> page = ticketRepository.findOpenAssignments(Limit.of(rebuildPageSize));
+        while (!page.isEmpty()) {
+            assignments.addAll(page);
+            if (page.size() < rebuildPageSize) {
+                break;
+            }
+            page = ticketRepository.findOpenAssignmentsAfter(page.get(page.size() - 1).ticketId(),
+                    Limit.of(rebuildPageSize));
+        }
+        int drift = index.replaceAssignments(assignments);
+        log.info("운영자 부하 색인 대사 완료: operators={}, tickets={}, drift={}, elapsedMs={}",
+                index.operatorCount(), assignments.size(), drift, System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 생성 전 티켓에 담당자 배정 (수동 생성, 담당자 지정, 후보 없음이면 그대로)
+     * 같은 트랜잭션에서 앞서 {@link #track(Ticket)}한 배정 부하를 더해 고르므로 일괄 생성 시에도 분산된다.
+     */
+    public void assign(Ticket ticket) {
+        if (!enabled || !ready || ticket.getSource() == TicketSource.MANUAL || ticket.getAssigneeId() != null) {
+            return;
+        }
+        Map<UUID, Integer> pending = pendingLoad();
+        UUID assigneeId = index.pick(strategy, ticket.getOrganizationId(),
+                operatorId -> pending.getOrDefault(operatorId, 0));
+        if (assigneeId == null) {
+            log.debug("자동 배정 후보 없음: organizationId={}", ticket.getOrganizationId());
+            return;
+        }
+        ticket.autoAssign(assigneeId, strategy.name());
+    }
+
+    /**
+     * 저장된 티켓의 부하 반영
+     * 색인에는 커밋 후에 반영하고 (롤백된 배정이 부하로 남지 않도록), 그 전까지는 트랜잭션 안의 배정에만 보인다.
+     * 커밋 후 이벤트로 다시 반영되어도 결과는 같다.
+     */
+    public void track(Ticket ticket) {
+        if (!enabled || ticket.getAssigneeId() == null) {
+            return;
+        }
+        UUID ticketId = ticket.getId();
+        UUID assigneeId = ticket.getAssigneeId();
+        TicketPriority priority = ticket.getPriority();
+        boolean open = isOpen(ticket.getStatus());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            index.apply(ticketId, assigneeId, priority, open);
+            return;
+        }
+        if (open) {
+            pendingLoad().merge(assigneeId, OperatorLoadIndex.weight(priority), Integer::sum);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                index.apply(ticketId, assigneeId, priority, open);
+            }
+        });
+    }
+
+    /**
+     * 배정/전이 반영 (커밋 후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketChanged(TicketChangedEvent event) {
+        if (!enabled || event.ticketId() == null || event.status() == null) {
+            return;
+        }
+        index.apply(event.ticketId(), event.assigneeId(), event.priority(), isOpen(event.status()));
+    }
+
+    /**
+     * 운영자의 색인 부하 (커밋 전 배정 제외)
+     */
+    int loadOf(UUID operatorId) {
+        return index.loadOf(operatorId);
+    }
+
+    /**
+     * 현재 트랜잭션에서 배정했지만 아직 색인에 반영되지 않은 운영자별 부하 (트랜잭션 밖이면 빈 맵)
+     */
+    @SuppressWarnings("unchecked")
+    private Map<UUID, Integer> pendingLoad() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return Map.of();
+        }
+        Map<UUID, Integer> pending = (Map<UUID, Integer>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TicketAutoAssigner.this);
+                }
+            });
+        }
+        return pending;
+    }
+
+    private static boolean isOpen(TicketStatus status) {
+        return status != TicketStatus.RESOLVED && status != TicketStatus.COMPLETED && status != TicketStatus.CLOSED;
+    }
+}
@@ -0,0 +1,375 @@
+package com.kohub.domain.correlation.service;
+
+import com.kohub.domain.correlation.service.CorrelationWindow.Incident;
+import com.kohub.domain.host.entity.Host;
+import com.kohub.domain.host.repository.HostRepository;
+import com.kohub.domain.ticket.dto.TicketRequest;
+import com.kohub.domain.ticket.dto.TicketResponse;
+import com.kohub.domain.ticket.entity.Activity;
+import com.kohub.domain.ticket.entity.ActivityType;
+import com.kohub.domain.ticket.entity.Ticket;
+import com.kohub.domain.ticket.entity.TicketPriority;
+import com.kohub.domain.ticket.entity.TicketStatus;
+import com.kohub.domain.ticket.event.TicketChangedEvent;
+import com.kohub.domain.ticket.event.TicketChangedEvent.ChangeType;
+import com.kohub.domain.ticket.repository.ActivityRepository;
+import com.kohub.domain.ticket.repository.TicketRepository;
+import com.kohub.domain.ticket.service.TicketIngestionService;
+import com.kohub.domain.ticket.service.TicketService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 알림 상관 분석 서비스
+ *
+ * 웹훅으로 들어온 알림을 티켓으로 만들기 전에 호스트/조직/호스트 태그 키의 슬라이딩 윈도우로 묶는다.
+ * 윈도우 안의 첫 알림만 상위 인시던트 티켓이 되고, 이후 알림은 그 티켓의 활동으로 붙어
+ * 장애 폭주 시 티켓/알림/배정이 알림 수만큼 늘지 않는다. 묶이지 않은 나머지는 일괄 수집 경로로 한 번에 만들고,
+ * 더 심각한 하위 알림이 붙으면 상위 티켓 우선순위를 올린다.
+ * 윈도우는 인스턴스 메모리에 있으므로 인스턴스마다 따로 묶인다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class AlertCorrelationService {
+
+    private final TicketService ticketService;
+    private final TicketIngestionService ticketIngestionService;
+    private final TicketRepository ticketRepository;
+    private final ActivityRepository activityRepository;
+    private final HostRepository hostRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final CorrelationWindow window;
+
+    public AlertCorrelationService(
+            TicketService ticketService,
+            TicketIngestionService ticketIngestionService,
+            TicketRepository ticketRepository,
+            ActivityRepository activityRepository,
+            HostRepository hostRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${kohub.ticket.correlation.enabled:true}") boolean enabled,
+            @Value("${kohub.ticket.correlation.window-seconds:300}") long windowSeconds,
+            @Value("${kohub.ticket.correlation.max-span-seconds:3600}") long maxSpanSeconds) {
+        this.ticketService = ticketService;
+        this.ticketIngestionService = ticketIngestionService;
+        this.ticketRepository = ticketRepository;
+        this.activityRepository = activityRepository;
+        this.hostRepository = hostRepository;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        long windowMillis = Math.max(1, windowSeconds) * 1000;
+        this.window = new CorrelationWindow(windowMillis, Math.max(windowMillis, maxSpanSeconds * 1000));
+    }
+
+    /**
+     * 알림 처리 결과
+     * @param created    새로 생성된(또는 중복으로 조회된) 상위 티켓
+     * @param correlated 기존 인시던트에 활동으로 붙은 알림 수
+     * @param parentIds  알림이 붙은 상위 티켓
+     */
+    public record Result(List<TicketResponse> created, int correlated, List<UUID> parentIds) {
+    }
+
+    /**
+     * 상관 분석 사용 여부 (꺼져 있으면 웹훅마다 예전처럼 티켓 한 건)
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 웹훅 알림 처리 (상관 분석 후 상위 티켓 생성 또는 활동 연결)
+     * 같은 키를 다루는 요청은 키 잠금으로 직렬화하고, 잠금은 상위 티켓이 커밋된 뒤 해제하여
+     * 동시에 들어온 알림이 같은 키로 상위 티켓을 따로 만들지 않는다.
+     */
+    @Transactional
+    public Result process(List<TicketRequest> requests) {
+        if (!enabled) {
+            List<TicketResponse> created = requests.size() == 1
+                    ? List.of(ticketService.create(requests.get(0), null))
+                    : ticketIngestionService.ingest(requests, null);
+            return new Result(created, 0, List.of());
+        }
+
+        Map<UUID, Optional<Host>> hosts = new HashMap<>();
+        List<Alert> alerts = new ArrayList<>(requests.size());
+        Set<String> allKeys = new HashSet<>();
+        for (TicketRequest request : requests) {
+            Host host = request.getHostId() == null ? null
+                    : hosts.computeIfAbsent(request.getHostId(), hostRepository::findById).orElse(null);
+            Alert alert = new Alert(request, host, keysFor(request, host));
+            alerts.add(alert);
+            allKeys.addAll(alert.keys());
+        }
+
+        List<Incident> opened = new ArrayList<>();
+        Runnable unlock = window.lock(allKeys);
+        boolean deferred = TransactionSynchronizationManager.isSynchronizationActive();
+        if (deferred) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        // 롤백된 상위 티켓을 가리키는 인시던트 제거
+                        opened.forEach(window::close);
+                    }
+                    unlock.run();
+                }
+            });
+        }
+        try {
+            return correlate(alerts, opened);
+        } finally {
+            if (!deferred) {
+                unlock.run();
+            }
+        }
+    }
+
+    private Result correlate(List<Alert> alerts, List<Incident> opened) {
+        long now = System.currentTimeMillis();
+        Batch batch = new Batch(now);
+        List<Group> groups = new ArrayList<>();
+        Map<String, Group> groupByKey = new HashMap<>();
+
+        for (Alert alert : alerts) {
+            Incident incident = alert.keys().isEmpty() ? null : window.find(alert.keys(), now);
+            if (incident != null) {
+                Ticket parent = batch.openParent(incident.parentId());
+                if (parent != null) {
+                    batch.attach(incident, parent, alert);
+                    continue;
+                }
+                window.close(incident);
+            }
+
+            // 진행 중인 인시던트가 없으면 이 묶음 안에서 키를 공유하는 첫 알림이 상위 티켓이 된다
+            Group group = null;
+            for (String key : alert.keys()) {
+                group = groupByKey.get(key);
+                if (group != null) {
+                    break;
+                }
+            }
+            if (group == null) {
+                group = new Group(alert);
+                groups.add(group);
+            } else {
+                group.followers.add(alert);
+            }
+            for (String key : alert.keys()) {
+                groupByKey.putIfAbsent(key, group);
+                group.keys.add(key);
+            }
+        }
+
+        List<TicketResponse> created = new ArrayList<>();
+        List<TicketRequest> uncorrelated = new ArrayList<>();
+        List<TicketResponse> leaders = createLeaders(groups);
+        for (int i = 0; i < groups.size(); i++) {
+            Group group = groups.get(i);
+            TicketResponse ticket = leaders.get(i);
+            if (ticket != null) {
+                created.add(ticket);
+            }
+            if (ticket == null || group.keys.isEmpty() || !isOpen(ticket.getStatus())) {
+                group.followers.forEach(follower -> uncorrelated.add(follower.request()));
+                continue;
+            }
+            Incident incident = window.open(ticket.getId(), group.keys, group.leader.request().getSourceEventId(), now);
+            opened.add(incident);
+            if (group.followers.isEmpty()) {
+                continue;
+            }
+            Ticket parent = batch.openParent(ticket.getId());
+            for (Alert follower : group.followers) {
+                if (parent != null) {
+                    batch.attach(incident, parent, follower);
+                } else {
+                    uncorrelated.add(follower.request());
+                }
+            }
+        }
+        if (!uncorrelated.isEmpty()) {
+            // 상위 티켓이 종료된 경우 등 묶을 곳이 없는 나머지는 각자 티켓으로
+            created.addAll(ticketIngestionService.ingest(uncorrelated, null));
+        }
+
+        if (!batch.children.isEmpty()) {
+            activityRepository.saveAll(batch.children);
+        }
+        // 상위 티켓마다 한 번만 변경 알림 (하위 알림 수만큼 이벤트를 만들지 않음)
+        // 더 심각한 하위 알림이 붙었으면 우선순위를 올리고 그 이벤트로 알린다
+        int escalated = 0;
+        for (UUID parentId : batch.touched) {
+            // 일괄 수집은 영속성 컨텍스트를 비우므로(flush/clear) 앞서 조회한 상위 티켓은 분리 상태일 수 있어 다시 조회한다
+            // (비워지지 않았으면 1차 캐시에서 그대로 나온다)
+            Ticket parent = ticketRepository.findById(parentId).orElse(null);
+            if (parent == null) {
+                continue;
+            }
+            if (ticketService.raisePriority(parent, batch.highest.get(parent.getId()), "연관 알림")) {
+                escalated++;
+            } else {
+                eventPublisher.publishEvent(TicketChangedEvent.of(parent, ChangeType.COMMENTED, parent.getStatus()));
+            }
+        }
+        log.info("알림 상관 분석: alerts={}, created={}, correlated={}, duplicates={}, parents={}, escalated={}",
+                alerts.size(), created.size(), batch.children.size(), batch.duplicates, batch.touched.size(),
+                escalated);
+        return new Result(created, batch.children.size(), List.copyOf(batch.touched));
+    }
+
+    /**
+     * 그룹 대표 알림 생성 (여러 건이면 일괄 수집 경로)
+     * 일괄 수집은 이미 등록된 소스 이벤트를 요청 순서를 유지한 채 건너뛰므로, 건너뛴 대표는 기존 티켓을 조회한다.
+     * @return 그룹 순서의 상위 티켓 (찾지 못하면 null)
+     */
+    private List<TicketResponse> createLeaders(List<Group> groups) {
+        if (groups.isEmpty()) {
+            return List.of();
+        }
+        if (groups.size() == 1) {
+            return List.of(ticketService.create(groups.get(0).leader.request(), null));
+        }
+        List<TicketResponse> ingested = ticketIngestionService.ingest(
+                groups.stream().map(group -> group.leader.request()).toList(), null);
+        List<TicketResponse> leaders = new ArrayList<>(groups.size());
+        int next = 0;
+        for (Group group : groups) {
+            String sourceEventId = group.leader.request().getSourceEventId();
+            TicketResponse ticket = null;
+            if (next < ingested.size()
+                    && (sourceEventId == null || sourceEventId.equals(ingested.get(next).getSourceEventId()))) {
+                ticket = ingested.get(next++);
+            } else if (sourceEventId != null) {
+                ticket = ticketRepository.findBySourceEventId(sourceEventId).map(TicketResponse::from).orElse(null);
+            }
+            leaders.add(ticket);
+        }
+        return leaders;
+    }
+
+    /**
+     * 만료된 인시던트 정리
+     */
+    @Scheduled(fixedDelayString = "${kohub.ticket.correlation.purge-ms:60000}")
+    public void purge() {
+        int removed = window.purge(System.currentTimeMillis());
+        if (removed > 0) {
+            log.debug("만료된 상관 키 정리: removed={}, remaining={}", removed, window.size());
+        }
+    }
+
+    /**
+     * 상관 키: 호스트, 호스트 조직+태그 (호스트가 없으면 조직+소스, 조직을 모르면 태그 키 없음)
+     */
+    static List<String> keysFor(TicketRequest request, Host host) {
+        List<String> keys = new ArrayList<>();
+        if (host != null) {
+            UUID organizationId = host.getOrganizationId() != null
+                    ? host.getOrganizationId() : request.getOrganizationId();
+            keys.add("host:" + host.getId());
+            // 조직이 없으면 태그는 조직 간에 겹칠 수 있으므로 묶지 않음
+            if (organizationId != null) {
+                for (String tag : host.getTags()) {
+                    keys.add("tag:" + organizationId + ":" + tag);
+                }
+            }
+        } else if (request.getOrganizationId() != null) {
+            keys.add("org:" + request.getOrganizationId() + ":" + request.getSource());
+        }
+        return keys;
+    }
+
+    private record Alert(TicketRequest request, Host host, List<String> keys) {
+    }
+
+    /**
+     * 이 묶음에서 상위 티켓을 새로 만들 알림 그룹 (대표 + 키를 공유하는 나머지)
+     */
+    private static final class Group {
+        private final Alert leader;
+        private final Set<String> keys = new LinkedHashSet<>();
+        private final List<Alert> followers = new ArrayList<>();
+
+        private Group(Alert leader) {
+            this.leader = leader;
+        }
+    }
+
+    /**
+     * 묶음 처리 중 연결 결과 (상위 티켓 조회 캐시, 하위 활동, 상위별 최고 우선순위)
+     */
+    private final class Batch {
+        private final long now;
+        private final Map<UUID, Optional<Ticket>> parents = new HashMap<>();
+        private final Set<UUID> touched = new LinkedHashSet<>();
+        private final Map<UUID, TicketPriority> highest = new HashMap<>();
+        private final List<Activity> children = new ArrayList<>();
+        private int duplicates;
+
+        private Batch(long now) {
+            this.now = now;
+        }
+
+        private Ticket openParent(UUID parentId) {
+            return parents.computeIfAbsent(parentId, ticketRepository::findById)
+                    .filter(ticket -> isOpen(ticket.getStatus()))
+                    .orElse(null);
+        }
+
+        private void attach(Incident incident, Ticket parent, Alert alert) {
+            if (!window.attach(incident, alert.keys(), alert.request().getSourceEventId(), now)) {
+                duplicates++;
+                return;
+            }
+            children.add(childActivity(parent, alert.request(), alert.host()));
+            touched.add(parent.getId());
+            TicketPriority priority = alert.request().getPriority();
+            if (priority != null) {
+                highest.merge(parent.getId(), priority,
+                        (a, b) -> a.getRank() <= b.getRank() ? a : b);
+            }
+        }
+    }
+
+    private static Activity childActivity(Ticket parent, TicketRequest request, Host host) {
+        StringBuilder content = new StringBuilder()
+                .append("연관 알림 [").append(request.getSource()).append('/').append(request.getPriority())
+                .append("] ").append(request.getTitle());
+        if (host != null && !host.getId().equals(parent.getHostId())) {
+            content.append(" (호스트: ").append(host.getName()).append(')');
+        }
+        if (request.getSourceEventId() != null) {
+            content.append(" - ").append(request.getSourceEventId());
+        }
+        return Activity.builder()
+                .ticket(parent)
+                .type(ActivityType.CORRELATED_ALERT)
+                .content(content.toString())
+                .build();
+    }
+
+    private static boolean isOpen(TicketStatus status) {
+        return status != TicketStatus.RESOLVED && status != TicketStatus.COMPLETED && status != TicketStatus.CLOSED;
+    }
+}
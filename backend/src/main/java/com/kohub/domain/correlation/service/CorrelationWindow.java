@@ -0,0 +1,172 @@
+package com.kohub.domain.correlation.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 알림 상관 분석 슬라이딩 윈도우
+ *
+ * 상관 키(호스트, 조직+태그 등)마다 진행 중인 상위 인시던트를 가리킨다.
+ * 인시던트는 마지막 알림 후 window 동안 유지되고(새 알림이 오면 연장), 시작 후 maxSpan이 지나면 더 연장되지 않는다.
+ * 알림이 붙을 때 그 알림의 키도 인시던트에 등록되므로 태그를 공유하는 다른 호스트의 알림도 같은 인시던트로 모인다.
+ *
+ * 스레드 안전 (모든 연산은 인스턴스 잠금으로 직렬화)
+ * 요청 간 찾기/열기는 {@link #lock(Collection)}의 키 잠금으로 원자화한다.
+ */
+public class CorrelationWindow {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final long windowMillis;
+    private final long maxSpanMillis;
+    private final Map<String, Incident> byKey = new HashMap<>();
+    private final ReentrantLock[] stripes = new ReentrantLock[LOCK_STRIPES];
+
+    public CorrelationWindow(long windowMillis, long maxSpanMillis) {
+        if (windowMillis <= 0 || maxSpanMillis < windowMillis) {
+            throw new IllegalArgumentException("windowMillis > 0, maxSpanMillis >= windowMillis");
+        }
+        this.windowMillis = windowMillis;
+        this.maxSpanMillis = maxSpanMillis;
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 키 잠금 (같은 키를 다루는 요청의 찾기~열기를 직렬화)
+     * 키가 속한 줄무늬 잠금을 번호 순서로 잡으므로 여러 키를 잡는 요청끼리 교착하지 않는다.
+     * 인스턴스 잠금과 달리 잡은 스레드가 직접 해제해야 한다.
+     * @return 해제 동작
+     */
+    public Runnable lock(Collection<String> keys) {
+        int[] order = keys.stream()
+                .mapToInt(key -> Math.floorMod(key.hashCode(), LOCK_STRIPES))
+                .distinct()
+                .sorted()
+                .toArray();
+        for (int stripe : order) {
+            stripes[stripe].lock();
+        }
+        return () -> {
+            for (int i = order.length - 1; i >= 0; i--) {
+                stripes[order[i]].unlock();
+            }
+        };
+    }
+
+    /**
+     * 키 중 하나라도 진행 중인 인시던트에 속하면 반환 (키 순서대로 확인)
+     */
+    public synchronized Incident find(Collection<String> keys, long nowMillis) {
+        for (String key : keys) {
+            Incident incident = byKey.get(key);
+            if (incident != null && incident.isLive(nowMillis)) {
+                return incident;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 새 상위 인시던트 시작 (같은 키의 이전 인시던트는 대체)
+     */
+    public synchronized Incident open(UUID parentId, Collection<String> keys, String sourceEventId, long nowMillis) {
+        Incident incident = new Incident(parentId, nowMillis);
+        if (sourceEventId != null) {
+            incident.sourceEventIds.add(sourceEventId);
+        }
+        register(incident, keys);
+        return incident;
+    }
+
+    /**
+     * 하위 알림 연결 (윈도우 연장, 알림 키 등록)
+     * @return 이미 연결된 소스 이벤트(재전송)면 false
+     */
+    public synchronized boolean attach(Incident incident, Collection<String> keys, String sourceEventId,
+                                       long nowMillis) {
+        if (sourceEventId != null && !incident.sourceEventIds.add(sourceEventId)) {
+            return false;
+        }
+        incident.lastSeenMillis = nowMillis;
+        incident.children++;
+        register(incident, keys);
+        return true;
+    }
+
+    /**
+     * 상위 티켓이 종료/삭제된 인시던트 제거
+     */
+    public synchronized void close(Incident incident) {
+        incident.keys.forEach(key -> byKey.remove(key, incident));
+        incident.keys.clear();
+    }
+
+    /**
+     * 만료된 인시던트 제거
+     * @return 제거된 키 수
+     */
+    public synchronized int purge(long nowMillis) {
+        int removed = 0;
+        for (Iterator<Incident> it = byKey.values().iterator(); it.hasNext(); ) {
+            if (!it.next().isLive(nowMillis)) {
+                it.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public synchronized int size() {
+        return byKey.size();
+    }
+
+    private void register(Incident incident, Collection<String> keys) {
+        for (String key : keys) {
+            Incident previous = byKey.put(key, incident);
+            if (previous != null && previous != incident) {
+                previous.keys.remove(key);
+            }
+            incident.keys.add(key);
+        }
+    }
+
+    /**
+     * 진행 중인 상위 인시던트
+     */
+    public final class Incident {
+        private final UUID parentId;
+        private final long firstSeenMillis;
+        private long lastSeenMillis;
+        private int children;
+        private final Set<String> keys = new HashSet<>();
+        private final Set<String> sourceEventIds = new HashSet<>();
+
+        private Incident(UUID parentId, long firstSeenMillis) {
+            this.parentId = parentId;
+            this.firstSeenMillis = firstSeenMillis;
+            this.lastSeenMillis = firstSeenMillis;
+        }
+
+        public UUID parentId() {
+            return parentId;
+        }
+
+        public int children() {
+            synchronized (CorrelationWindow.this) {
+                return children;
+            }
+        }
+
+        private boolean isLive(long nowMillis) {
+            return nowMillis - lastSeenMillis <= windowMillis && nowMillis - firstSeenMillis <= maxSpanMillis;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.kohub.domain.dashboard.dto;
+
+import com.kohub.domain.host.dto.HostStatsResponse;
+import com.kohub.domain.ticket.dto.TicketResponse;
+import com.kohub.domain.ticket.dto.TicketStatsResponse;
+
+import java.util.List;
+
+/**
+ * 대시보드 요약 DTO
+ */
+public record DashboardSummary(
+        HostStatsResponse hosts,
+        TicketStatsResponse tickets,
+        List<TicketResponse> recentTickets
+) {}
@@ -0,0 +1,153 @@
+package com.kohub.domain.dashboard.service;
+
+import com.kohub.domain.dashboard.dto.DashboardSummary;
+import com.kohub.domain.host.dto.HostStatsResponse;
+import com.kohub.domain.host.event.HostChangedEvent;
+import com.kohub.domain.host.service.HostService;
+import com.kohub.domain.ticket.dto.TicketResponse;
+import com.kohub.domain.ticket.dto.TicketStatsResponse;
+import com.kohub.domain.ticket.event.TicketChangedEvent;
+import com.kohub.domain.ticket.service.TicketService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 대시보드 스냅샷 서비스
+ *
+ * 호스트 통계/티켓 통계/최근 티켓을 병렬로 계산해 하나의 스냅샷으로 캐시한다.
+ * 티켓·호스트 변경 이벤트(커밋 후)가 해당 파트의 세대를 올리면 다음 조회에서 그 파트만 다시 계산한다.
+ * 변경이 없으면 다수의 월보드가 주기적으로 조회해도 DB 조회가 발생하지 않는다.
+ */
+@Slf4j
+@Service
+public class DashboardSnapshotService {
+
+    static final int RECENT_TICKET_COUNT = 5;
+
+    private final HostService hostService;
+    private final TicketService ticketService;
+    private final Executor executor;
+    private final long maxAgeNanos;
+
+    // 파트별 변경 세대 (이벤트마다 증가)
+    private final AtomicLong hostGeneration = new AtomicLong();
+    private final AtomicLong ticketGeneration = new AtomicLong();
+
+    private volatile Snapshot snapshot;
+
+    public DashboardSnapshotService(
+            HostService hostService,
+            TicketService ticketService,
+            @Qualifier("dashboardExecutor") Executor executor,
+            @Value("${kohub.dashboard.max-age-seconds:300}") long maxAgeSeconds) {
+        this.hostService = hostService;
+        this.ticketService = ticketService;
+        this.executor = executor;
+        this.maxAgeNanos = Duration.ofSeconds(maxAgeSeconds).toNanos();
+    }
+
+    /**
+     * 대시보드 요약 (캐시된 스냅샷)
+     */
+    public DashboardSummary getSummary() {
+        Snapshot current = snapshot;
+        if (isFresh(current)) {
+            return current.summary();
+        }
+        // 동시에 만료를 본 요청은 한 번만 계산하고 나머지는 결과를 공유
+        synchronized (this) {
+            current = snapshot;
+            if (!isFresh(current)) {
+                current = refresh(current);
+                snapshot = current;
+            }
+            return current.summary();
+        }
+    }
+
+    public HostStatsResponse getHostStats() {
+        return getSummary().hosts();
+    }
+
+    public TicketStatsResponse getTicketStats() {
+        return getSummary().tickets();
+    }
+
+    /**
+     * 티켓 변경 → 티켓 통계/최근 티켓 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketChanged(TicketChangedEvent event) {
+        ticketGeneration.incrementAndGet();
+    }
+
+    /**
+     * 호스트 변경 → 호스트 통계 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHostChanged(HostChangedEvent event) {
+        hostGeneration.incrementAndGet();
+    }
+
+    private boolean isFresh(Snapshot current) {
+        return current != null
+                && current.hostGeneration() == hostGeneration.get()
+                && current.ticketGeneration() == ticketGeneration.get()
+                && System.nanoTime() - current.createdAt() < maxAgeNanos;
+    }
+
+    private Snapshot refresh(Snapshot previous) {
+        // 계산 전에 세대를 읽어, 계산 중 들어온 변경은 다음 조회에서 다시 반영되도록 한다
+        long hostGen = hostGeneration.get();
+        long ticketGen = ticketGeneration.get();
+        long now = System.nanoTime();
+
+        boolean expired = previous == null || now - previous.createdAt() >= maxAgeNanos;
+        boolean hostsDirty = expired || previous.hostGeneration() != hostGen;
+        boolean ticketsDirty = expired || previous.ticketGeneration() != ticketGen;
+
+        CompletableFuture<HostStatsResponse> hosts = hostsDirty
+                ? supply(hostService::getStats)
+                : CompletableFuture.completedFuture(previous.summary().hosts());
+        CompletableFuture<TicketStatsResponse> tickets = ticketsDirty
+                ? supply(ticketService::getStats)
+                : CompletableFuture.completedFuture(previous.summary().tickets());
+        CompletableFuture<List<TicketResponse>> recentTickets = ticketsDirty
+                ? supply(() -> ticketService.getOpenTicketsSlice(PageRequest.of(0, RECENT_TICKET_COUNT)).getContent())
+                : CompletableFuture.completedFuture(previous.summary().recentTickets());
+
+        DashboardSummary summary = new DashboardSummary(join(hosts), join(tickets), join(recentTickets));
+        log.debug("대시보드 스냅샷 갱신: hosts={}, tickets={}", hostsDirty, ticketsDirty);
+        return new Snapshot(summary, hostGen, ticketGen, expired ? now : previous.createdAt());
+    }
+
+    private <T> CompletableFuture<T> supply(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, executor);
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private record Snapshot(DashboardSummary summary, long hostGeneration, long ticketGeneration, long createdAt) {
+    }
+}
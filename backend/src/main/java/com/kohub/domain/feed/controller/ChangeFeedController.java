@@ -0,0 +1,32 @@
+package com.kohub.domain.feed.controller;
+
+import com.kohub.domain.feed.service.ChangeFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 변경 피드 API
+ */
+@RestController
+@RequestMapping("/api/v1/feed")
+@RequiredArgsConstructor
+@Tag(name = "Feed", description = "티켓/호스트 변경 피드 (SSE)")
+public class ChangeFeedController {
+
+    private final ChangeFeedService changeFeedService;
+
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "변경 피드 구독", description = "티켓 생성/상태 전이, 호스트 상태 변경을 커밋 직후 전송합니다. " +
+            "Last-Event-ID로 재연결하면 놓친 변경부터 이어 받고, 재개할 수 없으면 reset 이벤트를 받습니다")
+    public SseEmitter subscribe(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return changeFeedService.subscribe(lastEventId);
+    }
+}
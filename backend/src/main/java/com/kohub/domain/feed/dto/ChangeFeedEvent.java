@@ -0,0 +1,45 @@
+package com.kohub.domain.feed.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.kohub.domain.host.event.HostChangedEvent;
+import com.kohub.domain.ticket.event.TicketChangedEvent;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 변경 피드 항목
+ * 클라이언트는 entity/id로 바뀐 대상만 다시 조회한다.
+ *
+ * @param entity 대상 종류 (ticket, host)
+ * @param previousStatus 변경 전 상태 (생성 시 null)
+ * @param priority 티켓 우선순위 (호스트는 null)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ChangeFeedEvent(
+        String entity,
+        UUID id,
+        String changeType,
+        String previousStatus,
+        String status,
+        String priority,
+        Instant occurredAt
+) {
+
+    public static final String TICKET = "ticket";
+    public static final String HOST = "host";
+
+    public static ChangeFeedEvent from(TicketChangedEvent event) {
+        return new ChangeFeedEvent(TICKET, event.ticketId(), event.changeType().name(),
+                nameOf(event.previousStatus()), nameOf(event.status()), nameOf(event.priority()), event.occurredAt());
+    }
+
+    public static ChangeFeedEvent from(HostChangedEvent event) {
+        return new ChangeFeedEvent(HOST, event.hostId(), event.changeType().name(),
+                nameOf(event.previousStatus()), nameOf(event.status()), null, event.occurredAt());
+    }
+
+    private static String nameOf(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+}
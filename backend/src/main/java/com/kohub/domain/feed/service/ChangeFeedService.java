@@ -0,0 +1,123 @@
+package com.kohub.domain.feed.service;
+
+import com.kohub.common.stream.SseBroadcastChannel;
+import com.kohub.domain.feed.dto.ChangeFeedEvent;
+import com.kohub.domain.host.event.HostChangedEvent;
+import com.kohub.domain.ticket.event.TicketChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * 티켓/호스트 변경 피드
+ *
+ * 커밋된 변경을 하나의 브로드캐스트 채널에 발행하고, 화면마다 SSE로 구독한다.
+ * 대시보드/목록 폴링 대신 변경 항목을 받은 화면만 해당 대상을 다시 조회한다.
+ * 이벤트 ID는 "기동 epoch:채널 시퀀스"이며, 재연결 시 Last-Event-ID가 같은 프로세스의 버퍼에 남아 있으면
+ * 그 다음부터 이어서 보내고, 이미 밀려났거나 재기동 전 ID면 reset 이벤트로 전체 새로고침을 요청한다.
+ * (인스턴스 내 변경만 전달)
+ */
+@Slf4j
+@Service
+public class ChangeFeedService {
+
+    static final String CHANGE_EVENT = "change";
+    static final String RESET_EVENT = "reset";
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36) + ":";
+    private final SseBroadcastChannel<ChangeFeedEvent> channel;
+    private final long emitterTimeoutMillis;
+
+    @Autowired
+    public ChangeFeedService(
+            @Qualifier("feedDeliveryExecutor") Executor deliveryExecutor,
+            @Value("${kohub.feed.buffer-size:4096}") int bufferSize,
+            @Value("${kohub.feed.max-batch:64}") int maxBatch,
+            @Value("${kohub.feed.emitter-timeout-ms:1800000}") long emitterTimeoutMillis) {
+        this(epoch -> new SseBroadcastChannel<>("changes", CHANGE_EVENT, epoch, bufferSize, maxBatch,
+                deliveryExecutor), emitterTimeoutMillis);
+    }
+
+    /**
+     * @param channelFactory 이벤트 ID 접두사(epoch)로 채널 생성
+     */
+    ChangeFeedService(Function<String, SseBroadcastChannel<ChangeFeedEvent>> channelFactory,
+                      long emitterTimeoutMillis) {
+        this.channel = channelFactory.apply(epoch);
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketChanged(TicketChangedEvent event) {
+        if (event.ticketId() != null) {
+            channel.publish(ChangeFeedEvent.from(event));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHostChanged(HostChangedEvent event) {
+        if (event.hostId() != null) {
+            channel.publish(ChangeFeedEvent.from(event));
+        }
+    }
+
+    /**
+     * 변경 피드 구독
+     * @param lastEventId 재연결 시 마지막으로 받은 이벤트 ID (최초 연결은 null, 이후 변경부터 전송)
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        boolean resuming = lastEventId != null && !lastEventId.isBlank();
+        Long lastSequence = parseSequence(lastEventId);
+        if (lastSequence != null && channel.isRetained(lastSequence + 1)) {
+            return channel.subscribe(lastSequence + 1, emitterTimeoutMillis);
+        }
+
+        long latest = channel.getLatestSequence();
+        SseEmitter emitter = channel.subscribe(latest + 1, emitterTimeoutMillis);
+        if (resuming) {
+            log.debug("변경 피드 재개 불가, 전체 새로고침 요청: lastEventId={}, latest={}", lastEventId, latest);
+            try {
+                emitter.send(SseEmitter.event()
+                        .id(epoch + latest)
+                        .name(RESET_EVENT)
+                        .data(Map.of("reason", "expired")));
+            } catch (IOException | IllegalStateException e) {
+                emitter.completeWithError(e);
+            }
+        }
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return channel.getSubscriberCount();
+    }
+
+    @PreDestroy
+    public void close() {
+        channel.close();
+    }
+
+    /**
+     * 현재 프로세스가 발급한 ID의 시퀀스 (그 외는 null)
+     */
+    private Long parseSequence(String lastEventId) {
+        if (lastEventId == null || !lastEventId.startsWith(epoch)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(epoch.length()).trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.kohub.domain.host.controller;
+
+import com.kohub.common.security.AuthenticatedUser;
+import com.kohub.common.security.CurrentUser;
+import com.kohub.domain.host.dto.FleetCommandRequest;
+import com.kohub.domain.host.dto.FleetCommandResult;
+import com.kohub.domain.host.service.FleetCommandService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 다중 호스트 명령 실행 API
+ */
+@RestController
+@RequestMapping("/api/v1/hosts/commands")
+@RequiredArgsConstructor
+@Tag(name = "Fleet", description = "다중 호스트 명령 실행 API")
+public class FleetCommandController {
+
+    private final FleetCommandService fleetCommandService;
+
+    @Value("${kohub.fleet.emitter-timeout-ms:3600000}")
+    private long emitterTimeoutMillis;
+
+    /**
+     * 일괄 명령 실행 (결과 스트리밍)
+     * 이벤트: started → result (호스트별, 완료 순) → completed
+     * 운영자(ADMIN/OPERATOR)만 실행 가능 (SecurityConfig에서 SSO 여부와 관계없이 검사)
+     */
+    @PostMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "일괄 명령 실행", description = "태그/조직으로 선택한 호스트에 명령을 동시 실행하고 결과를 완료 순으로 스트리밍합니다")
+    public SseEmitter execute(
+            @CurrentUser AuthenticatedUser user,
+            @Valid @RequestBody FleetCommandRequest request) {
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        fleetCommandService.execute(request, user != null ? user.getUserId() : null,
+                new FleetCommandService.FleetCommandListener() {
+                    @Override
+                    public void onStarted(String batchId, int hostCount) {
+                        send(emitter, "started", Map.of("batchId", batchId, "hostCount", hostCount));
+                    }
+
+                    @Override
+                    public void onResult(FleetCommandResult result) {
+                        send(emitter, "result", result);
+                    }
+
+                    @Override
+                    public void onCompleted(FleetCommandResult.Summary summary) {
+                        send(emitter, "completed", summary);
+                        emitter.complete();
+                    }
+                });
+        return emitter;
+    }
+
+    private void send(SseEmitter emitter, String name, Object data) {
+        try {
+            synchronized (emitter) {
+                emitter.send(SseEmitter.event().name(name).data(data));
+            }
+        } catch (IOException | IllegalStateException e) {
+            throw new IllegalStateException("결과 스트림 전송 실패", e);
+        }
+    }
+}
@@ -1,17 +1,22 @@
 package com.kohub.domain.host.controller;
 
+import com.kohub.common.pagination.CountMode;
+import com.kohub.common.pagination.CursorPage;
 import com.kohub.common.response.ApiResponse;
 import com.kohub.common.response.PageResponse;
+import com.kohub.common.security.AuthenticatedUser;
+import com.kohub.common.security.CurrentUser;
 import com.kohub.domain.host.dto.HostRequest;
 import com.kohub.domain.host.dto.HostResponse;
 import com.kohub.domain.host.dto.HostStatsResponse;
+import com.kohub.domain.host.dto.HostTimelineEntry;
 import com.kohub.domain.host.entity.HostStatus;
 import com.kohub.domain.host.service.HostService;
+import com.kohub.domain.host.service.HostTimelineService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
@@ -31,6 +36,7 @@ import java.util.UUID;
 public class HostController {
 
     private final HostService hostService;
+    private final HostTimelineService hostTimelineService;
 
     @PostMapping
     @Operation(summary = "호스트 생성", description = "새 호스트를 등록합니다")
@@ -49,13 +55,19 @@ public class HostController {
     }
 
     @GetMapping
-    @Operation(summary = "호스트 목록 조회", description = "호스트 목록을 페이징하여 조회합니다")
+    @Operation(summary = "호스트 목록 조회", description = "호스트 목록을 페이징하여 조회합니다. count=NONE/ESTIMATE로 COUNT 쿼리를 생략합니다")
     public ResponseEntity<ApiResponse<PageResponse<HostResponse>>> getList(
             @RequestParam(required = false) HostStatus status,
             @RequestParam(required = false) String keyword,
+            @RequestParam(defaultValue = "EXACT") CountMode count,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<HostResponse> page = hostService.getList(status, keyword, pageable);
-        return ResponseEntity.ok(ApiResponse.success(PageResponse.from(page)));
+        PageResponse<HostResponse> response = switch (count) {
+            case EXACT -> PageResponse.from(hostService.getList(status, keyword, pageable));
+            case NONE -> PageResponse.from(hostService.getSlice(status, keyword, pageable));
+            case ESTIMATE -> PageResponse.from(
+                    hostService.getSlice(status, keyword, pageable), hostService.estimateCount(status, keyword));
+        };
+        return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     @PutMapping("/{id}")
@@ -83,6 +95,18 @@ public class HostController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/{id}/timeline")
+    @Operation(summary = "호스트 타임라인", description = "호스트의 티켓, 티켓 활동, 터미널 세션, 알림을 최신순으로 커서(키셋) 방식 조회합니다")
+    public ResponseEntity<ApiResponse<PageResponse<HostTimelineEntry>>> getTimeline(
+            @PathVariable UUID id,
+            @CurrentUser AuthenticatedUser user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        CursorPage<HostTimelineEntry> page = hostTimelineService.getTimeline(
+                id, user == null ? null : user.getUserId(), cursor, Math.max(1, Math.min(size, 100)));
+        return ResponseEntity.ok(ApiResponse.success(PageResponse.from(page)));
+    }
+
     @GetMapping("/stats")
     @Operation(summary = "호스트 통계", description = "호스트 상태별 통계를 조회합니다")
     public ResponseEntity<ApiResponse<HostStatsResponse>> getStats() {
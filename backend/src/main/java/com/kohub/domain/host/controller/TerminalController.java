@@ -14,7 +14,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.UUID;
 
@@ -82,6 +84,32 @@ public class TerminalController {
         return ApiResponse.success(response);
     }
 
+    /**
+     * 세션 실시간 출력 구독 (SSE)
+     */
+    @GetMapping(value = "/logs/{sessionId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "세션 실시간 출력", description = "터미널 세션 출력을 실시간으로 구독합니다 (여러 관전자 동시 구독 가능)")
+    public SseEmitter streamSession(
+            @PathVariable UUID hostId,
+            @PathVariable String sessionId) {
+        
+        return terminalLogService.streamSession(hostId, sessionId);
+    }
+
+    /**
+     * 세션 출력 발행 (Termix 연동)
+     */
+    @PostMapping(value = "/logs/{sessionId}/output", consumes = MediaType.TEXT_PLAIN_VALUE)
+    @Operation(summary = "세션 출력 발행", description = "터미널 출력을 관전자에게 전달합니다")
+    public ApiResponse<Void> publishOutput(
+            @PathVariable UUID hostId,
+            @PathVariable String sessionId,
+            @RequestBody String output) {
+        
+        terminalLogService.publishOutput(hostId, sessionId, output);
+        return ApiResponse.success(null);
+    }
+
     /**
      * 세션 종료
      */
@@ -0,0 +1,37 @@
+package com.kohub.domain.host.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * 다중 호스트 명령 실행 요청 DTO
+ * 태그 또는 조직으로 대상 호스트를 선택한다 (둘 다 지정 시 교집합).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FleetCommandRequest {
+
+    @NotBlank(message = "실행할 명령은 필수입니다")
+    @Size(max = 2000, message = "명령은 2000자 이하여야 합니다")
+    private String command;
+
+    private String tag;
+
+    private UUID organizationId;
+
+    @Min(value = 1, message = "동시 실행 수는 1 이상이어야 합니다")
+    @Max(value = 256, message = "동시 실행 수는 256 이하여야 합니다")
+    private Integer parallelism;
+
+    @Min(value = 1, message = "타임아웃은 1초 이상이어야 합니다")
+    @Max(value = 3600, message = "타임아웃은 3600초 이하여야 합니다")
+    private Integer timeoutSeconds;
+}
@@ -0,0 +1,38 @@
+package com.kohub.domain.host.dto;
+
+import com.kohub.adapter.CommandExecutor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * 호스트별 명령 실행 결과 DTO
+ */
+@Getter
+@Builder
+public class FleetCommandResult {
+    private final String batchId;
+    private final UUID hostId;
+    private final String hostName;
+    private final CommandExecutor.Status status;
+    private final Integer exitCode;
+    private final String output;
+    private final long durationMs;
+    private final UUID terminalLogId;
+
+    /**
+     * 일괄 실행 요약
+     */
+    @Getter
+    @Builder
+    public static class Summary {
+        private final String batchId;
+        private final int total;
+        private final int succeeded;
+        private final int failed;
+        private final int timedOut;
+        private final int skipped;
+        private final long durationMs;
+    }
+}
@@ -0,0 +1,74 @@
+package com.kohub.domain.host.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.kohub.domain.notification.entity.Notification;
+import com.kohub.domain.terminal.entity.TerminalLog;
+import com.kohub.domain.ticket.entity.Activity;
+import com.kohub.domain.ticket.entity.Ticket;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+/**
+ * 호스트 타임라인 항목 (최신순)
+ *
+ * @param kind 항목 종류 (같은 시각이면 종류 순서로 정렬)
+ * @param type 종류별 세부 유형 (티켓 상태, 활동 유형, 알림 유형, 세션 진행 여부)
+ * @param ticketId 관련 티켓 (티켓/활동/세션)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record HostTimelineEntry(
+        Kind kind,
+        UUID id,
+        Instant occurredAt,
+        String type,
+        String title,
+        String content,
+        UUID ticketId,
+        UUID actorId
+) {
+
+    public enum Kind {
+        TICKET,
+        ACTIVITY,
+        TERMINAL_SESSION,
+        NOTIFICATION
+    }
+
+    public static HostTimelineEntry from(Ticket ticket) {
+        return new HostTimelineEntry(Kind.TICKET, ticket.getId(), ticket.getCreatedAt(),
+                ticket.getStatus().name(), ticket.getTitle(), ticket.getPriority().name(),
+                ticket.getId(), ticket.getReporterId());
+    }
+
+    public static HostTimelineEntry from(Activity activity) {
+        return new HostTimelineEntry(Kind.ACTIVITY, activity.getId(), activity.getCreatedAt(),
+                activity.getType().name(), null, activity.getContent(),
+                activity.getTicket().getId(), activity.getActorId());
+    }
+
+    public static HostTimelineEntry from(TerminalLog log) {
+        String content = log.getEndedAt() == null ? null : "명령어 " + log.getCommandCount() + "건";
+        return new HostTimelineEntry(Kind.TERMINAL_SESSION, log.getId(), toInstant(log.getStartedAt()),
+                log.getEndedAt() == null ? "ACTIVE" : "ENDED", log.getSessionId(), content,
+                log.getTicketId(), log.getUserId());
+    }
+
+    public static HostTimelineEntry from(Notification notification) {
+        return new HostTimelineEntry(Kind.NOTIFICATION, notification.getId(), toInstant(notification.getCreatedAt()),
+                notification.getType().name(), notification.getTitle(), notification.getContent(), null, null);
+    }
+
+    /**
+     * LocalDateTime 컬럼(세션/알림)은 서버 시간대 기준
+     */
+    public static Instant toInstant(LocalDateTime value) {
+        return value.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    public static LocalDateTime toLocalDateTime(Instant value) {
+        return LocalDateTime.ofInstant(value, ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,32 @@
+package com.kohub.domain.host.event;
+
+import com.kohub.domain.host.entity.Host;
+import com.kohub.domain.host.entity.HostStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 호스트 변경 이벤트
+ * 호스트 생성/수정/상태 변경 트랜잭션 내에서 발행된다.
+ *
+ * @param previousStatus 변경 전 상태 (생성 시 null)
+ */
+public record HostChangedEvent(
+        UUID hostId,
+        ChangeType changeType,
+        HostStatus previousStatus,
+        HostStatus status,
+        Instant occurredAt
+) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED
+    }
+
+    public static HostChangedEvent of(Host host, ChangeType changeType, HostStatus previousStatus) {
+        return new HostChangedEvent(host.getId(), changeType, previousStatus, host.getStatus(), Instant.now());
+    }
+}
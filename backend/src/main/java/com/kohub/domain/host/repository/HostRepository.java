@@ -4,6 +4,7 @@ import com.kohub.domain.host.entity.Host;
 import com.kohub.domain.host.entity.HostStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -39,6 +40,21 @@ public interface HostRepository extends JpaRepository<Host, UUID> {
      */
     Page<Host> findByOrganizationId(UUID organizationId, Pageable pageable);
 
+    /**
+     * 조직 + 상태별 호스트 목록 조회
+     */
+    List<Host> findByOrganizationIdAndStatus(UUID organizationId, HostStatus status);
+
+    /**
+     * 태그 + 상태별 호스트 목록 조회 (조직 필터 선택)
+     */
+    @Query("SELECT DISTINCT h FROM Host h JOIN h.tags tag WHERE tag = :tag AND h.status = :status " +
+           "AND (:organizationId IS NULL OR h.organizationId = :organizationId)")
+    List<Host> findByTagAndStatus(
+            @Param("tag") String tag,
+            @Param("status") HostStatus status,
+            @Param("organizationId") UUID organizationId);
+
     /**
      * 상태별 호스트 수 조회
      */
@@ -74,4 +90,27 @@ public interface HostRepository extends JpaRepository<Host, UUID> {
             @Param("status") HostStatus status,
             @Param("keyword") String keyword,
             Pageable pageable);
+
+    /**
+     * 상태 필터 + 검색 (COUNT 없는 Slice)
+     */
+    @Query("SELECT h FROM Host h WHERE " +
+           "(:status IS NULL OR h.status = :status) AND " +
+           "(:keyword IS NULL OR LOWER(h.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(h.description) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+    Slice<Host> sliceByStatusAndKeyword(
+            @Param("status") HostStatus status,
+            @Param("keyword") String keyword,
+            Pageable pageable);
+
+    /**
+     * 상태 필터 + 검색 건수
+     */
+    @Query("SELECT COUNT(h) FROM Host h WHERE " +
+           "(:status IS NULL OR h.status = :status) AND " +
+           "(:keyword IS NULL OR LOWER(h.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(h.description) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+    long countByStatusAndKeyword(
+            @Param("status") HostStatus status,
+            @Param("keyword") String keyword);
 }
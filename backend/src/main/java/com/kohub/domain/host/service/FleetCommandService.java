@@ -0,0 +1,240 @@
+package com.kohub.domain.host.service;
+
+import com.kohub.adapter.CommandExecutor;
+import com.kohub.common.exception.BusinessException;
+import com.kohub.common.exception.ErrorCode;
+import com.kohub.domain.host.dto.FleetCommandRequest;
+import com.kohub.domain.host.dto.FleetCommandResult;
+import com.kohub.domain.host.entity.Host;
+import com.kohub.domain.host.entity.HostStatus;
+import com.kohub.domain.host.repository.HostRepository;
+import com.kohub.domain.terminal.service.TerminalLogService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 다중 호스트 명령 실행 서비스
+ *
+ * 태그/조직으로 선택한 호스트에 명령을 동시 실행한다.
+ * - 요청별 동시 실행 수만큼의 워커가 호스트 큐를 소비 (bounded parallelism)
+ * - 워커는 공유 fleetCommandExecutor(스레드 수 = max-parallelism)에서 실행되어 전체 동시 실행 수도 제한
+ * - 호스트별 타임아웃은 CommandExecutor의 연결/읽기 타임아웃으로 보장하고 초과 시 TIMEOUT으로 기록
+ * - 완료되는 순서대로 결과를 리스너에 전달하고 TerminalLog로 저장
+ */
+@Service
+@Slf4j
+public class FleetCommandService {
+
+    private final HostRepository hostRepository;
+    private final TerminalLogService terminalLogService;
+    private final CommandExecutor commandExecutor;
+    private final int maxParallelism;
+    private final int defaultParallelism;
+    private final int defaultTimeoutSeconds;
+    private final Executor workerPool;
+
+    public FleetCommandService(
+            HostRepository hostRepository,
+            TerminalLogService terminalLogService,
+            CommandExecutor commandExecutor,
+            @Qualifier("fleetCommandExecutor") Executor workerPool,
+            @Value("${kohub.fleet.max-parallelism:64}") int maxParallelism,
+            @Value("${kohub.fleet.default-parallelism:16}") int defaultParallelism,
+            @Value("${kohub.fleet.default-timeout-seconds:60}") int defaultTimeoutSeconds) {
+        this.hostRepository = hostRepository;
+        this.terminalLogService = terminalLogService;
+        this.commandExecutor = commandExecutor;
+        this.maxParallelism = maxParallelism;
+        this.defaultParallelism = Math.min(defaultParallelism, maxParallelism);
+        this.defaultTimeoutSeconds = defaultTimeoutSeconds;
+        this.workerPool = workerPool;
+    }
+
+    /**
+     * 일괄 실행 시작 (비동기)
+     * @return 배치 ID
+     */
+    public String execute(FleetCommandRequest request, UUID userId, FleetCommandListener listener) {
+        List<Host> hosts = selectHosts(request);
+        String batchId = UUID.randomUUID().toString();
+        int parallelism = Math.min(
+                request.getParallelism() != null ? request.getParallelism() : defaultParallelism,
+                maxParallelism);
+        Duration timeout = Duration.ofSeconds(
+                request.getTimeoutSeconds() != null ? request.getTimeoutSeconds() : defaultTimeoutSeconds);
+
+        log.info("일괄 명령 실행 시작: batchId={}, hosts={}, parallelism={}, timeout={}s",
+                batchId, hosts.size(), parallelism, timeout.toSeconds());
+        notifySafely(() -> listener.onStarted(batchId, hosts.size()));
+
+        Batch batch = new Batch(batchId, request.getCommand(), userId, timeout, listener,
+                new ConcurrentLinkedQueue<>(hosts), System.nanoTime());
+
+        int workers = Math.max(1, Math.min(parallelism, hosts.size()));
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[workers];
+        try {
+            for (int i = 0; i < workers; i++) {
+                futures[i] = CompletableFuture.runAsync(() -> runWorker(batch), workerPool);
+            }
+        } catch (RejectedExecutionException e) {
+            // 이미 시작한 워커가 남은 호스트를 처리
+            if (futures[0] == null) {
+                throw new BusinessException(ErrorCode.INTERNAL_ERROR, "일괄 실행 대기열이 가득 찼습니다");
+            }
+            log.warn("일괄 실행 워커 일부 거부: batchId={}", batchId);
+            futures = Arrays.stream(futures).filter(Objects::nonNull).toArray(CompletableFuture<?>[]::new);
+        }
+        CompletableFuture.allOf(futures).whenComplete((ignored, error) -> complete(batch, hosts.size()));
+
+        return batchId;
+    }
+
+    /**
+     * 대상 호스트 선택 (ACTIVE 상태만)
+     */
+    List<Host> selectHosts(FleetCommandRequest request) {
+        boolean hasTag = request.getTag() != null && !request.getTag().isBlank();
+        if (!hasTag && request.getOrganizationId() == null) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "태그 또는 조직 중 하나는 지정해야 합니다");
+        }
+        if (hasTag) {
+            return hostRepository.findByTagAndStatus(request.getTag(), HostStatus.ACTIVE, request.getOrganizationId());
+        }
+        return hostRepository.findByOrganizationIdAndStatus(request.getOrganizationId(), HostStatus.ACTIVE);
+    }
+
+    private void runWorker(Batch batch) {
+        Host host;
+        while ((host = batch.hosts.poll()) != null) {
+            FleetCommandResult result = executeOnHost(batch, host);
+            batch.count(result.getStatus());
+            notifySafely(() -> batch.listener.onResult(result));
+        }
+    }
+
+    private FleetCommandResult executeOnHost(Batch batch, Host host) {
+        long started = System.nanoTime();
+        CommandExecutor.CommandResult result = run(batch, host);
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        UUID terminalLogId = null;
+        try {
+            terminalLogId = terminalLogService.recordCommandExecution(
+                    host.getId(), batch.userId, sessionIdOf(batch, host), batch.command, result).getId();
+        } catch (Exception e) {
+            log.error("명령 실행 결과 저장 실패: batchId={}, hostId={}", batch.id, host.getId(), e);
+        }
+
+        return FleetCommandResult.builder()
+                .batchId(batch.id)
+                .hostId(host.getId())
+                .hostName(host.getName())
+                .status(result.status())
+                .exitCode(result.exitCode())
+                .output(result.output())
+                .durationMs(durationMs)
+                .terminalLogId(terminalLogId)
+                .build();
+    }
+
+    /**
+     * 워커 스레드에서 직접 실행 (타임아웃은 CommandExecutor가 HTTP 클라이언트 타임아웃으로 보장)
+     */
+    private CommandExecutor.CommandResult run(Batch batch, Host host) {
+        try {
+            return commandExecutor.execute(host, batch.command, batch.timeout);
+        } catch (RuntimeException e) {
+            log.warn("명령 실행 오류: host={}, error={}", host.getName(), e.getMessage());
+            return CommandExecutor.CommandResult.error(e.getMessage());
+        }
+    }
+
+    private void complete(Batch batch, int total) {
+        FleetCommandResult.Summary summary = FleetCommandResult.Summary.builder()
+                .batchId(batch.id)
+                .total(total)
+                .succeeded(batch.succeeded.get())
+                .failed(batch.failed.get())
+                .timedOut(batch.timedOut.get())
+                .skipped(batch.skipped.get())
+                .durationMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - batch.startedNanos))
+                .build();
+        log.info("일괄 명령 실행 완료: batchId={}, succeeded={}, failed={}, timedOut={}, skipped={}",
+                batch.id, summary.getSucceeded(), summary.getFailed(), summary.getTimedOut(), summary.getSkipped());
+        notifySafely(() -> batch.listener.onCompleted(summary));
+    }
+
+    private String sessionIdOf(Batch batch, Host host) {
+        return "fleet:" + batch.id + ":" + host.getId();
+    }
+
+    private void notifySafely(Runnable notification) {
+        try {
+            notification.run();
+        } catch (Exception e) {
+            // 구독자 연결이 끊겨도 실행은 계속
+            log.debug("일괄 실행 결과 전달 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 일괄 실행 진행 상태 리스너
+     */
+    public interface FleetCommandListener {
+        void onStarted(String batchId, int hostCount);
+        void onResult(FleetCommandResult result);
+        void onCompleted(FleetCommandResult.Summary summary);
+    }
+
+    /**
+     * 실행 중인 배치 상태
+     */
+    private static final class Batch {
+        private final String id;
+        private final String command;
+        private final UUID userId;
+        private final Duration timeout;
+        private final FleetCommandListener listener;
+        private final Queue<Host> hosts;
+        private final long startedNanos;
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger timedOut = new AtomicInteger();
+        private final AtomicInteger skipped = new AtomicInteger();
+
+        private Batch(String id, String command, UUID userId, Duration timeout,
+                      FleetCommandListener listener, Queue<Host> hosts, long startedNanos) {
+            this.id = id;
+            this.command = command;
+            this.userId = userId;
+            this.timeout = timeout;
+            this.listener = listener;
+            this.hosts = hosts;
+            this.startedNanos = startedNanos;
+        }
+
+        private void count(CommandExecutor.Status status) {
+            switch (status) {
+                case SUCCESS -> succeeded.incrementAndGet();
+                case TIMEOUT -> timedOut.incrementAndGet();
+                case SKIPPED -> skipped.incrementAndGet();
+                default -> failed.incrementAndGet();
+            }
+        }
+    }
+}
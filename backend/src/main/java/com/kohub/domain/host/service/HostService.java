@@ -2,16 +2,21 @@ package com.kohub.domain.host.service;
 
 import com.kohub.common.exception.BusinessException;
 import com.kohub.common.exception.ErrorCode;
+import com.kohub.common.pagination.RowCountEstimator;
 import com.kohub.domain.host.dto.HostRequest;
 import com.kohub.domain.host.dto.HostResponse;
 import com.kohub.domain.host.dto.HostStatsResponse;
 import com.kohub.domain.host.entity.Host;
 import com.kohub.domain.host.entity.HostStatus;
+import com.kohub.domain.host.event.HostChangedEvent;
+import com.kohub.domain.host.event.HostChangedEvent.ChangeType;
 import com.kohub.domain.host.repository.HostRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +32,8 @@ import java.util.UUID;
 public class HostService {
 
     private final HostRepository hostRepository;
+    private final RowCountEstimator rowCountEstimator;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 호스트 생성
@@ -49,6 +56,7 @@ public class HostService {
                 .build();
 
         Host saved = hostRepository.save(host);
+        eventPublisher.publishEvent(HostChangedEvent.of(saved, ChangeType.CREATED, null));
         log.info("호스트 생성 완료: id={}, name={}", saved.getId(), saved.getName());
 
         return HostResponse.from(saved);
@@ -70,6 +78,24 @@ public class HostService {
         return hosts.map(HostResponse::from);
     }
 
+    /**
+     * 호스트 목록 조회 (COUNT 없음)
+     */
+    public Slice<HostResponse> getSlice(HostStatus status, String keyword, Pageable pageable) {
+        return hostRepository.sliceByStatusAndKeyword(status, keyword, pageable).map(HostResponse::from);
+    }
+
+    /**
+     * 호스트 목록 추정 건수
+     */
+    public long estimateCount(HostStatus status, String keyword) {
+        if (status == null && keyword == null) {
+            return rowCountEstimator.estimateTable("hosts", hostRepository::count);
+        }
+        return rowCountEstimator.cached("hosts:" + status + ":" + keyword,
+                () -> hostRepository.countByStatusAndKeyword(status, keyword));
+    }
+
     /**
      * 호스트 수정
      */
@@ -90,6 +116,7 @@ public class HostService {
                 request.getSshConfig() != null ? request.getSshConfig().toEntity() : null,
                 request.getTags()
         );
+        eventPublisher.publishEvent(HostChangedEvent.of(host, ChangeType.UPDATED, host.getStatus()));
 
         log.info("호스트 수정 완료: id={}", id);
         return HostResponse.from(host);
@@ -101,7 +128,9 @@ public class HostService {
     @Transactional
     public void delete(UUID id) {
         Host host = findHostById(id);
+        HostStatus previousStatus = host.getStatus();
         host.deactivate();
+        eventPublisher.publishEvent(HostChangedEvent.of(host, ChangeType.STATUS_CHANGED, previousStatus));
         log.info("호스트 비활성화 완료: id={}", id);
     }
 
@@ -111,7 +140,9 @@ public class HostService {
     @Transactional
     public HostResponse changeStatus(UUID id, HostStatus newStatus) {
         Host host = findHostById(id);
+        HostStatus previousStatus = host.getStatus();
         host.changeStatus(newStatus);
+        eventPublisher.publishEvent(HostChangedEvent.of(host, ChangeType.STATUS_CHANGED, previousStatus));
         log.info("호스트 상태 변경: id={}, status={}", id, newStatus);
         return HostResponse.from(host);
     }
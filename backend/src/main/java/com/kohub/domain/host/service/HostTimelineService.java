@@ -0,0 +1,159 @@
+package com.kohub.domain.host.service;
+
+import com.kohub.common.exception.BusinessException;
+import com.kohub.common.exception.ErrorCode;
+import com.kohub.common.pagination.CursorCodec;
+import com.kohub.common.pagination.CursorPage;
+import com.kohub.domain.host.dto.HostTimelineEntry;
+import com.kohub.domain.host.dto.HostTimelineEntry.Kind;
+import com.kohub.domain.host.repository.HostRepository;
+import com.kohub.domain.notification.repository.NotificationRepository;
+import com.kohub.domain.terminal.repository.TerminalLogRepository;
+import com.kohub.domain.ticket.repository.ActivityRepository;
+import com.kohub.domain.ticket.repository.TicketRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.kohub.domain.host.dto.HostTimelineEntry.toLocalDateTime;
+
+/**
+ * 호스트 타임라인 서비스
+ *
+ * 티켓, 티켓 활동, 터미널 세션, 호스트 알림을 각각 (시각 DESC, id DESC) 키셋으로 다음 페이지 크기 + 1건만 읽고
+ * k-way 병합하여 한 페이지를 만든다. 커서는 마지막 항목의 (시각, 종류, id)이며
+ * 같은 시각의 항목은 종류 순서로 정렬되므로 소스별로 이어 읽을 위치를 커서 하나로 정할 수 있다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class HostTimelineService {
+
+    private static final String TIMELINE_CURSOR = "timeline";
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+    private static final UUID MAX_ID = new UUID(-1L, -1L);
+
+    /** 최신순, 같은 시각이면 종류 순서 (소스 안의 순서는 DB 정렬 유지) */
+    private static final Comparator<Head> ORDER = Comparator
+            .comparing((Head head) -> head.current.occurredAt(), Comparator.reverseOrder())
+            .thenComparing(head -> head.current.kind());
+
+    private final HostRepository hostRepository;
+    private final TicketRepository ticketRepository;
+    private final ActivityRepository activityRepository;
+    private final TerminalLogRepository terminalLogRepository;
+    private final NotificationRepository notificationRepository;
+
+    /**
+     * 호스트 타임라인 (키셋 페이지네이션, 최신순)
+     * @param viewerId 알림 수신자 (null이면 알림 제외)
+     */
+    public CursorPage<HostTimelineEntry> getTimeline(UUID hostId, UUID viewerId, String cursor, int size) {
+        if (!hostRepository.existsById(hostId)) {
+            throw new BusinessException(ErrorCode.HOST_NOT_FOUND);
+        }
+        Position after = cursor == null || cursor.isBlank() ? null : Position.decode(cursor);
+        Limit limit = Limit.of(size + 1);
+
+        List<List<HostTimelineEntry>> sources = new ArrayList<>(4);
+        sources.add(page(Kind.TICKET, after, HostTimelineEntry::from,
+                () -> ticketRepository.findLatestByHostId(hostId, limit),
+                (at, id) -> ticketRepository.findByHostIdBefore(hostId, at, id, limit)));
+        sources.add(page(Kind.ACTIVITY, after, HostTimelineEntry::from,
+                () -> activityRepository.findLatestByHostId(hostId, limit),
+                (at, id) -> activityRepository.findByHostIdBefore(hostId, at, id, limit)));
+        sources.add(page(Kind.TERMINAL_SESSION, after, HostTimelineEntry::from,
+                () -> terminalLogRepository.findLatestByHostId(hostId, limit),
+                (at, id) -> terminalLogRepository.findByHostIdBefore(hostId, toLocalDateTime(at), id, limit)));
+        if (viewerId != null) {
+            sources.add(page(Kind.NOTIFICATION, after, HostTimelineEntry::from,
+                    () -> notificationRepository.findLatestByHost(hostId, viewerId, limit),
+                    (at, id) -> notificationRepository.findByHostBefore(hostId, viewerId, toLocalDateTime(at), id, limit)));
+        }
+
+        List<HostTimelineEntry> merged = merge(sources, size + 1);
+        return CursorPage.of(merged, size,
+                last -> CursorCodec.encode(TIMELINE_CURSOR, last.occurredAt(), last.kind(), last.id()));
+    }
+
+    /**
+     * 최신순 소스들을 limit건까지 병합
+     */
+    static List<HostTimelineEntry> merge(List<List<HostTimelineEntry>> sources, int limit) {
+        PriorityQueue<Head> heads = new PriorityQueue<>(Math.max(1, sources.size()), ORDER);
+        for (List<HostTimelineEntry> source : sources) {
+            Iterator<HostTimelineEntry> rows = source.iterator();
+            if (rows.hasNext()) {
+                heads.add(new Head(rows));
+            }
+        }
+        List<HostTimelineEntry> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            Head head = heads.poll();
+            merged.add(head.current);
+            if (head.advance()) {
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * 소스별 다음 페이지
+     * 커서와 같은 시각의 행은 커서보다 앞 종류면 이미 반환했고, 뒤 종류면 아직 반환하지 않았다.
+     */
+    private <T> List<HostTimelineEntry> page(Kind kind, Position after, Function<T, HostTimelineEntry> mapper,
+                                             Supplier<List<T>> first, BiFunction<Instant, UUID, List<T>> before) {
+        List<T> rows;
+        if (after == null) {
+            rows = first.get();
+        } else {
+            UUID bound = kind.compareTo(after.kind) < 0 ? MIN_ID
+                    : kind == after.kind ? after.id : MAX_ID;
+            rows = before.apply(after.at, bound);
+        }
+        return rows.stream().map(mapper).toList();
+    }
+
+    private static final class Head {
+        private final Iterator<HostTimelineEntry> rows;
+        private HostTimelineEntry current;
+
+        Head(Iterator<HostTimelineEntry> rows) {
+            this.rows = rows;
+            this.current = rows.next();
+        }
+
+        boolean advance() {
+            if (!rows.hasNext()) {
+                return false;
+            }
+            current = rows.next();
+            return true;
+        }
+    }
+
+    private record Position(Instant at, Kind kind, UUID id) {
+
+        static Position decode(String cursor) {
+            String[] keys = CursorCodec.decode(cursor, TIMELINE_CURSOR, 3);
+            try {
+                return new Position(Instant.parse(keys[0]), Kind.valueOf(keys[1]), UUID.fromString(keys[2]));
+            } catch (RuntimeException e) {
+                throw new BusinessException(ErrorCode.INVALID_REQUEST, "유효하지 않은 커서입니다");
+            }
+        }
+    }
+}
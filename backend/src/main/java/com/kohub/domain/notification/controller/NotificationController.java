@@ -1,6 +1,8 @@
 package com.kohub.domain.notification.controller;
 
+import com.kohub.common.pagination.CountMode;
 import com.kohub.common.response.ApiResponse;
+import com.kohub.common.response.PageResponse;
 import com.kohub.common.security.AuthenticatedUser;
 import com.kohub.common.security.CurrentUser;
 import com.kohub.domain.notification.dto.NotificationResponse;
@@ -34,15 +36,22 @@ public class NotificationController {
      * 내 알림 목록
      */
     @GetMapping
-    @Operation(summary = "알림 목록", description = "로그인한 사용자의 알림 목록을 조회합니다")
-    public ApiResponse<Page<NotificationResponse>> getNotifications(
+    @Operation(summary = "알림 목록", description = "로그인한 사용자의 알림 목록을 조회합니다. count=NONE이면 COUNT 없이 조회합니다")
+    public ApiResponse<PageResponse<NotificationResponse>> getNotifications(
             @CurrentUser AuthenticatedUser user,
+            @RequestParam(defaultValue = "EXACT") CountMode count,
             @PageableDefault(size = 20) Pageable pageable) {
         
         if (user == null) {
-            return ApiResponse.success(Page.empty());
+            return ApiResponse.success(PageResponse.from(Page.<NotificationResponse>empty(pageable)));
         }
-        return ApiResponse.success(notificationService.getNotifications(user.getUserId(), pageable));
+        UUID userId = user.getUserId();
+        return ApiResponse.success(switch (count) {
+            case EXACT -> PageResponse.from(notificationService.getNotifications(userId, pageable));
+            case NONE -> PageResponse.from(notificationService.getNotificationSlice(userId, pageable));
+            case ESTIMATE -> PageResponse.from(notificationService.getNotificationSlice(userId, pageable),
+                    notificationService.estimateNotificationCount(userId));
+        });
     }
 
     /**
@@ -55,4 +55,10 @@ public class NotificationRequest {
      * 추가 메타데이터
      */
     private Map<String, Object> metadata;
+
+    /**
+     * 중복 제거 키 (같은 키로 다시 요청하면 수신자/채널별로 이미 만든 알림은 건너뜀)
+     * 지정하면 외부 채널 발송은 호출자가 커밋 후 dispatchPending으로 직접 수행한다.
+     */
+    private String dedupeKey;
 }
@@ -76,6 +76,12 @@ public class Notification {
     @Column(name = "entity_id")
     private UUID entityId;
 
+    /**
+     * 중복 제거 키 (아웃박스 이벤트 등, 수신자/채널별 유일)
+     */
+    @Column(name = "dedupe_key", length = 100)
+    private String dedupeKey;
+
     /**
      * 추가 데이터 (JSON)
      */
@@ -0,0 +1,50 @@
+package com.kohub.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 알림 중복 제거 키 (키, 수신자, 채널당 한 건)
+ * notifications는 created_at 파티션 테이블이라 파티션 키 없는 유니크 제약을 둘 수 없어 별도 테이블에 둔다.
+ * 행은 알림과 같은 트랜잭션에서 선점 INSERT로만 만든다.
+ */
+@Entity
+@Table(name = "notification_dedupe")
+@IdClass(NotificationDedupe.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationDedupe {
+
+    @Id
+    @Column(name = "dedupe_key", length = 100)
+    private String dedupeKey;
+
+    @Id
+    @Column(name = "recipient_id")
+    private UUID recipientId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private NotificationChannel channel;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 복합 키
+     */
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String dedupeKey;
+        private UUID recipientId;
+        private NotificationChannel channel;
+    }
+}
@@ -14,6 +14,8 @@ public enum NotificationType {
     TICKET_PRIORITY_CHANGED,
     /** 티켓 코멘트 추가 */
     TICKET_COMMENTED,
+    /** 티켓 SLA 기한 초과 */
+    TICKET_SLA_BREACHED,
     /** 호스트 장애 감지 */
     HOST_DOWN,
     /** 호스트 복구 */
@@ -0,0 +1,27 @@
+package com.kohub.domain.notification.repository;
+
+import com.kohub.domain.notification.entity.NotificationDedupe;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 알림 중복 제거 키 Repository
+ */
+public interface NotificationDedupeRepository extends JpaRepository<NotificationDedupe, NotificationDedupe.Key> {
+
+    /**
+     * 중복 제거 키 선점 (이미 있으면 무시)
+     * 같은 키를 동시에 선점하면 나중 트랜잭션은 먼저 선점한 트랜잭션이 끝날 때까지 기다린 뒤 0을 받는다.
+     * @return 선점했으면 1
+     */
+    @Modifying
+    @Query(value = "INSERT INTO notification_dedupe (dedupe_key, recipient_id, channel, created_at) " +
+                   "VALUES (:dedupeKey, :recipientId, :channel, :now) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int claim(@Param("dedupeKey") String dedupeKey, @Param("recipientId") UUID recipientId,
+              @Param("channel") String channel, @Param("now") LocalDateTime now);
+}
@@ -3,12 +3,17 @@ package com.kohub.domain.notification.repository;
 import com.kohub.domain.notification.entity.Notification;
 import com.kohub.domain.notification.entity.NotificationChannel;
 import com.kohub.domain.notification.entity.NotificationStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,6 +25,41 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
      */
     Page<Notification> findByRecipientIdOrderByCreatedAtDesc(UUID recipientId, Pageable pageable);
 
+    /**
+     * 사용자별 알림 목록 (최신순, COUNT 없는 Slice)
+     */
+    Slice<Notification> findSliceByRecipientIdOrderByCreatedAtDesc(UUID recipientId, Pageable pageable);
+
+    /**
+     * 호스트 타임라인 - 사용자가 받은 호스트 알림 첫 페이지 (IN_APP, entity_id 인덱스)
+     */
+    @Query("SELECT n FROM Notification n WHERE n.entityType = 'host' AND n.entityId = :hostId " +
+           "AND n.recipientId = :recipientId AND n.channel = com.kohub.domain.notification.entity.NotificationChannel.IN_APP " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findLatestByHost(
+            @Param("hostId") UUID hostId,
+            @Param("recipientId") UUID recipientId,
+            Limit limit);
+
+    /**
+     * 호스트 타임라인 - 커서 이전 호스트 알림
+     */
+    @Query("SELECT n FROM Notification n WHERE n.entityType = 'host' AND n.entityId = :hostId " +
+           "AND n.recipientId = :recipientId AND n.channel = com.kohub.domain.notification.entity.NotificationChannel.IN_APP " +
+           "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findByHostBefore(
+            @Param("hostId") UUID hostId,
+            @Param("recipientId") UUID recipientId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Limit limit);
+
+    /**
+     * 사용자별 알림 개수
+     */
+    long countByRecipientId(UUID recipientId);
+
     /**
      * 사용자별 읽지 않은 알림
      */
@@ -35,6 +75,11 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
      */
     List<Notification> findByStatusAndChannelOrderByCreatedAtAsc(NotificationStatus status, NotificationChannel channel);
 
+    /**
+     * 중복 제거 키로 생성된 알림 중 지정 상태
+     */
+    List<Notification> findByDedupeKeyAndStatusIn(String dedupeKey, Collection<NotificationStatus> statuses);
+
     /**
      * 재시도 가능한 실패 알림
      */
@@ -1,8 +1,10 @@
 package com.kohub.domain.notification.service;
 
+import com.kohub.common.pagination.RowCountEstimator;
 import com.kohub.domain.notification.dto.NotificationRequest;
 import com.kohub.domain.notification.dto.NotificationResponse;
 import com.kohub.domain.notification.entity.*;
+import com.kohub.domain.notification.repository.NotificationDedupeRepository;
 import com.kohub.domain.notification.repository.NotificationRepository;
 import com.kohub.domain.notification.repository.NotificationSettingRepository;
 import com.kohub.domain.notification.sender.NotificationSender;
@@ -10,10 +12,17 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -27,16 +36,22 @@ import java.util.stream.Collectors;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final NotificationDedupeRepository dedupeRepository;
     private final NotificationSettingRepository settingRepository;
     private final Map<NotificationChannel, NotificationSender> senders;
+    private final RowCountEstimator rowCountEstimator;
+    private final PlatformTransactionManager transactionManager;
 
     /**
-     * 알림 생성 및 발송
+     * 알림 생성 및 발송 (호출자 트랜잭션에서 생성)
      */
-    @Async
     public void sendNotification(NotificationRequest request) {
         log.info("알림 생성 시작: type={}, recipients={}", request.getType(), request.getRecipientIds().size());
 
+        String dedupeKey = request.getDedupeKey();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Notification> notifications = new ArrayList<>();
         for (UUID recipientId : request.getRecipientIds()) {
             for (NotificationChannel channel : request.getChannels()) {
                 // 사용자 설정 확인
@@ -45,8 +60,14 @@ public class NotificationService {
                     continue;
                 }
 
+                // 재전달된 요청이면 이미 만든 수신자/채널은 건너뜀 (선점 행은 알림과 함께 커밋/롤백)
+                if (dedupeKey != null && dedupeRepository.claim(dedupeKey, recipientId, channel.name(), now) == 0) {
+                    log.debug("이미 생성된 알림: dedupeKey={}, userId={}, channel={}", dedupeKey, recipientId, channel);
+                    continue;
+                }
+
                 // 알림 생성
-                Notification notification = Notification.builder()
+                notifications.add(Notification.builder()
                         .recipientId(recipientId)
                         .type(request.getType())
                         .channel(channel)
@@ -55,14 +76,78 @@ public class NotificationService {
                         .entityType(request.getEntityType())
                         .entityId(request.getEntityId())
                         .metadata(request.getMetadata())
-                        .build();
+                        .dedupeKey(dedupeKey)
+                        .build());
+            }
+        }
 
-                notification = notificationRepository.save(notification);
+        // 한 번에 저장하여 INSERT를 JDBC 배치로 전송 (UUID 식별자라 배치 가능)
+        notificationRepository.saveAll(notifications);
 
-                // 발송
+        // 인앱 알림은 DB 저장이 곧 발송이므로 같은 트랜잭션에서 상태만 반영
+        // 외부 채널(Slack/Teams)은 커밋 후 발송하여 HTTP 호출 동안 트랜잭션을 붙잡지 않는다
+        List<UUID> external = new ArrayList<>();
+        for (Notification notification : notifications) {
+            if (notification.getChannel() == NotificationChannel.IN_APP) {
                 sendViaChannel(notification);
+            } else {
+                external.add(notification.getId());
             }
         }
+        // 중복 제거 키가 있으면 호출자가 커밋 후 dispatchPending으로 발송하고 실패 시 다시 요청한다
+        if (!external.isEmpty() && dedupeKey == null) {
+            afterCommit(() -> dispatch(external));
+        }
+    }
+
+    /**
+     * 중복 제거 키로 생성된 외부 채널 알림을 동기 발송 (아웃박스 릴레이가 커밋 후 호출)
+     * 이미 발송된 알림은 건너뛰고 대기/실패 건만 보낸다.
+     * @throws IllegalStateException 발송 실패가 있으면 (호출자가 나중에 다시 전달)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void dispatchPending(String dedupeKey) {
+        List<Notification> pending = notificationRepository.findByDedupeKeyAndStatusIn(dedupeKey,
+                List.of(NotificationStatus.PENDING, NotificationStatus.FAILED));
+        if (pending.isEmpty()) {
+            return;
+        }
+        pending.forEach(this::sendViaChannel);
+        notificationRepository.saveAll(pending);
+
+        long failed = pending.stream().filter(n -> n.getStatus() == NotificationStatus.FAILED).count();
+        if (failed > 0) {
+            throw new IllegalStateException("알림 발송 실패: dedupeKey=" + dedupeKey + ", failed=" + failed);
+        }
+    }
+
+    /**
+     * 외부 채널 발송 (커밋 후 호출)
+     * 조회/상태 저장은 각각 새 트랜잭션으로 하고 발송 중에는 트랜잭션을 열어두지 않는다.
+     */
+    private void dispatch(List<UUID> notificationIds) {
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        List<Notification> pending = requiresNew.execute(status -> notificationRepository.findAllById(notificationIds));
+        if (pending == null || pending.isEmpty()) {
+            return;
+        }
+        pending.forEach(this::sendViaChannel);
+        requiresNew.executeWithoutResult(status -> notificationRepository.saveAll(pending));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
     /**
@@ -82,10 +167,8 @@ public class NotificationService {
             } else {
                 notification.markAsFailed("발송 실패");
             }
-            notificationRepository.save(notification);
         } catch (Exception e) {
             notification.markAsFailed(e.getMessage());
-            notificationRepository.save(notification);
             log.error("알림 발송 오류: {}", e.getMessage(), e);
         }
     }
@@ -99,6 +182,24 @@ public class NotificationService {
                 .map(NotificationResponse::from);
     }
 
+    /**
+     * 사용자별 알림 목록 (COUNT 없음)
+     */
+    @Transactional(readOnly = true)
+    public Slice<NotificationResponse> getNotificationSlice(UUID userId, Pageable pageable) {
+        return notificationRepository.findSliceByRecipientIdOrderByCreatedAtDesc(userId, pageable)
+                .map(NotificationResponse::from);
+    }
+
+    /**
+     * 사용자별 알림 추정 건수 (캐시된 COUNT)
+     */
+    @Transactional(readOnly = true)
+    public long estimateNotificationCount(UUID userId) {
+        return rowCountEstimator.cached("notifications:" + userId,
+                () -> notificationRepository.countByRecipientId(userId));
+    }
+
     /**
      * 읽지 않은 알림 개수
      */
@@ -163,8 +264,9 @@ public class NotificationService {
 
     /**
      * 티켓 관련 알림 발송 헬퍼
+     * @param dedupeKey 중복 제거 키 (아웃박스 이벤트, 없으면 null)
      */
-    public void notifyTicketCreated(UUID ticketId, String title, Set<UUID> assigneeIds) {
+    public void notifyTicketCreated(UUID ticketId, String title, Set<UUID> assigneeIds, String dedupeKey) {
         sendNotification(NotificationRequest.builder()
                 .recipientIds(assigneeIds)
                 .type(NotificationType.TICKET_CREATED)
@@ -173,6 +275,73 @@ public class NotificationService {
                 .content("새로운 티켓이 생성되었습니다.")
                 .entityType("ticket")
                 .entityId(ticketId)
+                .dedupeKey(dedupeKey)
+                .build());
+    }
+
+    /**
+     * 티켓 담당자 배정 알림
+     */
+    public void notifyTicketAssigned(UUID ticketId, String title, UUID assigneeId, String dedupeKey) {
+        sendNotification(NotificationRequest.builder()
+                .recipientIds(Set.of(assigneeId))
+                .type(NotificationType.TICKET_ASSIGNED)
+                .channels(Set.of(NotificationChannel.IN_APP, NotificationChannel.SLACK))
+                .title("티켓 배정: " + title)
+                .content("담당 티켓으로 배정되었습니다.")
+                .entityType("ticket")
+                .entityId(ticketId)
+                .dedupeKey(dedupeKey)
+                .build());
+    }
+
+    /**
+     * 티켓 상태 변경 알림
+     */
+    public void notifyTicketStatusChanged(UUID ticketId, String title, String statusLabel, Set<UUID> recipientIds,
+                                          String dedupeKey) {
+        sendNotification(NotificationRequest.builder()
+                .recipientIds(recipientIds)
+                .type(NotificationType.TICKET_STATUS_CHANGED)
+                .channels(Set.of(NotificationChannel.IN_APP))
+                .title("티켓 상태 변경: " + title)
+                .content("티켓 상태가 " + statusLabel + "(으)로 변경되었습니다.")
+                .entityType("ticket")
+                .entityId(ticketId)
+                .dedupeKey(dedupeKey)
+                .build());
+    }
+
+    /**
+     * 티켓 우선순위 상향 알림
+     */
+    public void notifyTicketPriorityChanged(UUID ticketId, String title, String priorityLabel,
+                                           Set<UUID> recipientIds, String dedupeKey) {
+        sendNotification(NotificationRequest.builder()
+                .recipientIds(recipientIds)
+                .type(NotificationType.TICKET_PRIORITY_CHANGED)
+                .channels(Set.of(NotificationChannel.IN_APP, NotificationChannel.SLACK))
+                .title("티켓 우선순위 상향: " + title)
+                .content("티켓 우선순위가 " + priorityLabel + "(으)로 올라갔습니다.")
+                .entityType("ticket")
+                .entityId(ticketId)
+                .dedupeKey(dedupeKey)
+                .build());
+    }
+
+    /**
+     * 티켓 SLA 기한 초과 알림
+     */
+    public void notifySlaBreached(UUID ticketId, String title, String reason, Set<UUID> recipientIds) {
+        sendNotification(NotificationRequest.builder()
+                .recipientIds(recipientIds)
+                .type(NotificationType.TICKET_SLA_BREACHED)
+                .channels(Set.of(NotificationChannel.IN_APP, NotificationChannel.SLACK, NotificationChannel.TEAMS))
+                .title("⏰ SLA 초과: " + title)
+                .content(reason)
+                .entityType("ticket")
+                .entityId(ticketId)
+                .metadata(Map.of("severity", "high"))
                 .build());
     }
 
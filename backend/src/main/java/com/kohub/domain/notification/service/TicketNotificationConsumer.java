@@ -0,0 +1,113 @@
+package com.kohub.domain.notification.service;
+
+import com.kohub.domain.organization.entity.Organization;
+import com.kohub.domain.organization.repository.OrganizationRepository;
+import com.kohub.domain.ticket.entity.Ticket;
+import com.kohub.domain.ticket.entity.TicketStatus;
+import com.kohub.domain.ticket.event.TicketChangedEvent;
+import com.kohub.domain.ticket.event.TicketEventConsumer;
+import com.kohub.domain.ticket.repository.TicketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 티켓 이벤트 → 알림 (아웃박스 릴레이에서 호출)
+ *
+ * 생성/우선순위 상향: 조직 담당 운영자와 담당자, 배정(배정으로 인한 상태 전이 포함): 새 담당자,
+ * 상태 변경: 요청자와 담당자.
+ * 알림은 아웃박스 이벤트 ID를 중복 제거 키로 릴레이 트랜잭션에서 만들고, 외부 발송(Slack 등)은 커밋 후
+ * afterConsume에서 동기로 한다. 발송이 실패하면 이벤트가 재전달되고, 이미 만든/보낸 알림은 다시 만들지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TicketNotificationConsumer implements TicketEventConsumer {
+
+    private final TicketRepository ticketRepository;
+    private final OrganizationRepository organizationRepository;
+    private final NotificationService notificationService;
+
+    @Override
+    public void consume(long eventId, TicketChangedEvent event) {
+        String dedupeKey = dedupeKey(eventId);
+        Ticket ticket = ticketRepository.findById(event.ticketId()).orElse(null);
+        if (ticket == null) {
+            log.debug("알림 대상 티켓 없음 (삭제/보관): ticketId={}", event.ticketId());
+            return;
+        }
+
+        switch (event.changeType()) {
+            case CREATED -> {
+                Set<UUID> recipients = managerAndAssignee(ticket);
+                if (!recipients.isEmpty()) {
+                    notificationService.notifyTicketCreated(ticket.getId(), ticket.getTitle(), recipients, dedupeKey);
+                }
+            }
+            case PRIORITY_CHANGED -> {
+                Set<UUID> recipients = managerAndAssignee(ticket);
+                if (!recipients.isEmpty()) {
+                    notificationService.notifyTicketPriorityChanged(ticket.getId(), ticket.getTitle(),
+                            ticket.getPriority().name(), recipients, dedupeKey);
+                }
+            }
+            case ASSIGNED -> {
+                if (ticket.getAssigneeId() != null) {
+                    notificationService.notifyTicketAssigned(ticket.getId(), ticket.getTitle(), ticket.getAssigneeId(),
+                            dedupeKey);
+                }
+            }
+            case STATUS_CHANGED -> {
+                if (event.status() == TicketStatus.ASSIGNED && ticket.getAssigneeId() != null) {
+                    // 배정으로 인한 상태 전이
+                    notificationService.notifyTicketAssigned(ticket.getId(), ticket.getTitle(), ticket.getAssigneeId(),
+                            dedupeKey);
+                    return;
+                }
+                Set<UUID> recipients = new LinkedHashSet<>();
+                if (ticket.getReporterId() != null) {
+                    recipients.add(ticket.getReporterId());
+                }
+                if (ticket.getAssigneeId() != null) {
+                    recipients.add(ticket.getAssigneeId());
+                }
+                if (!recipients.isEmpty()) {
+                    notificationService.notifyTicketStatusChanged(ticket.getId(), ticket.getTitle(),
+                            event.status().name(), recipients, dedupeKey);
+                }
+            }
+            default -> {
+                // 수정/코멘트는 알림 없음
+            }
+        }
+    }
+
+    /**
+     * 외부 채널 발송 (실패 시 예외 → 이벤트 재전달)
+     */
+    @Override
+    public void afterConsume(long eventId, TicketChangedEvent event) {
+        notificationService.dispatchPending(dedupeKey(eventId));
+    }
+
+    private Set<UUID> managerAndAssignee(Ticket ticket) {
+        Set<UUID> recipients = new LinkedHashSet<>();
+        if (ticket.getOrganizationId() != null) {
+            organizationRepository.findById(ticket.getOrganizationId())
+                    .map(Organization::getManagerId)
+                    .ifPresent(recipients::add);
+        }
+        if (ticket.getAssigneeId() != null) {
+            recipients.add(ticket.getAssigneeId());
+        }
+        return recipients;
+    }
+
+    static String dedupeKey(long eventId) {
+        return "outbox:" + eventId;
+    }
+}
@@ -0,0 +1,45 @@
+package com.kohub.domain.sla.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * SLA 기한 초과 기록 (티켓/종류별 1건)
+ */
+@Entity
+@Table(name = "ticket_sla_breaches")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SlaBreach {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "due_at", nullable = false)
+    private Instant dueAt;
+
+    @Column(name = "breached_at", nullable = false)
+    @Builder.Default
+    private Instant breachedAt = Instant.now();
+
+    @Embeddable
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        @Column(name = "ticket_id", nullable = false)
+        private UUID ticketId;
+
+        @Enumerated(EnumType.STRING)
+        @Column(nullable = false, length = 20)
+        private SlaKind kind;
+    }
+}
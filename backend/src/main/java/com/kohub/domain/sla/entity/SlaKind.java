@@ -0,0 +1,12 @@
+package com.kohub.domain.sla.entity;
+
+/**
+ * SLA 기한 종류
+ */
+public enum SlaKind {
+    /** 접수 기한 (NEW 상태를 벗어나야 하는 시각) */
+    ACKNOWLEDGE,
+
+    /** 해결 기한 (RESOLVED/COMPLETED/CLOSED에 도달해야 하는 시각) */
+    RESOLVE
+}
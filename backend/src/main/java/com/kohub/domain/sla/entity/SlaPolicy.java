@@ -0,0 +1,55 @@
+package com.kohub.domain.sla.entity;
+
+import com.kohub.domain.ticket.entity.TicketPriority;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * SLA 정책
+ * 조직/우선순위별 접수·해결 기한 (organizationId가 null이면 기본 정책)
+ */
+@Entity
+@Table(name = "sla_policies")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SlaPolicy {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "organization_id")
+    private UUID organizationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TicketPriority priority;
+
+    @Column(name = "acknowledge_minutes", nullable = false)
+    private int acknowledgeMinutes;
+
+    @Column(name = "resolve_minutes", nullable = false)
+    private int resolveMinutes;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    @Builder.Default
+    private Instant createdAt = Instant.now();
+
+    @Column(name = "updated_at", nullable = false)
+    @Builder.Default
+    private Instant updatedAt = Instant.now();
+
+    public Duration getAcknowledgeWithin() {
+        return Duration.ofMinutes(acknowledgeMinutes);
+    }
+
+    public Duration getResolveWithin() {
+        return Duration.ofMinutes(resolveMinutes);
+    }
+}
@@ -0,0 +1,36 @@
+package com.kohub.domain.sla.repository;
+
+import com.kohub.domain.sla.entity.SlaBreach;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * SLA 기한 초과 기록 Repository
+ */
+@Repository
+public interface SlaBreachRepository extends JpaRepository<SlaBreach, SlaBreach.Key> {
+
+    /**
+     * 초과 기록 (이미 있으면 무시)
+     * @return 새로 기록했으면 1, 다른 인스턴스/이전 실행이 먼저 기록했으면 0
+     */
+    @Modifying
+    @Query(value = "INSERT INTO ticket_sla_breaches (ticket_id, kind, due_at, breached_at) " +
+                   "VALUES (:ticketId, :kind, :dueAt, :breachedAt) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("ticketId") UUID ticketId, @Param("kind") String kind,
+                       @Param("dueAt") Instant dueAt, @Param("breachedAt") Instant breachedAt);
+
+    /**
+     * 이미 기록된 초과 (타이머 재구성 시 제외용)
+     */
+    @Query("SELECT b.id FROM SlaBreach b WHERE b.id.ticketId IN :ticketIds")
+    List<SlaBreach.Key> findKeysByTicketIds(@Param("ticketIds") Collection<UUID> ticketIds);
+}
@@ -0,0 +1,14 @@
+package com.kohub.domain.sla.repository;
+
+import com.kohub.domain.sla.entity.SlaPolicy;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * SLA 정책 Repository
+ */
+@Repository
+public interface SlaPolicyRepository extends JpaRepository<SlaPolicy, UUID> {
+}
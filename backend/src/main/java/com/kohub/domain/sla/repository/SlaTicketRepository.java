@@ -0,0 +1,41 @@
+package com.kohub.domain.sla.repository;
+
+import com.kohub.domain.sla.service.SlaTarget;
+import com.kohub.domain.ticket.entity.Ticket;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * SLA 타이머용 티켓 조회 (필요한 컬럼만 프로젝션)
+ */
+@org.springframework.stereotype.Repository
+public interface SlaTicketRepository extends Repository<Ticket, UUID> {
+
+    String TARGET = "SELECT new com.kohub.domain.sla.service.SlaTarget("
+            + "t.id, t.organizationId, t.priority, t.status, t.createdAt) FROM Ticket t ";
+
+    String OPEN = "t.status NOT IN (com.kohub.domain.ticket.entity.TicketStatus.RESOLVED, "
+            + "com.kohub.domain.ticket.entity.TicketStatus.COMPLETED, "
+            + "com.kohub.domain.ticket.entity.TicketStatus.CLOSED) ";
+
+    @Query(TARGET + "WHERE t.id = :id")
+    Optional<SlaTarget> findTarget(@Param("id") UUID id);
+
+    /**
+     * 미종료 티켓 첫 페이지 (id 순 키셋)
+     */
+    @Query(TARGET + "WHERE " + OPEN + "ORDER BY t.id")
+    List<SlaTarget> findOpenTargets(Limit limit);
+
+    /**
+     * 미종료 티켓 다음 페이지 (afterId 이후)
+     */
+    @Query(TARGET + "WHERE " + OPEN + "AND t.id > :afterId ORDER BY t.id")
+    List<SlaTarget> findOpenTargetsAfter(@Param("afterId") UUID afterId, Limit limit);
+}
@@ -0,0 +1,271 @@
+package com.kohub.domain.sla.service;
+
+import com.kohub.common.timer.HierarchicalTimingWheel;
+import com.kohub.common.timer.HierarchicalTimingWheel.Timeout;
+import com.kohub.domain.sla.entity.SlaBreach;
+import com.kohub.domain.sla.entity.SlaKind;
+import com.kohub.domain.sla.repository.SlaBreachRepository;
+import com.kohub.domain.sla.repository.SlaTicketRepository;
+import com.kohub.domain.ticket.entity.TicketStatus;
+import com.kohub.domain.ticket.event.TicketChangedEvent;
+import com.kohub.domain.ticket.event.TicketChangedEvent.ChangeType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SLA 기한 엔진
+ *
+ * 미종료 티켓마다 접수/해결 기한 타이머를 계층형 타이밍 휠에 올려두고, 틱마다 만료된 타이머만 꺼내
+ * 에스컬레이션한다. 기한 확인을 위해 티켓 테이블을 스캔하지 않는다.
+ * 기동 시 미종료 티켓을 키셋 페이지로 읽어 타이머를 재구성하고, 이후에는 티켓 변경 이벤트로 갱신한다.
+ * 다른 인스턴스에서 생성된 티켓은 재기동 전까지 알 수 없으므로 만료 처리는 항상 DB를 다시 확인한다.
+ * 이미 지난 기한(배포 중 밀린 티켓 등)은 한 틱에 몰리지 않도록 틱당 max-overdue-per-tick개씩 나눠 배치한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "kohub.sla", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SlaEngine {
+
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_LEVELS = 4;
+
+    private final SlaPolicyService policyService;
+    private final SlaEscalationService escalationService;
+    private final SlaTicketRepository ticketRepository;
+    private final SlaBreachRepository breachRepository;
+    private final int rebuildPageSize;
+    private final long tickMillis;
+    private final int maxOverduePerTick;
+
+    private final HierarchicalTimingWheel<SlaTimer> wheel;
+    private final Map<UUID, Tracked> tracked = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    /** 지난 기한을 배치 중인 틱 시각과 그 틱에 배치한 수 */
+    private long overdueSlotAt;
+    private int overdueInSlot;
+
+    public SlaEngine(
+            SlaPolicyService policyService,
+            SlaEscalationService escalationService,
+            SlaTicketRepository ticketRepository,
+            SlaBreachRepository breachRepository,
+            @Value("${kohub.sla.tick-ms:1000}") long tickMillis,
+            @Value("${kohub.sla.rebuild-page-size:5000}") int rebuildPageSize,
+            @Value("${kohub.sla.max-overdue-per-tick:100}") int maxOverduePerTick) {
+        this.policyService = policyService;
+        this.escalationService = escalationService;
+        this.ticketRepository = ticketRepository;
+        this.breachRepository = breachRepository;
+        this.rebuildPageSize = Math.max(1, rebuildPageSize);
+        this.tickMillis = Math.max(1, tickMillis);
+        this.maxOverduePerTick = Math.max(1, maxOverduePerTick);
+        this.wheel = new HierarchicalTimingWheel<>(this.tickMillis, WHEEL_SIZE, WHEEL_LEVELS,
+                System.currentTimeMillis());
+    }
+
+    /**
+     * 정책 로드 후 미종료 티켓 타이머 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        policyService.refresh();
+        long started = System.currentTimeMillis();
+        int count = 0;
+        List<SlaTarget> page = ticketRepository.findOpenTargets(Limit.of(rebuildPageSize));
+        while (!page.isEmpty()) {
+            Set<SlaBreach.Key> breached = new HashSet<>(breachRepository.findKeysByTicketIds(
+                    page.stream().map(SlaTarget::ticketId).toList()));
+            for (SlaTarget target : page) {
+                track(target, breached);
+            }
+            count += page.size();
+            if (page.size() < rebuildPageSize) {
+                break;
+            }
+            page = ticketRepository.findOpenTargetsAfter(page.get(page.size() - 1).ticketId(),
+                    Limit.of(rebuildPageSize));
+        }
+        ready = true;
+        log.info("SLA 타이머 재구성 완료: tickets={}, timers={}, elapsedMs={}",
+                count, wheel.size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 티켓 변경 반영 (커밋 후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketChanged(TicketChangedEvent event) {
+        UUID ticketId = event.ticketId();
+        if (ticketId == null || event.status() == null) {
+            return;
+        }
+        if (isClosed(event.status())) {
+            untrack(ticketId);
+            return;
+        }
+        if (event.changeType() == ChangeType.CREATED) {
+            track(new SlaTarget(ticketId, event.organizationId(), event.priority(), event.status(),
+                    event.occurredAt()), Set.of());
+            return;
+        }
+
+        Tracked current = tracked.get(ticketId);
+        if (current == null) {
+            // 재오픈 등 추적하지 않던 티켓: PK로 생성 시각/조직 확인
+            ticketRepository.findTarget(ticketId).ifPresent(target -> track(target, Set.of()));
+        } else if (event.priority() != null && event.priority() != current.target.priority()) {
+            SlaTarget target = current.target;
+            track(new SlaTarget(ticketId, target.organizationId(), event.priority(), event.status(),
+                    target.createdAt()), Set.of());
+        } else if (event.status() != TicketStatus.NEW) {
+            tracked.computeIfPresent(ticketId, (id, entry) -> {
+                entry.cancelAcknowledge();
+                return entry.isEmpty() ? null : entry;
+            });
+        }
+    }
+
+    /**
+     * 만료된 기한 에스컬레이션
+     */
+    @Scheduled(fixedRateString = "${kohub.sla.tick-ms:1000}")
+    public void tick() {
+        if (ready) {
+            advance(System.currentTimeMillis());
+        }
+    }
+
+    void advance(long nowMillis) {
+        for (SlaTimer timer : wheel.advanceTo(nowMillis)) {
+            tracked.computeIfPresent(timer.ticketId(), (id, entry) -> entry.expire(timer) ? null : entry);
+            try {
+                escalationService.escalate(timer);
+            } catch (RuntimeException e) {
+                log.warn("SLA 에스컬레이션 실패: ticketId={}, kind={}", timer.ticketId(), timer.kind(), e);
+            }
+        }
+    }
+
+    /**
+     * 대기 중인 타이머 수
+     */
+    public int pendingTimers() {
+        return wheel.size();
+    }
+
+    private void track(SlaTarget target, Set<SlaBreach.Key> breached) {
+        SlaPolicyService.Deadlines deadlines =
+                policyService.deadlinesFor(target.organizationId(), target.priority());
+        tracked.compute(target.ticketId(), (id, previous) -> {
+            if (previous != null) {
+                previous.cancelAll();
+            }
+            Tracked entry = new Tracked(target);
+            if (target.awaitingAcknowledge() && !breached.contains(new SlaBreach.Key(id, SlaKind.ACKNOWLEDGE))) {
+                entry.acknowledge = schedule(id, SlaKind.ACKNOWLEDGE,
+                        target.createdAt().plus(deadlines.acknowledgeWithin()));
+            }
+            if (!breached.contains(new SlaBreach.Key(id, SlaKind.RESOLVE))) {
+                entry.resolve = schedule(id, SlaKind.RESOLVE, target.createdAt().plus(deadlines.resolveWithin()));
+            }
+            return entry.isEmpty() ? null : entry;
+        });
+    }
+
+    private Timeout<SlaTimer> schedule(UUID ticketId, SlaKind kind, Instant dueAt) {
+        long fireAt = dueAt.toEpochMilli();
+        long now = System.currentTimeMillis();
+        if (fireAt <= now) {
+            fireAt = overdueSlot(now);
+        }
+        return wheel.schedule(new SlaTimer(ticketId, kind, dueAt), fireAt);
+    }
+
+    /**
+     * 지난 기한의 실행 시각 (다음 틱 경계부터 틱당 maxOverduePerTick개씩)
+     */
+    private synchronized long overdueSlot(long now) {
+        long nextTick = (now / tickMillis + 1) * tickMillis;
+        if (overdueSlotAt < nextTick) {
+            overdueSlotAt = nextTick;
+            overdueInSlot = 0;
+        } else if (overdueInSlot >= maxOverduePerTick) {
+            overdueSlotAt += tickMillis;
+            overdueInSlot = 0;
+        }
+        overdueInSlot++;
+        return overdueSlotAt;
+    }
+
+    private void untrack(UUID ticketId) {
+        Tracked removed = tracked.remove(ticketId);
+        if (removed != null) {
+            removed.cancelAll();
+        }
+    }
+
+    private static boolean isClosed(TicketStatus status) {
+        return status == TicketStatus.RESOLVED || status == TicketStatus.COMPLETED || status == TicketStatus.CLOSED;
+    }
+
+    /**
+     * 티켓별 대기 타이머
+     */
+    private static final class Tracked {
+        private final SlaTarget target;
+        private Timeout<SlaTimer> acknowledge;
+        private Timeout<SlaTimer> resolve;
+
+        Tracked(SlaTarget target) {
+            this.target = target;
+        }
+
+        void cancelAcknowledge() {
+            if (acknowledge != null) {
+                acknowledge.cancel();
+                acknowledge = null;
+            }
+        }
+
+        void cancelAll() {
+            cancelAcknowledge();
+            if (resolve != null) {
+                resolve.cancel();
+            }
+        }
+
+        /**
+         * 만료된 타이머 정리
+         * @return 남은 타이머가 없으면 true
+         */
+        boolean expire(SlaTimer timer) {
+            if (acknowledge != null && acknowledge.payload() == timer) {
+                acknowledge = null;
+            }
+            if (resolve != null && resolve.payload() == timer) {
+                resolve = null;
+            }
+            return isEmpty();
+        }
+
+        boolean isEmpty() {
+            return acknowledge == null && resolve == null;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.kohub.domain.sla.service;
+
+import com.kohub.domain.notification.service.NotificationService;
+import com.kohub.domain.sla.entity.SlaKind;
+import com.kohub.domain.sla.repository.SlaBreachRepository;
+import com.kohub.domain.ticket.entity.Activity;
+import com.kohub.domain.ticket.entity.ActivityType;
+import com.kohub.domain.ticket.entity.Ticket;
+import com.kohub.domain.ticket.entity.TicketStatus;
+import com.kohub.domain.ticket.repository.ActivityRepository;
+import com.kohub.domain.ticket.repository.TicketRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * SLA 기한 초과 에스컬레이션
+ *
+ * 타이머 만료 시 티켓을 PK로 다시 읽어 아직 기한 대상인지 확인한 뒤
+ * 초과 기록 → ESCALATION 활동 → 담당자/요청자 알림 순으로 처리한다.
+ * 초과 기록은 (티켓, 종류)당 1회라 여러 인스턴스가 같은 타이머를 가져도 한 번만 에스컬레이션된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SlaEscalationService {
+
+    private static final DateTimeFormatter DUE_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm").withZone(ZoneId.systemDefault());
+
+    private final TicketRepository ticketRepository;
+    private final ActivityRepository activityRepository;
+    private final SlaBreachRepository breachRepository;
+    private final NotificationService notificationService;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 만료된 기한 처리
+     * @return 에스컬레이션했으면 true (이미 처리됐거나 더 이상 대상이 아니면 false)
+     */
+    @Transactional
+    public boolean escalate(SlaTimer timer) {
+        Ticket ticket = ticketRepository.findById(timer.ticketId()).orElse(null);
+        if (ticket == null || !isStillDue(ticket.getStatus(), timer.kind())) {
+            return false;
+        }
+        if (breachRepository.insertIfAbsent(ticket.getId(), timer.kind().name(), timer.dueAt(), Instant.now()) == 0) {
+            return false;
+        }
+
+        String reason = describe(timer);
+        activityRepository.save(Activity.builder()
+                .ticket(ticket)
+                .type(ActivityType.ESCALATION)
+                .content(reason)
+                .build());
+
+        Set<UUID> recipients = new LinkedHashSet<>();
+        if (ticket.getAssigneeId() != null) {
+            recipients.add(ticket.getAssigneeId());
+        }
+        if (ticket.getReporterId() != null) {
+            recipients.add(ticket.getReporterId());
+        }
+        if (!recipients.isEmpty()) {
+            notificationService.notifySlaBreached(ticket.getId(), ticket.getTitle(), reason, recipients);
+        }
+
+        meterRegistry.counter("kohub.sla.breaches",
+                "kind", timer.kind().name(), "priority", ticket.getPriority().name()).increment();
+        log.info("SLA 초과: ticketId={}, kind={}, dueAt={}", ticket.getId(), timer.kind(), timer.dueAt());
+        return true;
+    }
+
+    static boolean isStillDue(TicketStatus status, SlaKind kind) {
+        return switch (kind) {
+            case ACKNOWLEDGE -> status == TicketStatus.NEW;
+            case RESOLVE -> status != TicketStatus.RESOLVED && status != TicketStatus.COMPLETED
+                    && status != TicketStatus.CLOSED;
+        };
+    }
+
+    private static String describe(SlaTimer timer) {
+        String label = timer.kind() == SlaKind.ACKNOWLEDGE ? "접수" : "해결";
+        return "SLA " + label + " 기한 초과 (기한: " + DUE_FORMAT.format(timer.dueAt()) + ")";
+    }
+}
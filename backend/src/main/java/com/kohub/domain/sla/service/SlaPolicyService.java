@@ -0,0 +1,84 @@
+package com.kohub.domain.sla.service;
+
+import com.kohub.domain.sla.entity.SlaPolicy;
+import com.kohub.domain.sla.repository.SlaPolicyRepository;
+import com.kohub.domain.ticket.entity.TicketPriority;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * SLA 정책 조회
+ *
+ * 정책은 건수가 적고 거의 바뀌지 않으므로 메모리에 올려두고 주기적으로 다시 읽는다.
+ * 조직 정책이 없으면 기본 정책(organizationId null), 그것도 없으면 내장 기본값을 쓴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SlaPolicyService {
+
+    /** DB에 기본 정책이 없을 때 쓰는 값 (V9 시드와 동일) */
+    static final Map<TicketPriority, Deadlines> FALLBACK = Map.of(
+            TicketPriority.CRITICAL, new Deadlines(Duration.ofMinutes(15), Duration.ofHours(4)),
+            TicketPriority.HIGH, new Deadlines(Duration.ofMinutes(30), Duration.ofHours(8)),
+            TicketPriority.MEDIUM, new Deadlines(Duration.ofHours(2), Duration.ofDays(1)),
+            TicketPriority.LOW, new Deadlines(Duration.ofHours(8), Duration.ofDays(3)));
+
+    private final SlaPolicyRepository policyRepository;
+
+    private volatile Map<TicketPriority, Deadlines> defaults = FALLBACK;
+    private volatile Map<UUID, Map<TicketPriority, Deadlines>> byOrganization = Map.of();
+
+    /**
+     * 조직/우선순위의 기한
+     */
+    public Deadlines deadlinesFor(UUID organizationId, TicketPriority priority) {
+        if (organizationId != null) {
+            Map<TicketPriority, Deadlines> organizationPolicies = byOrganization.get(organizationId);
+            if (organizationPolicies != null && organizationPolicies.containsKey(priority)) {
+                return organizationPolicies.get(priority);
+            }
+        }
+        return defaults.getOrDefault(priority, FALLBACK.get(priority));
+    }
+
+    /**
+     * 정책 다시 읽기
+     */
+    @Scheduled(fixedDelayString = "${kohub.sla.policy-refresh-ms:300000}",
+               initialDelayString = "${kohub.sla.policy-refresh-ms:300000}")
+    public void refresh() {
+        List<SlaPolicy> policies = policyRepository.findAll();
+        Map<TicketPriority, Deadlines> loadedDefaults = new EnumMap<>(FALLBACK);
+        Map<UUID, Map<TicketPriority, Deadlines>> loaded = new HashMap<>();
+        for (SlaPolicy policy : policies) {
+            Deadlines deadlines = new Deadlines(policy.getAcknowledgeWithin(), policy.getResolveWithin());
+            if (policy.getOrganizationId() == null) {
+                loadedDefaults.put(policy.getPriority(), deadlines);
+            } else {
+                loaded.computeIfAbsent(policy.getOrganizationId(), id -> new EnumMap<>(TicketPriority.class))
+                        .put(policy.getPriority(), deadlines);
+            }
+        }
+        this.defaults = loadedDefaults;
+        this.byOrganization = loaded;
+        log.debug("SLA 정책 로드: total={}, organizations={}", policies.size(), loaded.size());
+    }
+
+    /**
+     * 티켓 생성 시각 기준 기한
+     */
+    public record Deadlines(Duration acknowledgeWithin, Duration resolveWithin) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.kohub.domain.sla.service;
+
+import com.kohub.domain.ticket.entity.TicketPriority;
+import com.kohub.domain.ticket.entity.TicketStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * SLA 타이머 대상 티켓 (프로젝션)
+ */
+public record SlaTarget(
+        UUID ticketId,
+        UUID organizationId,
+        TicketPriority priority,
+        TicketStatus status,
+        Instant createdAt
+) {
+
+    public boolean isOpen() {
+        return status != TicketStatus.RESOLVED && status != TicketStatus.COMPLETED && status != TicketStatus.CLOSED;
+    }
+
+    /**
+     * 접수 기한 대상 (아직 NEW 상태)
+     */
+    public boolean awaitingAcknowledge() {
+        return status == TicketStatus.NEW;
+    }
+}
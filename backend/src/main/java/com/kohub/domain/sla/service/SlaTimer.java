@@ -0,0 +1,12 @@
+package com.kohub.domain.sla.service;
+
+import com.kohub.domain.sla.entity.SlaKind;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 타이밍 휠에 등록되는 SLA 기한
+ */
+public record SlaTimer(UUID ticketId, SlaKind kind, Instant dueAt) {
+}
@@ -1,10 +1,12 @@
 package com.kohub.domain.terminal.repository;
 
 import com.kohub.domain.terminal.entity.TerminalLog;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -23,6 +25,11 @@ public interface TerminalLogRepository extends JpaRepository<TerminalLog, UUID>
      */
     Optional<TerminalLog> findBySessionId(String sessionId);
 
+    /**
+     * 세션 ID 존재 여부
+     */
+    boolean existsBySessionId(String sessionId);
+
     /**
      * 티켓별 로그 목록
      */
@@ -33,6 +40,24 @@ public interface TerminalLogRepository extends JpaRepository<TerminalLog, UUID>
      */
     Page<TerminalLog> findByHostIdOrderByStartedAtDesc(UUID hostId, Pageable pageable);
 
+    /**
+     * 호스트 타임라인 - 최신 세션 첫 페이지 (host_id, started_at, id 인덱스)
+     */
+    @Query("SELECT t FROM TerminalLog t WHERE t.hostId = :hostId ORDER BY t.startedAt DESC, t.id DESC")
+    List<TerminalLog> findLatestByHostId(@Param("hostId") UUID hostId, Limit limit);
+
+    /**
+     * 호스트 타임라인 - 커서 이전 세션
+     */
+    @Query("SELECT t FROM TerminalLog t WHERE t.hostId = :hostId AND " +
+           "(t.startedAt < :startedAt OR (t.startedAt = :startedAt AND t.id < :id)) " +
+           "ORDER BY t.startedAt DESC, t.id DESC")
+    List<TerminalLog> findByHostIdBefore(
+            @Param("hostId") UUID hostId,
+            @Param("startedAt") LocalDateTime startedAt,
+            @Param("id") UUID id,
+            Limit limit);
+
     /**
      * 사용자별 로그 목록
      */
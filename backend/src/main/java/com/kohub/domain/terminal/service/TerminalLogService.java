@@ -1,5 +1,6 @@
 package com.kohub.domain.terminal.service;
 
+import com.kohub.adapter.CommandExecutor;
 import com.kohub.adapter.termix.TermixAdapter;
 import com.kohub.common.exception.BusinessException;
 import com.kohub.common.exception.ErrorCode;
@@ -12,6 +13,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.UUID;
@@ -28,6 +30,7 @@ public class TerminalLogService {
 
     private final TerminalLogRepository terminalLogRepository;
     private final TermixAdapter termixAdapter;
+    private final TerminalStreamService terminalStreamService;
 
     /**
      * 새 터미널 세션 시작 기록
@@ -42,6 +45,7 @@ public class TerminalLogService {
                 .build();
 
         TerminalLog saved = terminalLogRepository.save(terminalLog);
+        terminalStreamService.open(sessionId, hostId);
         log.info("터미널 세션 시작: sessionId={}, hostId={}", sessionId, hostId);
 
         return TerminalLogResponse.from(saved);
@@ -63,6 +67,42 @@ public class TerminalLogService {
         return TerminalLogResponse.from(terminalLog);
     }
 
+    /**
+     * 세션 실시간 출력 구독
+     */
+    public SseEmitter streamSession(UUID hostId, String sessionId) {
+        ensureStream(hostId, sessionId);
+        return terminalStreamService.subscribe(hostId, sessionId);
+    }
+
+    /**
+     * 세션 출력 발행 (Termix → 관전자)
+     * 채널이 열려 있으면 DB를 거치지 않고 브로드캐스트 버퍼에만 기록한다.
+     */
+    public void publishOutput(UUID hostId, String sessionId, String output) {
+        ensureStream(hostId, sessionId);
+        if (output == null || output.isEmpty()) {
+            return;
+        }
+        terminalStreamService.publish(hostId, sessionId, output);
+    }
+
+    /**
+     * 채널이 없으면 (재기동 등) 해당 호스트의 진행 중인 세션일 때만 연다
+     */
+    private void ensureStream(UUID hostId, String sessionId) {
+        if (terminalStreamService.isOpen(sessionId)) {
+            return;
+        }
+        boolean live = terminalLogRepository.findBySessionId(sessionId)
+                .filter(terminalLog -> hostId.equals(terminalLog.getHostId()))
+                .filter(terminalLog -> terminalLog.getStatus() == TerminalLog.SessionStatus.ACTIVE)
+                .isPresent();
+        if (!live || !terminalStreamService.open(sessionId, hostId)) {
+            throw new BusinessException(ErrorCode.TERMINAL_SESSION_NOT_FOUND);
+        }
+    }
+
     /**
      * 티켓별 터미널 로그 목록
      */
@@ -91,11 +131,36 @@ public class TerminalLogService {
         // Termix에서 최종 로그 조회
         var termixLog = termixAdapter.getSessionLog(sessionId);
         terminalLog.endSession(termixLog.log());
+        terminalStreamService.close(sessionId);
 
         log.info("터미널 세션 종료: sessionId={}", sessionId);
         return TerminalLogResponse.from(terminalLog);
     }
 
+    /**
+     * 비대화형 명령 실행 결과 기록
+     * 실행 한 건을 종료된 터미널 세션 하나로 저장한다.
+     */
+    @Transactional
+    public TerminalLogResponse recordCommandExecution(UUID hostId, UUID userId, String sessionId,
+                                                      String command, CommandExecutor.CommandResult result) {
+        TerminalLog terminalLog = TerminalLog.builder()
+                .hostId(hostId)
+                .userId(userId)
+                .sessionId(sessionId)
+                .build();
+        terminalLog.appendLog("$ " + command);
+
+        if (result.status() == CommandExecutor.Status.SUCCESS || result.status() == CommandExecutor.Status.FAILED) {
+            terminalLog.endSession(result.output() + "\n[exit " + result.exitCode() + "]");
+        } else {
+            terminalLog.parseCommands();
+            terminalLog.markAsFailed(result.status() + (result.output() != null ? ": " + result.output() : ""));
+        }
+
+        return TerminalLogResponse.from(terminalLogRepository.save(terminalLog));
+    }
+
     /**
      * 티켓에 세션 연결
      */
@@ -0,0 +1,127 @@
+package com.kohub.domain.terminal.service;
+
+import com.kohub.common.exception.BusinessException;
+import com.kohub.common.exception.ErrorCode;
+import com.kohub.common.stream.SseBroadcastChannel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 터미널 세션 실시간 출력 스트림 서비스
+ *
+ * 세션 출력은 세션별 브로드캐스트 버퍼에 한 번만 기록되고,
+ * 여러 관전자가 각자의 커서로 동일한 출력을 구독한다.
+ *
+ * 채널은 진행 중인 세션에 대해서만 {@link #open}으로 만들고 세션 종료 시 닫는다.
+ * 발행/구독은 열린 채널만 조회하며, 채널의 호스트와 요청 호스트가 다르면 세션이 없는 것으로 본다.
+ * 최근 종료된 세션 ID를 기억해 종료 직후 늦게 도착한 open이 채널을 다시 만들지 않게 한다.
+ */
+@Service
+@Slf4j
+public class TerminalStreamService {
+
+    static final String OUTPUT_EVENT = "output";
+    private static final int RECENTLY_CLOSED_LIMIT = 10_000;
+
+    private final Map<String, SessionStream> streams = new ConcurrentHashMap<>();
+    private final Set<String> recentlyClosed = Collections.newSetFromMap(Collections.synchronizedMap(
+            new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                    return size() > RECENTLY_CLOSED_LIMIT;
+                }
+            }));
+    private final Executor deliveryExecutor;
+    private final int bufferSize;
+    private final int maxBatch;
+    private final long emitterTimeoutMillis;
+    private final long sendTimeoutMillis;
+
+    public TerminalStreamService(
+            @Qualifier("streamDeliveryExecutor") Executor deliveryExecutor,
+            @Value("${kohub.terminal.stream.buffer-size:2048}") int bufferSize,
+            @Value("${kohub.terminal.stream.max-batch:64}") int maxBatch,
+            @Value("${kohub.terminal.stream.emitter-timeout-ms:1800000}") long emitterTimeoutMillis,
+            @Value("${kohub.terminal.stream.send-timeout-ms:10000}") long sendTimeoutMillis) {
+        this.deliveryExecutor = deliveryExecutor;
+        this.bufferSize = bufferSize;
+        this.maxBatch = maxBatch;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+    }
+
+    /**
+     * 진행 중인 세션의 채널 생성 (이미 있으면 유지)
+     * @return 채널이 열려 있으면 true (최근 종료된 세션이면 false)
+     */
+    public boolean open(String sessionId, UUID hostId) {
+        if (recentlyClosed.contains(sessionId)) {
+            return false;
+        }
+        streams.computeIfAbsent(sessionId, id -> new SessionStream(hostId, new SseBroadcastChannel<>(
+                "terminal:" + id, OUTPUT_EVENT, "", bufferSize, maxBatch, sendTimeoutMillis, deliveryExecutor)));
+        return true;
+    }
+
+    public boolean isOpen(String sessionId) {
+        return streams.containsKey(sessionId);
+    }
+
+    /**
+     * 세션 출력 발행
+     */
+    public long publish(UUID hostId, String sessionId, String output) {
+        return channelOf(hostId, sessionId).publish(output);
+    }
+
+    /**
+     * 세션 출력 구독 (버퍼에 남은 최근 출력부터 전송)
+     */
+    public SseEmitter subscribe(UUID hostId, String sessionId) {
+        SseBroadcastChannel<String> channel = channelOf(hostId, sessionId);
+        log.info("터미널 스트림 구독: sessionId={}, watchers={}", sessionId, channel.getSubscriberCount() + 1);
+        return channel.subscribe(emitterTimeoutMillis);
+    }
+
+    /**
+     * 세션 종료 시 스트림 종료
+     */
+    public void close(String sessionId) {
+        recentlyClosed.add(sessionId);
+        SessionStream stream = streams.remove(sessionId);
+        if (stream != null) {
+            stream.channel().close();
+            log.info("터미널 스트림 종료: sessionId={}", sessionId);
+        }
+    }
+
+    /**
+     * 현재 관전자 수
+     */
+    public int getWatcherCount(String sessionId) {
+        SessionStream stream = streams.get(sessionId);
+        return stream != null ? stream.channel().getSubscriberCount() : 0;
+    }
+
+    private SseBroadcastChannel<String> channelOf(UUID hostId, String sessionId) {
+        SessionStream stream = streams.get(sessionId);
+        if (stream == null || !Objects.equals(stream.hostId(), hostId)) {
+            throw new BusinessException(ErrorCode.TERMINAL_SESSION_NOT_FOUND);
+        }
+        return stream.channel();
+    }
+
+    private record SessionStream(UUID hostId, SseBroadcastChannel<String> channel) {}
+}
@@ -1,26 +1,40 @@
 package com.kohub.domain.ticket.controller;
 
+import com.kohub.common.pagination.CountMode;
+import com.kohub.common.pagination.CursorPage;
 import com.kohub.common.response.ApiResponse;
 import com.kohub.common.response.PageResponse;
+import com.kohub.common.security.AuthenticatedUser;
+import com.kohub.common.security.CurrentUser;
+import com.kohub.domain.ticket.dto.TicketBulkRequest;
+import com.kohub.domain.ticket.dto.TicketBulkResult;
 import com.kohub.domain.ticket.dto.TicketDetailResponse;
+import com.kohub.domain.ticket.dto.TicketDetailResponse.ActivityResponse;
+import com.kohub.domain.ticket.dto.TicketExportFormat;
 import com.kohub.domain.ticket.dto.TicketRequest;
 import com.kohub.domain.ticket.dto.TicketResponse;
 import com.kohub.domain.ticket.dto.TicketStatsResponse;
 import com.kohub.domain.ticket.entity.TicketPriority;
 import com.kohub.domain.ticket.entity.TicketStatus;
+import com.kohub.domain.ticket.service.TicketBulkService;
+import com.kohub.domain.ticket.service.TicketExportService;
 import com.kohub.domain.ticket.service.TicketService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.UUID;
 
 /**
@@ -33,6 +47,8 @@ import java.util.UUID;
 public class TicketController {
 
     private final TicketService ticketService;
+    private final TicketBulkService ticketBulkService;
+    private final TicketExportService ticketExportService;
 
     @PostMapping
     @Operation(summary = "티켓 생성", description = "새 티켓을 생성합니다")
@@ -53,22 +69,89 @@ public class TicketController {
     }
 
     @GetMapping
-    @Operation(summary = "티켓 목록 조회", description = "티켓 목록을 페이징하여 조회합니다")
+    @Operation(summary = "티켓 목록 조회", description = "티켓 목록을 페이징하여 조회합니다. count=NONE이면 전체 건수 없이 hasNext만, ESTIMATE면 추정 건수를 제공합니다")
     public ResponseEntity<ApiResponse<PageResponse<TicketResponse>>> getList(
             @RequestParam(required = false) TicketStatus status,
             @RequestParam(required = false) TicketPriority priority,
             @RequestParam(required = false) UUID assigneeId,
             @RequestParam(required = false) String keyword,
+            @RequestParam(defaultValue = "EXACT") CountMode count,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<TicketResponse> page = ticketService.getList(status, priority, assigneeId, keyword, pageable);
-        return ResponseEntity.ok(ApiResponse.success(PageResponse.from(page)));
+        PageResponse<TicketResponse> response = switch (count) {
+            case EXACT -> PageResponse.from(ticketService.getList(status, priority, assigneeId, keyword, pageable));
+            case NONE -> PageResponse.from(ticketService.getSlice(status, priority, assigneeId, keyword, pageable));
+            case ESTIMATE -> PageResponse.from(
+                    ticketService.getSlice(status, priority, assigneeId, keyword, pageable),
+                    ticketService.estimateCount(status, priority, assigneeId, keyword));
+        };
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "티켓 내보내기", description = "목록 조회와 같은 필터의 티켓 전체를 CSV 또는 NDJSON으로 스트리밍합니다. includeActivities=true면 활동 이력을 포함합니다")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) TicketStatus status,
+            @RequestParam(required = false) TicketPriority priority,
+            @RequestParam(required = false) UUID assigneeId,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(defaultValue = "CSV") TicketExportFormat format,
+            @RequestParam(defaultValue = "false") boolean includeActivities) {
+        StreamingResponseBody body = out -> ticketExportService.export(
+                format, status, priority, assigneeId, keyword, includeActivities, out);
+        String filename = "tickets-" + LocalDate.now() + "." + format.getExtension();
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
     }
 
     @GetMapping("/open")
-    @Operation(summary = "미완료 티켓 목록", description = "처리 중인 티켓 목록을 조회합니다")
+    @Operation(summary = "미완료 티켓 목록", description = "처리 중인 티켓 목록을 조회합니다. count=NONE/ESTIMATE로 COUNT 쿼리를 생략합니다")
     public ResponseEntity<ApiResponse<PageResponse<TicketResponse>>> getOpenTickets(
+            @RequestParam(defaultValue = "EXACT") CountMode count,
             @PageableDefault(size = 20) Pageable pageable) {
-        Page<TicketResponse> page = ticketService.getOpenTickets(pageable);
+        PageResponse<TicketResponse> response = switch (count) {
+            case EXACT -> PageResponse.from(ticketService.getOpenTickets(pageable));
+            case NONE -> PageResponse.from(ticketService.getOpenTicketsSlice(pageable));
+            case ESTIMATE -> PageResponse.from(
+                    ticketService.getOpenTicketsSlice(pageable), ticketService.estimateOpenCount());
+        };
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "티켓 검색", description = "제목/설명/해결 요약을 전문 검색하여 관련도순으로 조회합니다")
+    public ResponseEntity<ApiResponse<PageResponse<TicketResponse>>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) TicketStatus status,
+            @RequestParam(required = false) TicketPriority priority,
+            @RequestParam(required = false) UUID assigneeId,
+            @PageableDefault(size = 20) Pageable pageable) {
+        Slice<TicketResponse> slice = ticketService.search(q, status, priority, assigneeId, pageable);
+        return ResponseEntity.ok(ApiResponse.success(PageResponse.from(slice)));
+    }
+
+    @GetMapping("/scroll")
+    @Operation(summary = "티켓 목록 커서 조회", description = "티켓 목록을 커서(키셋) 방식으로 조회합니다. 응답의 nextCursor로 다음 페이지를 요청합니다")
+    public ResponseEntity<ApiResponse<PageResponse<TicketResponse>>> getListByCursor(
+            @RequestParam(required = false) TicketStatus status,
+            @RequestParam(required = false) TicketPriority priority,
+            @RequestParam(required = false) UUID assigneeId,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPage<TicketResponse> page = ticketService.getListByCursor(
+                status, priority, assigneeId, keyword, cursor, clampSize(size));
+        return ResponseEntity.ok(ApiResponse.success(PageResponse.from(page)));
+    }
+
+    @GetMapping("/open/scroll")
+    @Operation(summary = "미완료 티켓 커서 조회", description = "처리 중인 티켓을 우선순위 순으로 커서(키셋) 방식 조회합니다")
+    public ResponseEntity<ApiResponse<PageResponse<TicketResponse>>> getOpenTicketsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPage<TicketResponse> page = ticketService.getOpenTicketsByCursor(cursor, clampSize(size));
         return ResponseEntity.ok(ApiResponse.success(PageResponse.from(page)));
     }
 
@@ -124,21 +207,71 @@ public class TicketController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @PostMapping("/bulk/assign")
+    @Operation(summary = "일괄 담당자 배정", description = "ID 목록 또는 필터로 지정한 티켓에 담당자를 배정합니다. 실패 티켓은 건별로 보고합니다")
+    public ResponseEntity<ApiResponse<TicketBulkResult>> bulkAssign(
+            @Valid @RequestBody TicketBulkRequest request,
+            @CurrentUser AuthenticatedUser user) {
+        UUID actorId = user == null ? null : user.getUserId();
+        return ResponseEntity.ok(ApiResponse.success(ticketBulkService.assign(request, actorId)));
+    }
+
+    @PostMapping("/bulk/transition")
+    @Operation(summary = "일괄 상태 전이", description = "ID 목록 또는 필터로 지정한 티켓의 상태를 변경합니다. 전이할 수 없는 티켓은 건별로 보고합니다")
+    public ResponseEntity<ApiResponse<TicketBulkResult>> bulkTransition(
+            @Valid @RequestBody TicketBulkRequest request,
+            @CurrentUser AuthenticatedUser user) {
+        UUID actorId = user == null ? null : user.getUserId();
+        return ResponseEntity.ok(ApiResponse.success(ticketBulkService.transition(request, actorId)));
+    }
+
+    @PostMapping("/bulk/resolve")
+    @Operation(summary = "일괄 해결 처리", description = "ID 목록 또는 필터로 지정한 티켓을 해결 처리합니다")
+    public ResponseEntity<ApiResponse<TicketBulkResult>> bulkResolve(
+            @Valid @RequestBody TicketBulkRequest request,
+            @CurrentUser AuthenticatedUser user) {
+        UUID actorId = user == null ? null : user.getUserId();
+        return ResponseEntity.ok(ApiResponse.success(ticketBulkService.resolve(request, actorId)));
+    }
+
+    @PostMapping("/bulk/close")
+    @Operation(summary = "일괄 종료", description = "ID 목록 또는 필터로 지정한 티켓을 종료합니다")
+    public ResponseEntity<ApiResponse<TicketBulkResult>> bulkClose(
+            @Valid @RequestBody TicketBulkRequest request,
+            @CurrentUser AuthenticatedUser user) {
+        UUID actorId = user == null ? null : user.getUserId();
+        return ResponseEntity.ok(ApiResponse.success(ticketBulkService.close(request, actorId)));
+    }
+
     @PostMapping("/{id}/comments")
-    @Operation(summary = "코멘트 추가", description = "티켓에 코멘트를 추가합니다")
-    public ResponseEntity<ApiResponse<TicketDetailResponse>> addComment(
+    @Operation(summary = "코멘트 추가", description = "티켓에 코멘트를 추가하고 생성된 활동만 반환합니다")
+    public ResponseEntity<ApiResponse<ActivityResponse>> addComment(
             @PathVariable UUID id,
             @RequestParam String content) {
         // TODO: 실제 사용자 ID는 Security Context에서 가져오기
         UUID actorId = null;
-        TicketDetailResponse response = ticketService.addComment(id, content, actorId);
+        ActivityResponse response = ticketService.addComment(id, content, actorId);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/{id}/activities")
+    @Operation(summary = "활동 타임라인", description = "티켓 활동 기록을 최신순으로 커서(키셋) 방식 조회합니다")
+    public ResponseEntity<ApiResponse<PageResponse<ActivityResponse>>> getActivities(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        CursorPage<ActivityResponse> page = ticketService.getActivities(id, cursor, clampSize(size));
+        return ResponseEntity.ok(ApiResponse.success(PageResponse.from(page)));
+    }
+
     @GetMapping("/stats")
     @Operation(summary = "티켓 통계", description = "티켓 상태별/우선순위별 통계를 조회합니다")
     public ResponseEntity<ApiResponse<TicketStatsResponse>> getStats() {
         TicketStatsResponse stats = ticketService.getStats();
         return ResponseEntity.ok(ApiResponse.success(stats));
     }
+
+    private int clampSize(int size) {
+        return Math.max(1, Math.min(size, 100));
+    }
 }
@@ -0,0 +1,55 @@
+package com.kohub.domain.ticket.dto;
+
+import com.kohub.domain.ticket.entity.TicketPriority;
+import com.kohub.domain.ticket.entity.TicketStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 티켓 일괄 처리 요청 DTO
+ * 대상은 티켓 ID 목록 또는 필터로 지정한다 (ID 목록 우선).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketBulkRequest {
+
+    @Size(max = 1000, message = "한 번에 1000건까지 처리할 수 있습니다")
+    private List<UUID> ticketIds;
+
+    @Valid
+    private Filter filter;
+
+    /** 배정할 담당자 (assign) */
+    private UUID assigneeId;
+
+    /** 전이할 상태 (transition) */
+    private TicketStatus status;
+
+    /** 전이 사유 (transition/close) */
+    private String reason;
+
+    /** 해결 요약 (resolve) */
+    private String summary;
+
+    /**
+     * 대상 필터 (목록 조회 조건과 동일, 조건이 하나도 없으면 거부)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Filter {
+        private TicketStatus status;
+        private TicketPriority priority;
+        private UUID assigneeId;
+        private String keyword;
+    }
+}
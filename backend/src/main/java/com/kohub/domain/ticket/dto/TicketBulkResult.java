@@ -0,0 +1,32 @@
+package com.kohub.domain.ticket.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 티켓 일괄 처리 결과 DTO
+ */
+@Getter
+@Builder
+public class TicketBulkResult {
+    private final int requested;
+    private final int succeeded;
+    private final int failed;
+    private final List<UUID> updatedIds;
+    private final List<Failure> failures;
+    private final long durationMs;
+
+    /**
+     * 티켓별 실패 사유
+     */
+    @Getter
+    @Builder
+    public static class Failure {
+        private final UUID ticketId;
+        private final String code;
+        private final String message;
+    }
+}
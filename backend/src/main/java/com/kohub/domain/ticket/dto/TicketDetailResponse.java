@@ -4,11 +4,13 @@ import com.kohub.domain.ticket.entity.*;
 import lombok.*;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 /**
- * 티켓 상세 응답 DTO (활동 기록 포함)
+ * 티켓 상세 응답 DTO (최근 활동 기록 포함)
+ * 전체 이력은 활동 타임라인 API로 페이지 단위 조회한다.
  */
 @Getter
 @Setter
@@ -30,6 +32,9 @@ public class TicketDetailResponse {
     private UUID organizationId;
     private String resolutionSummary;
     private List<ActivityResponse> activities;
+    private boolean hasMoreActivities;
+    // 이전 활동 조회용 커서 (hasMoreActivities일 때만)
+    private String activityCursor;
     private Instant createdAt;
     private Instant updatedAt;
     private Instant resolvedAt;
@@ -62,8 +67,14 @@ public class TicketDetailResponse {
 
     /**
      * Entity -> DTO 변환
+     * @param latestActivities 최신순 활동 (최대 limit + 1개)
+     * @param limit 포함할 최근 활동 수 (응답은 시간순)
      */
-    public static TicketDetailResponse from(Ticket ticket) {
+    public static TicketDetailResponse from(Ticket ticket, List<Activity> latestActivities, int limit) {
+        List<ActivityResponse> recent = new ArrayList<>();
+        for (int i = Math.min(limit, latestActivities.size()) - 1; i >= 0; i--) {
+            recent.add(ActivityResponse.from(latestActivities.get(i)));
+        }
         return TicketDetailResponse.builder()
                 .id(ticket.getId())
                 .title(ticket.getTitle())
@@ -77,9 +88,8 @@ public class TicketDetailResponse {
                 .assigneeId(ticket.getAssigneeId())
                 .organizationId(ticket.getOrganizationId())
                 .resolutionSummary(ticket.getResolutionSummary())
-                .activities(ticket.getActivities().stream()
-                        .map(ActivityResponse::from)
-                        .toList())
+                .activities(recent)
+                .hasMoreActivities(latestActivities.size() > limit)
                 .createdAt(ticket.getCreatedAt())
                 .updatedAt(ticket.getUpdatedAt())
                 .resolvedAt(ticket.getResolvedAt())
@@ -0,0 +1,23 @@
+package com.kohub.domain.ticket.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 티켓 내보내기 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TicketExportFormat {
+    /** 티켓 1행 (활동 포함 시 활동 1행, 티켓 컬럼 반복) */
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv"),
+
+    /** 티켓 1줄 JSON (활동 포함 시 activities 배열) */
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson");
+
+    private final MediaType mediaType;
+    private final String extension;
+}
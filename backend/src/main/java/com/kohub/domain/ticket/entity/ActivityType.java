@@ -14,5 +14,11 @@ public enum ActivityType {
     ASSIGNMENT,
     
     /** 터미널 접속 */
-    TERMINAL_ACCESS
+    TERMINAL_ACCESS,
+
+    /** SLA 기한 초과 에스컬레이션 */
+    ESCALATION,
+
+    /** 상위 인시던트에 묶인 연관 알림 */
+    CORRELATED_ALERT
 }
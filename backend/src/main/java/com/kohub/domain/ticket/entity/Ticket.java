@@ -2,12 +2,16 @@ package com.kohub.domain.ticket.entity;
 
 import com.kohub.common.exception.BusinessException;
 import com.kohub.common.exception.ErrorCode;
+import com.kohub.common.text.KeywordExtractor;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -50,6 +54,12 @@ public class Ticket {
     @Builder.Default
     private TicketPriority priority = TicketPriority.MEDIUM;
 
+    /**
+     * 우선순위 정렬 순위 (키셋 페이지네이션 인덱스용, priority와 동기화)
+     */
+    @Column(name = "priority_rank", nullable = false)
+    private short priorityRank;
+
     @Column(name = "host_id")
     private UUID hostId;
 
@@ -69,6 +79,15 @@ public class Ticket {
     @Builder.Default
     private List<Activity> activities = new ArrayList<>();
 
+    /**
+     * 제목/설명 정규화 키워드 (생성/수정 시 계산, 유사 티켓 검색용)
+     */
+    @ElementCollection
+    @CollectionTable(name = "ticket_keywords", joinColumns = @JoinColumn(name = "ticket_id"))
+    @Column(name = "keyword", nullable = false, length = KeywordExtractor.MAX_LENGTH)
+    @Builder.Default
+    private Set<String> keywords = new HashSet<>();
+
     @Column(name = "created_at", nullable = false, updatable = false)
     @Builder.Default
     private Instant createdAt = Instant.now();
@@ -80,18 +99,47 @@ public class Ticket {
     @Column(name = "resolved_at")
     private Instant resolvedAt;
 
+    /**
+     * 낙관적 잠금 버전 (동시 수정 감지)
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @PrePersist
+    protected void onCreate() {
+        this.priorityRank = this.priority.getRank();
+        refreshKeywords();
+    }
+
     @PreUpdate
     protected void onUpdate() {
         this.updatedAt = Instant.now();
+        this.priorityRank = this.priority.getRank();
     }
 
     /**
      * 티켓 정보 수정
      */
     public void update(String title, String description, TicketPriority priority) {
+        boolean textChanged = !Objects.equals(this.title, title)
+                || !Objects.equals(this.description, description);
         this.title = title;
         this.description = description;
         this.priority = priority;
+        this.priorityRank = priority.getRank();
+        if (textChanged) {
+            refreshKeywords();
+        }
+    }
+
+    /**
+     * 키워드 재계산 (바뀐 키워드 행만 삭제/추가)
+     */
+    private void refreshKeywords() {
+        Set<String> current = KeywordExtractor.extract(title, description);
+        keywords.retainAll(current);
+        keywords.addAll(current);
     }
 
     /**
@@ -131,6 +179,36 @@ public class Ticket {
         addActivity(ActivityType.ASSIGNMENT, "담당자 배정", actorId);
     }
 
+    /**
+     * 우선순위 상향 (연관 알림 등, 더 높은 우선순위일 때만)
+     * @return 바뀌었으면 true
+     */
+    public boolean raisePriority(TicketPriority priority) {
+        if (priority == null || priority.getRank() >= this.priority.getRank()) {
+            return false;
+        }
+        this.priority = priority;
+        this.priorityRank = priority.getRank();
+        return true;
+    }
+
+    /**
+     * 자동 배정 (생성 시, 행위자 없음)
+     * 상태 머신을 따라 NEW면 시스템이 접수(RECEIVED)한 뒤 배정(ASSIGNED)하고 각 전이를 활동으로 남긴다.
+     * 생성과 동시에 접수되므로 접수 SLA는 걸리지 않고 해결 SLA만 남는다.
+     */
+    public void autoAssign(UUID assigneeId, String strategy) {
+        String reason = "자동 배정 (" + strategy + ")";
+        if (this.status == TicketStatus.NEW) {
+            transitionTo(TicketStatus.RECEIVED, reason, null);
+        }
+        this.assigneeId = assigneeId;
+        if (this.status == TicketStatus.RECEIVED) {
+            transitionTo(TicketStatus.ASSIGNED, reason, null);
+        }
+        addActivity(ActivityType.ASSIGNMENT, reason, null);
+    }
+
     /**
      * 접수 처리
      */
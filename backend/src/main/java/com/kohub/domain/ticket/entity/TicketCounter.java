@@ -0,0 +1,41 @@
+package com.kohub.domain.ticket.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 티켓 상태/우선순위별 건수 카운터
+ * 티켓 생성·상태 전이 트랜잭션에서 함께 증감되며, 주기적으로 실제 건수와 대사(reconcile)된다.
+ */
+@Entity
+@Table(name = "ticket_counters")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class TicketCounter {
+
+    /**
+     * 카운터 키 (예: STATUS:NEW, PRIORITY:CRITICAL)
+     */
+    @Id
+    @Column(name = "counter_key", length = 50)
+    private String counterKey;
+
+    @Column(name = "counter_value", nullable = false)
+    private long value;
+
+    @Column(name = "updated_at", nullable = false)
+    @Builder.Default
+    private Instant updatedAt = Instant.now();
+
+    public static String statusKey(TicketStatus status) {
+        return "STATUS:" + status.name();
+    }
+
+    public static String priorityKey(TicketPriority priority) {
+        return "PRIORITY:" + priority.name();
+    }
+}
@@ -0,0 +1,60 @@
+package com.kohub.domain.ticket.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 티켓 이벤트 아웃박스 행
+ * 기록/전달은 TicketOutboxWriter, TicketOutboxRelay가 JDBC로 처리하며 엔티티는 스키마 정의용이다.
+ */
+@Entity
+@Table(name = "ticket_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TicketOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "ticket_id", nullable = false)
+    private UUID ticketId;
+
+    @Column(name = "change_type", nullable = false, length = 20)
+    private String changeType;
+
+    @Column(name = "previous_status", length = 20)
+    private String previousStatus;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(length = 20)
+    private String priority;
+
+    @Column(name = "organization_id")
+    private UUID organizationId;
+
+    @Column(name = "assignee_id")
+    private UUID assigneeId;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "available_at", nullable = false)
+    private Instant availableAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+}
@@ -5,14 +5,27 @@ package com.kohub.domain.ticket.entity;
  */
 public enum TicketPriority {
     /** 심각 - 서비스 전면 장애 */
-    CRITICAL,
+    CRITICAL(1),
     
     /** 높음 - 주요 기능 장애 */
-    HIGH,
+    HIGH(2),
     
     /** 중간 - 일부 기능 장애 */
-    MEDIUM,
+    MEDIUM(3),
     
     /** 낮음 - 경미한 이슈 */
-    LOW
+    LOW(4);
+
+    private final short rank;
+
+    TicketPriority(int rank) {
+        this.rank = (short) rank;
+    }
+
+    /**
+     * 정렬 순위 (작을수록 긴급)
+     */
+    public short getRank() {
+        return rank;
+    }
 }
@@ -0,0 +1,64 @@
+package com.kohub.domain.ticket.event;
+
+import com.kohub.domain.ticket.entity.Ticket;
+import com.kohub.domain.ticket.entity.TicketPriority;
+import com.kohub.domain.ticket.entity.TicketStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 티켓 변경 이벤트
+ * 티켓 생성/수정/상태 전이 트랜잭션 내에서 발행된다.
+ *
+ * @param previousStatus 변경 전 상태 (생성 시 null)
+ * @param organizationId 티켓 조직 (일괄 처리 이벤트는 null)
+ * @param assigneeId 변경 후 담당자
+ */
+public record TicketChangedEvent(
+        UUID ticketId,
+        ChangeType changeType,
+        TicketStatus previousStatus,
+        TicketStatus status,
+        TicketPriority priority,
+        UUID organizationId,
+        UUID assigneeId,
+        Instant occurredAt
+) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED,
+        ASSIGNED,
+        COMMENTED,
+        PRIORITY_CHANGED
+    }
+
+    public static TicketChangedEvent created(Ticket ticket) {
+        return of(ticket, ChangeType.CREATED, null);
+    }
+
+    public static TicketChangedEvent of(Ticket ticket, ChangeType changeType, TicketStatus previousStatus) {
+        return new TicketChangedEvent(ticket.getId(), changeType, previousStatus,
+                ticket.getStatus(), ticket.getPriority(), ticket.getOrganizationId(), ticket.getAssigneeId(), Instant.now());
+    }
+
+    /**
+     * 상태가 바뀐 경우 STATUS_CHANGED, 아니면 지정한 유형
+     */
+    public static TicketChangedEvent changed(Ticket ticket, ChangeType changeType, TicketStatus previousStatus) {
+        ChangeType type = previousStatus != ticket.getStatus() ? ChangeType.STATUS_CHANGED : changeType;
+        return of(ticket, type, previousStatus);
+    }
+
+    /**
+     * 엔티티 없이 변경 전후 값으로 생성 (일괄 처리용)
+     */
+    public static TicketChangedEvent changed(UUID ticketId, ChangeType changeType, TicketStatus previousStatus,
+                                             TicketStatus status, TicketPriority priority, UUID assigneeId) {
+        ChangeType type = previousStatus != status ? ChangeType.STATUS_CHANGED : changeType;
+        return new TicketChangedEvent(ticketId, type, previousStatus, status, priority, null, assigneeId,
+                Instant.now());
+    }
+}
@@ -0,0 +1,24 @@
+package com.kohub.domain.ticket.event;
+
+/**
+ * 아웃박스 릴레이가 전달하는 티켓 이벤트 소비자
+ *
+ * 같은 이벤트가 두 번 이상 전달될 수 있으므로(at-least-once) 재처리에 안전해야 한다.
+ * 재전달된 이벤트는 같은 eventId로 오므로 중복 제거 키로 쓸 수 있다.
+ * 예외를 던지면 해당 이벤트는 나중에 다시 전달된다.
+ */
+public interface TicketEventConsumer {
+
+    /**
+     * 릴레이 트랜잭션 안에서 호출
+     * @param eventId 아웃박스 이벤트 ID (재전달 시 동일)
+     */
+    void consume(long eventId, TicketChangedEvent event);
+
+    /**
+     * consume 트랜잭션 커밋 후 호출 (외부 발송 등)
+     * 모든 소비자가 성공해야 아웃박스 행이 삭제된다.
+     */
+    default void afterConsume(long eventId, TicketChangedEvent event) {
+    }
+}
@@ -0,0 +1,159 @@
+package com.kohub.domain.ticket.event;
+
+import com.kohub.domain.ticket.entity.TicketPriority;
+import com.kohub.domain.ticket.entity.TicketStatus;
+import com.kohub.domain.ticket.event.TicketChangedEvent.ChangeType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 티켓 이벤트 아웃박스 릴레이
+ *
+ * 전달 가능한 행을 batch-size씩 임대(available_at을 lease 만큼 미룸)하고, 이벤트마다 별도 트랜잭션에서
+ * 소비자에 전달한 뒤 커밋 후 단계(외부 발송 등)까지 동기로 끝나야 행을 삭제한다.
+ * 실패하거나 도중에 중단되면 재시도 시각/임대 만료 후 같은 이벤트 ID로 다시 전달된다 (at-least-once).
+ * 행 임대는 FOR UPDATE SKIP LOCKED로 하므로 여러 인스턴스가 동시에 돌아도 같은 행을 나눠 갖지 않는다.
+ * 인스턴스별 캐시/SSE는 이 경로가 아니라 로컬 커밋 후 이벤트로 갱신한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "kohub.outbox", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+public class TicketOutboxRelay {
+
+    static final String CLAIM_SQL = "UPDATE ticket_outbox SET available_at = ?, attempts = attempts + 1 " +
+            "WHERE id IN (SELECT id FROM ticket_outbox WHERE available_at <= ? AND attempts < ? " +
+            "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED) " +
+            "RETURNING id, ticket_id, change_type, previous_status, status, priority, organization_id, " +
+            "assignee_id, occurred_at, attempts";
+    static final String DELETE_SQL = "DELETE FROM ticket_outbox WHERE id = ?";
+    static final String RETRY_SQL = "UPDATE ticket_outbox SET available_at = ?, last_error = ? WHERE id = ?";
+
+    /** 한 번의 실행에서 처리할 최대 배치 수 (다른 스케줄 작업 점유 제한) */
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final List<TicketEventConsumer> consumers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Counter delivered;
+    private final Counter failed;
+
+    public TicketOutboxRelay(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            List<TicketEventConsumer> consumers,
+            MeterRegistry meterRegistry,
+            @Value("${kohub.outbox.batch-size:100}") int batchSize,
+            @Value("${kohub.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${kohub.outbox.lease-seconds:60}") int leaseSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.consumers = consumers;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.lease = Duration.ofSeconds(Math.max(1, leaseSeconds));
+        this.delivered = meterRegistry.counter("kohub.outbox.delivered");
+        this.failed = meterRegistry.counter("kohub.outbox.failed");
+    }
+
+    /**
+     * 전달 가능한 이벤트가 없을 때까지 배치 단위로 전달
+     * @return 전달에 성공한 이벤트 수
+     */
+    @Scheduled(fixedDelayString = "${kohub.outbox.poll-ms:500}")
+    public int relay() {
+        int total = 0;
+        for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+            List<OutboxRow> rows = claim();
+            for (OutboxRow row : rows) {
+                if (deliver(row)) {
+                    total++;
+                }
+            }
+            if (rows.size() < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private List<OutboxRow> claim() {
+        Instant now = Instant.now();
+        List<OutboxRow> rows = jdbcTemplate.query(CLAIM_SQL, ROW_MAPPER,
+                Timestamp.from(now.plus(lease)), Timestamp.from(now), maxAttempts, batchSize);
+        rows.sort(Comparator.comparingLong(OutboxRow::id));
+        return rows;
+    }
+
+    private boolean deliver(OutboxRow row) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (TicketEventConsumer consumer : consumers) {
+                    consumer.consume(row.id(), row.event());
+                }
+            });
+            for (TicketEventConsumer consumer : consumers) {
+                consumer.afterConsume(row.id(), row.event());
+            }
+            jdbcTemplate.update(DELETE_SQL, row.id());
+            delivered.increment();
+            return true;
+        } catch (RuntimeException e) {
+            failed.increment();
+            String error = String.valueOf(e.getMessage());
+            if (row.attempts() >= maxAttempts) {
+                log.error("아웃박스 전달 포기 (최대 시도 초과): id={}, ticketId={}, changeType={}",
+                        row.id(), row.event().ticketId(), row.event().changeType(), e);
+            } else {
+                log.warn("아웃박스 전달 실패, 재시도 예정: id={}, attempts={}, error={}", row.id(), row.attempts(), error);
+            }
+            jdbcTemplate.update(RETRY_SQL, Timestamp.from(Instant.now().plus(backoff(row.attempts()))),
+                    error.length() > 500 ? error.substring(0, 500) : error, row.id());
+            return false;
+        }
+    }
+
+    /**
+     * 재시도 간격 (1초부터 두 배씩, 최대 10분)
+     */
+    static Duration backoff(int attempts) {
+        long seconds = 1L << Math.min(Math.max(attempts - 1, 0), 20);
+        return Duration.ofSeconds(Math.min(seconds, 600));
+    }
+
+    private static final RowMapper<OutboxRow> ROW_MAPPER = (rs, rowNum) -> {
+        String previousStatus = rs.getString("previous_status");
+        String priority = rs.getString("priority");
+        TicketChangedEvent event = new TicketChangedEvent(
+                rs.getObject("ticket_id", UUID.class),
+                ChangeType.valueOf(rs.getString("change_type")),
+                previousStatus != null ? TicketStatus.valueOf(previousStatus) : null,
+                TicketStatus.valueOf(rs.getString("status")),
+                priority != null ? TicketPriority.valueOf(priority) : null,
+                rs.getObject("organization_id", UUID.class),
+                rs.getObject("assignee_id", UUID.class),
+                rs.getTimestamp("occurred_at").toInstant());
+        return new OutboxRow(rs.getLong("id"), rs.getInt("attempts"), event);
+    };
+
+    record OutboxRow(long id, int attempts, TicketChangedEvent event) {
+    }
+}
@@ -0,0 +1,94 @@
+package com.kohub.domain.ticket.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 티켓 이벤트 아웃박스 기록
+ *
+ * 티켓 변경 트랜잭션에서 발행된 이벤트를 모아 두었다가 커밋 직전에 한 번의 JDBC 배치로 기록한다.
+ * 티켓 변경과 아웃박스 행이 함께 커밋/롤백되므로 커밋된 변경의 이벤트는 유실되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TicketOutboxWriter {
+
+    static final String INSERT_SQL = "INSERT INTO ticket_outbox (ticket_id, change_type, previous_status, status, " +
+            "priority, organization_id, assignee_id, occurred_at, attempts, available_at, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 발행 트랜잭션 안에서 동기 실행
+     */
+    @EventListener
+    public void onTicketChanged(TicketChangedEvent event) {
+        if (event.ticketId() == null || event.status() == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 트랜잭션 밖 발행: 즉시 기록
+            write(List.of(event));
+            return;
+        }
+        pendingEvents().add(event);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<TicketChangedEvent> pendingEvents() {
+        List<TicketChangedEvent> pending = (List<TicketChangedEvent>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<TicketChangedEvent> events = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, events);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    write(events);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TicketOutboxWriter.this);
+                }
+            });
+            pending = events;
+        }
+        return pending;
+    }
+
+    private void write(List<TicketChangedEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (TicketChangedEvent event : events) {
+            rows.add(new Object[]{
+                    event.ticketId(),
+                    event.changeType().name(),
+                    event.previousStatus() != null ? event.previousStatus().name() : null,
+                    event.status().name(),
+                    event.priority() != null ? event.priority().name() : null,
+                    event.organizationId(),
+                    event.assigneeId(),
+                    Timestamp.from(event.occurredAt()),
+                    now,
+                    now
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        log.debug("아웃박스 기록: events={}", events.size());
+    }
+}
@@ -0,0 +1,63 @@
+package com.kohub.domain.ticket.repository;
+
+import com.kohub.domain.ticket.entity.Activity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 티켓 활동 기록 Repository
+ * 정렬: 최신순 (created_at DESC, id DESC), (ticket_id, created_at, id) 인덱스 사용
+ */
+@Repository
+public interface ActivityRepository extends JpaRepository<Activity, UUID> {
+
+    /**
+     * 최신 활동 조회 - 첫 페이지
+     */
+    @Query("SELECT a FROM Activity a WHERE a.ticket.id = :ticketId ORDER BY a.createdAt DESC, a.id DESC")
+    List<Activity> findLatest(@Param("ticketId") UUID ticketId, Limit limit);
+
+    /**
+     * 호스트 타임라인 - 호스트 티켓들의 최신 활동 첫 페이지
+     */
+    @Query("SELECT a FROM Activity a WHERE a.ticket.hostId = :hostId ORDER BY a.createdAt DESC, a.id DESC")
+    List<Activity> findLatestByHostId(@Param("hostId") UUID hostId, Limit limit);
+
+    /**
+     * 호스트 타임라인 - 커서 이전 활동
+     */
+    @Query("SELECT a FROM Activity a WHERE a.ticket.hostId = :hostId AND " +
+           "(a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)) " +
+           "ORDER BY a.createdAt DESC, a.id DESC")
+    List<Activity> findByHostIdBefore(
+            @Param("hostId") UUID hostId,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Limit limit);
+
+    /**
+     * 커서 이전 활동 조회
+     */
+    @Query("SELECT a FROM Activity a WHERE a.ticket.id = :ticketId AND " +
+           "(a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)) " +
+           "ORDER BY a.createdAt DESC, a.id DESC")
+    List<Activity> findBefore(
+            @Param("ticketId") UUID ticketId,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Limit limit);
+
+    /**
+     * 여러 티켓의 활동 (티켓별 시간순, 내보내기용)
+     */
+    @Query("SELECT a FROM Activity a WHERE a.ticket.id IN :ticketIds ORDER BY a.ticket.id, a.createdAt, a.id")
+    List<Activity> findByTicketIdsInOrder(@Param("ticketIds") Collection<UUID> ticketIds);
+}
@@ -0,0 +1,53 @@
+package com.kohub.domain.ticket.repository;
+
+import com.kohub.domain.ticket.entity.TicketCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 티켓 카운터 Repository
+ */
+@Repository
+public interface TicketCounterRepository extends JpaRepository<TicketCounter, String> {
+
+    /**
+     * 카운터 행 잠금 조회 (대사 직렬화용)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<TicketCounter> findLockedByCounterKey(String counterKey);
+
+    /**
+     * 카운터 증감 (행 단위 원자적 UPDATE)
+     * @return 갱신된 행 수 (카운터 행이 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE TicketCounter c SET c.value = c.value + :delta, c.updatedAt = :now WHERE c.counterKey = :key")
+    int increment(@Param("key") String key, @Param("delta") long delta, @Param("now") Instant now);
+
+    /**
+     * 카운터 증감 (행이 없으면 생성, 동시 생성도 원자적으로 합산)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO ticket_counters (counter_key, counter_value, updated_at) VALUES (:key, :delta, :now) " +
+                   "ON CONFLICT (counter_key) DO UPDATE " +
+                   "SET counter_value = ticket_counters.counter_value + EXCLUDED.counter_value, " +
+                   "updated_at = EXCLUDED.updated_at", nativeQuery = true)
+    int upsert(@Param("key") String key, @Param("delta") long delta, @Param("now") Instant now);
+
+    /**
+     * 카운터 행 생성 (이미 있으면 무시)
+     * @return 생성했으면 1
+     */
+    @Modifying
+    @Query(value = "INSERT INTO ticket_counters (counter_key, counter_value, updated_at) VALUES (:key, :value, :now) " +
+                   "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("key") String key, @Param("value") long value, @Param("now") Instant now);
+}
@@ -3,16 +3,27 @@ package com.kohub.domain.ticket.repository;
 import com.kohub.domain.ticket.entity.Ticket;
 import com.kohub.domain.ticket.entity.TicketPriority;
 import com.kohub.domain.ticket.entity.TicketStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * 티켓 Repository
@@ -30,6 +41,12 @@ public interface TicketRepository extends JpaRepository<Ticket, UUID> {
      */
     boolean existsBySourceEventId(String sourceEventId);
 
+    /**
+     * 이미 등록된 소스 이벤트 ID (일괄 수집 중복 방지용)
+     */
+    @Query("SELECT t.sourceEventId FROM Ticket t WHERE t.sourceEventId IN :sourceEventIds")
+    List<String> findExistingSourceEventIds(@Param("sourceEventIds") Collection<String> sourceEventIds);
+
     /**
      * 담당자별 티켓 목록
      */
@@ -51,35 +68,51 @@ public interface TicketRepository extends JpaRepository<Ticket, UUID> {
     long countByPriority(TicketPriority priority);
 
     /**
-     * 전체 통계 조회 (단일 쿼리)
+     * 상태별 건수 (카운터 대사용)
      */
-    @Query("SELECT new map(" +
-           "COUNT(t) as total, " +
-           "SUM(CASE WHEN t.status = com.kohub.domain.ticket.entity.TicketStatus.NEW THEN 1 ELSE 0 END) as newCount, " +
-           "SUM(CASE WHEN t.status = com.kohub.domain.ticket.entity.TicketStatus.IN_PROGRESS THEN 1 ELSE 0 END) as inProgress, " +
-           "SUM(CASE WHEN t.status = com.kohub.domain.ticket.entity.TicketStatus.PENDING THEN 1 ELSE 0 END) as pending, " +
-           "SUM(CASE WHEN t.status = com.kohub.domain.ticket.entity.TicketStatus.RESOLVED THEN 1 ELSE 0 END) as resolved, " +
-           "SUM(CASE WHEN t.status = com.kohub.domain.ticket.entity.TicketStatus.COMPLETED THEN 1 ELSE 0 END) as completed, " +
-           "SUM(CASE WHEN t.status = com.kohub.domain.ticket.entity.TicketStatus.CLOSED THEN 1 ELSE 0 END) as closed, " +
-           "SUM(CASE WHEN t.priority = com.kohub.domain.ticket.entity.TicketPriority.CRITICAL THEN 1 ELSE 0 END) as critical, " +
-           "SUM(CASE WHEN t.priority = com.kohub.domain.ticket.entity.TicketPriority.HIGH THEN 1 ELSE 0 END) as high) " +
-           "FROM Ticket t")
-    java.util.Map<String, Long> getStats();
+    @Query("SELECT t.status, COUNT(t) FROM Ticket t GROUP BY t.status")
+    List<Object[]> countGroupByStatus();
+
+    /**
+     * 우선순위별 건수 (카운터 대사용)
+     */
+    @Query("SELECT t.priority, COUNT(t) FROM Ticket t GROUP BY t.priority")
+    List<Object[]> countGroupByPriority();
 
     /**
      * 호스트별 티켓 목록
      */
     Page<Ticket> findByHostId(UUID hostId, Pageable pageable);
 
+    /**
+     * 호스트 타임라인 - 최신 티켓 첫 페이지 (host_id, created_at, id 인덱스)
+     */
+    @Query("SELECT t FROM Ticket t WHERE t.hostId = :hostId ORDER BY t.createdAt DESC, t.id DESC")
+    List<Ticket> findLatestByHostId(@Param("hostId") UUID hostId, Limit limit);
+
+    /**
+     * 호스트 타임라인 - 커서 이전 티켓
+     */
+    @Query("SELECT t FROM Ticket t WHERE t.hostId = :hostId AND " +
+           "(t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<Ticket> findByHostIdBefore(
+            @Param("hostId") UUID hostId,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Limit limit);
+
     /**
      * 필터 + 검색
+     * 키워드는 제목/설명/해결 요약 부분 일치 (lower() trigram 인덱스 사용)
      */
     @Query("SELECT t FROM Ticket t WHERE " +
            "(:status IS NULL OR t.status = :status) AND " +
            "(:priority IS NULL OR t.priority = :priority) AND " +
            "(:assigneeId IS NULL OR t.assigneeId = :assigneeId) AND " +
-           "(:keyword IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(t.description) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+           "(:keyword IS NULL OR (LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(t.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(t.resolutionSummary) LIKE LOWER(CONCAT('%', :keyword, '%'))))")
     Page<Ticket> findByFilters(
             @Param("status") TicketStatus status,
             @Param("priority") TicketPriority priority,
@@ -87,6 +120,28 @@ public interface TicketRepository extends JpaRepository<Ticket, UUID> {
             @Param("keyword") String keyword,
             Pageable pageable);
 
+    /**
+     * 필터 + 검색 결과 전체 스트림 (내보내기용, 생성 순)
+     * 서버 측 커서로 fetch size씩 읽으며, 호출 측은 트랜잭션 안에서 스트림을 닫아야 한다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Ticket t WHERE " +
+           "(:status IS NULL OR t.status = :status) AND " +
+           "(:priority IS NULL OR t.priority = :priority) AND " +
+           "(:assigneeId IS NULL OR t.assigneeId = :assigneeId) AND " +
+           "(:keyword IS NULL OR (LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(t.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(t.resolutionSummary) LIKE LOWER(CONCAT('%', :keyword, '%')))) " +
+           "ORDER BY t.createdAt, t.id")
+    Stream<Ticket> streamByFilters(
+            @Param("status") TicketStatus status,
+            @Param("priority") TicketPriority priority,
+            @Param("assigneeId") UUID assigneeId,
+            @Param("keyword") String keyword);
+
     /**
      * 미완료 티켓 (CLOSED 제외)
      */
@@ -97,4 +152,188 @@ public interface TicketRepository extends JpaRepository<Ticket, UUID> {
            "WHEN com.kohub.domain.ticket.entity.TicketPriority.MEDIUM THEN 3 ELSE 4 END, " +
            "t.createdAt DESC")
     Page<Ticket> findOpenTickets(Pageable pageable);
+
+    /**
+     * 필터 + 검색 (COUNT 없는 Slice)
+     */
+    @Query("SELECT t FROM Ticket t WHERE " +
+           "(:status IS NULL OR t.status = :status) AND " +
+           "(:priority IS NULL OR t.priority = :priority) AND " +
+           "(:assigneeId IS NULL OR t.assigneeId = :assigneeId) AND " +
+           "(:keyword IS NULL OR (LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(t.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(t.resolutionSummary) LIKE LOWER(CONCAT('%', :keyword, '%'))))")
+    Slice<Ticket> sliceByFilters(
+            @Param("status") TicketStatus status,
+            @Param("priority") TicketPriority priority,
+            @Param("assigneeId") UUID assigneeId,
+            @Param("keyword") String keyword,
+            Pageable pageable);
+
+    /**
+     * 필터 + 검색 건수
+     */
+    @Query("SELECT COUNT(t) FROM Ticket t WHERE " +
+           "(:status IS NULL OR t.status = :status) AND " +
+           "(:priority IS NULL OR t.priority = :priority) AND " +
+           "(:assigneeId IS NULL OR t.assigneeId = :assigneeId) AND " +
+           "(:keyword IS NULL OR (LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(t.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(t.resolutionSummary) LIKE LOWER(CONCAT('%', :keyword, '%'))))")
+    long countByFilters(
+            @Param("status") TicketStatus status,
+            @Param("priority") TicketPriority priority,
+            @Param("assigneeId") UUID assigneeId,
+            @Param("keyword") String keyword);
+
+    /**
+     * 미완료 티켓 (COUNT 없는 Slice)
+     */
+    @Query("SELECT t FROM Ticket t WHERE t.status NOT IN (com.kohub.domain.ticket.entity.TicketStatus.CLOSED, com.kohub.domain.ticket.entity.TicketStatus.COMPLETED) " +
+           "ORDER BY t.priorityRank, t.createdAt DESC")
+    Slice<Ticket> sliceOpenTickets(Pageable pageable);
+
+    /**
+     * 미완료 티켓 키셋 조회 - 첫 페이지
+     * 정렬: (priority_rank, created_at DESC, id DESC)
+     */
+    @Query("SELECT t FROM Ticket t WHERE t.status NOT IN (com.kohub.domain.ticket.entity.TicketStatus.CLOSED, com.kohub.domain.ticket.entity.TicketStatus.COMPLETED) " +
+           "ORDER BY t.priorityRank, t.createdAt DESC, t.id DESC")
+    List<Ticket> findOpenTicketsFirst(Limit limit);
+
+    /**
+     * 미완료 티켓 키셋 조회 - 커서 이후
+     */
+    @Query("SELECT t FROM Ticket t WHERE t.status NOT IN (com.kohub.domain.ticket.entity.TicketStatus.CLOSED, com.kohub.domain.ticket.entity.TicketStatus.COMPLETED) AND " +
+           "(t.priorityRank > :rank OR (t.priorityRank = :rank AND " +
+           "(t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)))) " +
+           "ORDER BY t.priorityRank, t.createdAt DESC, t.id DESC")
+    List<Ticket> findOpenTicketsAfter(
+            @Param("rank") short rank,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Limit limit);
+
+    /**
+     * 필터 키셋 조회 - 첫 페이지
+     * 정렬: (created_at DESC, id DESC)
+     */
+    @Query("SELECT t FROM Ticket t WHERE " +
+           "(:status IS NULL OR t.status = :status) AND " +
+           "(:priority IS NULL OR t.priority = :priority) AND " +
+           "(:assigneeId IS NULL OR t.assigneeId = :assigneeId) AND " +
+           "(:keyword IS NULL OR (LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(t.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(t.resolutionSummary) LIKE LOWER(CONCAT('%', :keyword, '%')))) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<Ticket> findByFiltersFirst(
+            @Param("status") TicketStatus status,
+            @Param("priority") TicketPriority priority,
+            @Param("assigneeId") UUID assigneeId,
+            @Param("keyword") String keyword,
+            Limit limit);
+
+    /**
+     * 필터 키셋 조회 - 커서 이후
+     */
+    @Query("SELECT t FROM Ticket t WHERE " +
+           "(:status IS NULL OR t.status = :status) AND " +
+           "(:priority IS NULL OR t.priority = :priority) AND " +
+           "(:assigneeId IS NULL OR t.assigneeId = :assigneeId) AND " +
+           "(:keyword IS NULL OR (LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(t.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(t.resolutionSummary) LIKE LOWER(CONCAT('%', :keyword, '%')))) AND " +
+           "(t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<Ticket> findByFiltersAfter(
+            @Param("status") TicketStatus status,
+            @Param("priority") TicketPriority priority,
+            @Param("assigneeId") UUID assigneeId,
+            @Param("keyword") String keyword,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Limit limit);
+
+    /**
+     * 전문 검색 (관련도순)
+     * tsvector 단어 일치 + lower() trigram 부분 일치(한국어 조사 포함 등), PostgreSQL 전용
+     */
+    @Query(value = "SELECT t.* FROM tickets t WHERE " +
+           "(CAST(:status AS varchar) IS NULL OR t.status = CAST(:status AS varchar)) AND " +
+           "(CAST(:priority AS varchar) IS NULL OR t.priority = CAST(:priority AS varchar)) AND " +
+           "(CAST(:assigneeId AS uuid) IS NULL OR t.assignee_id = CAST(:assigneeId AS uuid)) AND " +
+           "(t.search_vector @@ plainto_tsquery('simple', :keyword) OR " +
+           "lower(t.title) LIKE :pattern ESCAPE '\\' OR " +
+           "lower(t.description) LIKE :pattern ESCAPE '\\' OR " +
+           "lower(t.resolution_summary) LIKE :pattern ESCAPE '\\') " +
+           "ORDER BY ts_rank_cd(t.search_vector, plainto_tsquery('simple', :keyword)) DESC, " +
+           "similarity(lower(t.title), lower(:keyword)) DESC, t.created_at DESC",
+           nativeQuery = true)
+    Slice<Ticket> search(
+            @Param("keyword") String keyword,
+            @Param("pattern") String pattern,
+            @Param("status") String status,
+            @Param("priority") String priority,
+            @Param("assigneeId") UUID assigneeId,
+            Pageable pageable);
+
+    /**
+     * 일괄 처리 대상 ID (필터)
+     */
+    @Query("SELECT t.id FROM Ticket t WHERE " +
+           "(:status IS NULL OR t.status = :status) AND " +
+           "(:priority IS NULL OR t.priority = :priority) AND " +
+           "(:assigneeId IS NULL OR t.assigneeId = :assigneeId) AND " +
+           "(:keyword IS NULL OR (LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(t.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(t.resolutionSummary) LIKE LOWER(CONCAT('%', :keyword, '%')))) " +
+           "ORDER BY t.id")
+    List<UUID> findIdsByFilters(
+            @Param("status") TicketStatus status,
+            @Param("priority") TicketPriority priority,
+            @Param("assigneeId") UUID assigneeId,
+            @Param("keyword") String keyword,
+            Limit limit);
+
+    /**
+     * 일괄 처리 대상 잠금 조회 (ID 순서로 잠가 교착 방지, 활동은 로딩하지 않음)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Ticket t WHERE t.id IN :ids ORDER BY t.id")
+    List<Ticket> findAllByIdForUpdate(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * 일괄 상태 전이 (엔티티 콜백을 거치지 않으므로 수정 시각/버전 직접 갱신)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Ticket t SET t.status = :status, t.updatedAt = :now, t.version = t.version + 1 " +
+           "WHERE t.id IN :ids")
+    int bulkUpdateStatus(@Param("ids") Collection<UUID> ids,
+                         @Param("status") TicketStatus status,
+                         @Param("now") Instant now);
+
+    /**
+     * 일괄 해결 처리 (요약이 없으면 기존 요약 유지)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Ticket t SET t.status = com.kohub.domain.ticket.entity.TicketStatus.RESOLVED, " +
+           "t.resolutionSummary = COALESCE(:summary, t.resolutionSummary), " +
+           "t.resolvedAt = :now, t.updatedAt = :now, t.version = t.version + 1 " +
+           "WHERE t.id IN :ids")
+    int bulkResolve(@Param("ids") Collection<UUID> ids,
+                    @Param("summary") String summary,
+                    @Param("now") Instant now);
+
+    /**
+     * 일괄 담당자 배정 (RECEIVED는 ASSIGNED로 전이)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Ticket t SET t.assigneeId = :assigneeId, " +
+           "t.status = CASE WHEN t.status = com.kohub.domain.ticket.entity.TicketStatus.RECEIVED " +
+           "THEN com.kohub.domain.ticket.entity.TicketStatus.ASSIGNED ELSE t.status END, " +
+           "t.updatedAt = :now, t.version = t.version + 1 " +
+           "WHERE t.id IN :ids")
+    int bulkAssign(@Param("ids") Collection<UUID> ids,
+                   @Param("assigneeId") UUID assigneeId,
+                   @Param("now") Instant now);
 }
@@ -0,0 +1,91 @@
+package com.kohub.domain.ticket.service;
+
+import com.kohub.domain.ticket.entity.TicketPriority;
+import com.kohub.domain.ticket.entity.TicketStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 종료 티켓 보관 서비스
+ *
+ * 보존 기간(retention-days)이 지난 CLOSED 티켓과 그 활동을 월 파티션 보관 테이블
+ * (tickets_archive, activities_archive)로 옮겨 활성 테이블과 인덱스를 작게 유지한다.
+ * 보관된 티켓은 기본 조회/통계 대상에서 빠지므로 카운터도 같은 트랜잭션에서 보정한다.
+ * PostgreSQL 전용 (kohub.partitioning.enabled=true일 때만 등록)
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(prefix = "kohub.partitioning", name = "enabled", havingValue = "true")
+public class TicketArchiveService {
+
+    private static final String ARCHIVE_SQL =
+            "SELECT ticket_priority, archived_count FROM kohub_archive_closed_tickets(?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TicketCounterService ticketCounterService;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final int batchSize;
+
+    public TicketArchiveService(
+            JdbcTemplate jdbcTemplate,
+            TicketCounterService ticketCounterService,
+            PlatformTransactionManager transactionManager,
+            @Value("${kohub.ticket.archive.retention-days:180}") int retentionDays,
+            @Value("${kohub.ticket.archive.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ticketCounterService = ticketCounterService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = Duration.ofDays(retentionDays);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * 보관 대상이 없을 때까지 배치 단위로 이동 (배치마다 트랜잭션 1개로 잠금 시간 제한)
+     * @return 이동한 티켓 수
+     */
+    @Scheduled(cron = "${kohub.ticket.archive.cron:0 0 4 * * *}")
+    public long archiveClosedTickets() {
+        Timestamp cutoff = Timestamp.from(Instant.now().minus(retention));
+        long total = 0;
+        while (true) {
+            Long archived = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            if (archived == null || archived == 0) {
+                break;
+            }
+            total += archived;
+            if (archived < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("종료 티켓 보관 완료: archived={}, cutoff={}", total, cutoff);
+        }
+        return total;
+    }
+
+    private long archiveBatch(Timestamp cutoff) {
+        Map<TicketPriority, Long> priorityDeltas = new EnumMap<>(TicketPriority.class);
+        jdbcTemplate.query(ARCHIVE_SQL, rs -> {
+            priorityDeltas.put(TicketPriority.valueOf(rs.getString(1)), -rs.getLong(2));
+        }, cutoff, batchSize);
+
+        long archived = -priorityDeltas.values().stream().mapToLong(Long::longValue).sum();
+        if (archived > 0) {
+            ticketCounterService.recordChanges(Map.of(TicketStatus.CLOSED, -archived), priorityDeltas);
+        }
+        return archived;
+    }
+}
@@ -0,0 +1,311 @@
+package com.kohub.domain.ticket.service;
+
+import com.kohub.common.exception.BusinessException;
+import com.kohub.common.exception.ErrorCode;
+import com.kohub.domain.ticket.dto.TicketBulkRequest;
+import com.kohub.domain.ticket.dto.TicketBulkResult;
+import com.kohub.domain.ticket.entity.ActivityType;
+import com.kohub.domain.ticket.entity.Ticket;
+import com.kohub.domain.ticket.entity.TicketStatus;
+import com.kohub.domain.ticket.event.TicketChangedEvent;
+import com.kohub.domain.ticket.event.TicketChangedEvent.ChangeType;
+import com.kohub.domain.ticket.repository.TicketRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * 티켓 일괄 처리 서비스
+ *
+ * 배치(batch-size) 단위로 트랜잭션을 나누고, 배치마다
+ * 1) 대상 행 잠금 조회 1회 → 메모리에서 상태 전이 검증
+ * 2) 집합 UPDATE 1회
+ * 3) 활동 기록 JDBC 배치 INSERT 1회
+ * 로 왕복 횟수를 티켓 수와 무관하게 유지한다. 검증 실패 티켓은 건별로 보고한다.
+ */
+@Service
+@Slf4j
+public class TicketBulkService {
+
+    private static final String INSERT_ACTIVITY_SQL =
+            "INSERT INTO activities (id, ticket_id, type, content, actor_id, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final TicketRepository ticketRepository;
+    private final TicketCounterService ticketCounterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxTickets;
+    private final int batchSize;
+
+    public TicketBulkService(
+            TicketRepository ticketRepository,
+            TicketCounterService ticketCounterService,
+            ApplicationEventPublisher eventPublisher,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${kohub.ticket.bulk.max-tickets:1000}") int maxTickets,
+            @Value("${kohub.ticket.bulk.batch-size:200}") int batchSize) {
+        this.ticketRepository = ticketRepository;
+        this.ticketCounterService = ticketCounterService;
+        this.eventPublisher = eventPublisher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxTickets = maxTickets;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * 일괄 담당자 배정 (완료/종료된 티켓은 건별 실패)
+     */
+    public TicketBulkResult assign(TicketBulkRequest request, UUID actorId) {
+        UUID assigneeId = request.getAssigneeId();
+        if (assigneeId == null) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "담당자 ID는 필수입니다");
+        }
+        return apply(request, actorId, new BulkOperation(
+                ChangeType.ASSIGNED,
+                ActivityType.ASSIGNMENT,
+                from -> from != TicketStatus.COMPLETED && from != TicketStatus.CLOSED,
+                from -> from == TicketStatus.RECEIVED ? TicketStatus.ASSIGNED : from,
+                from -> "담당자 배정",
+                (ids, now) -> ticketRepository.bulkAssign(ids, assigneeId, now),
+                assigneeId));
+    }
+
+    /**
+     * 일괄 상태 전이
+     */
+    public TicketBulkResult transition(TicketBulkRequest request, UUID actorId) {
+        if (request.getStatus() == null) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "전이할 상태는 필수입니다");
+        }
+        return transitionTo(request, request.getStatus(), actorId);
+    }
+
+    /**
+     * 일괄 종료
+     */
+    public TicketBulkResult close(TicketBulkRequest request, UUID actorId) {
+        return transitionTo(request, TicketStatus.CLOSED, actorId);
+    }
+
+    private TicketBulkResult transitionTo(TicketBulkRequest request, TicketStatus to, UUID actorId) {
+        String reason = request.getReason();
+        return apply(request, actorId, new BulkOperation(
+                ChangeType.STATUS_CHANGED,
+                ActivityType.STATUS_CHANGE,
+                from -> from.canTransitionTo(to),
+                from -> to,
+                from -> String.format("상태 변경: %s → %s%s", from, to,
+                        reason != null ? " (" + reason + ")" : ""),
+                (ids, now) -> to == TicketStatus.RESOLVED
+                        ? ticketRepository.bulkResolve(ids, null, now)
+                        : ticketRepository.bulkUpdateStatus(ids, to, now),
+                null));
+    }
+
+    /**
+     * 일괄 해결 처리
+     */
+    public TicketBulkResult resolve(TicketBulkRequest request, UUID actorId) {
+        String summary = request.getSummary();
+        if (summary == null || summary.isBlank()) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "해결 요약은 필수입니다");
+        }
+        return apply(request, actorId, new BulkOperation(
+                ChangeType.STATUS_CHANGED,
+                ActivityType.STATUS_CHANGE,
+                from -> from == TicketStatus.IN_PROGRESS || from == TicketStatus.PENDING,
+                from -> TicketStatus.RESOLVED,
+                from -> "해결 처리: " + summary,
+                (ids, now) -> ticketRepository.bulkResolve(ids, summary, now),
+                null));
+    }
+
+    private TicketBulkResult apply(TicketBulkRequest request, UUID actorId, BulkOperation operation) {
+        long startedAt = System.currentTimeMillis();
+        List<UUID> ids = resolveTargets(request);
+
+        List<UUID> updatedIds = new ArrayList<>(ids.size());
+        List<TicketBulkResult.Failure> failures = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            try {
+                ChunkResult result = transactionTemplate.execute(status -> applyChunk(chunk, actorId, operation));
+                updatedIds.addAll(result.updatedIds());
+                failures.addAll(result.failures());
+            } catch (BusinessException e) {
+                chunk.forEach(id -> failures.add(failure(id, e.getErrorCode(), e.getMessage())));
+            } catch (DataAccessException e) {
+                log.error("티켓 일괄 처리 배치 실패: size={}", chunk.size(), e);
+                chunk.forEach(id -> failures.add(failure(id, ErrorCode.INTERNAL_ERROR, ErrorCode.INTERNAL_ERROR.getMessage())));
+            }
+        }
+
+        log.info("티켓 일괄 처리 완료: type={}, requested={}, updated={}, failed={}",
+                operation.changeType(), ids.size(), updatedIds.size(), failures.size());
+        return TicketBulkResult.builder()
+                .requested(ids.size())
+                .succeeded(updatedIds.size())
+                .failed(failures.size())
+                .updatedIds(updatedIds)
+                .failures(failures)
+                .durationMs(System.currentTimeMillis() - startedAt)
+                .build();
+    }
+
+    /**
+     * 배치 처리 (트랜잭션 1개)
+     * 커밋에 실패하면 결과가 반영되지 않도록 호출자가 커밋 후 합친다.
+     */
+    private ChunkResult applyChunk(List<UUID> chunk, UUID actorId, BulkOperation operation) {
+        Map<UUID, Ticket> locked = new HashMap<>();
+        for (Ticket ticket : ticketRepository.findAllByIdForUpdate(chunk)) {
+            locked.put(ticket.getId(), ticket);
+        }
+
+        List<Ticket> targets = new ArrayList<>(chunk.size());
+        List<TicketBulkResult.Failure> failures = new ArrayList<>();
+        for (UUID id : chunk) {
+            Ticket ticket = locked.get(id);
+            if (ticket == null) {
+                failures.add(failure(id, ErrorCode.TICKET_NOT_FOUND, ErrorCode.TICKET_NOT_FOUND.getMessage()));
+            } else if (!operation.allowed().test(ticket.getStatus())) {
+                failures.add(failure(id, ErrorCode.TICKET_INVALID_STATUS_TRANSITION,
+                        ErrorCode.TICKET_INVALID_STATUS_TRANSITION.getMessage() + ": " + ticket.getStatus()));
+            } else {
+                targets.add(ticket);
+            }
+        }
+
+        if (targets.isEmpty()) {
+            return new ChunkResult(List.of(), failures);
+        }
+
+        // 일괄 UPDATE가 영속성 컨텍스트를 비우므로 변경 전 상태를 먼저 보관
+        List<UUID> targetIds = targets.stream().map(Ticket::getId).toList();
+        Instant now = Instant.now();
+
+        int updated = operation.update().apply(targetIds, now);
+        if (updated != targetIds.size()) {
+            throw new BusinessException(ErrorCode.TICKET_CONCURRENT_MODIFICATION);
+        }
+        insertActivities(targets, operation, actorId, now);
+        recordChanges(targets, operation);
+        return new ChunkResult(targetIds, failures);
+    }
+
+    private void insertActivities(Collection<Ticket> targets, BulkOperation operation, UUID actorId, Instant now) {
+        Timestamp createdAt = Timestamp.from(now);
+        List<Object[]> rows = new ArrayList<>(targets.size());
+        for (Ticket ticket : targets) {
+            rows.add(new Object[]{
+                    UUID.randomUUID(),
+                    ticket.getId(),
+                    operation.activityType().name(),
+                    operation.content().apply(ticket.getStatus()),
+                    actorId,
+                    createdAt
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_ACTIVITY_SQL, rows);
+    }
+
+    private void recordChanges(Collection<Ticket> targets, BulkOperation operation) {
+        Map<TicketStatus, Long> statusDeltas = new EnumMap<>(TicketStatus.class);
+        for (Ticket ticket : targets) {
+            TicketStatus from = ticket.getStatus();
+            TicketStatus to = operation.target().apply(from);
+            if (from != to) {
+                statusDeltas.merge(from, -1L, Long::sum);
+                statusDeltas.merge(to, 1L, Long::sum);
+            }
+            UUID assigneeId = operation.assigneeId() != null ? operation.assigneeId() : ticket.getAssigneeId();
+            eventPublisher.publishEvent(TicketChangedEvent.changed(
+                    ticket.getId(), operation.changeType(), from, to, ticket.getPriority(), assigneeId));
+        }
+        ticketCounterService.recordChanges(statusDeltas, Map.of());
+    }
+
+    /**
+     * 대상 ID 결정 (중복 제거, 최대 건수 제한)
+     */
+    private List<UUID> resolveTargets(TicketBulkRequest request) {
+        if (request.getTicketIds() != null && !request.getTicketIds().isEmpty()) {
+            List<UUID> ids = new ArrayList<>(new LinkedHashSet<>(request.getTicketIds()));
+            if (ids.size() > maxTickets) {
+                throw new BusinessException(ErrorCode.INVALID_REQUEST,
+                        String.format("한 번에 %d건까지 처리할 수 있습니다", maxTickets));
+            }
+            return ids;
+        }
+
+        TicketBulkRequest.Filter filter = request.getFilter();
+        String keyword = filter != null && filter.getKeyword() != null && !filter.getKeyword().isBlank()
+                ? filter.getKeyword() : null;
+        // 조건 없는 필터는 전체 티켓(최대 건수까지)을 고르므로 거부
+        if (filter == null || (filter.getStatus() == null && filter.getPriority() == null
+                && filter.getAssigneeId() == null && keyword == null)) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "티켓 ID 목록 또는 필터 조건을 지정해야 합니다");
+        }
+        List<UUID> ids = ticketRepository.findIdsByFilters(filter.getStatus(), filter.getPriority(),
+                filter.getAssigneeId(), keyword, Limit.of(maxTickets + 1));
+        if (ids.size() > maxTickets) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST,
+                    String.format("필터 대상이 최대 처리 건수(%d)를 초과합니다", maxTickets));
+        }
+        return ids;
+    }
+
+    private static TicketBulkResult.Failure failure(UUID ticketId, ErrorCode errorCode, String message) {
+        return TicketBulkResult.Failure.builder()
+                .ticketId(ticketId)
+                .code(errorCode.getCode())
+                .message(message)
+                .build();
+    }
+
+    /**
+     * 일괄 처리 유형별 정의
+     *
+     * @param allowed  현재 상태에서 처리 가능 여부 (메모리 검증)
+     * @param target   처리 후 상태
+     * @param content  활동 기록 내용 (변경 전 상태 기준)
+     * @param update   집합 UPDATE, 갱신 행 수 반환
+     * @param assigneeId 처리 후 담당자 (null이면 기존 담당자 유지)
+     */
+    private record BulkOperation(
+            ChangeType changeType,
+            ActivityType activityType,
+            Predicate<TicketStatus> allowed,
+            UnaryOperator<TicketStatus> target,
+            Function<TicketStatus, String> content,
+            BiFunction<List<UUID>, Instant, Integer> update,
+            UUID assigneeId) {
+    }
+
+    private record ChunkResult(List<UUID> updatedIds, List<TicketBulkResult.Failure> failures) {
+    }
+}
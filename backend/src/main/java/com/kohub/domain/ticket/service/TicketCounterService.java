@@ -0,0 +1,325 @@
+package com.kohub.domain.ticket.service;
+
+import com.kohub.domain.ticket.dto.TicketStatsResponse;
+import com.kohub.domain.ticket.entity.TicketCounter;
+import com.kohub.domain.ticket.entity.TicketPriority;
+import com.kohub.domain.ticket.entity.TicketStatus;
+import com.kohub.domain.ticket.repository.TicketCounterRepository;
+import com.kohub.domain.ticket.repository.TicketRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 티켓 건수 카운터 서비스
+ *
+ * 티켓 생성/상태 전이 시 ticket_counters 테이블을 같은 트랜잭션에서 증감하고,
+ * 커밋 후 메모리 카운터에 반영한다. 통계 조회는 메모리 값만 읽으므로 O(1).
+ * 메모리 카운터는 여러 스레드가 커밋마다 더하고 조회 때만 합하므로 LongAdder를 쓴다.
+ * 누락/중복 반영은 주기적 대사(reconcile)로 실제 건수에 맞춘다.
+ *
+ * 카운터 행 증감은 UPDATE 후 행이 없으면 INSERT ... ON CONFLICT DO UPDATE로 합산하므로 동시 생성도 중복 키 오류가 없다.
+ * 대사는 카운터 행을 잠그지 않고 한 스냅샷에서 저장 값과 실제 건수의 차이를 구해 그 차이만 증감으로 반영하고,
+ * 메모리 값은 저장된 행으로 다시 읽는다. 다시 읽는 동안에는 커밋 중인 트랜잭션이 없도록
+ * 커밋~메모리 반영 구간(읽기 잠금)과 다시 읽기(쓰기 잠금)를 배타로 두어 같은 증감이 두 번 더해지지 않는다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class TicketCounterService {
+
+    /** 대사끼리 직렬화하는 잠금 행 (통계 키가 아니므로 조회에는 쓰이지 않음) */
+    static final String RECONCILE_LOCK_KEY = "RECONCILE:LOCK";
+
+    private final TicketCounterRepository counterRepository;
+    private final TicketRepository ticketRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate snapshotTemplate;
+    private final TransactionTemplate readTemplate;
+
+    private final Map<TicketStatus, LongAdder> statusCounts = newCounters(TicketStatus.class);
+    private final Map<TicketPriority, LongAdder> priorityCounts = newCounters(TicketPriority.class);
+    private final ReadWriteLock commitLock = new ReentrantReadWriteLock();
+
+    public TicketCounterService(
+            TicketCounterRepository counterRepository,
+            TicketRepository ticketRepository,
+            PlatformTransactionManager transactionManager) {
+        this.counterRepository = counterRepository;
+        this.ticketRepository = ticketRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTemplate.setReadOnly(true);
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 티켓 생성 반영
+     */
+    @Transactional
+    public void recordCreated(TicketStatus status, TicketPriority priority) {
+        Map<TicketStatus, Long> statusDeltas = new EnumMap<>(TicketStatus.class);
+        Map<TicketPriority, Long> priorityDeltas = new EnumMap<>(TicketPriority.class);
+        statusDeltas.put(status, 1L);
+        priorityDeltas.put(priority, 1L);
+        recordChanges(statusDeltas, priorityDeltas);
+    }
+
+    /**
+     * 상태/우선순위 변경 반영 (변경이 없으면 무시)
+     */
+    @Transactional
+    public void recordChange(TicketStatus fromStatus, TicketStatus toStatus,
+                             TicketPriority fromPriority, TicketPriority toPriority) {
+        Map<TicketStatus, Long> statusDeltas = new EnumMap<>(TicketStatus.class);
+        Map<TicketPriority, Long> priorityDeltas = new EnumMap<>(TicketPriority.class);
+        if (fromStatus != toStatus) {
+            statusDeltas.merge(fromStatus, -1L, Long::sum);
+            statusDeltas.merge(toStatus, 1L, Long::sum);
+        }
+        if (fromPriority != toPriority) {
+            priorityDeltas.merge(fromPriority, -1L, Long::sum);
+            priorityDeltas.merge(toPriority, 1L, Long::sum);
+        }
+        recordChanges(statusDeltas, priorityDeltas);
+    }
+
+    /**
+     * 증감분 일괄 반영 (대량 처리용)
+     */
+    @Transactional
+    public void recordChanges(Map<TicketStatus, Long> statusDeltas, Map<TicketPriority, Long> priorityDeltas) {
+        Map<String, Long> keyDeltas = new TreeMap<>();
+        statusDeltas.forEach((status, delta) -> keyDeltas.merge(TicketCounter.statusKey(status), delta, Long::sum));
+        priorityDeltas.forEach((priority, delta) -> keyDeltas.merge(TicketCounter.priorityKey(priority), delta, Long::sum));
+        keyDeltas.values().removeIf(delta -> delta == 0);
+        if (keyDeltas.isEmpty()) {
+            return;
+        }
+
+        applyToRows(keyDeltas, Instant.now());
+        applyAfterCommit(() -> {
+            statusDeltas.forEach((status, delta) -> statusCounts.get(status).add(delta));
+            priorityDeltas.forEach((priority, delta) -> priorityCounts.get(priority).add(delta));
+        });
+    }
+
+    /**
+     * 티켓 통계 (메모리 카운터, O(1))
+     */
+    public TicketStatsResponse getStats() {
+        long total = 0;
+        for (LongAdder counter : statusCounts.values()) {
+            total += counter.sum();
+        }
+        return TicketStatsResponse.of(
+                total,
+                count(TicketStatus.NEW),
+                count(TicketStatus.IN_PROGRESS),
+                count(TicketStatus.PENDING),
+                count(TicketStatus.RESOLVED),
+                count(TicketStatus.COMPLETED),
+                count(TicketStatus.CLOSED),
+                count(TicketPriority.CRITICAL),
+                count(TicketPriority.HIGH)
+        );
+    }
+
+    public long count(TicketStatus status) {
+        return statusCounts.get(status).sum();
+    }
+
+    public long count(TicketPriority priority) {
+        return priorityCounts.get(priority).sum();
+    }
+
+    /**
+     * 기동 시 실제 건수로 카운터 초기화
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void initialize() {
+        reconcile();
+    }
+
+    /**
+     * 카운터 대사
+     * 1) 대사 잠금 행만 잠가 인스턴스 간 대사를 직렬화한다 (티켓 쓰기는 이 행을 건드리지 않음).
+     * 2) 별도 REPEATABLE READ 스냅샷에서 잠금 없이 저장 값과 GROUP BY 실제 건수를 읽는다.
+     *    카운터 증감은 티켓 변경과 같은 트랜잭션이므로 한 스냅샷 안의 차이는 동시 커밋과 무관한 실제 어긋남이다.
+     * 3) 어긋난 행에만 차이를 증감으로 반영하고 (그 사이 커밋된 증감을 덮어쓰지 않음), 커밋 후 메모리 값을 저장된 행으로 다시 읽는다.
+     */
+    @Scheduled(fixedDelayString = "${kohub.ticket.counters.reconcile-interval-ms:300000}",
+               initialDelayString = "${kohub.ticket.counters.reconcile-interval-ms:300000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void reconcile() {
+        Drift drift = transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            counterRepository.insertIfAbsent(RECONCILE_LOCK_KEY, 0, now);
+            counterRepository.findLockedByCounterKey(RECONCILE_LOCK_KEY);
+
+            Drift measured = snapshotTemplate.execute(snapshot -> measureDrift());
+            measured.missing().forEach(key -> counterRepository.insertIfAbsent(key, 0, now));
+            applyToRows(measured.deltas(), now);
+            return measured;
+        });
+        drift.deltas().forEach((key, delta) -> log.warn("티켓 카운터 보정: key={}, delta={}", key, delta));
+
+        reload();
+        log.debug("티켓 카운터 대사 완료: drifted={}", drift.deltas().size());
+    }
+
+    /**
+     * 대사 결과
+     * @param deltas  저장 값과 실제 건수의 차이 (차이가 있는 키만, 키 순서)
+     * @param missing 카운터 행이 없는 키 (0으로 생성 후 증감)
+     */
+    private record Drift(Map<String, Long> deltas, List<String> missing) {
+    }
+
+    /**
+     * 저장 값과 실제 건수의 차이
+     */
+    private Drift measureDrift() {
+        Map<String, Long> actual = new TreeMap<>();
+        for (TicketStatus status : TicketStatus.values()) {
+            actual.put(TicketCounter.statusKey(status), 0L);
+        }
+        for (TicketPriority priority : TicketPriority.values()) {
+            actual.put(TicketCounter.priorityKey(priority), 0L);
+        }
+        for (Object[] row : ticketRepository.countGroupByStatus()) {
+            actual.put(TicketCounter.statusKey((TicketStatus) row[0]), (Long) row[1]);
+        }
+        for (Object[] row : ticketRepository.countGroupByPriority()) {
+            actual.put(TicketCounter.priorityKey((TicketPriority) row[0]), (Long) row[1]);
+        }
+
+        Map<String, Long> stored = storedValues(counterRepository.findAll());
+        Map<String, Long> deltas = new TreeMap<>();
+        List<String> missing = new ArrayList<>();
+        actual.forEach((key, value) -> {
+            Long current = stored.get(key);
+            if (current == null) {
+                missing.add(key);
+            }
+            long delta = value - (current != null ? current : 0L);
+            if (delta != 0) {
+                deltas.put(key, delta);
+            }
+        });
+        return new Drift(deltas, missing);
+    }
+
+    /**
+     * 메모리 카운터를 저장된 행 값으로 재설정
+     * 쓰기 잠금 동안에는 커밋 중인(메모리 반영 전) 트랜잭션이 없으므로 읽은 값에 모든 커밋이 정확히 한 번 들어 있다.
+     */
+    private void reload() {
+        Lock lock = commitLock.writeLock();
+        lock.lock();
+        try {
+            Map<String, Long> stored = storedValues(readTemplate.execute(status -> counterRepository.findAll()));
+            statusCounts.forEach((status, counter) ->
+                    reset(counter, stored.getOrDefault(TicketCounter.statusKey(status), 0L)));
+            priorityCounts.forEach((priority, counter) ->
+                    reset(counter, stored.getOrDefault(TicketCounter.priorityKey(priority), 0L)));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 키 순서로 카운터 행 증감 (동시 트랜잭션 간 행 잠금 순서를 통일하여 교착 방지)
+     */
+    private void applyToRows(Map<String, Long> keyDeltas, Instant now) {
+        keyDeltas.forEach((key, delta) -> {
+            if (counterRepository.increment(key, delta, now) == 0) {
+                counterRepository.upsert(key, delta, now);
+            }
+        });
+    }
+
+    /**
+     * 커밋 후 메모리 반영 (커밋 직전부터 반영까지 읽기 잠금을 잡아 대사의 다시 읽기와 겹치지 않게 함)
+     */
+    private void applyAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Lock lock = commitLock.readLock();
+            lock.lock();
+            try {
+                action.run();
+            } finally {
+                lock.unlock();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean locked;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                commitLock.readLock().lock();
+                locked = true;
+            }
+
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (locked) {
+                    locked = false;
+                    commitLock.readLock().unlock();
+                }
+            }
+        });
+    }
+
+    private static Map<String, Long> storedValues(List<TicketCounter> counters) {
+        Map<String, Long> values = new HashMap<>();
+        counters.forEach(counter -> values.put(counter.getCounterKey(), counter.getValue()));
+        return values;
+    }
+
+    /**
+     * 쓰기 잠금 안에서만 호출 (동시에 더하는 스레드가 없음)
+     */
+    private static void reset(LongAdder counter, long value) {
+        counter.add(value - counter.sum());
+    }
+
+    private static <E extends Enum<E>> Map<E, LongAdder> newCounters(Class<E> type) {
+        Map<E, LongAdder> counters = new EnumMap<>(type);
+        for (E constant : type.getEnumConstants()) {
+            counters.put(constant, new LongAdder());
+        }
+        return counters;
+    }
+}
@@ -0,0 +1,268 @@
+package com.kohub.domain.ticket.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.kohub.domain.ticket.dto.TicketDetailResponse.ActivityResponse;
+import com.kohub.domain.ticket.dto.TicketExportFormat;
+import com.kohub.domain.ticket.dto.TicketResponse;
+import com.kohub.domain.ticket.entity.Activity;
+import com.kohub.domain.ticket.entity.Ticket;
+import com.kohub.domain.ticket.entity.TicketPriority;
+import com.kohub.domain.ticket.entity.TicketStatus;
+import com.kohub.domain.ticket.repository.ActivityRepository;
+import com.kohub.domain.ticket.repository.TicketRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 티켓 내보내기 서비스
+ *
+ * 목록 API와 같은 필터의 티켓을 서버 측 커서(fetch size 단위)로 앞으로만 읽으며 응답 스트림에 바로 쓴다.
+ * chunk-size건마다 활동을 한 번의 IN 조회로 붙이고 영속성 컨텍스트를 비우므로
+ * 전체 건수와 관계없이 메모리 사용량이 일정하다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class TicketExportService {
+
+    private final TicketRepository ticketRepository;
+    private final ActivityRepository activityRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public TicketExportService(
+            TicketRepository ticketRepository,
+            ActivityRepository activityRepository,
+            EntityManager entityManager,
+            ObjectMapper objectMapper,
+            @Value("${kohub.ticket.export.chunk-size:500}") int chunkSize) {
+        this.ticketRepository = ticketRepository;
+        this.activityRepository = activityRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * 필터 조건의 티켓 전체를 형식에 맞게 출력
+     * @return 내보낸 티켓 수
+     */
+    public long export(TicketExportFormat format, TicketStatus status, TicketPriority priority,
+                       UUID assigneeId, String keyword, boolean includeActivities,
+                       OutputStream out) throws IOException {
+        long started = System.currentTimeMillis();
+        long exported = 0;
+        try (Stream<Ticket> stream = ticketRepository.streamByFilters(status, priority, assigneeId, keyword);
+             ExportWriter writer = format == TicketExportFormat.CSV
+                     ? new CsvExportWriter(out, includeActivities)
+                     : new NdjsonExportWriter(objectMapper, out, includeActivities)) {
+            Iterator<Ticket> tickets = stream.iterator();
+            List<Ticket> chunk = new ArrayList<>(chunkSize);
+            while (tickets.hasNext()) {
+                chunk.add(tickets.next());
+                if (chunk.size() == chunkSize || !tickets.hasNext()) {
+                    writeChunk(writer, chunk, includeActivities);
+                    exported += chunk.size();
+                    chunk.clear();
+                    // 읽은 엔티티를 분리하여 영속성 컨텍스트가 커지지 않게 유지
+                    entityManager.clear();
+                }
+            }
+        }
+        log.info("티켓 내보내기 완료: format={}, tickets={}, activities={}, elapsedMs={}",
+                format, exported, includeActivities, System.currentTimeMillis() - started);
+        return exported;
+    }
+
+    private void writeChunk(ExportWriter writer, List<Ticket> chunk, boolean includeActivities) throws IOException {
+        Map<UUID, List<Activity>> activities = includeActivities ? loadActivities(chunk) : Map.of();
+        for (Ticket ticket : chunk) {
+            writer.write(ticket, activities.getOrDefault(ticket.getId(), List.of()));
+        }
+        writer.flush();
+    }
+
+    private Map<UUID, List<Activity>> loadActivities(List<Ticket> chunk) {
+        Map<UUID, List<Activity>> byTicket = new HashMap<>();
+        for (Activity activity : activityRepository.findByTicketIdsInOrder(chunk.stream().map(Ticket::getId).toList())) {
+            byTicket.computeIfAbsent(activity.getTicket().getId(), id -> new ArrayList<>()).add(activity);
+        }
+        return byTicket;
+    }
+
+    /**
+     * 형식별 출력
+     */
+    private interface ExportWriter extends AutoCloseable {
+        void write(Ticket ticket, List<Activity> activities) throws IOException;
+
+        void flush() throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    /**
+     * CSV (RFC 4180, 엑셀 한글 인식을 위해 UTF-8 BOM)
+     */
+    private static final class CsvExportWriter implements ExportWriter {
+
+        private static final String TICKET_HEADER = "id,title,status,priority,source,source_event_id,host_id,"
+                + "reporter_id,assignee_id,organization_id,created_at,updated_at,resolved_at,"
+                + "description,resolution_summary";
+        private static final String ACTIVITY_HEADER =
+                ",activity_id,activity_type,activity_actor_id,activity_created_at,activity_content";
+
+        private final Writer out;
+        private final boolean includeActivities;
+
+        CsvExportWriter(OutputStream stream, boolean includeActivities) throws IOException {
+            this.out = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), 64 * 1024);
+            this.includeActivities = includeActivities;
+            out.write('\uFEFF');
+            out.write(TICKET_HEADER);
+            if (includeActivities) {
+                out.write(ACTIVITY_HEADER);
+            }
+            out.write("\r\n");
+        }
+
+        @Override
+        public void write(Ticket ticket, List<Activity> activities) throws IOException {
+            if (!includeActivities || activities.isEmpty()) {
+                writeTicket(ticket);
+                if (includeActivities) {
+                    out.write(",,,,,");
+                }
+                out.write("\r\n");
+                return;
+            }
+            // 활동마다 1행 (티켓 컬럼 반복)
+            for (Activity activity : activities) {
+                writeTicket(ticket);
+                field(activity.getId(), true);
+                field(activity.getType(), true);
+                field(activity.getActorId(), true);
+                field(activity.getCreatedAt(), true);
+                field(activity.getContent(), true);
+                out.write("\r\n");
+            }
+        }
+
+        private void writeTicket(Ticket ticket) throws IOException {
+            field(ticket.getId(), false);
+            field(ticket.getTitle(), true);
+            field(ticket.getStatus(), true);
+            field(ticket.getPriority(), true);
+            field(ticket.getSource(), true);
+            field(ticket.getSourceEventId(), true);
+            field(ticket.getHostId(), true);
+            field(ticket.getReporterId(), true);
+            field(ticket.getAssigneeId(), true);
+            field(ticket.getOrganizationId(), true);
+            field(ticket.getCreatedAt(), true);
+            field(ticket.getUpdatedAt(), true);
+            field(ticket.getResolvedAt(), true);
+            field(ticket.getDescription(), true);
+            field(ticket.getResolutionSummary(), true);
+        }
+
+        private void field(Object value, boolean separator) throws IOException {
+            if (separator) {
+                out.write(',');
+            }
+            if (value != null) {
+                out.write(escape(Objects.toString(value)));
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
+
+    /**
+     * CSV 필드 이스케이프
+     * 구분자/따옴표/줄바꿈이 있으면 따옴표로 감싸고, 스프레드시트 수식으로 해석될 수 있는 값은 ' 를 앞에 붙인다.
+     */
+    static String escape(String value) {
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        return quote ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+
+    /**
+     * NDJSON (티켓 1줄, 활동 포함 시 activities 배열)
+     */
+    private static final class NdjsonExportWriter implements ExportWriter {
+
+        private final ObjectWriter writer;
+        private final JsonGenerator generator;
+        private final boolean includeActivities;
+
+        NdjsonExportWriter(ObjectMapper objectMapper, OutputStream out, boolean includeActivities) throws IOException {
+            this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            this.generator = objectMapper.getFactory().createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);
+            this.includeActivities = includeActivities;
+        }
+
+        @Override
+        public void write(Ticket ticket, List<Activity> activities) throws IOException {
+            List<ActivityResponse> activityResponses = includeActivities
+                    ? activities.stream().map(ActivityResponse::from).toList()
+                    : null;
+            writer.writeValue(generator, new NdjsonLine(TicketResponse.from(ticket), activityResponses));
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    private record NdjsonLine(
+            @JsonUnwrapped TicketResponse ticket,
+            @JsonInclude(JsonInclude.Include.NON_NULL) List<ActivityResponse> activities) {
+    }
+}
@@ -0,0 +1,137 @@
+package com.kohub.domain.ticket.service;
+
+import com.kohub.domain.assignment.service.TicketAutoAssigner;
+import com.kohub.domain.ticket.dto.TicketRequest;
+import com.kohub.domain.ticket.dto.TicketResponse;
+import com.kohub.domain.ticket.entity.Ticket;
+import com.kohub.domain.ticket.entity.TicketPriority;
+import com.kohub.domain.ticket.entity.TicketStatus;
+import com.kohub.domain.ticket.event.TicketChangedEvent;
+import com.kohub.domain.ticket.repository.TicketRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 티켓 일괄 수집 서비스 (알림 묶음 등 대량 생성용)
+ *
+ * 소스 이벤트 중복 확인을 한 번의 IN 조회로 처리하고, INSERT는 batch-size 단위 JDBC 배치로 전송한다.
+ * 카운터/이벤트와 같은 트랜잭션으로 커밋된다.
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class TicketIngestionService {
+
+    private final TicketRepository ticketRepository;
+    private final TicketCounterService ticketCounterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final TicketAutoAssigner autoAssigner;
+    private final int batchSize;
+
+    public TicketIngestionService(
+            TicketRepository ticketRepository,
+            TicketCounterService ticketCounterService,
+            ApplicationEventPublisher eventPublisher,
+            EntityManager entityManager,
+            TicketAutoAssigner autoAssigner,
+            @Value("${kohub.ticket.ingestion.batch-size:100}") int batchSize) {
+        this.ticketRepository = ticketRepository;
+        this.ticketCounterService = ticketCounterService;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.autoAssigner = autoAssigner;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * 티켓 일괄 생성
+     * 이미 등록되었거나 묶음 안에서 중복된 소스 이벤트는 건너뛴다.
+     * @return 새로 생성된 티켓
+     */
+    @Transactional
+    public List<TicketResponse> ingest(List<TicketRequest> requests, UUID reporterId) {
+        Set<String> seen = new HashSet<>();
+        for (TicketRequest request : requests) {
+            if (request.getSourceEventId() != null) {
+                seen.add(request.getSourceEventId());
+            }
+        }
+        if (!seen.isEmpty()) {
+            seen = new HashSet<>(ticketRepository.findExistingSourceEventIds(seen));
+        }
+
+        List<Ticket> tickets = new ArrayList<>(requests.size());
+        for (TicketRequest request : requests) {
+            String sourceEventId = request.getSourceEventId();
+            if (sourceEventId != null && !seen.add(sourceEventId)) {
+                log.debug("중복 이벤트 무시: sourceEventId={}", sourceEventId);
+                continue;
+            }
+            tickets.add(Ticket.builder()
+                    .title(request.getTitle())
+                    .description(request.getDescription())
+                    .source(request.getSource())
+                    .sourceEventId(sourceEventId)
+                    .priority(request.getPriority())
+                    .hostId(request.getHostId())
+                    .reporterId(reporterId)
+                    .organizationId(request.getOrganizationId())
+                    .status(TicketStatus.NEW)
+                    .build());
+        }
+        if (tickets.isEmpty()) {
+            return List.of();
+        }
+
+        insertAll(tickets);
+
+        // 자동 배정된 티켓은 ASSIGNED로 생성되므로 상태별로 센다
+        Map<TicketStatus, Long> statusDeltas = new EnumMap<>(TicketStatus.class);
+        Map<TicketPriority, Long> priorityDeltas = new EnumMap<>(TicketPriority.class);
+        for (Ticket ticket : tickets) {
+            statusDeltas.merge(ticket.getStatus(), 1L, Long::sum);
+            priorityDeltas.merge(ticket.getPriority(), 1L, Long::sum);
+            eventPublisher.publishEvent(TicketChangedEvent.created(ticket));
+        }
+        ticketCounterService.recordChanges(statusDeltas, priorityDeltas);
+
+        log.info("티켓 일괄 생성 완료: requested={}, created={}", requests.size(), tickets.size());
+        return tickets.stream().map(TicketResponse::from).toList();
+    }
+
+    /**
+     * batch-size 단위로 flush/clear하여 영속성 컨텍스트 크기를 일정하게 유지
+     * (호출 시점에 관리 중이던 다른 엔티티도 준영속이 되므로 수집 전용 트랜잭션에서 사용)
+     * 자동 배정은 앞서 배정한 티켓의 부하를 트랜잭션 안에서 더해 고르므로 묶음 안에서도 분산되고, 색인에는 커밋 후 반영된다.
+     */
+    private void insertAll(List<Ticket> tickets) {
+        Session session = entityManager.unwrap(Session.class);
+        session.setJdbcBatchSize(batchSize);
+        for (int i = 0; i < tickets.size(); i++) {
+            Ticket ticket = tickets.get(i);
+            autoAssigner.assign(ticket);
+            session.persist(ticket);
+            autoAssigner.track(ticket);
+            if ((i + 1) % batchSize == 0) {
+                session.flush();
+                session.clear();
+            }
+        }
+        session.flush();
+        session.clear();
+    }
+}
@@ -2,21 +2,39 @@ package com.kohub.domain.ticket.service;
 
 import com.kohub.common.exception.BusinessException;
 import com.kohub.common.exception.ErrorCode;
+import com.kohub.common.pagination.CursorCodec;
+import com.kohub.common.pagination.CursorPage;
+import com.kohub.common.pagination.RowCountEstimator;
+import com.kohub.common.persistence.OptimisticLockRetry;
+import com.kohub.domain.assignment.service.TicketAutoAssigner;
 import com.kohub.domain.ticket.dto.TicketDetailResponse;
+import com.kohub.domain.ticket.dto.TicketDetailResponse.ActivityResponse;
 import com.kohub.domain.ticket.dto.TicketRequest;
 import com.kohub.domain.ticket.dto.TicketResponse;
 import com.kohub.domain.ticket.dto.TicketStatsResponse;
+import com.kohub.domain.ticket.entity.Activity;
+import com.kohub.domain.ticket.entity.ActivityType;
 import com.kohub.domain.ticket.entity.Ticket;
 import com.kohub.domain.ticket.entity.TicketPriority;
 import com.kohub.domain.ticket.entity.TicketStatus;
+import com.kohub.domain.ticket.event.TicketChangedEvent;
+import com.kohub.domain.ticket.event.TicketChangedEvent.ChangeType;
+import com.kohub.domain.ticket.repository.ActivityRepository;
 import com.kohub.domain.ticket.repository.TicketRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -28,7 +46,20 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class TicketService {
 
+    private static final String OPEN_CURSOR = "open";
+    private static final String LIST_CURSOR = "list";
+    private static final String ACTIVITY_CURSOR = "activity";
+
+    /** 상세 응답에 포함할 최근 활동 수 */
+    static final int DETAIL_ACTIVITY_LIMIT = 20;
+
     private final TicketRepository ticketRepository;
+    private final ActivityRepository activityRepository;
+    private final RowCountEstimator rowCountEstimator;
+    private final TicketCounterService ticketCounterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OptimisticLockRetry optimisticLockRetry;
+    private final TicketAutoAssigner autoAssigner;
 
     /**
      * 티켓 생성
@@ -55,9 +86,13 @@ public class TicketService {
                 .organizationId(request.getOrganizationId())
                 .status(TicketStatus.NEW)
                 .build();
+        autoAssigner.assign(ticket);
 
         Ticket saved = ticketRepository.save(ticket);
-        log.info("티켓 생성 완료: id={}, title={}", saved.getId(), saved.getTitle());
+        autoAssigner.track(saved);
+        ticketCounterService.recordCreated(saved.getStatus(), saved.getPriority());
+        eventPublisher.publishEvent(TicketChangedEvent.created(saved));
+        log.info("티켓 생성 완료: id={}, title={}, assigneeId={}", saved.getId(), saved.getTitle(), saved.getAssigneeId());
 
         return TicketResponse.from(saved);
     }
@@ -67,7 +102,32 @@ public class TicketService {
      */
     public TicketDetailResponse getById(UUID id) {
         Ticket ticket = findTicketById(id);
-        return TicketDetailResponse.from(ticket);
+        List<Activity> latest = activityRepository.findLatest(id, Limit.of(DETAIL_ACTIVITY_LIMIT + 1));
+        TicketDetailResponse response = TicketDetailResponse.from(ticket, latest, DETAIL_ACTIVITY_LIMIT);
+        if (response.isHasMoreActivities()) {
+            Activity oldest = latest.get(DETAIL_ACTIVITY_LIMIT - 1);
+            response.setActivityCursor(CursorCodec.encode(ACTIVITY_CURSOR, oldest.getCreatedAt(), oldest.getId()));
+        }
+        return response;
+    }
+
+    /**
+     * 활동 타임라인 (키셋 페이지네이션, 최신순)
+     */
+    public CursorPage<ActivityResponse> getActivities(UUID id, String cursor, int size) {
+        if (!ticketRepository.existsById(id)) {
+            throw new BusinessException(ErrorCode.TICKET_NOT_FOUND);
+        }
+        Limit limit = Limit.of(size + 1);
+        List<Activity> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = activityRepository.findLatest(id, limit);
+        } else {
+            String[] keys = CursorCodec.decode(cursor, ACTIVITY_CURSOR, 2);
+            rows = activityRepository.findBefore(id, parseInstant(keys[0]), parseUuid(keys[1]), limit);
+        }
+        return CursorPage.of(rows, size, last -> CursorCodec.encode(ACTIVITY_CURSOR, last.getCreatedAt(), last.getId()))
+                .map(ActivityResponse::from);
     }
 
     /**
@@ -87,94 +147,235 @@ public class TicketService {
         return tickets.map(TicketResponse::from);
     }
 
+    /**
+     * 티켓 목록 조회 (COUNT 없음)
+     */
+    public Slice<TicketResponse> getSlice(TicketStatus status, TicketPriority priority,
+                                          UUID assigneeId, String keyword, Pageable pageable) {
+        return ticketRepository.sliceByFilters(status, priority, assigneeId, keyword, pageable)
+                .map(TicketResponse::from);
+    }
+
+    /**
+     * 미완료 티켓 목록 (COUNT 없음)
+     */
+    public Slice<TicketResponse> getOpenTicketsSlice(Pageable pageable) {
+        return ticketRepository.sliceOpenTickets(pageable).map(TicketResponse::from);
+    }
+
+    /**
+     * 티켓 전문 검색 (관련도순, COUNT 없음)
+     */
+    public Slice<TicketResponse> search(String keyword, TicketStatus status, TicketPriority priority,
+                                        UUID assigneeId, Pageable pageable) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "검색어를 입력해주세요");
+        }
+        String normalized = keyword.strip();
+        return ticketRepository.search(
+                        normalized,
+                        toLikePattern(normalized),
+                        status != null ? status.name() : null,
+                        priority != null ? priority.name() : null,
+                        assigneeId,
+                        PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()))
+                .map(TicketResponse::from);
+    }
+
+    /**
+     * 티켓 목록 추정 건수
+     * 필터가 없으면 테이블 통계, 있으면 캐시된 COUNT
+     */
+    public long estimateCount(TicketStatus status, TicketPriority priority, UUID assigneeId, String keyword) {
+        if (status == null && priority == null && assigneeId == null && keyword == null) {
+            return rowCountEstimator.estimateTable("tickets", ticketRepository::count);
+        }
+        return rowCountEstimator.cached(
+                "tickets:" + status + ":" + priority + ":" + assigneeId + ":" + keyword,
+                () -> ticketRepository.countByFilters(status, priority, assigneeId, keyword));
+    }
+
+    /**
+     * 미완료 티켓 추정 건수 (상태 카운터 기반)
+     */
+    public long estimateOpenCount() {
+        TicketStatsResponse stats = ticketCounterService.getStats();
+        return stats.getTotal() - stats.getClosed() - stats.getCompleted();
+    }
+
+    /**
+     * 티켓 목록 조회 (키셋 페이지네이션)
+     * 정렬: 최신순 (created_at DESC, id DESC), 깊은 페이지도 첫 페이지와 같은 비용
+     */
+    public CursorPage<TicketResponse> getListByCursor(TicketStatus status, TicketPriority priority,
+                                                      UUID assigneeId, String keyword, String cursor, int size) {
+        Limit limit = Limit.of(size + 1);
+        List<Ticket> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = ticketRepository.findByFiltersFirst(status, priority, assigneeId, keyword, limit);
+        } else {
+            String[] keys = CursorCodec.decode(cursor, LIST_CURSOR, 2);
+            rows = ticketRepository.findByFiltersAfter(status, priority, assigneeId, keyword,
+                    parseInstant(keys[0]), parseUuid(keys[1]), limit);
+        }
+        return CursorPage.of(rows, size, last -> CursorCodec.encode(LIST_CURSOR, last.getCreatedAt(), last.getId()))
+                .map(TicketResponse::from);
+    }
+
+    /**
+     * 미완료 티켓 목록 (키셋 페이지네이션)
+     * 정렬: 우선순위 → 최신순 (priority_rank, created_at DESC, id DESC)
+     */
+    public CursorPage<TicketResponse> getOpenTicketsByCursor(String cursor, int size) {
+        Limit limit = Limit.of(size + 1);
+        List<Ticket> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = ticketRepository.findOpenTicketsFirst(limit);
+        } else {
+            String[] keys = CursorCodec.decode(cursor, OPEN_CURSOR, 3);
+            rows = ticketRepository.findOpenTicketsAfter(
+                    parseRank(keys[0]), parseInstant(keys[1]), parseUuid(keys[2]), limit);
+        }
+        return CursorPage.of(rows, size, last -> CursorCodec.encode(OPEN_CURSOR,
+                        last.getPriority().getRank(), last.getCreatedAt(), last.getId()))
+                .map(TicketResponse::from);
+    }
+
     /**
      * 티켓 수정
+     * 동시 수정 충돌 시 최신 상태로 재시도 (이하 상태 변경 동일)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public TicketResponse update(UUID id, TicketRequest request) {
-        Ticket ticket = findTicketById(id);
+        return optimisticLockRetry.execute("ticket.update", () -> {
+            Ticket ticket = findTicketById(id);
+            TicketPriority fromPriority = ticket.getPriority();
 
-        ticket.update(
-                request.getTitle(),
-                request.getDescription(),
-                request.getPriority()
-        );
+            ticket.update(
+                    request.getTitle(),
+                    request.getDescription(),
+                    request.getPriority()
+            );
+            recordChange(ticket, ChangeType.UPDATED, ticket.getStatus(), fromPriority);
 
-        log.info("티켓 수정 완료: id={}", id);
-        return TicketResponse.from(ticket);
+            log.info("티켓 수정 완료: id={}", id);
+            return TicketResponse.from(ticket);
+        });
     }
 
     /**
      * 티켓 접수
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public TicketResponse receive(UUID id, UUID actorId) {
-        Ticket ticket = findTicketById(id);
-        ticket.receive(actorId);
-        log.info("티켓 접수 완료: id={}", id);
-        return TicketResponse.from(ticket);
+        return optimisticLockRetry.execute("ticket.receive", () -> {
+            Ticket ticket = findTicketById(id);
+            TicketStatus fromStatus = ticket.getStatus();
+            ticket.receive(actorId);
+            recordChange(ticket, ChangeType.STATUS_CHANGED, fromStatus, ticket.getPriority());
+            log.info("티켓 접수 완료: id={}", id);
+            return TicketResponse.from(ticket);
+        });
     }
 
     /**
      * 담당자 배정
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public TicketResponse assign(UUID id, UUID assigneeId, UUID actorId) {
-        Ticket ticket = findTicketById(id);
-        ticket.assign(assigneeId, actorId);
-        log.info("담당자 배정 완료: ticketId={}, assigneeId={}", id, assigneeId);
-        return TicketResponse.from(ticket);
+        return optimisticLockRetry.execute("ticket.assign", () -> {
+            Ticket ticket = findTicketById(id);
+            TicketStatus fromStatus = ticket.getStatus();
+            ticket.assign(assigneeId, actorId);
+            recordChange(ticket, ChangeType.ASSIGNED, fromStatus, ticket.getPriority());
+            log.info("담당자 배정 완료: ticketId={}, assigneeId={}", id, assigneeId);
+            return TicketResponse.from(ticket);
+        });
     }
 
     /**
      * 상태 전이
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public TicketResponse transition(UUID id, TicketStatus newStatus, String reason, UUID actorId) {
-        Ticket ticket = findTicketById(id);
-        ticket.transitionTo(newStatus, reason, actorId);
-        log.info("상태 전이 완료: id={}, status={}", id, newStatus);
-        return TicketResponse.from(ticket);
+        return optimisticLockRetry.execute("ticket.transition", () -> {
+            Ticket ticket = findTicketById(id);
+            TicketStatus fromStatus = ticket.getStatus();
+            ticket.transitionTo(newStatus, reason, actorId);
+            recordChange(ticket, ChangeType.STATUS_CHANGED, fromStatus, ticket.getPriority());
+            log.info("상태 전이 완료: id={}, status={}", id, newStatus);
+            return TicketResponse.from(ticket);
+        });
     }
 
     /**
      * 해결 처리
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public TicketResponse resolve(UUID id, String resolutionSummary, UUID actorId) {
-        Ticket ticket = findTicketById(id);
-        ticket.resolve(resolutionSummary, actorId);
-        log.info("티켓 해결 완료: id={}", id);
-        return TicketResponse.from(ticket);
+        return optimisticLockRetry.execute("ticket.resolve", () -> {
+            Ticket ticket = findTicketById(id);
+            TicketStatus fromStatus = ticket.getStatus();
+            ticket.resolve(resolutionSummary, actorId);
+            recordChange(ticket, ChangeType.STATUS_CHANGED, fromStatus, ticket.getPriority());
+            log.info("티켓 해결 완료: id={}", id);
+            return TicketResponse.from(ticket);
+        });
     }
 
     /**
      * 코멘트 추가
      */
     @Transactional
-    public TicketDetailResponse addComment(UUID id, String content, UUID actorId) {
+    public ActivityResponse addComment(UUID id, String content, UUID actorId) {
         Ticket ticket = findTicketById(id);
-        ticket.addComment(content, actorId);
+        // 활동 컬렉션을 거치지 않고 직접 저장 (기존 이력 로딩 없음)
+        Activity comment = activityRepository.save(Activity.builder()
+                .ticket(ticket)
+                .type(ActivityType.COMMENT)
+                .content(content)
+                .actorId(actorId)
+                .build());
+        eventPublisher.publishEvent(TicketChangedEvent.of(ticket, ChangeType.COMMENTED, ticket.getStatus()));
         log.info("코멘트 추가: ticketId={}", id);
-        return TicketDetailResponse.from(ticket);
+        return ActivityResponse.from(comment);
+    }
+
+    /**
+     * 우선순위 상향 (연관 알림 등 시스템 처리, 호출자 트랜잭션에서 조회한 티켓)
+     * 더 높은 우선순위일 때만 바꾸고 에스컬레이션 활동과 PRIORITY_CHANGED 이벤트를 남긴다.
+     * @return 상향되었으면 true
+     */
+    @Transactional
+    public boolean raisePriority(Ticket ticket, TicketPriority priority, String reason) {
+        TicketPriority fromPriority = ticket.getPriority();
+        if (!ticket.raisePriority(priority)) {
+            return false;
+        }
+        activityRepository.save(Activity.builder()
+                .ticket(ticket)
+                .type(ActivityType.ESCALATION)
+                .content("우선순위 상향: " + fromPriority + " → " + priority + " (" + reason + ")")
+                .build());
+        recordChange(ticket, ChangeType.PRIORITY_CHANGED, ticket.getStatus(), fromPriority);
+        log.info("티켓 우선순위 상향: id={}, {} -> {}", ticket.getId(), fromPriority, priority);
+        return true;
     }
 
     /**
-     * 티켓 통계 (단일 쿼리 최적화)
+     * 티켓 통계 (이벤트 기반 카운터, 이력 규모와 무관하게 O(1))
      */
     public TicketStatsResponse getStats() {
-        var stats = ticketRepository.getStats();
-        return TicketStatsResponse.of(
-                toLong(stats.get("total")),
-                toLong(stats.get("newCount")),
-                toLong(stats.get("inProgress")),
-                toLong(stats.get("pending")),
-                toLong(stats.get("resolved")),
-                toLong(stats.get("completed")),
-                toLong(stats.get("closed")),
-                toLong(stats.get("critical")),
-                toLong(stats.get("high"))
-        );
+        return ticketCounterService.getStats();
+    }
+
+    /**
+     * 변경 반영: 카운터 증감 + 변경 이벤트 발행 (같은 트랜잭션)
+     */
+    private void recordChange(Ticket ticket, ChangeType changeType,
+                              TicketStatus fromStatus, TicketPriority fromPriority) {
+        ticketCounterService.recordChange(fromStatus, ticket.getStatus(), fromPriority, ticket.getPriority());
+        eventPublisher.publishEvent(TicketChangedEvent.changed(ticket, changeType, fromStatus));
     }
 
     private Ticket findTicketById(UUID id) {
@@ -182,7 +383,38 @@ public class TicketService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.TICKET_NOT_FOUND));
     }
     
-    private long toLong(Object value) {
-        return value == null ? 0L : ((Number) value).longValue();
+    /**
+     * 부분 일치 LIKE 패턴 (소문자, 와일드카드 이스케이프)
+     */
+    private String toLikePattern(String keyword) {
+        String escaped = keyword.toLowerCase()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    private Instant parseInstant(String value) {
+        try {
+            return Instant.parse(value);
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "유효하지 않은 커서입니다");
+        }
+    }
+
+    private UUID parseUuid(String value) {
+        try {
+            return UUID.fromString(value);
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "유효하지 않은 커서입니다");
+        }
+    }
+
+    private short parseRank(String value) {
+        try {
+            return Short.parseShort(value);
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "유효하지 않은 커서입니다");
+        }
     }
 }
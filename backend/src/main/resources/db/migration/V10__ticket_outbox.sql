@@ -0,0 +1,25 @@
+-- V10: 티켓 도메인 이벤트 트랜잭션 아웃박스
+--
+-- 티켓 변경 트랜잭션 안에서 이벤트 행을 함께 기록하고, 릴레이가 별도 트랜잭션에서 꺼내
+-- 알림 등 후속 소비자에게 전달한 뒤 삭제한다 (at-least-once).
+-- 전달 중인 행은 available_at을 임대 만료 시각으로 미뤄 다른 인스턴스가 가져가지 않게 하고,
+-- 실패하면 attempts에 따라 재시도 시각을 늦춘다. 최대 시도 수를 넘긴 행은 남겨 두어 확인할 수 있게 한다.
+
+CREATE TABLE ticket_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    ticket_id UUID NOT NULL,
+    change_type VARCHAR(20) NOT NULL,
+    previous_status VARCHAR(20),
+    status VARCHAR(20) NOT NULL,
+    priority VARCHAR(20),
+    organization_id UUID,
+    occurred_at TIMESTAMP NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    available_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    last_error VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX idx_ticket_outbox_available ON ticket_outbox (available_at, id);
+
+COMMENT ON TABLE ticket_outbox IS '티켓 이벤트 아웃박스 (전달 후 삭제)';
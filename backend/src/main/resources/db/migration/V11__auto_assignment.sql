@@ -0,0 +1,7 @@
+-- V11: 티켓 자동 배정
+-- 아웃박스 이벤트에 변경 후 담당자를 기록하고, 운영자 부하 대사(담당자가 있는 미종료 티켓 id 순 스캔)용 부분 인덱스를 둔다.
+
+ALTER TABLE ticket_outbox ADD COLUMN assignee_id UUID;
+
+CREATE INDEX idx_tickets_open_assigned ON tickets (id) INCLUDE (assignee_id, priority)
+    WHERE assignee_id IS NOT NULL AND status NOT IN ('RESOLVED', 'COMPLETED', 'CLOSED');
@@ -0,0 +1,7 @@
+-- V12: 활동 유형에 CORRELATED_ALERT 추가 (상위 인시던트 티켓에 묶인 웹훅 알림)
+
+ALTER TABLE activities DROP CONSTRAINT IF EXISTS activities_type_check;
+
+ALTER TABLE activities ADD CONSTRAINT activities_type_check
+    CHECK (type IN ('STATUS_CHANGE', 'COMMENT', 'ASSIGNMENT', 'TERMINAL_ACCESS', 'PRIORITY_CHANGE', 'ESCALATION',
+                    'CORRELATED_ALERT'));
@@ -0,0 +1,13 @@
+-- V13: 호스트 타임라인 소스별 키셋 조회 인덱스
+-- 각 소스는 (시각 DESC, id DESC) 순서로 다음 페이지 크기만큼만 읽는다
+
+CREATE INDEX idx_tickets_host_created ON tickets(host_id, created_at DESC, id DESC);
+
+-- host_id 단일 인덱스는 위 인덱스의 선두 컬럼으로 대체
+DROP INDEX IF EXISTS idx_tickets_host;
+
+CREATE INDEX idx_terminal_logs_host_started ON terminal_logs(host_id, started_at DESC, id DESC);
+
+-- 호스트 알림은 수신자별로 팬아웃되므로 수신자 + 호스트 기준
+CREATE INDEX idx_notifications_host_recipient_created ON notifications(entity_id, recipient_id, created_at DESC, id DESC)
+    WHERE entity_type = 'host';
@@ -0,0 +1,23 @@
+-- V14: 티켓 키워드 (제목/설명 정규화 키워드, 생성/수정 시 애플리케이션에서 계산)
+-- 유사 티켓 색인은 이 테이블만 읽고 티켓 텍스트를 다시 토큰화하지 않는다
+
+CREATE TABLE ticket_keywords (
+    ticket_id UUID NOT NULL REFERENCES tickets(id) ON DELETE CASCADE,
+    keyword VARCHAR(100) NOT NULL,
+    PRIMARY KEY (ticket_id, keyword)
+);
+
+CREATE INDEX idx_ticket_keywords_keyword ON ticket_keywords(keyword, ticket_id);
+
+-- 기존 티켓 백필 (KeywordExtractor와 같은 규칙: 소문자, 영숫자/한글 외 공백 처리, 2~100자, 불용어 제외)
+INSERT INTO ticket_keywords (ticket_id, keyword)
+SELECT DISTINCT t.id, w.keyword
+FROM tickets t
+CROSS JOIN LATERAL regexp_split_to_table(
+        regexp_replace(lower(t.title || ' ' || COALESCE(t.description, '')),
+                       '[^a-z0-9가-힣[:space:]]', ' ', 'g'),
+        '[[:space:]]+') AS w(keyword)
+WHERE length(w.keyword) BETWEEN 2 AND 100
+  AND w.keyword NOT IN ('은', '는', '이', '가', '을', '를', '의', '에', '에서', '으로', '로',
+                        'a', 'an', 'the', 'is', 'are', 'was', 'were', 'be', 'been',
+                        'and', 'or', 'not', 'for', 'to', 'of', 'in', 'on', 'at');
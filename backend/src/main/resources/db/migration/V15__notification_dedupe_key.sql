@@ -0,0 +1,19 @@
+-- V15: 알림 중복 제거 키 (아웃박스 이벤트 재전달 시 같은 알림을 다시 만들지 않음)
+-- 아웃박스 릴레이 경로의 알림은 "outbox:{이벤트 id}"를 키로 수신자/채널마다 한 건만 생성한다
+-- notifications는 created_at 월 RANGE 파티션(V8)이라 파티션 키가 빠진 유니크 제약을 둘 수 없으므로
+-- (키, 수신자, 채널) 유일성은 파티션하지 않는 notification_dedupe의 기본 키로 보장한다
+
+ALTER TABLE notifications ADD COLUMN dedupe_key VARCHAR(100);
+
+-- 키로 대기/실패 알림 조회 (릴레이 커밋 후 발송)
+CREATE INDEX idx_notifications_dedupe_key ON notifications(dedupe_key) WHERE dedupe_key IS NOT NULL;
+
+CREATE TABLE notification_dedupe (
+    dedupe_key VARCHAR(100) NOT NULL,
+    recipient_id UUID NOT NULL,
+    channel VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (dedupe_key, recipient_id, channel)
+);
+
+COMMENT ON TABLE notification_dedupe IS '알림 중복 제거 키 (키, 수신자, 채널당 알림 한 건, 알림과 같은 트랜잭션에서 선점)';
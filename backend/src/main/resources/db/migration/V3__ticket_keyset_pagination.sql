@@ -0,0 +1,19 @@
+-- V3: 티켓 키셋(커서) 페이지네이션
+
+-- 우선순위 정렬 순위 (CRITICAL=1 ... LOW=4)
+ALTER TABLE tickets ADD COLUMN priority_rank SMALLINT NOT NULL DEFAULT 3;
+
+UPDATE tickets SET priority_rank = CASE priority
+    WHEN 'CRITICAL' THEN 1
+    WHEN 'HIGH' THEN 2
+    WHEN 'MEDIUM' THEN 3
+    ELSE 4
+END;
+
+-- 미완료 티켓 큐: (priority_rank, created_at DESC, id DESC) 시크
+CREATE INDEX idx_tickets_open_keyset ON tickets(priority_rank, created_at DESC, id DESC)
+    WHERE status NOT IN ('CLOSED', 'COMPLETED');
+
+-- 전체 목록: (created_at DESC, id DESC) 시크 (기존 created_at 단일 인덱스 대체)
+CREATE INDEX idx_tickets_created_keyset ON tickets(created_at DESC, id DESC);
+DROP INDEX IF EXISTS idx_tickets_created;
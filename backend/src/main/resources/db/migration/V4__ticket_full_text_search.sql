@@ -0,0 +1,19 @@
+-- V4: 티켓 전문 검색
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- 단어 단위 검색: 제목(A) > 설명(B) > 해결 요약(C) 가중치
+-- 한국어 형태소 사전이 없으므로 'simple' 구성 사용 (공백 단위 토큰)
+ALTER TABLE tickets ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B') ||
+        setweight(to_tsvector('simple', coalesce(resolution_summary, '')), 'C')
+    ) STORED;
+
+CREATE INDEX idx_tickets_search_vector ON tickets USING GIN (search_vector);
+
+-- 부분 문자열 검색 (조사가 붙은 한국어 등): LOWER(col) LIKE '%키워드%' 를 trigram 인덱스로 처리
+CREATE INDEX idx_tickets_title_trgm ON tickets USING GIN (lower(title) gin_trgm_ops);
+CREATE INDEX idx_tickets_description_trgm ON tickets USING GIN (lower(description) gin_trgm_ops);
+CREATE INDEX idx_tickets_resolution_trgm ON tickets USING GIN (lower(resolution_summary) gin_trgm_ops);
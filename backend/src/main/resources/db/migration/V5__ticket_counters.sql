@@ -0,0 +1,14 @@
+-- V5: 티켓 상태/우선순위 카운터
+
+CREATE TABLE ticket_counters (
+    counter_key VARCHAR(50) PRIMARY KEY,
+    counter_value BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+-- 기존 티켓으로 초기값 적재
+INSERT INTO ticket_counters (counter_key, counter_value)
+SELECT 'STATUS:' || status, COUNT(*) FROM tickets GROUP BY status;
+
+INSERT INTO ticket_counters (counter_key, counter_value)
+SELECT 'PRIORITY:' || priority, COUNT(*) FROM tickets GROUP BY priority;
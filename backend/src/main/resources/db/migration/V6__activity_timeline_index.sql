@@ -0,0 +1,6 @@
+-- V6: 티켓 활동 타임라인 키셋 조회 인덱스
+
+CREATE INDEX idx_activities_ticket_created ON activities(ticket_id, created_at DESC, id DESC);
+
+-- ticket_id 단일 인덱스는 위 인덱스의 선두 컬럼으로 대체
+DROP INDEX IF EXISTS idx_activities_ticket;
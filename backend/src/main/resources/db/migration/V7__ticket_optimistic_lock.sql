@@ -0,0 +1,3 @@
+-- V7: 티켓 낙관적 잠금 버전 컬럼
+
+ALTER TABLE tickets ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,183 @@
+-- V8: 월 단위 시간 파티셔닝 + 종료 티켓 보관(archive) 계층
+--
+-- activities / notifications: created_at 기준 월 RANGE 파티션
+-- tickets: 여러 테이블이 id로 참조하므로 파티션 대신 오래된 CLOSED 티켓을
+--          월 파티션 보관 테이블(tickets_archive, activities_archive, lz4 압축)로 이동해 활성 테이블을 작게 유지
+-- 파티션은 앱의 파티션 관리 작업이 kohub_ensure_monthly_partitions()로 미리 생성한다.
+
+-- 1. 월 파티션 생성 함수 (from_month부터 현재 + months_ahead 개월까지, 이미 있으면 건너뜀)
+CREATE OR REPLACE FUNCTION kohub_ensure_monthly_partitions(parent TEXT, from_month DATE, months_ahead INT)
+RETURNS INT
+LANGUAGE plpgsql AS $$
+DECLARE
+    month_start DATE := date_trunc('month', COALESCE(from_month, now()))::DATE;
+    last_month DATE := (date_trunc('month', now()) + make_interval(months => months_ahead))::DATE;
+    partition_name TEXT;
+    created INT := 0;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        partition_name := parent || '_' || to_char(month_start, 'YYYYMM');
+        IF to_regclass(partition_name) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                           partition_name, parent, month_start, (month_start + INTERVAL '1 month')::DATE);
+            created := created + 1;
+        END IF;
+        month_start := (month_start + INTERVAL '1 month')::DATE;
+    END LOOP;
+    RETURN created;
+END;
+$$;
+
+-- 2. activities → 월 파티션 (PK에 파티션 키 포함, 담당자 컬럼은 엔티티와 같은 actor_id)
+CREATE TABLE activities_partitioned (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    ticket_id UUID NOT NULL REFERENCES tickets(id) ON DELETE CASCADE,
+    actor_id UUID,
+    type VARCHAR(30) NOT NULL CHECK (type IN ('STATUS_CHANGE', 'COMMENT', 'ASSIGNMENT', 'TERMINAL_ACCESS', 'PRIORITY_CHANGE')),
+    content TEXT,
+    metadata JSONB DEFAULT '{}',
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+SELECT kohub_ensure_monthly_partitions('activities_partitioned', (SELECT MIN(created_at) FROM activities)::DATE, 3);
+
+DO $$
+BEGIN
+    -- 개발 DB는 ddl-auto로 actor_id가 추가되었을 수 있음
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = 'activities' AND column_name = 'actor_id') THEN
+        EXECUTE 'INSERT INTO activities_partitioned (id, ticket_id, actor_id, type, content, metadata, created_at)
+                 SELECT id, ticket_id, COALESCE(actor_id, user_id), type, content, metadata, created_at FROM activities';
+    ELSE
+        INSERT INTO activities_partitioned (id, ticket_id, actor_id, type, content, metadata, created_at)
+        SELECT id, ticket_id, user_id, type, content, metadata, created_at FROM activities;
+    END IF;
+END;
+$$;
+
+DROP TABLE activities;
+ALTER TABLE activities_partitioned RENAME TO activities;
+
+-- 파티션 이름을 부모 이름 기준으로 정리 (activities_partitioned_YYYYMM → activities_YYYYMM)
+DO $$
+DECLARE
+    part RECORD;
+BEGIN
+    FOR part IN SELECT c.relname FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = 'activities'::regclass LOOP
+        EXECUTE format('ALTER TABLE %I RENAME TO %I', part.relname,
+                       replace(part.relname, 'activities_partitioned_', 'activities_'));
+    END LOOP;
+END;
+$$;
+
+CREATE INDEX idx_activities_ticket_created ON activities(ticket_id, created_at DESC, id DESC);
+CREATE INDEX idx_activities_created ON activities(created_at DESC);
+
+-- 3. notifications → 월 파티션
+CREATE TABLE notifications_partitioned (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    recipient_id UUID REFERENCES users(id) ON DELETE CASCADE,
+    type VARCHAR(30) NOT NULL,
+    channel VARCHAR(20) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    title VARCHAR(255) NOT NULL,
+    content TEXT,
+    entity_type VARCHAR(30),
+    entity_id UUID,
+    metadata JSONB DEFAULT '{}',
+    retry_count INT DEFAULT 0,
+    error_message VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    sent_at TIMESTAMP,
+    read_at TIMESTAMP,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+SELECT kohub_ensure_monthly_partitions('notifications_partitioned', (SELECT MIN(created_at) FROM notifications)::DATE, 3);
+
+INSERT INTO notifications_partitioned (id, recipient_id, type, channel, status, title, content, entity_type,
+                                       entity_id, metadata, retry_count, error_message, created_at, sent_at, read_at)
+SELECT id, recipient_id, type, channel, status, title, content, entity_type,
+       entity_id, metadata, retry_count, error_message, created_at, sent_at, read_at
+FROM notifications;
+
+DROP TABLE notifications;
+ALTER TABLE notifications_partitioned RENAME TO notifications;
+
+DO $$
+DECLARE
+    part RECORD;
+BEGIN
+    FOR part IN SELECT c.relname FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = 'notifications'::regclass LOOP
+        EXECUTE format('ALTER TABLE %I RENAME TO %I', part.relname,
+                       replace(part.relname, 'notifications_partitioned_', 'notifications_'));
+    END LOOP;
+END;
+$$;
+
+CREATE INDEX idx_notifications_recipient_status ON notifications(recipient_id, status);
+CREATE INDEX idx_notifications_status_channel ON notifications(status, channel);
+CREATE INDEX idx_notifications_created_at ON notifications(created_at DESC);
+
+COMMENT ON TABLE notifications IS '알림 (created_at 월 파티션)';
+COMMENT ON TABLE activities IS '티켓 활동 (created_at 월 파티션)';
+
+-- 4. 보관 테이블 (활성 테이블과 같은 컬럼 순서, 월 파티션, 대용량 텍스트 lz4 압축)
+--    tickets에 컬럼을 추가하면 tickets_archive에도 같은 순서로 추가해야 한다.
+CREATE TABLE tickets_archive (LIKE tickets INCLUDING DEFAULTS, PRIMARY KEY (id, created_at))
+    PARTITION BY RANGE (created_at);
+ALTER TABLE tickets_archive ALTER COLUMN description SET COMPRESSION lz4;
+ALTER TABLE tickets_archive ALTER COLUMN resolution_summary SET COMPRESSION lz4;
+CREATE INDEX idx_tickets_archive_source_event ON tickets_archive(source_event_id);
+CREATE INDEX idx_tickets_archive_host ON tickets_archive(host_id);
+
+CREATE TABLE activities_archive (LIKE activities INCLUDING DEFAULTS, PRIMARY KEY (id, created_at))
+    PARTITION BY RANGE (created_at);
+ALTER TABLE activities_archive ALTER COLUMN content SET COMPRESSION lz4;
+CREATE INDEX idx_activities_archive_ticket ON activities_archive(ticket_id, created_at DESC);
+
+COMMENT ON TABLE tickets_archive IS '보관된 종료 티켓 (기본 조회 대상 아님)';
+COMMENT ON TABLE activities_archive IS '보관된 종료 티켓의 활동';
+
+-- 보관 이동 후에도 티켓 ID 참조를 유지하도록 외래키를 일반 참조로 변경
+ALTER TABLE terminal_logs DROP CONSTRAINT IF EXISTS terminal_logs_ticket_id_fkey;
+ALTER TABLE adapter_events DROP CONSTRAINT IF EXISTS adapter_events_created_ticket_id_fkey;
+
+-- 5. 종료 티켓 보관 이동 (한 번에 batch_limit건, 잠긴 행은 건너뜀)
+--    반환: 우선순위별 이동 건수 (카운터 보정용)
+CREATE OR REPLACE FUNCTION kohub_archive_closed_tickets(cutoff TIMESTAMP, batch_limit INT)
+RETURNS TABLE (ticket_priority VARCHAR, archived_count BIGINT)
+LANGUAGE plpgsql AS $$
+DECLARE
+    ids UUID[];
+BEGIN
+    SELECT array_agg(t.id) INTO ids
+    FROM (SELECT id FROM tickets
+          WHERE status = 'CLOSED' AND updated_at < cutoff
+          ORDER BY updated_at
+          LIMIT batch_limit
+          FOR UPDATE SKIP LOCKED) t;
+
+    IF ids IS NULL THEN
+        RETURN;
+    END IF;
+
+    PERFORM kohub_ensure_monthly_partitions('tickets_archive',
+            (SELECT MIN(created_at) FROM tickets WHERE id = ANY(ids))::DATE, 0);
+    PERFORM kohub_ensure_monthly_partitions('activities_archive',
+            (SELECT MIN(created_at) FROM activities WHERE ticket_id = ANY(ids))::DATE, 0);
+
+    WITH moved AS (DELETE FROM activities WHERE ticket_id = ANY(ids) RETURNING *)
+    INSERT INTO activities_archive SELECT * FROM moved;
+
+    RETURN QUERY
+    WITH moved AS (DELETE FROM tickets WHERE id = ANY(ids) RETURNING *),
+         inserted AS (INSERT INTO tickets_archive SELECT * FROM moved RETURNING tickets_archive.priority)
+    SELECT inserted.priority::VARCHAR, COUNT(*) FROM inserted GROUP BY inserted.priority;
+END;
+$$;
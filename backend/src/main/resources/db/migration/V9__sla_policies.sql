@@ -0,0 +1,54 @@
+-- V9: 티켓 SLA (접수/해결 기한) 정책과 기한 초과 기록
+--
+-- 기한은 티켓 생성 시각 기준이며 정책은 (조직, 우선순위)별로 둔다.
+-- organization_id가 NULL인 행이 기본 정책이다.
+
+CREATE TABLE sla_policies (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    organization_id UUID REFERENCES organizations(id) ON DELETE CASCADE,
+    priority VARCHAR(20) NOT NULL CHECK (priority IN ('CRITICAL', 'HIGH', 'MEDIUM', 'LOW')),
+    acknowledge_minutes INT NOT NULL CHECK (acknowledge_minutes > 0),
+    resolve_minutes INT NOT NULL CHECK (resolve_minutes > 0),
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+-- 조직당 우선순위별 1개 (기본 정책 포함)
+CREATE UNIQUE INDEX uq_sla_policies_org_priority
+    ON sla_policies (COALESCE(organization_id, '00000000-0000-0000-0000-000000000000'::UUID), priority);
+
+INSERT INTO sla_policies (organization_id, priority, acknowledge_minutes, resolve_minutes) VALUES
+    (NULL, 'CRITICAL', 15, 240),
+    (NULL, 'HIGH', 30, 480),
+    (NULL, 'MEDIUM', 120, 1440),
+    (NULL, 'LOW', 480, 4320);
+
+COMMENT ON TABLE sla_policies IS '티켓 SLA 정책 (organization_id NULL = 기본)';
+
+-- 기한 초과 기록 (티켓/종류별 1회, 여러 인스턴스의 중복 에스컬레이션 방지)
+-- 보관 이동 후에도 남도록 tickets 외래키는 두지 않는다.
+CREATE TABLE ticket_sla_breaches (
+    ticket_id UUID NOT NULL,
+    kind VARCHAR(20) NOT NULL CHECK (kind IN ('ACKNOWLEDGE', 'RESOLVE')),
+    due_at TIMESTAMP NOT NULL,
+    breached_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (ticket_id, kind)
+);
+
+COMMENT ON TABLE ticket_sla_breaches IS '티켓 SLA 기한 초과 기록';
+
+-- 활동 유형에 ESCALATION 추가 (V8에서 생성된 CHECK 제약 이름은 환경마다 다를 수 있어 조회 후 교체)
+DO $$
+DECLARE
+    con RECORD;
+BEGIN
+    FOR con IN SELECT conname FROM pg_constraint
+               WHERE conrelid = 'activities'::regclass AND contype = 'c'
+                 AND pg_get_constraintdef(oid) LIKE '%STATUS_CHANGE%' LOOP
+        EXECUTE format('ALTER TABLE activities DROP CONSTRAINT %I', con.conname);
+    END LOOP;
+END;
+$$;
+
+ALTER TABLE activities ADD CONSTRAINT activities_type_check
+    CHECK (type IN ('STATUS_CHANGE', 'COMMENT', 'ASSIGNMENT', 'TERMINAL_ACCESS', 'PRIORITY_CHANGE', 'ESCALATION'));
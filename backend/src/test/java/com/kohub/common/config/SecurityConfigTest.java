@@ -0,0 +1,52 @@
+package com.kohub.common.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 보안 설정 테스트 (SSO 비활성화 환경의 운영자 전용 API)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("SecurityConfig 테스트")
+class SecurityConfigTest {
+
+    private static final String FLEET_COMMANDS = "/api/v1/hosts/commands";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("SSO가 꺼져 있어도 인증 없는 일괄 명령 실행은 403")
+    void fleetCommandsRequireAuthentication() throws Exception {
+        mockMvc.perform(post(FLEET_COMMANDS).contentType(MediaType.APPLICATION_JSON).content("{}"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "MEMBER")
+    @DisplayName("운영자가 아닌 사용자의 일괄 명령 실행은 403")
+    void fleetCommandsRejectNonOperator() throws Exception {
+        mockMvc.perform(post(FLEET_COMMANDS).contentType(MediaType.APPLICATION_JSON).content("{}"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "OPERATOR")
+    @DisplayName("운영자는 보안 필터를 통과한다 (빈 명령은 검증 실패)")
+    void fleetCommandsAllowOperator() throws Exception {
+        mockMvc.perform(post(FLEET_COMMANDS).contentType(MediaType.APPLICATION_JSON).content("{}"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,94 @@
+package com.kohub.common.migration;
+
+import com.kohub.domain.notification.dto.NotificationRequest;
+import com.kohub.domain.notification.entity.NotificationChannel;
+import com.kohub.domain.notification.entity.NotificationType;
+import com.kohub.domain.notification.service.NotificationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostgreSQL 마이그레이션 검증
+ * H2 테스트는 Flyway를 끄고 스키마를 엔티티로 만들므로, 실제 PostgreSQL에 V1부터 모든 마이그레이션을 적용하고
+ * 파티션 테이블 위에서 동작하는 쿼리를 확인한다. Docker가 없으면 건너뛴다.
+ */
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect",
+        "kohub.partitioning.enabled=true"
+})
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("PostgreSQL 마이그레이션")
+class PostgresMigrationTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", POSTGRES::getDriverClassName);
+    }
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("모든 마이그레이션이 적용되고 알림 테이블은 파티션 테이블이다")
+    void migrationsApply() {
+        // then: Flyway 마지막 버전까지 성공
+        Integer failed = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM flyway_schema_history WHERE NOT success", Integer.class);
+        assertThat(failed).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT relkind::text FROM pg_class WHERE relname = 'notifications'", String.class)).isEqualTo("p");
+    }
+
+    @Test
+    @DisplayName("같은 중복 제거 키로 재전달해도 수신자/채널당 알림은 한 건")
+    void notificationDedupe() {
+        // given
+        UUID recipientId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO users (id, keycloak_id, email, name) VALUES (?, ?, ?, ?)",
+                recipientId, "kc-" + recipientId, recipientId + "@kohub.test", "수신자");
+        String dedupeKey = "outbox:" + UUID.randomUUID();
+        NotificationRequest request = NotificationRequest.builder()
+                .recipientIds(Set.of(recipientId))
+                .type(NotificationType.TICKET_CREATED)
+                .channels(Set.of(NotificationChannel.IN_APP))
+                .title("새 티켓")
+                .dedupeKey(dedupeKey)
+                .build();
+
+        // when: 재전달
+        notificationService.sendNotification(request);
+        notificationService.sendNotification(request);
+
+        // then
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM notifications WHERE dedupe_key = ?", Integer.class, dedupeKey)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM notification_dedupe WHERE dedupe_key = ?", Integer.class, dedupeKey)).isEqualTo(1);
+    }
+}
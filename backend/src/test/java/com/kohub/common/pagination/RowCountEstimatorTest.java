@@ -0,0 +1,81 @@
+package com.kohub.common.pagination;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * RowCountEstimator 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RowCountEstimator 테스트")
+class RowCountEstimatorTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private RowCountEstimator estimator;
+
+    @BeforeEach
+    void setUp() {
+        estimator = new RowCountEstimator(jdbcTemplate, 60, 100);
+    }
+
+    @Test
+    @DisplayName("테이블 통계가 있으면 reltuples 사용")
+    void testEstimateTable_UsesReltuples() {
+        // given: pg_class 통계
+        given(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq("tickets"))).willReturn(12345L);
+
+        // when & then: COUNT 미실행
+        assertThat(estimator.estimateTable("tickets", () -> {
+            throw new AssertionError("COUNT 호출되면 안 됨");
+        })).isEqualTo(12345L);
+    }
+
+    @Test
+    @DisplayName("통계 조회 실패 또는 미수집(-1)이면 COUNT로 대체")
+    void testEstimateTable_FallbackToCount() {
+        // given: PostgreSQL이 아닌 DB
+        given(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq("hosts")))
+                .willThrow(new DataAccessResourceFailureException("pg_class 없음"));
+        given(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq("users"))).willReturn(-1L);
+
+        // when & then
+        assertThat(estimator.estimateTable("hosts", () -> 7L)).isEqualTo(7L);
+        assertThat(estimator.estimateTable("users", () -> 3L)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("TTL 동안 COUNT 결과 캐시, evict 후 재계산")
+    void testCached_ReusesUntilEvicted() {
+        // given: 호출 횟수 측정
+        AtomicInteger calls = new AtomicInteger();
+
+        // when: 같은 키로 반복 조회
+        estimator.cached("tickets:NEW", calls::incrementAndGet);
+        estimator.cached("tickets:NEW", calls::incrementAndGet);
+
+        // then: 1회만 실행
+        assertThat(calls.get()).isEqualTo(1);
+
+        // when: 무효화 후 조회
+        estimator.evict("tickets:");
+        estimator.cached("tickets:NEW", calls::incrementAndGet);
+
+        // then: 재계산
+        assertThat(calls.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,87 @@
+package com.kohub.common.persistence;
+
+import com.kohub.common.exception.BusinessException;
+import com.kohub.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * 낙관적 잠금 재시도 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OptimisticLockRetry 단위 테스트")
+class OptimisticLockRetryTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OptimisticLockRetry retry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        retry = new OptimisticLockRetry(transactionManager, meterRegistry, 3, 0);
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+    }
+
+    @Test
+    @DisplayName("충돌 후 재시도에 성공하면 결과 반환")
+    void retriesAfterConflict() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        String result = retry.execute("ticket.transition", () -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new OptimisticLockingFailureException("version mismatch");
+            }
+            return "ok";
+        });
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThat(calls).hasValue(2);
+        assertThat(meterRegistry.counter("kohub.optimistic_lock.conflicts", "operation", "ticket.transition").count())
+                .isEqualTo(1.0);
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    @DisplayName("재시도 한도 초과 시 CONFLICT 에러")
+    void throwsConflictWhenExhausted() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> retry.execute("ticket.assign", () -> {
+            calls.incrementAndGet();
+            throw new OptimisticLockingFailureException("version mismatch");
+        }))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.TICKET_CONCURRENT_MODIFICATION);
+
+        assertThat(calls).hasValue(3);
+        assertThat(meterRegistry.counter("kohub.optimistic_lock.conflicts", "operation", "ticket.assign").count())
+                .isEqualTo(3.0);
+        assertThat(meterRegistry.counter("kohub.optimistic_lock.exhausted", "operation", "ticket.assign").count())
+                .isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,79 @@
+package com.kohub.common.stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 브로드캐스트 링 버퍼 단위 테스트
+ */
+@DisplayName("BroadcastRingBuffer 단위 테스트")
+class BroadcastRingBufferTest {
+
+    @Test
+    @DisplayName("커서별 독립 읽기 - 성공")
+    void testRead_IndependentCursors() {
+        // given: 3개 발행
+        BroadcastRingBuffer<String> buffer = new BroadcastRingBuffer<>(8);
+        buffer.publish("a");
+        buffer.publish("b");
+        buffer.publish("c");
+
+        // when: 서로 다른 커서로 읽기
+        var fromStart = buffer.read(0, 10);
+        var fromMiddle = buffer.read(2, 10);
+
+        // then: 각자 위치부터 읽음
+        assertThat(fromStart.items()).containsExactly("a", "b", "c");
+        assertThat(fromStart.nextCursor()).isEqualTo(3);
+        assertThat(fromMiddle.items()).containsExactly("c");
+        assertThat(fromMiddle.firstSequence()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("배치 크기 제한 - 성공")
+    void testRead_MaxItems() {
+        BroadcastRingBuffer<Integer> buffer = new BroadcastRingBuffer<>(8);
+        for (int i = 0; i < 5; i++) {
+            buffer.publish(i);
+        }
+
+        var batch = buffer.read(0, 2);
+
+        assertThat(batch.items()).containsExactly(0, 1);
+        assertThat(batch.nextCursor()).isEqualTo(2);
+        assertThat(batch.skipped()).isZero();
+    }
+
+    @Test
+    @DisplayName("뒤처진 구독자 - 최신 위치로 이동")
+    void testRead_SlowReaderJumpsToLatest() {
+        // given: 용량 4에 10개 발행 (커서 0은 덮어쓰임)
+        BroadcastRingBuffer<Integer> buffer = new BroadcastRingBuffer<>(4);
+        for (int i = 0; i < 10; i++) {
+            buffer.publish(i);
+        }
+
+        // when: 오래된 커서로 읽기
+        var batch = buffer.read(0, 100);
+
+        // then: 건너뛴 개수와 함께 최신 위치로 이동
+        assertThat(batch.items()).isEmpty();
+        assertThat(batch.skipped()).isEqualTo(10);
+        assertThat(batch.nextCursor()).isEqualTo(10);
+        assertThat(buffer.oldest()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("최신 커서에서 읽기 - 빈 결과")
+    void testRead_AtTail() {
+        BroadcastRingBuffer<String> buffer = new BroadcastRingBuffer<>(4);
+        buffer.publish("a");
+
+        var batch = buffer.read(1, 10);
+
+        assertThat(batch.isEmpty()).isTrue();
+        assertThat(batch.nextCursor()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,181 @@
+package com.kohub.common.stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SSE 팬아웃 채널 단위 테스트
+ */
+@DisplayName("SseBroadcastChannel 단위 테스트")
+class SseBroadcastChannelTest {
+
+    @Test
+    @DisplayName("팬아웃 - 모든 구독자가 발행 항목을 순서대로 받음")
+    void testPublish_FanOut() {
+        // given: 구독자 2명 (같은 스레드에서 전송)
+        TestChannel channel = new TestChannel(Runnable::run, 10_000L);
+        RecordingEmitter first = channel.nextEmitter(new RecordingEmitter());
+        channel.subscribe(60_000L);
+        RecordingEmitter second = channel.nextEmitter(new RecordingEmitter());
+        channel.subscribe(60_000L);
+
+        // when
+        channel.publish("a");
+        channel.publish("b");
+        channel.publish("c");
+
+        // then
+        assertThat(first.sent).isEqualTo(3);
+        assertThat(second.sent).isEqualTo(3);
+        assertThat(channel.getSubscriberCount()).isEqualTo(2);
+        assertThat(channel.getLatestSequence()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("전송 실패 - 해당 구독자만 제거")
+    void testPublish_EvictsOnSendFailure() {
+        // given
+        TestChannel channel = new TestChannel(Runnable::run, 10_000L);
+        RecordingEmitter healthy = channel.nextEmitter(new RecordingEmitter());
+        channel.subscribe(60_000L);
+        RecordingEmitter broken = channel.nextEmitter(new RecordingEmitter());
+        broken.failure = new IOException("broken pipe");
+        channel.subscribe(60_000L);
+
+        // when
+        channel.publish("a");
+        channel.publish("b");
+
+        // then
+        assertThat(channel.getSubscriberCount()).isEqualTo(1);
+        assertThat(broken.failed).isTrue();
+        assertThat(healthy.sent).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("채널 종료 - 남은 항목 전송 후 구독 종료, 이후 구독은 즉시 종료")
+    void testClose_CompletesSubscribers() {
+        // given: 구독 전에 발행된 항목은 버퍼에서 전송
+        TestChannel channel = new TestChannel(Runnable::run, 10_000L);
+        channel.publish("a");
+        channel.publish("b");
+        RecordingEmitter subscriber = channel.nextEmitter(new RecordingEmitter());
+        channel.subscribe(60_000L);
+
+        // when
+        channel.close();
+
+        // then
+        assertThat(subscriber.sent).isEqualTo(2);
+        assertThat(subscriber.completed).isTrue();
+        assertThat(channel.getSubscriberCount()).isZero();
+
+        RecordingEmitter late = channel.nextEmitter(new RecordingEmitter());
+        channel.subscribe(60_000L);
+        assertThat(late.completed).isTrue();
+        assertThat(late.sent).isZero();
+    }
+
+    @Test
+    @DisplayName("전송 시간 초과 - 블로킹된 구독자는 다음 발행 시 제거")
+    void testPublish_EvictsStalledSubscriber() throws Exception {
+        // given: 첫 전송에서 멈추는 구독자
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            TestChannel channel = new TestChannel(executor, 1L);
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch blocked = new CountDownLatch(1);
+            RecordingEmitter stalled = channel.nextEmitter(new RecordingEmitter() {
+                @Override
+                public void send(SseEventBuilder builder) throws IOException {
+                    blocked.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    super.send(builder);
+                }
+            });
+            channel.subscribe(60_000L);
+            channel.publish("a");
+            assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(20);
+
+            // when
+            channel.publish("b");
+
+            // then
+            assertThat(channel.getSubscriberCount()).isZero();
+            assertThat(stalled.failed).isTrue();
+            release.countDown();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 생성할 SseEmitter를 테스트에서 지정하는 채널
+     */
+    private static final class TestChannel extends SseBroadcastChannel<String> {
+        private final Deque<SseEmitter> emitters = new ArrayDeque<>();
+
+        private TestChannel(Executor executor, long sendTimeoutMillis) {
+            super("test", "output", "", 16, 4, sendTimeoutMillis, executor);
+        }
+
+        private <E extends SseEmitter> E nextEmitter(E emitter) {
+            emitters.add(emitter);
+            return emitter;
+        }
+
+        @Override
+        protected SseEmitter createEmitter(long timeoutMillis) {
+            return emitters.poll();
+        }
+    }
+
+    /**
+     * 전송/종료를 기록하는 SseEmitter (서블릿 응답 없이 동작)
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<Object> events = new ArrayList<>();
+        private volatile int sent;
+        private volatile boolean completed;
+        private volatile boolean failed;
+        private IOException failure;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            events.add(builder.build());
+            sent++;
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+
+        @Override
+        public synchronized void completeWithError(Throwable ex) {
+            failed = true;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.kohub.common.timer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 계층형 타이밍 휠 단위 테스트
+ */
+@DisplayName("HierarchicalTimingWheel 단위 테스트")
+class HierarchicalTimingWheelTest {
+
+    @Test
+    @DisplayName("마감 틱에 도달해야 만료되고 마감 순서대로 반환한다")
+    void expiresInDeadlineOrder() {
+        // given: 틱 1ms, 슬롯 4개, 3레벨 (범위 64틱)
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1, 4, 3, 0);
+        wheel.schedule("c", 40);
+        wheel.schedule("a", 3);
+        wheel.schedule("b", 17);
+
+        // when & then
+        assertThat(wheel.advanceTo(2)).isEmpty();
+        assertThat(wheel.advanceTo(3)).containsExactly("a");
+        assertThat(wheel.advanceTo(16)).isEmpty();
+        assertThat(wheel.advanceTo(17)).containsExactly("b");
+        assertThat(wheel.advanceTo(100)).containsExactly("c");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("상위 레벨 타이머도 정확한 틱에 만료된다 (cascade)")
+    void cascadesToExactTick() {
+        // given
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(1, 4, 3, 0);
+        for (int deadline = 1; deadline < 64; deadline++) {
+            wheel.schedule(deadline, deadline);
+        }
+
+        // when & then: 매 틱 해당 마감 하나만 만료
+        for (int now = 1; now < 64; now++) {
+            assertThat(wheel.advanceTo(now)).containsExactly(now);
+        }
+    }
+
+    @Test
+    @DisplayName("범위를 넘는 마감은 다시 배치되어 제 시각에 만료된다")
+    void overflowIsRescheduled() {
+        // given: 범위 64틱을 넘는 마감
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1, 4, 3, 0);
+        wheel.schedule("far", 1000);
+
+        // when & then
+        assertThat(wheel.advanceTo(999)).isEmpty();
+        assertThat(wheel.advanceTo(1000)).containsExactly("far");
+    }
+
+    @Test
+    @DisplayName("취소한 타이머는 만료되지 않는다")
+    void cancelledTimerNeverFires() {
+        // given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 2, 0);
+        HierarchicalTimingWheel.Timeout<String> keep = wheel.schedule("keep", 500);
+        HierarchicalTimingWheel.Timeout<String> drop = wheel.schedule("drop", 500);
+
+        // when
+        boolean cancelled = drop.cancel();
+
+        // then
+        assertThat(cancelled).isTrue();
+        assertThat(drop.cancel()).isFalse();
+        assertThat(wheel.size()).isEqualTo(1);
+        List<String> expired = wheel.advanceTo(600);
+        assertThat(expired).containsExactly("keep");
+        assertThat(keep.cancel()).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미 지난 마감은 다음 틱에 만료된다")
+    void pastDeadlineExpiresOnNextTick() {
+        // given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 64, 4, 10_000);
+
+        // when
+        wheel.schedule("late", 1_000);
+
+        // then
+        assertThat(wheel.advanceTo(11_000)).containsExactly("late");
+    }
+}
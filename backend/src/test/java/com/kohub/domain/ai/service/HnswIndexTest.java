@@ -0,0 +1,230 @@
+package com.kohub.domain.ai.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * HNSW 벡터 색인 단위 테스트
+ */
+@DisplayName("HnswIndex 단위 테스트")
+class HnswIndexTest {
+
+    private final HashedNgramEmbedder embedder = new HashedNgramEmbedder(256, 3);
+
+    @Test
+    @DisplayName("임베딩은 결정적이고 형태가 비슷한 키워드는 가깝다")
+    void embedsDeterministically() {
+        // when
+        float[] a = embedder.embed(Set.of("timeout", "nginx"));
+        float[] b = embedder.embed(Set.of("timeouts", "nginx"));
+        float[] c = embedder.embed(Set.of("디스크", "용량"));
+
+        // then
+        assertThat(embedder.embed(Set.of("nginx", "timeout"))).containsExactly(a);
+        assertThat(dot(a, a)).isCloseTo(1.0, within(1e-5));
+        assertThat(dot(a, b)).isGreaterThan(0.6).isGreaterThan(dot(a, c) + 0.4);
+    }
+
+    @Test
+    @DisplayName("k-NN 결과는 전수 코사인 검색과 대부분 일치한다")
+    void matchesBruteForce() {
+        // given
+        Map<UUID, Set<String>> corpus = corpus(3000, new Random(7));
+        HnswIndex index = new HnswIndex(embedder, 16, 100, 64);
+        index.replaceAll(corpus);
+        Map<UUID, float[]> vectors = new HashMap<>();
+        corpus.forEach((id, keywords) -> vectors.put(id, embedder.embed(keywords)));
+
+        // when
+        Random random = new Random(11);
+        int hits = 0;
+        int total = 0;
+        for (int q = 0; q < 50; q++) {
+            Set<String> query = document(random);
+            float[] vector = embedder.embed(query);
+            Map<UUID, Double> scores = new HashMap<>();
+            vectors.forEach((id, v) -> scores.put(id, dot(vector, v)));
+            Set<UUID> exact = scores.entrySet().stream()
+                    .sorted(Map.Entry.<UUID, Double>comparingByValue().reversed())
+                    .limit(10)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toSet());
+            Set<UUID> found = index.search(query, null, -1, 10).stream()
+                    .map(SimilarTicketEngine.Match::ticketId)
+                    .collect(Collectors.toSet());
+            found.retainAll(exact);
+            hits += found.size();
+            total += exact.size();
+        }
+
+        // then
+        assertThat(index.size()).isEqualTo(3000);
+        assertThat((double) hits / total).isGreaterThan(0.9);
+    }
+
+    @Test
+    @DisplayName("제거/재색인된 티켓은 삭제 표시되어 결과에서 빠지고, 전체 교체는 바뀐 티켓만 반영한다")
+    void tombstonesAndSyncs() {
+        // given
+        HnswIndex index = new HnswIndex(embedder, 8, 40, 32);
+        Map<UUID, Set<String>> corpus = corpus(200, new Random(3));
+        index.replaceAll(corpus);
+        UUID removed = corpus.keySet().iterator().next();
+        Set<String> removedKeywords = corpus.get(removed);
+
+        // when
+        index.remove(removed);
+
+        // then
+        assertThat(index.search(removedKeywords, null, 0.99, 5))
+                .extracting(SimilarTicketEngine.Match::ticketId).doesNotContain(removed);
+        assertThat(index.size()).isEqualTo(199);
+        assertThat(index.deletedCount()).isEqualTo(1);
+
+        // when: 같은 내용으로 다시 동기화하면 제거된 티켓만 삽입
+        index.replaceAll(corpus);
+
+        // then
+        assertThat(index.size()).isEqualTo(200);
+        assertThat(index.deletedCount()).isEqualTo(1);
+        assertThat(index.search(removedKeywords, null, 0.99, 5))
+                .extracting(SimilarTicketEngine.Match::ticketId).contains(removed);
+    }
+
+    @Test
+    @DisplayName("스냅샷을 복원하면 같은 검색 결과를 돌려주고, 설정이 다르면 거부한다")
+    void restoresSnapshot(@TempDir Path dir) throws IOException {
+        // given
+        HnswIndex index = new HnswIndex(embedder, 8, 40, 32);
+        index.replaceAll(corpus(500, new Random(5)));
+        index.remove(index.search(Set.of("k1", "k2"), null, -1, 1).get(0).ticketId());
+        Path snapshot = dir.resolve("hnsw/similar.bin");
+        index.save(snapshot);
+
+        // when
+        HnswIndex restored = new HnswIndex(embedder, 8, 40, 32);
+        restored.load(snapshot);
+
+        // then
+        Set<String> query = Set.of("k3", "k5", "k8");
+        assertThat(restored.size()).isEqualTo(index.size());
+        assertThat(restored.deletedCount()).isEqualTo(1);
+        assertThat(restored.search(query, null, 0, 5)).isEqualTo(index.search(query, null, 0, 5));
+        assertThat(Files.exists(dir.resolve("hnsw/similar.bin.tmp"))).isFalse();
+        assertThatThrownBy(() -> new HnswIndex(new HashedNgramEmbedder(128, 3), 8, 40, 32).load(snapshot))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("전체 교체 중 들어온 추가/제거는 새 그래프 교체와 증분 반영 후에도 유지된다")
+    void keepsWritesDuringReplace() throws Exception {
+        // given: 전체 교체 도중 임베딩을 붙잡는 임베더
+        GatedEmbedder gated = new GatedEmbedder();
+        HnswIndex index = new HnswIndex(gated, 8, 40, 32);
+        Map<UUID, Set<String>> corpus = corpus(200, new Random(7));
+        UUID stale = corpus.keySet().iterator().next();
+        Set<String> staleKeywords = corpus.get(stale);
+        corpus.put(UUID.randomUUID(), Set.of(GatedEmbedder.GATE));
+        UUID added = UUID.randomUUID();
+        Set<String> addedKeywords = Set.of("k1", "k2", "k3", "k4");
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // 첫 교체는 빈 색인이라 새 그래프 구성, 두 번째는 바뀐 티켓만 증분 반영
+            for (int round = 0; round < 2; round++) {
+                // when: 교체 중 추가/제거
+                gated.arm();
+                Future<?> replacing = executor.submit(() -> index.replaceAll(corpus));
+                assertThat(gated.entered.await(5, TimeUnit.SECONDS)).isTrue();
+                index.put(added, addedKeywords);
+                index.remove(stale);
+                gated.release.countDown();
+                replacing.get(5, TimeUnit.SECONDS);
+
+                // then
+                assertThat(index.size()).isEqualTo(corpus.size());
+                assertThat(index.search(addedKeywords, null, 0.99, 5))
+                        .extracting(SimilarTicketEngine.Match::ticketId).contains(added);
+                assertThat(index.search(staleKeywords, null, 0.99, 5))
+                        .extracting(SimilarTicketEngine.Match::ticketId).doesNotContain(stale);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * GATE 키워드를 임베딩할 때 release까지 기다리는 임베더
+     */
+    private static final class GatedEmbedder extends HashedNgramEmbedder {
+        private static final String GATE = "gate";
+        private volatile CountDownLatch entered;
+        private volatile CountDownLatch release;
+
+        private GatedEmbedder() {
+            super(256, 3);
+        }
+
+        private void arm() {
+            entered = new CountDownLatch(1);
+            release = new CountDownLatch(1);
+        }
+
+        @Override
+        public float[] embed(Set<String> keywords) {
+            if (keywords.contains(GATE) && entered != null) {
+                entered.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return super.embed(keywords);
+        }
+    }
+
+    private static Map<UUID, Set<String>> corpus(int size, Random random) {
+        Map<UUID, Set<String>> corpus = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            corpus.put(new UUID(random.nextLong(), random.nextLong()), document(random));
+        }
+        return corpus;
+    }
+
+    private static Set<String> document(Random random) {
+        Set<String> keywords = new HashSet<>();
+        IntStream.range(0, 4 + random.nextInt(8)).forEach(i -> keywords.add("k" + random.nextInt(400)));
+        return keywords;
+    }
+
+    private static double dot(float[] a, float[] b) {
+        double dot = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+        }
+        return dot;
+    }
+}
@@ -0,0 +1,117 @@
+package com.kohub.domain.ai.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * MinHash/LSH 색인 단위 테스트
+ */
+@DisplayName("MinHashLshIndex 단위 테스트")
+class MinHashLshIndexTest {
+
+    private final MinHashLshIndex index = new MinHashLshIndex(128, 64);
+
+    @Test
+    @DisplayName("서명 일치 비율은 실제 Jaccard 유사도에 가깝다")
+    void estimatesJaccard() {
+        // given: 공유 30 / 합집합 60 → 0.5
+        Set<String> a = terms(0, 45);
+        Set<String> b = terms(15, 60);
+
+        // when
+        double estimate = index.estimate(index.signature(a), index.signature(b));
+
+        // then
+        assertThat(estimate).isCloseTo(0.5, within(0.15));
+        assertThat(index.estimate(index.signature(a), index.signature(a))).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("유사한 티켓은 같은 버킷으로 후보가 되고, 무관한 티켓은 후보가 되지 않는다")
+    void findsNearDuplicates() {
+        // given
+        UUID similar = UUID.randomUUID();
+        UUID unrelated = UUID.randomUUID();
+        UUID source = UUID.randomUUID();
+        index.put(similar, terms(0, 20));
+        index.put(unrelated, terms(100, 120));
+        index.put(source, terms(2, 22));
+
+        // when
+        List<SimilarTicketEngine.Match> matches = index.search(terms(2, 22), source, 0.1, 10);
+
+        // then
+        assertThat(matches).extracting(SimilarTicketEngine.Match::ticketId).containsExactly(similar);
+    }
+
+    @Test
+    @DisplayName("재색인/제거 시 이전 밴드 버킷에서 빠진다")
+    void updatesIncrementally() {
+        // given
+        UUID ticketId = UUID.randomUUID();
+        index.put(ticketId, terms(0, 10));
+
+        // when
+        index.put(ticketId, terms(50, 60));
+
+        // then
+        assertThat(index.search(terms(0, 10), null, 0.0, 10)).isEmpty();
+        assertThat(index.search(terms(50, 60), null, 0.0, 10)).hasSize(1);
+
+        // when
+        index.remove(ticketId);
+
+        // then
+        assertThat(index.size()).isZero();
+        assertThat(index.bucketCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("버킷 표가 커지고 항목이 빠져도 남은 티켓은 그대로 찾는다")
+    void keepsBucketsConsistentUnderChurn() {
+        // given: 표가 여러 번 커질 만큼 색인
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            UUID ticketId = new UUID(0L, i);
+            ids.add(ticketId);
+            index.put(ticketId, terms(i * 3, i * 3 + 8));
+        }
+
+        // when: 짝수 티켓 제거
+        for (int i = 0; i < ids.size(); i += 2) {
+            index.remove(ids.get(i));
+        }
+
+        // then: 홀수 티켓은 자기 자신을 최상위로 찾고, 제거된 티켓은 나오지 않음
+        assertThat(index.size()).isEqualTo(1_000);
+        for (int i = 1; i < ids.size(); i += 2) {
+            assertThat(index.search(terms(i * 3, i * 3 + 8), null, 0.9, 1))
+                    .extracting(SimilarTicketEngine.Match::ticketId).containsExactly(ids.get(i));
+        }
+        for (int i = 1; i < ids.size(); i += 2) {
+            index.remove(ids.get(i));
+        }
+        assertThat(index.bucketCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("해시 수는 밴드 수로 나누어 떨어져야 한다")
+    void rejectsUnevenBands() {
+        assertThatThrownBy(() -> new MinHashLshIndex(100, 64)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Set<String> terms(int from, int to) {
+        return IntStream.range(from, to).mapToObj(i -> "term" + i).collect(Collectors.toSet());
+    }
+}
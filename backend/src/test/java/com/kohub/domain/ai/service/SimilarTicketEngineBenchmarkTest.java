@@ -0,0 +1,102 @@
+package com.kohub.domain.ai.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 유사 티켓 검색 엔진 비교 (역색인 정확 검색 vs MinHash/LSH 근사 검색)
+ * 주제별 어휘를 공유하고 흔한 단어(서버, 오류 등에 해당)가 섞인 합성 티켓으로 상위 k 재현율을 측정한다.
+ * 흔한 단어는 역색인 포스팅 목록을 길게 만들어 정확 검색의 후보 수를 늘린다.
+ * 근사 검색의 이점은 유사도를 계산한 후보 수로 비교한다 (실행 환경에 따라 흔들리는 시간 대신).
+ */
+@DisplayName("유사 티켓 검색 엔진 벤치마크")
+class SimilarTicketEngineBenchmarkTest {
+
+    private static final int TICKETS = 50_000;
+    private static final int TOPICS = 2_000;
+    private static final int TOPIC_TERMS = 12;
+    private static final int NOISE_TERMS = 20_000;
+    private static final int COMMON_TERMS = 30;
+    private static final int QUERIES = 300;
+    private static final int K = 10;
+    private static final double MIN_SIMILARITY = 0.1;
+
+    @Test
+    @DisplayName("MinHash/LSH는 정확 검색보다 훨씬 적은 후보로 높은 재현율의 상위 k를 찾는다")
+    void minHashRecallAgainstExact() {
+        // given
+        SplittableRandom random = new SplittableRandom(42);
+        Map<UUID, Set<String>> corpus = new HashMap<>(TICKETS * 2);
+        for (int i = 0; i < TICKETS; i++) {
+            corpus.put(new UUID(0L, i), document(random, random.nextInt(TOPICS), 8, 4));
+        }
+        List<Set<String>> queries = new ArrayList<>(QUERIES);
+        for (int i = 0; i < QUERIES; i++) {
+            queries.add(document(random, random.nextInt(TOPICS), 8, 2));
+        }
+
+        SimilarTicketIndex exact = new SimilarTicketIndex();
+        MinHashLshIndex minHash = new MinHashLshIndex(128, 64);
+        exact.replaceAll(corpus);
+        minHash.replaceAll(corpus);
+
+        // when
+        List<List<SimilarTicketEngine.Match>> expected = new ArrayList<>(QUERIES);
+        List<List<SimilarTicketEngine.Match>> actual = new ArrayList<>(QUERIES);
+        for (Set<String> query : queries) {
+            expected.add(exact.search(query, null, MIN_SIMILARITY, K));
+            actual.add(minHash.search(query, null, MIN_SIMILARITY, K));
+        }
+
+        // then: 근사 결과 중 정확 상위 k의 최저 유사도 이상인 비율 (동점 허용)
+        int relevant = 0;
+        int total = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            List<SimilarTicketEngine.Match> truth = expected.get(i);
+            if (truth.isEmpty()) {
+                continue;
+            }
+            double cutoff = truth.get(truth.size() - 1).similarity();
+            for (SimilarTicketEngine.Match match : actual.get(i)) {
+                if (jaccard(queries.get(i), corpus.get(match.ticketId())) >= cutoff) {
+                    relevant++;
+                }
+            }
+            total += truth.size();
+        }
+        double recall = (double) relevant / total;
+        assertThat(recall).isGreaterThan(0.8);
+        // then: 유사도를 계산한 후보 수는 정확 검색의 1/5 미만
+        assertThat(minHash.examinedCandidates()).isLessThan(exact.examinedCandidates() / 5);
+    }
+
+    private static Set<String> document(SplittableRandom random, int topic, int topicTerms, int noiseTerms) {
+        Set<String> terms = new HashSet<>();
+        while (terms.size() < topicTerms) {
+            terms.add("t" + topic + "_" + random.nextInt(TOPIC_TERMS));
+        }
+        for (int i = 0; i < noiseTerms; i++) {
+            terms.add("n" + random.nextInt(NOISE_TERMS));
+        }
+        terms.add("c" + random.nextInt(COMMON_TERMS));
+        terms.add("c" + random.nextInt(COMMON_TERMS));
+        return terms;
+    }
+
+    private static double jaccard(Set<String> a, Set<String> b) {
+        Set<String> intersection = new HashSet<>(a);
+        intersection.retainAll(b);
+        return (double) intersection.size() / (a.size() + b.size() - intersection.size());
+    }
+}
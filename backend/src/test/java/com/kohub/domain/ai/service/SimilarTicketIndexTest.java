@@ -0,0 +1,162 @@
+package com.kohub.domain.ai.service;
+
+import com.kohub.common.text.KeywordExtractor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 유사 티켓 역색인 단위 테스트
+ */
+@DisplayName("SimilarTicketIndex 단위 테스트")
+class SimilarTicketIndexTest {
+
+    private final SimilarTicketIndex index = new SimilarTicketIndex();
+
+    @Test
+    @DisplayName("키워드를 공유하는 티켓만 Jaccard 유사도 순으로 반환한다")
+    void ranksByJaccard() {
+        // given
+        UUID disk = UUID.randomUUID();
+        UUID diskAndNginx = UUID.randomUUID();
+        UUID unrelated = UUID.randomUUID();
+        index.replaceAll(Map.of(
+                disk, KeywordExtractor.extract("디스크 사용량 경고", "/var 파티션 부족"),
+                diskAndNginx, KeywordExtractor.extract("nginx 디스크 로그", null),
+                unrelated, KeywordExtractor.extract("인증서 만료", null)));
+
+        // when
+        List<SimilarTicketEngine.Match> matches = index.search(
+                KeywordExtractor.extract("디스크 사용량 급증", null), null, 0.1, 10);
+
+        // then: {디스크, 사용량} 공유 2/7, {디스크} 공유 1/5
+        assertThat(matches).extracting(SimilarTicketEngine.Match::ticketId).containsExactly(disk, diskAndNginx);
+        assertThat(matches.get(0).similarity()).isEqualTo(2.0 / 7);
+    }
+
+    @Test
+    @DisplayName("기준 티켓 제외, 최소 유사도, 개수 제한을 적용한다")
+    void appliesExcludeThresholdAndLimit() {
+        // given
+        UUID source = UUID.randomUUID();
+        UUID close = UUID.randomUUID();
+        UUID far = UUID.randomUUID();
+        index.put(source, Set.of("cpu", "spike", "api"));
+        index.put(close, Set.of("cpu", "spike", "db"));
+        index.put(far, Set.of("cpu", "a1", "a2", "a3", "a4", "a5", "a6", "a7", "a8", "a9"));
+
+        // when
+        List<SimilarTicketEngine.Match> matches = index.search(Set.of("cpu", "spike", "api"), source, 0.1, 1);
+
+        // then: far는 1/12 < 0.1
+        assertThat(matches).extracting(SimilarTicketEngine.Match::ticketId).containsExactly(close);
+    }
+
+    @Test
+    @DisplayName("재색인 시 이전 키워드는 포스팅에서 빠지고, 제거하면 검색되지 않는다")
+    void updatesIncrementally() {
+        // given
+        UUID ticketId = UUID.randomUUID();
+        index.put(ticketId, Set.of("memory", "leak"));
+
+        // when: 제목 수정 후 재색인
+        index.put(ticketId, Set.of("memory", "oom"));
+
+        // then
+        assertThat(index.search(Set.of("leak"), null, 0.0, 10)).isEmpty();
+        assertThat(index.search(Set.of("oom"), null, 0.0, 10)).hasSize(1);
+
+        // when: 재오픈
+        index.remove(ticketId);
+
+        // then
+        assertThat(index.search(Set.of("memory"), null, 0.0, 10)).isEmpty();
+        assertThat(index.size()).isZero();
+        assertThat(index.termCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("BM25 추천은 흔한 키워드보다 드문 키워드를 공유한 티켓을 위로 올린다")
+    void ranksRareKeywordsHigherWithBm25() {
+        // given: server는 모든 티켓에, e1234는 한 티켓에만
+        UUID rare = UUID.randomUUID();
+        UUID common = UUID.randomUUID();
+        index.put(rare, Set.of("server", "e1234", "restart"));
+        index.put(common, Set.of("server", "login", "restart"));
+        for (int i = 0; i < 20; i++) {
+            index.put(UUID.randomUUID(), Set.of("server", "noise" + i));
+        }
+
+        // when
+        List<SimilarTicketEngine.Match> jaccard = index.search(Set.of("server", "e1234", "login"), null, 0.0, 2);
+        List<SimilarTicketEngine.Match> bm25 = index.rank(Set.of("server", "e1234"), null, 0.0, 2);
+
+        // then: Jaccard는 공유 키워드 수만 보지만 BM25는 e1234 가중치가 크다
+        assertThat(jaccard.get(0).similarity()).isEqualTo(jaccard.get(1).similarity());
+        assertThat(bm25.get(0).ticketId()).isEqualTo(rare);
+        assertThat(bm25.get(0).similarity()).isLessThanOrEqualTo(1.0);
+        assertThat(bm25.get(0).similarity()).isGreaterThan(bm25.get(1).similarity() * 2);
+    }
+
+    @Test
+    @DisplayName("재사용하는 카운터 배열은 질의 사이에 초기화되고 색인이 커져도 같은 결과를 낸다")
+    void reusesScratchAcrossQueries() {
+        // given
+        UUID nginx = UUID.randomUUID();
+        UUID disk = UUID.randomUUID();
+        index.put(nginx, Set.of("nginx", "502", "upstream"));
+        index.put(disk, Set.of("disk", "full", "var"));
+        Set<String> query = Set.of("nginx", "502", "timeout");
+
+        // when: 다른 질의로 카운터를 건드린 뒤 같은 질의 반복, 중간에 색인 확장
+        List<SimilarTicketEngine.Match> first = index.search(query, null, 0, 10);
+        List<SimilarTicketEngine.Match> firstRank = index.rank(query, null, 0, 10);
+        index.search(Set.of("disk", "full"), null, 0, 10);
+        index.rank(Set.of("disk", "full", "nginx"), null, 0, 10);
+        List<SimilarTicketEngine.Match> again = index.search(query, null, 0, 10);
+        List<SimilarTicketEngine.Match> againRank = index.rank(query, null, 0, 10);
+        for (int i = 0; i < 100; i++) {
+            index.put(UUID.randomUUID(), Set.of("filler" + i));
+        }
+        List<SimilarTicketEngine.Match> grown = index.search(query, null, 0, 10);
+
+        // then
+        assertThat(again).isEqualTo(first);
+        assertThat(againRank).isEqualTo(firstRank);
+        assertThat(grown).isEqualTo(first);
+        assertThat(first).extracting(SimilarTicketEngine.Match::ticketId).containsExactly(nginx);
+        assertThat(first.get(0).similarity()).isEqualTo(2.0 / 4);
+    }
+
+    @Test
+    @DisplayName("해제된 용어 ID와 슬롯을 재사용해도 포스팅과 유사도가 일관된다")
+    void reusesTermIdsAndSlots() {
+        // given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        index.put(first, Set.of("disk", "full", "var"));
+        index.put(second, Set.of("disk", "full"));
+        index.remove(first);
+
+        // when: 비워진 슬롯/용어에 새 티켓 색인
+        index.put(third, Set.of("disk", "inode", "tmp"));
+
+        // then
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.termCount()).isEqualTo(4);
+        assertThat(index.search(Set.of("var"), null, 0.0, 10)).isEmpty();
+        assertThat(index.search(Set.of("inode"), null, 0.0, 10))
+                .extracting(SimilarTicketEngine.Match::ticketId).containsExactly(third);
+        // 공유 disk 1 / 합집합 4
+        assertThat(index.similarity(second, third)).isEqualTo(0.25);
+        assertThat(index.similarity(first, third)).isZero();
+        assertThat(SimilarTicketIndex.intersectionSize(new int[]{1, 3, 5, 9}, new int[]{0, 3, 9, 12})).isEqualTo(2);
+    }
+}
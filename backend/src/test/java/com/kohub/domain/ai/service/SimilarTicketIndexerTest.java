@@ -0,0 +1,72 @@
+package com.kohub.domain.ai.service;
+
+import com.kohub.domain.ai.repository.SimilarTicketRepository;
+import com.kohub.domain.ticket.entity.TicketPriority;
+import com.kohub.domain.ticket.entity.TicketStatus;
+import com.kohub.domain.ticket.event.TicketChangedEvent;
+import com.kohub.domain.ticket.event.TicketChangedEvent.ChangeType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.data.domain.Limit;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 유사 티켓 색인 관리 단위 테스트
+ */
+@DisplayName("SimilarTicketIndexer 단위 테스트")
+class SimilarTicketIndexerTest {
+
+    private static final Set<String> KEYWORDS = Set.of("nginx", "502", "upstream", "timeout");
+
+    private final SimilarTicketRepository repository = mock(SimilarTicketRepository.class);
+
+    @ParameterizedTest
+    @EnumSource(SimilarTicketEngineType.class)
+    @DisplayName("재구성 중 들어온 해결/재오픈 변경은 교체 후에도 검색과 키워드 추천에 남는다")
+    void replaysChangesDuringRebuild(SimilarTicketEngineType engineType) {
+        // given: A는 조회 시점에 해결 상태, 조회 직후 A 재오픈과 B 해결이 반영됨
+        UUID reopened = UUID.randomUUID();
+        UUID resolved = UUID.randomUUID();
+        SimilarTicketIndexer indexer = new SimilarTicketIndexer(repository, 100, engineType,
+                128, 64, 256, 3, 16, 100, 64, "");
+        given(repository.findKeywords(anyCollection())).willAnswer(invocation -> {
+            Collection<UUID> ids = invocation.getArgument(0);
+            return ids.stream()
+                    .flatMap(id -> KEYWORDS.stream().map(keyword -> new TicketKeywordRow(id, keyword)))
+                    .toList();
+        });
+        given(repository.isResolved(resolved)).willReturn(true);
+        given(repository.findResolvedIds(any(Limit.class))).willAnswer(invocation -> {
+            indexer.onTicketChanged(event(reopened, TicketStatus.CLOSED, TicketStatus.REOPENED));
+            indexer.onTicketChanged(event(resolved, TicketStatus.IN_PROGRESS, TicketStatus.COMPLETED));
+            return List.of(reopened);
+        });
+
+        // when
+        indexer.rebuild();
+
+        // then
+        assertThat(indexer.search(KEYWORDS, null, 0.1, 10))
+                .extracting(SimilarTicketEngine.Match::ticketId)
+                .containsExactly(resolved);
+        assertThat(indexer.recommend(KEYWORDS, 0.0, 10))
+                .extracting(SimilarTicketEngine.Match::ticketId)
+                .containsExactly(resolved);
+    }
+
+    private TicketChangedEvent event(UUID ticketId, TicketStatus previousStatus, TicketStatus status) {
+        return TicketChangedEvent.changed(ticketId, ChangeType.STATUS_CHANGED, previousStatus, status,
+                TicketPriority.MEDIUM, null);
+    }
+}
@@ -0,0 +1,143 @@
+package com.kohub.domain.assignment.service;
+
+import com.kohub.domain.ticket.entity.TicketPriority;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 운영자 부하 색인 단위 테스트
+ */
+@DisplayName("OperatorLoadIndex 단위 테스트")
+class OperatorLoadIndexTest {
+
+    private final UUID orgA = UUID.randomUUID();
+    private final UUID orgB = UUID.randomUUID();
+    private final UUID alice = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private final UUID bob = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private final UUID carol = UUID.fromString("00000000-0000-0000-0000-000000000003");
+
+    private OperatorLoadIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new OperatorLoadIndex();
+        index.replaceOperators(List.of(
+                new OperatorLoadIndex.Candidate(alice, orgA),
+                new OperatorLoadIndex.Candidate(bob, orgA),
+                new OperatorLoadIndex.Candidate(carol, orgB)));
+    }
+
+    @Test
+    @DisplayName("최소 부하 전략은 연속 생성 시 부하를 반영하여 분산 배정한다")
+    void leastLoadedSpreadsBurst() {
+        // given: alice에 CRITICAL 1건 (부하 8)
+        index.apply(UUID.randomUUID(), alice, TicketPriority.CRITICAL, true);
+
+        // when: MEDIUM 티켓 4건을 연속 배정
+        List<UUID> picked = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            UUID assignee = index.pick(AssignmentStrategy.LEAST_LOADED, null);
+            index.apply(UUID.randomUUID(), assignee, TicketPriority.MEDIUM, true);
+            picked.add(assignee);
+        }
+
+        // then: 부하가 큰 alice는 제외되고 bob/carol이 번갈아 배정
+        assertThat(picked).doesNotContain(alice).containsOnly(bob, carol);
+        assertThat(index.loadOf(bob)).isEqualTo(4);
+        assertThat(index.loadOf(carol)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("라운드 로빈 전략은 가장 오래전에 배정받은 운영자 순서로 돈다")
+    void roundRobinRotates() {
+        // when
+        List<UUID> picked = List.of(
+                index.pick(AssignmentStrategy.ROUND_ROBIN, null),
+                index.pick(AssignmentStrategy.ROUND_ROBIN, null),
+                index.pick(AssignmentStrategy.ROUND_ROBIN, null),
+                index.pick(AssignmentStrategy.ROUND_ROBIN, null));
+
+        // then
+        assertThat(picked).containsExactly(alice, bob, carol, alice);
+    }
+
+    @Test
+    @DisplayName("조직 우선 전략은 소속 운영자를 고르고, 없으면 전체 최소 부하로 대체한다")
+    void organizationAffinityFallsBack() {
+        // given
+        index.apply(UUID.randomUUID(), alice, TicketPriority.HIGH, true);
+
+        // when & then
+        assertThat(index.pick(AssignmentStrategy.ORGANIZATION_AFFINITY, orgA)).isEqualTo(bob);
+        assertThat(index.pick(AssignmentStrategy.ORGANIZATION_AFFINITY, orgB)).isEqualTo(carol);
+        assertThat(index.pick(AssignmentStrategy.ORGANIZATION_AFFINITY, UUID.randomUUID()))
+                .isIn(bob, carol);
+    }
+
+    @Test
+    @DisplayName("재배정/종료/중복 이벤트를 반영해도 부하가 정확하다")
+    void appliesIdempotently() {
+        // given
+        UUID ticketId = UUID.randomUUID();
+        index.apply(ticketId, alice, TicketPriority.HIGH, true);
+        index.apply(ticketId, alice, TicketPriority.HIGH, true);
+
+        // when: 재배정 후 우선순위 미지정 이벤트
+        index.apply(ticketId, bob, TicketPriority.HIGH, true);
+        index.apply(ticketId, bob, null, true);
+
+        // then
+        assertThat(index.loadOf(alice)).isZero();
+        assertThat(index.loadOf(bob)).isEqualTo(4);
+
+        // when: 종료
+        index.apply(ticketId, bob, TicketPriority.HIGH, false);
+
+        // then
+        assertThat(index.loadOf(bob)).isZero();
+        assertThat(index.ticketCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("대사 시 실제 값과 다른 티켓 수를 반환하고 부하를 다시 계산한다")
+    void reconcilesWithDatabase() {
+        // given: 색인에는 alice 2건, DB에는 1건만 남고 bob에 1건 추가
+        UUID kept = UUID.randomUUID();
+        UUID closedElsewhere = UUID.randomUUID();
+        UUID createdElsewhere = UUID.randomUUID();
+        index.apply(kept, alice, TicketPriority.LOW, true);
+        index.apply(closedElsewhere, alice, TicketPriority.CRITICAL, true);
+
+        // when
+        int drift = index.replaceAssignments(List.of(
+                new OpenAssignment(kept, alice, TicketPriority.LOW),
+                new OpenAssignment(createdElsewhere, bob, TicketPriority.MEDIUM)));
+
+        // then
+        assertThat(drift).isEqualTo(2);
+        assertThat(index.loadOf(alice)).isEqualTo(1);
+        assertThat(index.loadOf(bob)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("운영자가 아닌 담당자의 티켓은 운영자로 추가될 때 부하에 반영된다")
+    void appliesLoadWhenOperatorJoins() {
+        // given
+        UUID dave = UUID.randomUUID();
+        index.apply(UUID.randomUUID(), dave, TicketPriority.CRITICAL, true);
+
+        // when
+        index.replaceOperators(List.of(new OperatorLoadIndex.Candidate(dave, orgB)));
+
+        // then
+        assertThat(index.loadOf(dave)).isEqualTo(8);
+        assertThat(index.operatorCount()).isEqualTo(1);
+    }
+}
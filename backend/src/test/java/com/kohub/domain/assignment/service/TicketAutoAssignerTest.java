@@ -0,0 +1,138 @@
+package com.kohub.domain.assignment.service;
+
+import com.kohub.domain.assignment.repository.AssignmentTicketRepository;
+import com.kohub.domain.ticket.entity.Activity;
+import com.kohub.domain.ticket.entity.ActivityType;
+import com.kohub.domain.ticket.entity.Ticket;
+import com.kohub.domain.ticket.entity.TicketPriority;
+import com.kohub.domain.ticket.entity.TicketSource;
+import com.kohub.domain.ticket.entity.TicketStatus;
+import com.kohub.domain.user.entity.User;
+import com.kohub.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 티켓 자동 배정 단위 테스트 (커밋 후 부하 반영)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TicketAutoAssigner 단위 테스트")
+class TicketAutoAssignerTest {
+
+    private final UUID alice = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private final UUID bob = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+    @Mock
+    private AssignmentTicketRepository ticketRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private TicketAutoAssigner autoAssigner;
+
+    @BeforeEach
+    void setUp() {
+        given(userRepository.findOperators()).willReturn(List.of(
+                User.builder().id(alice).build(), User.builder().id(bob).build()));
+        given(ticketRepository.findOpenAssignments(any())).willReturn(List.of());
+        autoAssigner = new TicketAutoAssigner(ticketRepository, userRepository, true,
+                AssignmentStrategy.LEAST_LOADED, 100);
+        autoAssigner.rebuild();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.afterCompletion(
+                TransactionSynchronization.STATUS_UNKNOWN));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("배정 부하는 커밋 후 색인에 반영하고, 커밋 전에는 같은 트랜잭션의 배정만 분산한다")
+    void appliesLoadAfterCommit() {
+        // when: 한 트랜잭션에서 HIGH 티켓 4건 자동 배정
+        List<UUID> picked = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Ticket ticket = alertTicket();
+            autoAssigner.assign(ticket);
+            autoAssigner.track(ticket);
+            picked.add(ticket.getAssigneeId());
+            assertThat(ticket.getStatus()).isEqualTo(TicketStatus.ASSIGNED);
+        }
+
+        // then: 트랜잭션 안에서 번갈아 배정, 색인에는 아직 부하 없음
+        assertThat(picked).containsExactly(alice, bob, alice, bob);
+        assertThat(autoAssigner.loadOf(alice)).isZero();
+        assertThat(autoAssigner.loadOf(bob)).isZero();
+
+        // when: 커밋
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // then: 운영자별 HIGH 2건 (부하 8)
+        assertThat(autoAssigner.loadOf(alice)).isEqualTo(8);
+        assertThat(autoAssigner.loadOf(bob)).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("롤백된 배정은 색인 부하에 남지 않는다")
+    void discardsLoadOnRollback() {
+        // given
+        Ticket ticket = alertTicket();
+        autoAssigner.assign(ticket);
+        autoAssigner.track(ticket);
+
+        // when: 롤백
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // then
+        assertThat(autoAssigner.loadOf(ticket.getAssigneeId())).isZero();
+        assertThat(TransactionSynchronizationManager.hasResource(autoAssigner)).isFalse();
+    }
+
+    @Test
+    @DisplayName("자동 배정은 상태 머신을 따라 접수 후 배정하고 전이를 활동으로 남긴다")
+    void followsStateMachine() {
+        // given
+        Ticket ticket = alertTicket();
+
+        // when
+        autoAssigner.assign(ticket);
+
+        // then: NEW → RECEIVED → ASSIGNED 전이 2건 + 배정 1건
+        assertThat(ticket.getStatus()).isEqualTo(TicketStatus.ASSIGNED);
+        assertThat(ticket.getActivities()).extracting(Activity::getType).containsExactly(
+                ActivityType.STATUS_CHANGE, ActivityType.STATUS_CHANGE, ActivityType.ASSIGNMENT);
+    }
+
+    private Ticket alertTicket() {
+        return Ticket.builder()
+                .id(UUID.randomUUID())
+                .title("CPU 사용률 경고")
+                .source(TicketSource.PROMETHEUS)
+                .priority(TicketPriority.HIGH)
+                .build();
+    }
+}
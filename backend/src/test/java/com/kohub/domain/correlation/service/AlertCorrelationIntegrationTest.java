@@ -0,0 +1,81 @@
+package com.kohub.domain.correlation.service;
+
+import com.kohub.domain.host.entity.Host;
+import com.kohub.domain.host.repository.HostRepository;
+import com.kohub.domain.ticket.dto.TicketRequest;
+import com.kohub.domain.ticket.dto.TicketResponse;
+import com.kohub.domain.ticket.entity.TicketPriority;
+import com.kohub.domain.ticket.entity.TicketSource;
+import com.kohub.domain.ticket.entity.TicketStatus;
+import com.kohub.domain.ticket.repository.TicketRepository;
+import com.kohub.domain.ticket.service.TicketService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 알림 상관 분석 통합 테스트 (일괄 수집이 영속성 컨텍스트를 비운 뒤의 상위 티켓 변경)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("알림 상관 분석 통합 테스트")
+class AlertCorrelationIntegrationTest {
+
+    @Autowired
+    private AlertCorrelationService correlationService;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private HostRepository hostRepository;
+
+    @Test
+    @DisplayName("새 대표/묶이지 않은 알림과 함께 들어온 연관 알림도 상위 티켓 우선순위를 저장한다")
+    void escalationSurvivesIngestion() {
+        // given: 호스트 A의 상위 티켓(LOW), 호스트 C의 종료된 티켓
+        String runId = UUID.randomUUID().toString();
+        Host hostA = hostRepository.save(Host.builder().name("host-a-" + runId).build());
+        Host hostB = hostRepository.save(Host.builder().name("host-b-" + runId).build());
+        Host hostC = hostRepository.save(Host.builder().name("host-c-" + runId).build());
+        UUID parentId = correlationService.process(List.of(alert(hostA, runId + ":a-1", TicketPriority.LOW)))
+                .created().get(0).getId();
+        TicketResponse closed = ticketService.create(alert(hostC, runId + ":c-1", TicketPriority.MEDIUM), null);
+        ticketService.transition(closed.getId(), TicketStatus.CLOSED, "테스트", null);
+
+        // when: 연관 알림(A), 새 대표와 하위(B), 종료된 대표와 묶이지 않은 나머지(C)를 한 묶음으로
+        AlertCorrelationService.Result result = correlationService.process(List.of(
+                alert(hostA, runId + ":a-2", TicketPriority.CRITICAL),
+                alert(hostB, runId + ":b-1", TicketPriority.MEDIUM),
+                alert(hostB, runId + ":b-2", TicketPriority.MEDIUM),
+                alert(hostC, runId + ":c-1", TicketPriority.MEDIUM),
+                alert(hostC, runId + ":c-2", TicketPriority.MEDIUM)));
+
+        // then
+        assertThat(result.correlated()).isEqualTo(2);
+        assertThat(result.parentIds()).contains(parentId);
+        assertThat(ticketRepository.findBySourceEventId(runId + ":c-2")).isPresent();
+        assertThat(ticketRepository.findById(parentId).orElseThrow().getPriority())
+                .isEqualTo(TicketPriority.CRITICAL);
+    }
+
+    private TicketRequest alert(Host host, String sourceEventId, TicketPriority priority) {
+        return TicketRequest.builder()
+                .title("노드 응답 없음 " + sourceEventId)
+                .source(TicketSource.UPTIME_KUMA)
+                .sourceEventId(sourceEventId)
+                .priority(priority)
+                .hostId(host.getId())
+                .build();
+    }
+}
@@ -0,0 +1,318 @@
+package com.kohub.domain.correlation.service;
+
+import com.kohub.domain.host.entity.Host;
+import com.kohub.domain.host.repository.HostRepository;
+import com.kohub.domain.ticket.dto.TicketRequest;
+import com.kohub.domain.ticket.dto.TicketResponse;
+import com.kohub.domain.ticket.entity.Activity;
+import com.kohub.domain.ticket.entity.ActivityType;
+import com.kohub.domain.ticket.entity.Ticket;
+import com.kohub.domain.ticket.entity.TicketPriority;
+import com.kohub.domain.ticket.entity.TicketSource;
+import com.kohub.domain.ticket.entity.TicketStatus;
+import com.kohub.domain.ticket.event.TicketChangedEvent;
+import com.kohub.domain.ticket.repository.ActivityRepository;
+import com.kohub.domain.ticket.repository.TicketRepository;
+import com.kohub.domain.ticket.service.TicketIngestionService;
+import com.kohub.domain.ticket.service.TicketService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 알림 상관 분석 서비스 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AlertCorrelationService 단위 테스트")
+class AlertCorrelationServiceTest {
+
+    @Mock
+    private TicketService ticketService;
+
+    @Mock
+    private TicketIngestionService ticketIngestionService;
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private ActivityRepository activityRepository;
+
+    @Mock
+    private HostRepository hostRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private AlertCorrelationService correlationService;
+    private final UUID organizationId = UUID.randomUUID();
+    private final Map<UUID, Ticket> tickets = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        correlationService = new AlertCorrelationService(ticketService, ticketIngestionService, ticketRepository,
+                activityRepository, hostRepository, eventPublisher, true, 300, 3600);
+
+        // 생성된 티켓은 조회 가능한 상위 티켓이 된다
+        lenient().when(ticketService.create(any(TicketRequest.class), isNull()))
+                .thenAnswer(inv -> createTicket(inv.getArgument(0)));
+        lenient().when(ticketIngestionService.ingest(anyList(), isNull())).thenAnswer(inv -> {
+            List<TicketRequest> requests = inv.getArgument(0);
+            return requests.stream().map(this::createTicket).toList();
+        });
+        lenient().when(ticketRepository.findById(any())).thenAnswer(inv -> Optional.ofNullable(tickets.get(inv.getArgument(0))));
+    }
+
+    private TicketResponse createTicket(TicketRequest request) {
+        Ticket ticket = Ticket.builder()
+                .id(UUID.randomUUID())
+                .title(request.getTitle())
+                .source(request.getSource())
+                .sourceEventId(request.getSourceEventId())
+                .priority(request.getPriority())
+                .hostId(request.getHostId())
+                .status(TicketStatus.NEW)
+                .build();
+        tickets.put(ticket.getId(), ticket);
+        return TicketResponse.from(ticket);
+    }
+
+    @Test
+    @DisplayName("같은 호스트의 알림 묶음은 티켓 1건과 연관 알림 활동으로 처리된다")
+    void groupsSameHost() {
+        // given
+        Host host = host("web-01", List.of());
+
+        // when
+        AlertCorrelationService.Result result = correlationService.process(List.of(
+                alert(host, "HTTP 다운", "uptime:1"),
+                alert(host, "Ping 실패", "uptime:2"),
+                alert(host, "TLS 오류", "uptime:3")));
+
+        // then
+        assertThat(result.created()).hasSize(1);
+        assertThat(result.correlated()).isEqualTo(2);
+        assertThat(result.parentIds()).containsExactly(result.created().get(0).getId());
+        List<Activity> activities = savedActivities();
+        assertThat(activities).hasSize(2)
+                .allSatisfy(activity -> assertThat(activity.getType()).isEqualTo(ActivityType.CORRELATED_ALERT));
+        verify(eventPublisher, times(1)).publishEvent(any(TicketChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("태그를 공유하는 다른 호스트의 알림도 같은 인시던트로 묶인다")
+    void groupsSharedTags() {
+        // given
+        Host first = host("db-01", List.of("rack-3"));
+        Host second = host("db-02", List.of("rack-3", "db"));
+        Host other = host("web-09", List.of("rack-7"));
+
+        // when: 요청을 나눠 받아도 윈도우 안이면 같은 상위 티켓
+        correlationService.process(List.of(alert(first, "DB 다운", "uptime:10")));
+        AlertCorrelationService.Result later = correlationService.process(List.of(
+                alert(second, "DB 다운", "uptime:11"),
+                alert(other, "웹 다운", "uptime:12")));
+
+        // then: 다른 태그의 호스트만 새 티켓
+        assertThat(later.created()).hasSize(1);
+        assertThat(later.created().get(0).getHostId()).isEqualTo(other.getId());
+        assertThat(later.correlated()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재전송된 알림은 활동을 다시 만들지 않고, 종료된 상위 티켓에는 붙이지 않는다")
+    void skipsRepeatsAndClosedParents() {
+        // given
+        Host host = host("api-01", List.of());
+        AlertCorrelationService.Result first = correlationService.process(List.of(alert(host, "API 다운", "uptime:20")));
+
+        // when: 같은 소스 이벤트 재전송
+        AlertCorrelationService.Result repeated = correlationService.process(List.of(alert(host, "API 다운", "uptime:20")));
+
+        // then
+        assertThat(repeated.created()).isEmpty();
+        assertThat(repeated.correlated()).isZero();
+        verify(activityRepository, never()).saveAll(any());
+
+        // when: 상위 티켓 종료 후 새 알림
+        UUID parentId = first.created().get(0).getId();
+        tickets.put(parentId, Ticket.builder().id(parentId).title("API 다운").status(TicketStatus.CLOSED).build());
+        AlertCorrelationService.Result afterClose = correlationService.process(List.of(alert(host, "API 지연", "uptime:21")));
+
+        // then
+        assertThat(afterClose.created()).hasSize(1);
+        assertThat(afterClose.correlated()).isZero();
+    }
+
+    @Test
+    @DisplayName("묶이지 않은 나머지 알림은 일괄 수집 경로로 한 번에 생성한다")
+    @SuppressWarnings("unchecked")
+    void ingestsUncorrelatedRemainder() {
+        // given: 서로 다른 호스트 3대, 첫 호스트는 알림 2건
+        Host web = host("web-01", List.of());
+        Host db = host("db-01", List.of());
+        Host cache = host("cache-01", List.of());
+
+        // when
+        AlertCorrelationService.Result result = correlationService.process(List.of(
+                alert(web, "HTTP 다운", "uptime:40"),
+                alert(db, "DB 다운", "uptime:41"),
+                alert(web, "Ping 실패", "uptime:42"),
+                alert(cache, "캐시 다운", "uptime:43")));
+
+        // then: 호스트별 대표 3건만 일괄 생성, 같은 호스트 알림은 활동으로
+        ArgumentCaptor<List<TicketRequest>> ingested = ArgumentCaptor.forClass(List.class);
+        verify(ticketIngestionService).ingest(ingested.capture(), isNull());
+        assertThat(ingested.getValue()).extracting(TicketRequest::getSourceEventId)
+                .containsExactly("uptime:40", "uptime:41", "uptime:43");
+        verify(ticketService, never()).create(any(), any());
+        assertThat(result.created()).hasSize(3);
+        assertThat(result.correlated()).isEqualTo(1);
+        assertThat(result.parentIds()).containsExactly(result.created().get(0).getId());
+    }
+
+    @Test
+    @DisplayName("더 심각한 연관 알림은 상위 티켓 우선순위를 올리고 코멘트 이벤트 대신 상향으로 알린다")
+    void escalatesParentPriority() {
+        // given: HIGH 상위 티켓
+        Host host = host("web-01", List.of());
+        AlertCorrelationService.Result first = correlationService.process(List.of(alert(host, "지연", "uptime:50")));
+        Ticket parent = tickets.get(first.created().get(0).getId());
+        given(ticketService.raisePriority(parent, TicketPriority.CRITICAL, "연관 알림")).willReturn(true);
+
+        // when: MEDIUM, CRITICAL 하위 알림
+        TicketRequest medium = alert(host, "경고", "uptime:51");
+        medium.setPriority(TicketPriority.MEDIUM);
+        TicketRequest critical = alert(host, "전면 장애", "uptime:52");
+        critical.setPriority(TicketPriority.CRITICAL);
+        correlationService.process(List.of(medium, critical));
+
+        // then: 가장 높은 우선순위로 한 번 상향, 코멘트 이벤트 없음
+        verify(ticketService).raisePriority(parent, TicketPriority.CRITICAL, "연관 알림");
+        verify(eventPublisher, never()).publishEvent(any(TicketChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("조직을 모르는 호스트는 태그 키를 만들지 않는다")
+    void skipsTagKeysWithoutOrganization() {
+        // given
+        Host host = Host.builder().id(UUID.randomUUID()).name("edge-01").tags(new ArrayList<>(List.of("rack-1")))
+                .build();
+        TicketRequest request = alert(host, "다운", "uptime:60");
+
+        // when
+        List<String> keys = AlertCorrelationService.keysFor(request, host);
+
+        // then
+        assertThat(keys).containsExactly("host:" + host.getId());
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 요청은 먼저 온 요청이 상위 티켓을 연 뒤 연결된다")
+    void serializesConcurrentRequestsPerKey() throws Exception {
+        // given: 첫 요청의 티켓 생성을 붙잡아 둠
+        Host host = host("web-01", List.of());
+        CountDownLatch creating = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(ticketService.create(any(TicketRequest.class), isNull())).willAnswer(inv -> {
+            creating.countDown();
+            assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+            return createTicket(inv.getArgument(0));
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<AlertCorrelationService.Result> first = executor.submit(
+                    () -> correlationService.process(List.of(alert(host, "HTTP 다운", "uptime:70"))));
+            assertThat(creating.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // when: 첫 요청이 상위 티켓을 만드는 동안 같은 호스트 알림
+            Future<AlertCorrelationService.Result> second = executor.submit(
+                    () -> correlationService.process(List.of(alert(host, "Ping 실패", "uptime:71"))));
+            Thread.sleep(100);
+            assertThat(second.isDone()).isFalse();
+            release.countDown();
+
+            // then: 두 번째 요청은 새 티켓 없이 첫 티켓에 연결
+            assertThat(first.get(5, TimeUnit.SECONDS).created()).hasSize(1);
+            AlertCorrelationService.Result later = second.get(5, TimeUnit.SECONDS);
+            assertThat(later.created()).isEmpty();
+            assertThat(later.correlated()).isEqualTo(1);
+            verify(ticketService, times(1)).create(any(), any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("비활성화 시 묶음은 일괄 수집 경로로 그대로 생성한다")
+    void bypassesWhenDisabled() {
+        // given
+        AlertCorrelationService disabled = new AlertCorrelationService(ticketService, ticketIngestionService,
+                ticketRepository, activityRepository, hostRepository, eventPublisher, false, 300, 3600);
+        Host host = host("web-01", List.of());
+        List<TicketRequest> requests = List.of(alert(host, "A", "p:1"), alert(host, "B", "p:2"));
+        given(ticketIngestionService.ingest(requests, null)).willReturn(List.of());
+
+        // when
+        disabled.process(requests);
+
+        // then
+        verify(ticketIngestionService).ingest(requests, null);
+        verify(ticketService, never()).create(any(), any());
+    }
+
+    private Host host(String name, List<String> tags) {
+        Host host = Host.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .organizationId(organizationId)
+                .tags(new ArrayList<>(tags))
+                .build();
+        lenient().when(hostRepository.findById(host.getId())).thenReturn(Optional.of(host));
+        return host;
+    }
+
+    private TicketRequest alert(Host host, String title, String sourceEventId) {
+        return TicketRequest.builder()
+                .title(title)
+                .source(TicketSource.UPTIME_KUMA)
+                .sourceEventId(sourceEventId)
+                .priority(TicketPriority.HIGH)
+                .hostId(host.getId())
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Activity> savedActivities() {
+        ArgumentCaptor<List<Activity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(activityRepository).saveAll(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,96 @@
+package com.kohub.domain.dashboard.service;
+
+import com.kohub.domain.dashboard.dto.DashboardSummary;
+import com.kohub.domain.host.dto.HostStatsResponse;
+import com.kohub.domain.host.event.HostChangedEvent;
+import com.kohub.domain.host.service.HostService;
+import com.kohub.domain.ticket.dto.TicketStatsResponse;
+import com.kohub.domain.ticket.event.TicketChangedEvent;
+import com.kohub.domain.ticket.service.TicketService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * DashboardSnapshotService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DashboardSnapshotService 테스트")
+class DashboardSnapshotServiceTest {
+
+    @Mock
+    private HostService hostService;
+
+    @Mock
+    private TicketService ticketService;
+
+    private DashboardSnapshotService snapshotService;
+
+    @BeforeEach
+    void setUp() {
+        // 동기 Executor로 병렬 계산 대체
+        snapshotService = new DashboardSnapshotService(hostService, ticketService, Runnable::run, 300);
+        given(hostService.getStats()).willReturn(HostStatsResponse.of(10L, 8L, 1L, 1L));
+        given(ticketService.getStats()).willReturn(TicketStatsResponse.of(5L, 1L, 1L, 1L, 1L, 0L, 1L, 0L, 1L));
+        given(ticketService.getOpenTicketsSlice(any())).willReturn(new SliceImpl<>(List.of()));
+    }
+
+    @Test
+    @DisplayName("변경 없으면 캐시된 스냅샷 재사용")
+    void testGetSummary_Cached() {
+        // when: 반복 조회
+        DashboardSummary first = snapshotService.getSummary();
+        DashboardSummary second = snapshotService.getSummary();
+
+        // then: 한 번만 계산
+        assertThat(second).isSameAs(first);
+        assertThat(first.hosts().getTotal()).isEqualTo(10L);
+        verify(hostService, times(1)).getStats();
+        verify(ticketService, times(1)).getStats();
+    }
+
+    @Test
+    @DisplayName("티켓 변경 이벤트 - 티켓 파트만 재계산")
+    void testTicketChanged_RefreshesTicketPartsOnly() {
+        // given: 스냅샷 생성
+        snapshotService.getSummary();
+
+        // when: 티켓 변경 후 조회
+        snapshotService.onTicketChanged(new TicketChangedEvent(null, TicketChangedEvent.ChangeType.CREATED,
+                null, null, null, null, null, null));
+        snapshotService.getSummary();
+
+        // then: 호스트 통계는 재사용
+        verify(hostService, times(1)).getStats();
+        verify(ticketService, times(2)).getStats();
+        verify(ticketService, times(2)).getOpenTicketsSlice(any());
+    }
+
+    @Test
+    @DisplayName("호스트 변경 이벤트 - 호스트 파트만 재계산")
+    void testHostChanged_RefreshesHostPartOnly() {
+        // given: 스냅샷 생성
+        snapshotService.getSummary();
+
+        // when: 호스트 변경 후 조회
+        snapshotService.onHostChanged(new HostChangedEvent(null, HostChangedEvent.ChangeType.UPDATED,
+                null, null, null));
+        snapshotService.getSummary();
+
+        // then: 티켓 파트는 재사용
+        verify(hostService, times(2)).getStats();
+        verify(ticketService, times(1)).getStats();
+    }
+}
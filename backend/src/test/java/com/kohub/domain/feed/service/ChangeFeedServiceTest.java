@@ -0,0 +1,157 @@
+package com.kohub.domain.feed.service;
+
+import com.kohub.common.stream.SseBroadcastChannel;
+import com.kohub.domain.feed.dto.ChangeFeedEvent;
+import com.kohub.domain.ticket.entity.TicketPriority;
+import com.kohub.domain.ticket.entity.TicketStatus;
+import com.kohub.domain.ticket.event.TicketChangedEvent;
+import com.kohub.domain.ticket.event.TicketChangedEvent.ChangeType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 변경 피드 단위 테스트 (Last-Event-ID 재개, 버퍼 밖 재연결 시 reset)
+ */
+@DisplayName("ChangeFeedService 단위 테스트")
+class ChangeFeedServiceTest {
+
+    private static final int BUFFER_SIZE = 4;
+
+    private final TestChannelFactory channels = new TestChannelFactory();
+    private final ChangeFeedService feedService = new ChangeFeedService(channels::create, 60_000L);
+
+    @Test
+    @DisplayName("Last-Event-ID가 버퍼에 있으면 다음 변경부터 이어서 전송")
+    void testSubscribe_ResumesFromLastEventId() {
+        // given: 최초 구독자가 변경 3건 수신
+        RecordingEmitter first = channels.nextEmitter();
+        feedService.subscribe(null);
+        publishTickets(3);
+        String lastSeen = first.events.get(0).id();
+
+        // when: 첫 번째 이벤트 ID로 재연결
+        RecordingEmitter resumed = channels.nextEmitter();
+        feedService.subscribe(lastSeen);
+
+        // then: 빠진 2건만 순서대로, reset 없음
+        assertThat(first.events).extracting(SentEvent::name).containsOnly(ChangeFeedService.CHANGE_EVENT);
+        assertThat(resumed.events).extracting(SentEvent::id)
+                .containsExactly(first.events.get(1).id(), first.events.get(2).id());
+        assertThat(resumed.events).extracting(SentEvent::name).containsOnly(ChangeFeedService.CHANGE_EVENT);
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID가 버퍼에서 밀려났으면 reset 후 이후 변경만 전송")
+    void testSubscribe_ResetsOnGap() {
+        // given: 버퍼 크기보다 많은 변경
+        RecordingEmitter first = channels.nextEmitter();
+        feedService.subscribe(null);
+        publishTickets(1);
+        String stale = first.events.get(0).id();
+        publishTickets(BUFFER_SIZE + 2);
+
+        // when: 밀려난 ID로 재연결 후 새 변경
+        RecordingEmitter resumed = channels.nextEmitter();
+        feedService.subscribe(stale);
+        publishTickets(1);
+
+        // then: reset 1건 + 새 변경 1건
+        assertThat(resumed.events).extracting(SentEvent::name)
+                .containsExactly(ChangeFeedService.RESET_EVENT, ChangeFeedService.CHANGE_EVENT);
+        assertThat(resumed.events.get(1).id()).isEqualTo(first.events.get(first.events.size() - 1).id());
+    }
+
+    @Test
+    @DisplayName("이전 프로세스가 발급한 ID면 reset")
+    void testSubscribe_ResetsOnForeignEpoch() {
+        // given
+        publishTickets(2);
+
+        // when: 다른 epoch의 ID로 재연결
+        RecordingEmitter resumed = channels.nextEmitter();
+        feedService.subscribe("previous-epoch:1");
+
+        // then
+        assertThat(resumed.events).extracting(SentEvent::name).containsExactly(ChangeFeedService.RESET_EVENT);
+    }
+
+    private void publishTickets(int count) {
+        for (int i = 0; i < count; i++) {
+            feedService.onTicketChanged(new TicketChangedEvent(UUID.randomUUID(), ChangeType.CREATED, null,
+                    TicketStatus.NEW, TicketPriority.HIGH, null, null, Instant.now()));
+        }
+    }
+
+    /**
+     * 같은 스레드에서 전송하고 생성할 SseEmitter를 테스트에서 지정하는 채널
+     */
+    private static final class TestChannelFactory {
+        private final Deque<SseEmitter> emitters = new ArrayDeque<>();
+
+        private SseBroadcastChannel<ChangeFeedEvent> create(String epoch) {
+            return new SseBroadcastChannel<>("changes", ChangeFeedService.CHANGE_EVENT, epoch, BUFFER_SIZE, 64,
+                    Runnable::run) {
+                @Override
+                protected SseEmitter createEmitter(long timeoutMillis) {
+                    return emitters.poll();
+                }
+            };
+        }
+
+        private RecordingEmitter nextEmitter() {
+            RecordingEmitter emitter = new RecordingEmitter();
+            emitters.add(emitter);
+            return emitter;
+        }
+    }
+
+    private record SentEvent(String id, String name) {
+    }
+
+    /**
+     * 전송된 이벤트의 id/event 필드를 기록하는 SseEmitter (서블릿 응답 없이 동작)
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<SentEvent> events = new ArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            Set<DataWithMediaType> parts = builder.build();
+            StringBuilder text = new StringBuilder();
+            for (DataWithMediaType part : parts) {
+                if (part.getData() instanceof String chunk) {
+                    text.append(chunk);
+                }
+            }
+            String id = null;
+            String name = null;
+            for (String line : text.toString().split("\n")) {
+                if (line.startsWith("id:")) {
+                    id = line.substring(3);
+                } else if (line.startsWith("event:")) {
+                    name = line.substring(6);
+                }
+            }
+            events.add(new SentEvent(id, name));
+        }
+
+        @Override
+        public synchronized void complete() {
+        }
+
+        @Override
+        public synchronized void completeWithError(Throwable ex) {
+        }
+    }
+}
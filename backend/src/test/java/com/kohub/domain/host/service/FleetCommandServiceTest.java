@@ -0,0 +1,188 @@
+package com.kohub.domain.host.service;
+
+import com.kohub.adapter.CommandExecutor;
+import com.kohub.common.config.FleetConfig;
+import com.kohub.common.exception.BusinessException;
+import com.kohub.domain.host.dto.FleetCommandRequest;
+import com.kohub.domain.host.dto.FleetCommandResult;
+import com.kohub.domain.host.entity.Host;
+import com.kohub.domain.host.entity.HostStatus;
+import com.kohub.domain.host.entity.SshConfig;
+import com.kohub.domain.host.repository.HostRepository;
+import com.kohub.domain.terminal.dto.TerminalLogResponse;
+import com.kohub.domain.terminal.service.TerminalLogService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * 다중 호스트 명령 실행 서비스 단위 테스트 (Termix 스텁 사용)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FleetCommandService 단위 테스트")
+class FleetCommandServiceTest {
+
+    @Mock
+    private HostRepository hostRepository;
+
+    @Mock
+    private TerminalLogService terminalLogService;
+
+    private StubCommandExecutor stubExecutor;
+    private ThreadPoolTaskExecutor workerPool;
+    private FleetCommandService fleetCommandService;
+
+    @BeforeEach
+    void setUp() {
+        stubExecutor = new StubCommandExecutor();
+        workerPool = new FleetConfig().fleetCommandExecutor(8, 100);
+        fleetCommandService = new FleetCommandService(hostRepository, terminalLogService, stubExecutor, workerPool,
+                8, 4, 5);
+        lenient().when(terminalLogService.recordCommandExecution(any(), any(), anyString(), anyString(), any()))
+                .thenReturn(TerminalLogResponse.builder().id(UUID.randomUUID()).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        workerPool.shutdown();
+    }
+
+    @Test
+    @DisplayName("태그로 선택한 호스트 전체 실행 - 동시 실행 수 제한 준수")
+    void testExecute_BoundedParallelism() throws Exception {
+        // given: 20개 호스트, 동시 실행 3
+        List<Host> hosts = hosts(20);
+        given(hostRepository.findByTagAndStatus("web", HostStatus.ACTIVE, null)).willReturn(hosts);
+        stubExecutor.delayMillis = 30;
+
+        RecordingListener listener = new RecordingListener();
+        FleetCommandRequest request = FleetCommandRequest.builder()
+                .command("uptime").tag("web").parallelism(3).build();
+
+        // when: 실행
+        fleetCommandService.execute(request, null, listener);
+
+        // then: 전체 결과 수신, 동시 실행 3 이하, TerminalLog 저장
+        assertThat(listener.completed.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(listener.results).hasSize(20);
+        assertThat(listener.summary.get().getSucceeded()).isEqualTo(20);
+        assertThat(stubExecutor.maxConcurrent.get()).isLessThanOrEqualTo(3);
+        verify(terminalLogService, times(20))
+                .recordCommandExecution(any(), any(), startsWith("fleet:"), eq("uptime"), any());
+    }
+
+    @Test
+    @DisplayName("호스트별 타임아웃 초과 - TIMEOUT 처리 후 나머지 계속")
+    void testExecute_PerHostTimeout() throws Exception {
+        // given: 첫 호스트만 응답 지연
+        List<Host> hosts = hosts(3);
+        given(hostRepository.findByOrganizationIdAndStatus(any(), eq(HostStatus.ACTIVE))).willReturn(hosts);
+        stubExecutor.slowHost = hosts.get(0).getId();
+
+        RecordingListener listener = new RecordingListener();
+        FleetCommandRequest request = FleetCommandRequest.builder()
+                .command("df -h").organizationId(UUID.randomUUID()).timeoutSeconds(1).build();
+
+        // when: 실행
+        fleetCommandService.execute(request, null, listener);
+
+        // then: 1건 TIMEOUT, 2건 성공
+        assertThat(listener.completed.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(listener.summary.get().getTimedOut()).isEqualTo(1);
+        assertThat(listener.summary.get().getSucceeded()).isEqualTo(2);
+        assertThat(listener.results)
+                .filteredOn(r -> r.getStatus() == CommandExecutor.Status.TIMEOUT)
+                .extracting(FleetCommandResult::getHostId)
+                .containsExactly(hosts.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("선택 조건 없음 - 실패")
+    void testExecute_NoSelector() {
+        FleetCommandRequest request = FleetCommandRequest.builder().command("uptime").build();
+
+        assertThatThrownBy(() -> fleetCommandService.execute(request, null, new RecordingListener()))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private List<Host> hosts(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Host.builder()
+                        .id(UUID.randomUUID())
+                        .name("web-" + i)
+                        .sshConfig(SshConfig.builder().host("10.0.0." + i).port(22).username("ops").build())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Termix 스텁: 지연 후 성공 응답, 동시 실행 수 기록
+     * 느린 호스트는 HTTP read timeout처럼 타임아웃만큼 기다린 뒤 TIMEOUT을 반환
+     */
+    private static class StubCommandExecutor implements CommandExecutor {
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger maxConcurrent = new AtomicInteger();
+        private volatile long delayMillis = 0;
+        private volatile UUID slowHost;
+
+        @Override
+        public CommandResult execute(Host host, String command, java.time.Duration timeout) {
+            int now = running.incrementAndGet();
+            maxConcurrent.accumulateAndGet(now, Math::max);
+            try {
+                if (host.getId().equals(slowHost)) {
+                    Thread.sleep(timeout.toMillis());
+                    return CommandResult.timeout();
+                }
+                Thread.sleep(delayMillis);
+                return CommandResult.of(0, host.getName() + ": ok");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return CommandResult.error("interrupted");
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+    }
+
+    private static class RecordingListener implements FleetCommandService.FleetCommandListener {
+        private final Queue<FleetCommandResult> results = new ConcurrentLinkedQueue<>();
+        private final AtomicReference<FleetCommandResult.Summary> summary = new AtomicReference<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void onStarted(String batchId, int hostCount) {
+        }
+
+        @Override
+        public void onResult(FleetCommandResult result) {
+            results.add(result);
+        }
+
+        @Override
+        public void onCompleted(FleetCommandResult.Summary summary) {
+            this.summary.set(summary);
+            completed.countDown();
+        }
+    }
+}
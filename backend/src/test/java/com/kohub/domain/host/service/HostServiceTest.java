@@ -2,6 +2,7 @@ package com.kohub.domain.host.service;
 
 import com.kohub.common.exception.BusinessException;
 import com.kohub.common.exception.ErrorCode;
+import com.kohub.common.pagination.RowCountEstimator;
 import com.kohub.domain.host.dto.HostRequest;
 import com.kohub.domain.host.dto.HostResponse;
 import com.kohub.domain.host.dto.HostStatsResponse;
@@ -21,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -45,6 +47,12 @@ class HostServiceTest {
     @Mock
     private HostRepository hostRepository;
 
+    @Mock
+    private RowCountEstimator rowCountEstimator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private HostService hostService;
 
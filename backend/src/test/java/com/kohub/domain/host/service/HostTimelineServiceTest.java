@@ -0,0 +1,166 @@
+package com.kohub.domain.host.service;
+
+import com.kohub.common.exception.BusinessException;
+import com.kohub.common.pagination.CursorPage;
+import com.kohub.domain.host.dto.HostTimelineEntry;
+import com.kohub.domain.host.dto.HostTimelineEntry.Kind;
+import com.kohub.domain.host.repository.HostRepository;
+import com.kohub.domain.notification.repository.NotificationRepository;
+import com.kohub.domain.terminal.entity.TerminalLog;
+import com.kohub.domain.terminal.repository.TerminalLogRepository;
+import com.kohub.domain.ticket.entity.Ticket;
+import com.kohub.domain.ticket.entity.TicketPriority;
+import com.kohub.domain.ticket.entity.TicketStatus;
+import com.kohub.domain.ticket.repository.ActivityRepository;
+import com.kohub.domain.ticket.repository.TicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 호스트 타임라인 서비스 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HostTimelineService 단위 테스트")
+class HostTimelineServiceTest {
+
+    @Mock
+    private HostRepository hostRepository;
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private ActivityRepository activityRepository;
+
+    @Mock
+    private TerminalLogRepository terminalLogRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @InjectMocks
+    private HostTimelineService hostTimelineService;
+
+    private final UUID hostId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(hostRepository.existsById(hostId)).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("소스별 최신순 목록을 시각 역순, 같은 시각이면 종류 순서로 병합한다")
+    void mergesByTimeThenKind() {
+        // given
+        Instant now = Instant.parse("2026-01-10T00:00:00Z");
+        HostTimelineEntry ticket = entry(Kind.TICKET, now);
+        HostTimelineEntry olderTicket = entry(Kind.TICKET, now.minusSeconds(30));
+        HostTimelineEntry activity = entry(Kind.ACTIVITY, now.minusSeconds(10));
+        HostTimelineEntry session = entry(Kind.TERMINAL_SESSION, now);
+        HostTimelineEntry notification = entry(Kind.NOTIFICATION, now.minusSeconds(20));
+
+        // when
+        List<HostTimelineEntry> merged = HostTimelineService.merge(List.of(
+                List.of(session), List.of(notification), List.of(ticket, olderTicket), List.of(activity), List.of()), 4);
+
+        // then
+        assertThat(merged).containsExactly(ticket, session, activity, notification);
+    }
+
+    @Test
+    @DisplayName("다음 페이지는 커서 종류보다 앞 소스는 같은 시각을 제외하고, 같은 소스는 커서 id 이후부터 읽는다")
+    void resumesEachSourceFromCursor() {
+        // given: 티켓 t3, t1 / 세션 t2 → 첫 페이지 [티켓 t3, 세션 t2]
+        LocalDateTime base = LocalDateTime.of(2026, 1, 10, 9, 0);
+        Ticket latest = ticket(base.plusMinutes(3));
+        Ticket oldest = ticket(base.plusMinutes(1));
+        TerminalLog session = TerminalLog.builder()
+                .id(UUID.randomUUID()).hostId(hostId).sessionId("s-1").startedAt(base.plusMinutes(2)).build();
+        given(ticketRepository.findLatestByHostId(eq(hostId), any())).willReturn(List.of(latest, oldest));
+        given(activityRepository.findLatestByHostId(eq(hostId), any())).willReturn(List.of());
+        given(terminalLogRepository.findLatestByHostId(eq(hostId), any())).willReturn(List.of(session));
+
+        // when
+        CursorPage<HostTimelineEntry> first = hostTimelineService.getTimeline(hostId, null, null, 2);
+
+        // then
+        assertThat(first.content()).extracting(HostTimelineEntry::id).containsExactly(latest.getId(), session.getId());
+        assertThat(first.hasNext()).isTrue();
+
+        // given: 두 번째 페이지
+        Instant cursorAt = HostTimelineEntry.toInstant(session.getStartedAt());
+        given(ticketRepository.findByHostIdBefore(eq(hostId), eq(cursorAt), eq(new UUID(0L, 0L)), any()))
+                .willReturn(List.of(oldest));
+        given(activityRepository.findByHostIdBefore(eq(hostId), eq(cursorAt), eq(new UUID(0L, 0L)), any()))
+                .willReturn(List.of());
+        given(terminalLogRepository.findByHostIdBefore(eq(hostId), eq(session.getStartedAt()), eq(session.getId()), any()))
+                .willReturn(List.of());
+
+        // when
+        CursorPage<HostTimelineEntry> second = hostTimelineService.getTimeline(hostId, null, first.nextCursor(), 2);
+
+        // then
+        assertThat(second.content()).extracting(HostTimelineEntry::id).containsExactly(oldest.getId());
+        assertThat(second.hasNext()).isFalse();
+        verifyNoInteractions(notificationRepository);
+    }
+
+    @Test
+    @DisplayName("조회자가 있으면 조회자의 호스트 알림도 포함한다")
+    void includesViewerNotifications() {
+        // given
+        UUID viewerId = UUID.randomUUID();
+        given(ticketRepository.findLatestByHostId(eq(hostId), any())).willReturn(List.of());
+        given(activityRepository.findLatestByHostId(eq(hostId), any())).willReturn(List.of());
+        given(terminalLogRepository.findLatestByHostId(eq(hostId), any())).willReturn(List.of());
+        given(notificationRepository.findLatestByHost(eq(hostId), eq(viewerId), any())).willReturn(List.of());
+
+        // when
+        CursorPage<HostTimelineEntry> page = hostTimelineService.getTimeline(hostId, viewerId, null, 20);
+
+        // then
+        assertThat(page.content()).isEmpty();
+        verify(notificationRepository).findLatestByHost(eq(hostId), eq(viewerId), any());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 INVALID_REQUEST 예외")
+    void rejectsInvalidCursor() {
+        assertThatThrownBy(() -> hostTimelineService.getTimeline(hostId, null, "not-a-cursor", 20))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private Ticket ticket(LocalDateTime createdAt) {
+        return Ticket.builder()
+                .id(UUID.randomUUID())
+                .title("CPU 경고")
+                .hostId(hostId)
+                .status(TicketStatus.NEW)
+                .priority(TicketPriority.HIGH)
+                .createdAt(HostTimelineEntry.toInstant(createdAt))
+                .build();
+    }
+
+    private static HostTimelineEntry entry(Kind kind, Instant at) {
+        return new HostTimelineEntry(kind, UUID.randomUUID(), at, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,166 @@
+package com.kohub.domain.notification.service;
+
+import com.kohub.common.pagination.RowCountEstimator;
+import com.kohub.domain.notification.dto.NotificationRequest;
+import com.kohub.domain.notification.entity.Notification;
+import com.kohub.domain.notification.entity.NotificationChannel;
+import com.kohub.domain.notification.entity.NotificationStatus;
+import com.kohub.domain.notification.entity.NotificationType;
+import com.kohub.domain.notification.repository.NotificationDedupeRepository;
+import com.kohub.domain.notification.repository.NotificationRepository;
+import com.kohub.domain.notification.repository.NotificationSettingRepository;
+import com.kohub.domain.notification.sender.InAppNotificationSender;
+import com.kohub.domain.notification.sender.NotificationSender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * 알림 서비스 단위 테스트 (외부 채널 커밋 후 발송)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationService 단위 테스트")
+class NotificationServiceTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationDedupeRepository dedupeRepository;
+
+    @Mock
+    private NotificationSettingRepository settingRepository;
+
+    @Mock
+    private RowCountEstimator rowCountEstimator;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private NotificationSender slackSender;
+
+    private NotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        Map<NotificationChannel, NotificationSender> senders = Map.of(
+                NotificationChannel.IN_APP, new InAppNotificationSender(),
+                NotificationChannel.SLACK, slackSender);
+        notificationService = new NotificationService(notificationRepository, dedupeRepository, settingRepository, senders,
+                rowCountEstimator, transactionManager);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("Slack 발송은 커밋 후 - 트랜잭션 안에서는 인앱만 처리")
+    @SuppressWarnings("unchecked")
+    void testSendNotification_ExternalAfterCommit() {
+        // given: 인앱 + Slack 채널
+        given(slackSender.isEnabled()).willReturn(true);
+        given(slackSender.send(any())).willReturn(true);
+        given(notificationRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when: 트랜잭션 안에서 알림 생성
+        notificationService.sendNotification(NotificationRequest.builder()
+                .recipientIds(Set.of(UUID.randomUUID()))
+                .type(NotificationType.TICKET_ASSIGNED)
+                .channels(Set.of(NotificationChannel.IN_APP, NotificationChannel.SLACK))
+                .title("티켓 배정")
+                .build());
+
+        // then: 인앱은 즉시 SENT, Slack은 아직 미발송
+        ArgumentCaptor<List<Notification>> saved = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepository).saveAll(saved.capture());
+        Notification slack = saved.getValue().stream()
+                .filter(n -> n.getChannel() == NotificationChannel.SLACK).findFirst().orElseThrow();
+        assertThat(saved.getValue())
+                .filteredOn(n -> n.getChannel() == NotificationChannel.IN_APP)
+                .extracting(Notification::getStatus)
+                .containsExactly(NotificationStatus.SENT);
+        verify(slackSender, never()).send(any());
+
+        // when: 커밋
+        given(notificationRepository.findAllById(any())).willReturn(List.of(slack));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // then: Slack 발송 후 상태 저장
+        verify(slackSender).send(slack);
+        assertThat(slack.getStatus()).isEqualTo(NotificationStatus.SENT);
+        verify(notificationRepository, times(2)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("중복 제거 키 - 재전달 시 이미 만든 수신자/채널은 건너뛰고 커밋 후 발송은 호출자에 맡김")
+    @SuppressWarnings("unchecked")
+    void testSendNotification_DedupeKey() {
+        // given: 같은 키로 첫 번째 수신자의 Slack 알림이 이미 선점됨
+        UUID existingRecipient = UUID.randomUUID();
+        UUID newRecipient = UUID.randomUUID();
+        given(dedupeRepository.claim(eq("outbox:7"), eq(existingRecipient), eq("SLACK"), any())).willReturn(0);
+        given(dedupeRepository.claim(eq("outbox:7"), eq(newRecipient), eq("SLACK"), any())).willReturn(1);
+
+        // when: 재전달
+        notificationService.sendNotification(NotificationRequest.builder()
+                .recipientIds(new LinkedHashSet<>(List.of(existingRecipient, newRecipient)))
+                .type(NotificationType.TICKET_CREATED)
+                .channels(Set.of(NotificationChannel.SLACK))
+                .title("새 티켓")
+                .dedupeKey("outbox:7")
+                .build());
+
+        // then: 새 수신자만 생성, 커밋 후 자동 발송 등록 없음
+        ArgumentCaptor<List<Notification>> saved = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(Notification::getRecipientId).containsExactly(newRecipient);
+        assertThat(saved.getValue()).extracting(Notification::getDedupeKey).containsExactly("outbox:7");
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+        verifyNoInteractions(slackSender);
+    }
+
+    @Test
+    @DisplayName("대기 알림 동기 발송 - 실패가 있으면 예외로 재전달 요청")
+    void testDispatchPending_ThrowsOnFailure() {
+        // given: 대기 중인 Slack 알림, 발송 실패
+        Notification pending = Notification.builder().recipientId(UUID.randomUUID())
+                .channel(NotificationChannel.SLACK).type(NotificationType.TICKET_ASSIGNED)
+                .title("티켓 배정").dedupeKey("outbox:9").build();
+        given(notificationRepository.findByDedupeKeyAndStatusIn(eq("outbox:9"), any()))
+                .willReturn(List.of(pending));
+        given(slackSender.isEnabled()).willReturn(true);
+        given(slackSender.send(pending)).willReturn(false);
+
+        // when/then: 실패 상태 저장 후 예외
+        assertThatThrownBy(() -> notificationService.dispatchPending("outbox:9"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(pending.getStatus()).isEqualTo(NotificationStatus.FAILED);
+        verify(notificationRepository).saveAll(List.of(pending));
+    }
+}
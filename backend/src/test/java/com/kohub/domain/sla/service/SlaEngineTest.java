@@ -0,0 +1,149 @@
+package com.kohub.domain.sla.service;
+
+import com.kohub.domain.sla.entity.SlaKind;
+import com.kohub.domain.sla.repository.SlaBreachRepository;
+import com.kohub.domain.sla.repository.SlaTicketRepository;
+import com.kohub.domain.ticket.entity.TicketPriority;
+import com.kohub.domain.ticket.entity.TicketStatus;
+import com.kohub.domain.ticket.event.TicketChangedEvent;
+import com.kohub.domain.ticket.event.TicketChangedEvent.ChangeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * SLA 기한 엔진 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SlaEngine 단위 테스트")
+class SlaEngineTest {
+
+    private static final Duration ACKNOWLEDGE = Duration.ofMinutes(15);
+    private static final Duration RESOLVE = Duration.ofHours(4);
+
+    @Mock
+    private SlaPolicyService policyService;
+
+    @Mock
+    private SlaEscalationService escalationService;
+
+    @Mock
+    private SlaTicketRepository ticketRepository;
+
+    @Mock
+    private SlaBreachRepository breachRepository;
+
+    private SlaEngine engine;
+    private UUID ticketId;
+    private Instant createdAt;
+
+    @BeforeEach
+    void setUp() {
+        engine = new SlaEngine(policyService, escalationService, ticketRepository, breachRepository, 1000, 100, 2);
+        ticketId = UUID.randomUUID();
+        createdAt = Instant.now();
+        given(policyService.deadlinesFor(any(), eq(TicketPriority.CRITICAL)))
+                .willReturn(new SlaPolicyService.Deadlines(ACKNOWLEDGE, RESOLVE));
+    }
+
+    @Test
+    @DisplayName("생성된 티켓은 접수 기한에 에스컬레이션된다")
+    void createdTicketEscalatesAtAcknowledgeDeadline() {
+        // given
+        engine.onTicketChanged(event(ChangeType.CREATED, null, TicketStatus.NEW));
+        assertThat(engine.pendingTimers()).isEqualTo(2);
+
+        // when: 접수 기한 직전, 직후
+        engine.advance(createdAt.plus(ACKNOWLEDGE).minusSeconds(2).toEpochMilli());
+        verifyNoInteractions(escalationService);
+        engine.advance(createdAt.plus(ACKNOWLEDGE).plusSeconds(1).toEpochMilli());
+
+        // then
+        ArgumentCaptor<SlaTimer> captor = ArgumentCaptor.forClass(SlaTimer.class);
+        verify(escalationService).escalate(captor.capture());
+        assertThat(captor.getValue().ticketId()).isEqualTo(ticketId);
+        assertThat(captor.getValue().kind()).isEqualTo(SlaKind.ACKNOWLEDGE);
+        assertThat(engine.pendingTimers()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("접수되면 접수 기한만 취소되고 해결 기한은 유지된다")
+    void acknowledgeCancelsOnlyAcknowledgeTimer() {
+        // given
+        engine.onTicketChanged(event(ChangeType.CREATED, null, TicketStatus.NEW));
+
+        // when
+        engine.onTicketChanged(event(ChangeType.STATUS_CHANGED, TicketStatus.NEW, TicketStatus.RECEIVED));
+        engine.advance(createdAt.plus(RESOLVE).plusSeconds(1).toEpochMilli());
+
+        // then
+        ArgumentCaptor<SlaTimer> captor = ArgumentCaptor.forClass(SlaTimer.class);
+        verify(escalationService, times(1)).escalate(captor.capture());
+        assertThat(captor.getValue().kind()).isEqualTo(SlaKind.RESOLVE);
+    }
+
+    @Test
+    @DisplayName("해결된 티켓은 모든 타이머가 취소된다")
+    void resolvedTicketCancelsAllTimers() {
+        // given
+        engine.onTicketChanged(event(ChangeType.CREATED, null, TicketStatus.NEW));
+
+        // when
+        engine.onTicketChanged(event(ChangeType.STATUS_CHANGED, TicketStatus.NEW, TicketStatus.RESOLVED));
+        engine.advance(createdAt.plus(RESOLVE).plusSeconds(1).toEpochMilli());
+
+        // then
+        assertThat(engine.pendingTimers()).isZero();
+        verifyNoInteractions(escalationService);
+    }
+
+    @Test
+    @DisplayName("재구성 시 이미 지난 기한은 틱당 제한 수만큼 나눠 에스컬레이션된다")
+    void overdueTimersAreSpreadAcrossTicks() {
+        // given: 해결 기한이 지난 접수 티켓 5건, 틱당 2건 제한
+        Instant longAgo = Instant.now().minus(RESOLVE).minusSeconds(3600);
+        List<SlaTarget> overdue = IntStream.range(0, 5)
+                .mapToObj(i -> new SlaTarget(UUID.randomUUID(), null, TicketPriority.CRITICAL,
+                        TicketStatus.RECEIVED, longAgo))
+                .toList();
+        given(ticketRepository.findOpenTargets(any())).willReturn(overdue);
+        long start = System.currentTimeMillis();
+
+        // when: 재구성 후 현재 시각
+        engine.rebuild();
+        engine.advance(start);
+
+        // then: 즉시 일괄 발송 없음
+        verifyNoInteractions(escalationService);
+
+        // when/then: 틱마다 최대 2건, 결국 전부 에스컬레이션
+        int escalated = 0;
+        for (int tick = 1; tick <= 10; tick++) {
+            engine.advance(start + tick * 1000L);
+            int total = mockingDetails(escalationService).getInvocations().size();
+            assertThat(total - escalated).isLessThanOrEqualTo(2);
+            escalated = total;
+        }
+        assertThat(escalated).isEqualTo(5);
+    }
+
+    private TicketChangedEvent event(ChangeType type, TicketStatus from, TicketStatus to) {
+        return new TicketChangedEvent(ticketId, type, from, to, TicketPriority.CRITICAL, null, null, createdAt);
+    }
+}
@@ -0,0 +1,49 @@
+package com.kohub.domain.ticket.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 티켓 키워드 계산 테스트
+ */
+@DisplayName("Ticket 키워드 테스트")
+class TicketKeywordsTest {
+
+    @Test
+    @DisplayName("저장 시 제목/설명에서 정규화 키워드를 계산한다")
+    void computesOnCreate() {
+        // given
+        Ticket ticket = Ticket.builder().title("Nginx 502 오류").description("upstream 응답 없음 - the proxy").build();
+
+        // when
+        ticket.onCreate();
+
+        // then
+        assertThat(ticket.getKeywords()).containsExactlyInAnyOrder("nginx", "502", "오류", "upstream", "응답", "없음", "proxy");
+    }
+
+    @Test
+    @DisplayName("제목/설명이 바뀐 경우에만 키워드를 다시 계산한다")
+    void refreshesOnTextChange() {
+        // given
+        Ticket ticket = Ticket.builder().title("디스크 경고").build();
+        ticket.onCreate();
+        Set<String> before = ticket.getKeywords();
+
+        // when: 우선순위만 변경
+        ticket.update("디스크 경고", null, TicketPriority.HIGH);
+
+        // then
+        assertThat(ticket.getKeywords()).isSameAs(before).containsExactlyInAnyOrder("디스크", "경고");
+
+        // when: 제목 변경
+        ticket.update("디스크 부족", null, TicketPriority.HIGH);
+
+        // then: 같은 컬렉션에서 바뀐 키워드만 교체
+        assertThat(ticket.getKeywords()).isSameAs(before).containsExactlyInAnyOrder("디스크", "부족");
+    }
+}
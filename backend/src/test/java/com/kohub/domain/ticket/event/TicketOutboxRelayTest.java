@@ -0,0 +1,129 @@
+package com.kohub.domain.ticket.event;
+
+import com.kohub.domain.ticket.entity.TicketPriority;
+import com.kohub.domain.ticket.entity.TicketStatus;
+import com.kohub.domain.ticket.event.TicketChangedEvent.ChangeType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * 티켓 이벤트 아웃박스 릴레이 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TicketOutboxRelay 단위 테스트")
+class TicketOutboxRelayTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TicketEventConsumer consumer;
+
+    private TicketOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new TicketOutboxRelay(jdbcTemplate, transactionManager, List.of(consumer),
+                new SimpleMeterRegistry(), 10, 3, 60);
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    @Test
+    @DisplayName("임대한 이벤트를 id 순으로 전달하고 행을 삭제한다")
+    void deliversInOrderAndDeletes() {
+        // given: RETURNING 순서는 보장되지 않음
+        TicketOutboxRelay.OutboxRow second = row(2L, 1);
+        TicketOutboxRelay.OutboxRow first = row(1L, 1);
+        claimReturns(first, second);
+
+        // when
+        int delivered = relay.relay();
+
+        // then
+        assertThat(delivered).isEqualTo(2);
+        var order = inOrder(consumer, jdbcTemplate);
+        order.verify(consumer).consume(1L, first.event());
+        order.verify(consumer).afterConsume(1L, first.event());
+        order.verify(jdbcTemplate).update(TicketOutboxRelay.DELETE_SQL, 1L);
+        order.verify(consumer).consume(2L, second.event());
+        order.verify(consumer).afterConsume(2L, second.event());
+        order.verify(jdbcTemplate).update(TicketOutboxRelay.DELETE_SQL, 2L);
+    }
+
+    @Test
+    @DisplayName("소비자 실패 시 행을 남기고 재시도 시각을 미룬다")
+    void failureSchedulesRetry() {
+        // given
+        TicketOutboxRelay.OutboxRow row = row(7L, 2);
+        claimReturns(row);
+        doThrow(new IllegalStateException("slack down")).when(consumer).consume(7L, row.event());
+
+        // when
+        int delivered = relay.relay();
+
+        // then
+        assertThat(delivered).isZero();
+        verify(jdbcTemplate, never()).update(eq(TicketOutboxRelay.DELETE_SQL), anyLong());
+        verify(jdbcTemplate).update(eq(TicketOutboxRelay.RETRY_SQL), any(), eq("slack down"), eq(7L));
+    }
+
+    @Test
+    @DisplayName("커밋 후 외부 발송 실패 시 행을 남기고 같은 이벤트 ID로 재전달한다")
+    void afterConsumeFailureKeepsRow() {
+        // given: 소비(알림 생성)는 커밋, 외부 발송 실패
+        TicketOutboxRelay.OutboxRow row = row(9L, 1);
+        claimReturns(row);
+        doThrow(new IllegalStateException("알림 발송 실패")).when(consumer).afterConsume(9L, row.event());
+
+        // when
+        int delivered = relay.relay();
+
+        // then
+        assertThat(delivered).isZero();
+        verify(consumer).consume(9L, row.event());
+        verify(jdbcTemplate, never()).update(eq(TicketOutboxRelay.DELETE_SQL), anyLong());
+        verify(jdbcTemplate).update(eq(TicketOutboxRelay.RETRY_SQL), any(), eq("알림 발송 실패"), eq(9L));
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 두 배씩 늘고 10분을 넘지 않는다")
+    void backoffIsExponentialAndCapped() {
+        assertThat(TicketOutboxRelay.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(TicketOutboxRelay.backoff(4)).isEqualTo(Duration.ofSeconds(8));
+        assertThat(TicketOutboxRelay.backoff(30)).isEqualTo(Duration.ofMinutes(10));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void claimReturns(TicketOutboxRelay.OutboxRow... rows) {
+        given(jdbcTemplate.query(eq(TicketOutboxRelay.CLAIM_SQL), any(RowMapper.class), any(), any(), any(), any()))
+                .willReturn(new ArrayList<>(List.of(rows)));
+    }
+
+    private static TicketOutboxRelay.OutboxRow row(long id, int attempts) {
+        return new TicketOutboxRelay.OutboxRow(id, attempts, new TicketChangedEvent(UUID.randomUUID(),
+                ChangeType.CREATED, null, TicketStatus.NEW, TicketPriority.HIGH, null, null, Instant.now()));
+    }
+}
@@ -0,0 +1,83 @@
+package com.kohub.domain.ticket.service;
+
+import com.kohub.domain.ticket.entity.TicketPriority;
+import com.kohub.domain.ticket.entity.TicketStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.sql.ResultSet;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * 종료 티켓 보관 서비스 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TicketArchiveService 단위 테스트")
+class TicketArchiveServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TicketCounterService ticketCounterService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TicketArchiveService archiveService;
+
+    @BeforeEach
+    void setUp() {
+        archiveService = new TicketArchiveService(jdbcTemplate, ticketCounterService, transactionManager, 180, 3);
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+    }
+
+    @Test
+    @DisplayName("가득 찬 배치가 나오는 동안 반복하고 카운터를 보정한다")
+    void archivesUntilShortBatch() throws Exception {
+        // given: 1차 3건(가득), 2차 1건
+        Deque<List<Object[]>> batches = new ArrayDeque<>(List.of(
+                List.<Object[]>of(new Object[]{"HIGH", 2L}, new Object[]{"LOW", 1L}),
+                List.<Object[]>of(new Object[]{"LOW", 1L})));
+        doAnswer(inv -> {
+            RowCallbackHandler handler = inv.getArgument(1);
+            for (Object[] row : batches.poll()) {
+                ResultSet rs = mock(ResultSet.class);
+                given(rs.getString(1)).willReturn((String) row[0]);
+                given(rs.getLong(2)).willReturn((Long) row[1]);
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(), any());
+
+        // when
+        long archived = archiveService.archiveClosedTickets();
+
+        // then
+        assertThat(archived).isEqualTo(4);
+        verify(ticketCounterService).recordChanges(
+                Map.of(TicketStatus.CLOSED, -3L),
+                Map.of(TicketPriority.HIGH, -2L, TicketPriority.LOW, -1L));
+        verify(ticketCounterService).recordChanges(
+                Map.of(TicketStatus.CLOSED, -1L),
+                Map.of(TicketPriority.LOW, -1L));
+        verify(transactionManager, times(2)).commit(any());
+    }
+}
@@ -0,0 +1,214 @@
+package com.kohub.domain.ticket.service;
+
+import com.kohub.common.exception.BusinessException;
+import com.kohub.common.exception.ErrorCode;
+import com.kohub.domain.ticket.dto.TicketBulkRequest;
+import com.kohub.domain.ticket.dto.TicketBulkResult;
+import com.kohub.domain.ticket.entity.Ticket;
+import com.kohub.domain.ticket.entity.TicketPriority;
+import com.kohub.domain.ticket.entity.TicketStatus;
+import com.kohub.domain.ticket.event.TicketChangedEvent;
+import com.kohub.domain.ticket.repository.TicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * 티켓 일괄 처리 서비스 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TicketBulkService 단위 테스트")
+class TicketBulkServiceTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private TicketCounterService ticketCounterService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TicketBulkService bulkService;
+
+    @BeforeEach
+    void setUp() {
+        bulkService = new TicketBulkService(ticketRepository, ticketCounterService, eventPublisher,
+                jdbcTemplate, transactionManager, 5, 2);
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    @Test
+    @DisplayName("전이 불가/미존재 티켓은 건별 실패로 보고하고 나머지만 집합 UPDATE")
+    @SuppressWarnings("unchecked")
+    void transitionReportsPerTicketFailures() {
+        // given
+        Ticket inProgress = ticket(TicketStatus.IN_PROGRESS);
+        Ticket closed = ticket(TicketStatus.CLOSED);
+        UUID missing = UUID.randomUUID();
+        given(ticketRepository.findAllByIdForUpdate(List.of(inProgress.getId(), closed.getId())))
+                .willReturn(List.of(inProgress, closed));
+        given(ticketRepository.findAllByIdForUpdate(List.of(missing))).willReturn(List.of());
+        given(ticketRepository.bulkUpdateStatus(eq(List.of(inProgress.getId())), eq(TicketStatus.PENDING), any()))
+                .willReturn(1);
+
+        TicketBulkRequest request = TicketBulkRequest.builder()
+                .ticketIds(List.of(inProgress.getId(), closed.getId(), missing))
+                .status(TicketStatus.PENDING)
+                .build();
+
+        // when
+        TicketBulkResult result = bulkService.transition(request, null);
+
+        // then
+        assertThat(result.getRequested()).isEqualTo(3);
+        assertThat(result.getUpdatedIds()).containsExactly(inProgress.getId());
+        assertThat(result.getFailures())
+                .extracting(TicketBulkResult.Failure::getTicketId, TicketBulkResult.Failure::getCode)
+                .containsExactlyInAnyOrder(
+                        tuple(closed.getId(), ErrorCode.TICKET_INVALID_STATUS_TRANSITION.getCode()),
+                        tuple(missing, ErrorCode.TICKET_NOT_FOUND.getCode()));
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertThat(rows.getValue()).hasSize(1);
+
+        verify(ticketCounterService).recordChanges(
+                Map.of(TicketStatus.IN_PROGRESS, -1L, TicketStatus.PENDING, 1L), Map.of());
+        verify(eventPublisher).publishEvent(any(TicketChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("배치 크기 단위로 잠금 조회/UPDATE/INSERT 왕복")
+    void resolveRunsPerBatch() {
+        // given
+        List<Ticket> tickets = List.of(
+                ticket(TicketStatus.IN_PROGRESS), ticket(TicketStatus.PENDING), ticket(TicketStatus.IN_PROGRESS));
+        List<UUID> ids = tickets.stream().map(Ticket::getId).toList();
+        given(ticketRepository.findAllByIdForUpdate(ids.subList(0, 2))).willReturn(tickets.subList(0, 2));
+        given(ticketRepository.findAllByIdForUpdate(ids.subList(2, 3))).willReturn(tickets.subList(2, 3));
+        given(ticketRepository.bulkResolve(anyList(), eq("디스크 정리"), any()))
+                .willAnswer(inv -> inv.<List<UUID>>getArgument(0).size());
+
+        TicketBulkRequest request = TicketBulkRequest.builder()
+                .ticketIds(ids)
+                .summary("디스크 정리")
+                .build();
+
+        // when
+        TicketBulkResult result = bulkService.resolve(request, null);
+
+        // then
+        assertThat(result.getSucceeded()).isEqualTo(3);
+        assertThat(result.getFailures()).isEmpty();
+        verify(ticketRepository, times(2)).findAllByIdForUpdate(anyList());
+        verify(ticketRepository, times(2)).bulkResolve(anyList(), eq("디스크 정리"), any());
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("필터 대상이 최대 건수를 넘으면 INVALID_REQUEST")
+    void filterExceedingLimitRejected() {
+        // given
+        given(ticketRepository.findIdsByFilters(eq(TicketStatus.NEW), isNull(), isNull(), isNull(), any(Limit.class)))
+                .willReturn(List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                        UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()));
+
+        TicketBulkRequest request = TicketBulkRequest.builder()
+                .filter(TicketBulkRequest.Filter.builder().status(TicketStatus.NEW).build())
+                .build();
+
+        // when & then
+        assertThatThrownBy(() -> bulkService.close(request, null))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_REQUEST);
+        verify(ticketRepository, never()).findAllByIdForUpdate(anyList());
+    }
+
+    @Test
+    @DisplayName("일괄 배정은 완료/종료된 티켓을 건별 실패로 보고")
+    void assignRejectsTerminalTickets() {
+        // given
+        UUID assigneeId = UUID.randomUUID();
+        Ticket received = ticket(TicketStatus.RECEIVED);
+        Ticket completed = ticket(TicketStatus.COMPLETED);
+        Ticket closed = ticket(TicketStatus.CLOSED);
+        given(ticketRepository.findAllByIdForUpdate(List.of(received.getId(), completed.getId())))
+                .willReturn(List.of(received, completed));
+        given(ticketRepository.findAllByIdForUpdate(List.of(closed.getId()))).willReturn(List.of(closed));
+        given(ticketRepository.bulkAssign(eq(List.of(received.getId())), eq(assigneeId), any())).willReturn(1);
+
+        TicketBulkRequest request = TicketBulkRequest.builder()
+                .ticketIds(List.of(received.getId(), completed.getId(), closed.getId()))
+                .assigneeId(assigneeId)
+                .build();
+
+        // when
+        TicketBulkResult result = bulkService.assign(request, null);
+
+        // then
+        assertThat(result.getUpdatedIds()).containsExactly(received.getId());
+        assertThat(result.getFailures())
+                .extracting(TicketBulkResult.Failure::getTicketId, TicketBulkResult.Failure::getCode)
+                .containsExactlyInAnyOrder(
+                        tuple(completed.getId(), ErrorCode.TICKET_INVALID_STATUS_TRANSITION.getCode()),
+                        tuple(closed.getId(), ErrorCode.TICKET_INVALID_STATUS_TRANSITION.getCode()));
+        verify(ticketRepository, never()).bulkAssign(eq(List.of(closed.getId())), any(), any());
+    }
+
+    @Test
+    @DisplayName("조건이 없는 필터는 전체 티켓을 고르므로 INVALID_REQUEST")
+    void emptyFilterRejected() {
+        // given: 공백 키워드만 있는 필터
+        TicketBulkRequest request = TicketBulkRequest.builder()
+                .filter(TicketBulkRequest.Filter.builder().keyword("  ").build())
+                .assigneeId(UUID.randomUUID())
+                .build();
+
+        // when & then
+        assertThatThrownBy(() -> bulkService.assign(request, null))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_REQUEST);
+        verify(ticketRepository, never()).findIdsByFilters(any(), any(), any(), any(), any());
+    }
+
+    private Ticket ticket(TicketStatus status) {
+        return Ticket.builder()
+                .id(UUID.randomUUID())
+                .title("디스크 사용률 경고")
+                .priority(TicketPriority.HIGH)
+                .status(status)
+                .build();
+    }
+}
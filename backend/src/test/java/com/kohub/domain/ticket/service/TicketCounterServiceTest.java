@@ -0,0 +1,173 @@
+package com.kohub.domain.ticket.service;
+
+import com.kohub.domain.ticket.dto.TicketStatsResponse;
+import com.kohub.domain.ticket.entity.TicketCounter;
+import com.kohub.domain.ticket.entity.TicketPriority;
+import com.kohub.domain.ticket.entity.TicketStatus;
+import com.kohub.domain.ticket.repository.TicketCounterRepository;
+import com.kohub.domain.ticket.repository.TicketRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * TicketCounterService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TicketCounterService 테스트")
+class TicketCounterServiceTest {
+
+    @Mock
+    private TicketCounterRepository counterRepository;
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private TicketCounterService counterService;
+
+    @Test
+    @DisplayName("생성/전이 반영 - 메모리 통계와 카운터 행 증감")
+    void testRecord_UpdatesStatsAndRows() {
+        // given: 카운터 행 존재
+        given(counterRepository.increment(anyString(), anyLong(), any())).willReturn(1);
+
+        // when: 생성 2건, 전이 1건
+        counterService.recordCreated(TicketStatus.NEW, TicketPriority.CRITICAL);
+        counterService.recordCreated(TicketStatus.NEW, TicketPriority.HIGH);
+        counterService.recordChange(TicketStatus.NEW, TicketStatus.RECEIVED,
+                TicketPriority.HIGH, TicketPriority.HIGH);
+
+        // then: O(1) 통계
+        TicketStatsResponse stats = counterService.getStats();
+        assertThat(stats.getTotal()).isEqualTo(2L);
+        assertThat(stats.getNewCount()).isEqualTo(1L);
+        assertThat(stats.getCritical()).isEqualTo(1L);
+        assertThat(stats.getHigh()).isEqualTo(1L);
+        assertThat(counterService.count(TicketStatus.RECEIVED)).isEqualTo(1L);
+
+        // then: 전이는 키 순서로 -1/+1
+        InOrder inOrder = inOrder(counterRepository);
+        inOrder.verify(counterRepository).increment(eq("STATUS:NEW"), eq(-1L), any());
+        inOrder.verify(counterRepository).increment(eq("STATUS:RECEIVED"), eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("카운터 행 없음 - UPSERT로 합산")
+    void testRecord_MissingRowUpserts() {
+        // given: 카운터 행 없음
+        given(counterRepository.increment(anyString(), anyLong(), any())).willReturn(0);
+
+        // when: 생성
+        counterService.recordCreated(TicketStatus.NEW, TicketPriority.LOW);
+
+        // then: INSERT ... ON CONFLICT DO UPDATE
+        verify(counterRepository).upsert(eq("STATUS:NEW"), eq(1L), any());
+        verify(counterRepository).upsert(eq("PRIORITY:LOW"), eq(1L), any());
+        verify(counterRepository, never()).save(any(TicketCounter.class));
+        assertThat(counterService.count(TicketStatus.NEW)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("변경 없음 - 카운터 갱신 생략")
+    void testRecordChange_NoChange() {
+        // when: 상태/우선순위 동일
+        counterService.recordChange(TicketStatus.NEW, TicketStatus.NEW, TicketPriority.LOW, TicketPriority.LOW);
+
+        // then: UPDATE 없음
+        verifyNoInteractions(counterRepository);
+    }
+
+    @Test
+    @DisplayName("대사 - 차이만 증감으로 반영하고 메모리 값은 저장된 행으로 재설정")
+    void testReconcile_FixesDrift() {
+        // given: 저장된 카운터는 틀린 값, 실제 건수는 GROUP BY 결과, 보정 후 저장된 행
+        given(counterRepository.findAll()).willReturn(
+                List.of(counter("STATUS:NEW", 99L)),
+                List.of(counter("STATUS:NEW", 3L), counter("STATUS:CLOSED", 7L),
+                        counter("PRIORITY:CRITICAL", 10L), counter(TicketCounterService.RECONCILE_LOCK_KEY, 0L)));
+        given(ticketRepository.countGroupByStatus()).willReturn(List.<Object[]>of(
+                new Object[]{TicketStatus.NEW, 3L},
+                new Object[]{TicketStatus.CLOSED, 7L}));
+        given(ticketRepository.countGroupByPriority()).willReturn(List.<Object[]>of(
+                new Object[]{TicketPriority.CRITICAL, 10L}));
+        given(counterRepository.increment(anyString(), anyLong(), any())).willReturn(1);
+
+        // when: 대사
+        counterService.reconcile();
+
+        // then: 대사 잠금 행만 잠그고, 없는 행은 0으로 만든 뒤 차이만큼 증감 (덮어쓰지 않음)
+        verify(counterRepository).findLockedByCounterKey(TicketCounterService.RECONCILE_LOCK_KEY);
+        verify(counterRepository).insertIfAbsent(eq("STATUS:CLOSED"), eq(0L), any());
+        verify(counterRepository).insertIfAbsent(eq("PRIORITY:CRITICAL"), eq(0L), any());
+        verify(counterRepository, never()).insertIfAbsent(eq("STATUS:NEW"), anyLong(), any());
+        verify(counterRepository).increment(eq("STATUS:NEW"), eq(-96L), any());
+        verify(counterRepository).increment(eq("STATUS:CLOSED"), eq(7L), any());
+        verify(counterRepository).increment(eq("PRIORITY:CRITICAL"), eq(10L), any());
+        verify(counterRepository, never()).upsert(anyString(), anyLong(), any());
+
+        // then: 메모리 값은 저장된 행 값
+        TicketStatsResponse stats = counterService.getStats();
+        assertThat(stats.getTotal()).isEqualTo(10L);
+        assertThat(stats.getNewCount()).isEqualTo(3L);
+        assertThat(stats.getClosed()).isEqualTo(7L);
+        assertThat(stats.getCritical()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("대사 - 커밋 중인 증감이 메모리에 반영될 때까지 기다려 두 번 더하지 않는다")
+    void testReconcile_WaitsForCommittingChanges() throws Exception {
+        // given: 카운터 증감이 커밋 직전 (DB에는 이미 반영된 것으로 봄)
+        given(counterRepository.increment(anyString(), anyLong(), any())).willReturn(1);
+        given(counterRepository.findAll()).willReturn(List.of(counter("STATUS:NEW", 1L), counter("PRIORITY:LOW", 1L)));
+        given(ticketRepository.countGroupByStatus()).willReturn(List.<Object[]>of(new Object[]{TicketStatus.NEW, 1L}));
+        given(ticketRepository.countGroupByPriority()).willReturn(List.<Object[]>of(new Object[]{TicketPriority.LOW, 1L}));
+        TransactionSynchronizationManager.initSynchronization();
+        List<TransactionSynchronization> synchronizations;
+        try {
+            counterService.recordCreated(TicketStatus.NEW, TicketPriority.LOW);
+            synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        synchronizations.forEach(s -> s.beforeCommit(false));
+
+        // when: 대사는 커밋 후 반영이 끝날 때까지 메모리 값을 다시 읽지 않음
+        CompletableFuture<Void> reconcile = CompletableFuture.runAsync(counterService::reconcile);
+        Thread.sleep(200);
+        assertThat(reconcile).isNotDone();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        reconcile.get(5, TimeUnit.SECONDS);
+
+        // then: 저장된 값 한 번만
+        assertThat(counterService.count(TicketStatus.NEW)).isEqualTo(1L);
+        assertThat(counterService.count(TicketPriority.LOW)).isEqualTo(1L);
+    }
+
+    private static TicketCounter counter(String key, long value) {
+        return TicketCounter.builder().counterKey(key).value(value).build();
+    }
+}
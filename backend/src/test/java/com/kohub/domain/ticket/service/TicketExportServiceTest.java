@@ -0,0 +1,107 @@
+package com.kohub.domain.ticket.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.kohub.domain.ticket.dto.TicketExportFormat;
+import com.kohub.domain.ticket.entity.*;
+import com.kohub.domain.ticket.repository.ActivityRepository;
+import com.kohub.domain.ticket.repository.TicketRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * 티켓 내보내기 서비스 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TicketExportService 단위 테스트")
+class TicketExportServiceTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private ActivityRepository activityRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private TicketExportService exportService;
+    private Ticket first;
+    private Ticket second;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        exportService = new TicketExportService(ticketRepository, activityRepository, entityManager, objectMapper, 1);
+        first = Ticket.builder().id(UUID.randomUUID()).title("디스크, \"90%\"").source(TicketSource.MANUAL)
+                .priority(TicketPriority.HIGH).status(TicketStatus.NEW).build();
+        second = Ticket.builder().id(UUID.randomUUID()).title("=cmd").source(TicketSource.MANUAL)
+                .priority(TicketPriority.LOW).status(TicketStatus.CLOSED).build();
+        given(ticketRepository.streamByFilters(null, null, null, null)).willReturn(Stream.of(first, second));
+    }
+
+    @Test
+    @DisplayName("CSV - 헤더와 티켓 행을 쓰고 특수문자/수식을 이스케이프한다")
+    void exportsCsvWithEscaping() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long exported = exportService.export(TicketExportFormat.CSV, null, null, null, null, false, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(exported).isEqualTo(2);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("\uFEFFid,title,status");
+        assertThat(lines[1]).startsWith(first.getId() + ",\"디스크, \"\"90%\"\"\",NEW,HIGH");
+        assertThat(lines[2]).startsWith(second.getId() + ",'=cmd,CLOSED,LOW");
+        verifyNoInteractions(activityRepository);
+        // 청크(1건)마다 영속성 컨텍스트 정리
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    @DisplayName("NDJSON - 티켓마다 한 줄, 활동을 청크 단위로 조회해 붙인다")
+    void exportsNdjsonWithActivities() throws Exception {
+        // given
+        Activity comment = Activity.builder().id(UUID.randomUUID()).ticket(first)
+                .type(ActivityType.COMMENT).content("확인 중").build();
+        given(activityRepository.findByTicketIdsInOrder(List.of(first.getId()))).willReturn(List.of(comment));
+        given(activityRepository.findByTicketIdsInOrder(List.of(second.getId()))).willReturn(List.of());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        exportService.export(TicketExportFormat.NDJSON, null, null, null, null, true, out);
+
+        // then
+        ObjectMapper reader = new ObjectMapper();
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode firstLine = reader.readTree(lines[0]);
+        assertThat(firstLine.get("id").asText()).isEqualTo(first.getId().toString());
+        assertThat(firstLine.get("activities").get(0).get("content").asText()).isEqualTo("확인 중");
+        assertThat(reader.readTree(lines[1]).get("activities")).isEmpty();
+        verify(activityRepository, times(2)).findByTicketIdsInOrder(any());
+    }
+}
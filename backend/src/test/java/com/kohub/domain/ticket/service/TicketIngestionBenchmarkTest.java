@@ -0,0 +1,91 @@
+package com.kohub.domain.ticket.service;
+
+import com.kohub.domain.ticket.dto.TicketRequest;
+import com.kohub.domain.ticket.entity.TicketPriority;
+import com.kohub.domain.ticket.entity.TicketSource;
+import com.kohub.domain.ticket.repository.TicketRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 티켓 쓰기 경로 문장 수 비교 (단건 생성 반복 vs 일괄 수집)
+ * Hibernate 통계의 PreparedStatement 수로 티켓당 왕복 횟수를 측정한다.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.order_updates=true",
+        "kohub.ticket.ingestion.batch-size=50"
+})
+@ActiveProfiles("test")
+@DisplayName("티켓 쓰기 배치 벤치마크")
+class TicketIngestionBenchmarkTest {
+
+    private static final int TICKETS = 200;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private TicketIngestionService ticketIngestionService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("일괄 수집은 단건 생성 대비 티켓당 문장 수를 크게 줄인다")
+    void ingestionReducesStatementsPerTicket() {
+        // given
+        String runId = UUID.randomUUID().toString();
+        long before = ticketRepository.count();
+
+        // when: 단건 생성 반복
+        statistics.clear();
+        requests(runId + ":single").forEach(request -> ticketService.create(request, null));
+        double singlePerTicket = (double) statistics.getPrepareStatementCount() / TICKETS;
+
+        // when: 일괄 수집
+        statistics.clear();
+        ticketIngestionService.ingest(requests(runId + ":bulk"), null);
+        double bulkPerTicket = (double) statistics.getPrepareStatementCount() / TICKETS;
+
+        // then
+        assertThat(ticketRepository.count()).isEqualTo(before + TICKETS * 2L);
+        assertThat(bulkPerTicket).isLessThan(singlePerTicket / 10);
+    }
+
+    private List<TicketRequest> requests(String prefix) {
+        return IntStream.range(0, TICKETS)
+                .mapToObj(i -> TicketRequest.builder()
+                        .title("디스크 사용률 경고 #" + i)
+                        .source(TicketSource.PROMETHEUS)
+                        .sourceEventId(prefix + ":" + i)
+                        .priority(TicketPriority.values()[i % TicketPriority.values().length])
+                        .build())
+                .toList();
+    }
+}
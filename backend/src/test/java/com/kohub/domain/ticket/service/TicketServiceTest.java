@@ -2,17 +2,25 @@ package com.kohub.domain.ticket.service;
 
 import com.kohub.common.exception.BusinessException;
 import com.kohub.common.exception.ErrorCode;
+import com.kohub.common.pagination.CursorCodec;
+import com.kohub.common.pagination.CursorPage;
+import com.kohub.common.pagination.RowCountEstimator;
+import com.kohub.common.persistence.OptimisticLockRetry;
+import com.kohub.domain.assignment.service.TicketAutoAssigner;
 import com.kohub.domain.ticket.dto.TicketDetailResponse;
+import com.kohub.domain.ticket.dto.TicketDetailResponse.ActivityResponse;
 import com.kohub.domain.ticket.dto.TicketRequest;
 import com.kohub.domain.ticket.dto.TicketResponse;
 import com.kohub.domain.ticket.dto.TicketStatsResponse;
 
-import java.util.HashMap;
-import java.util.Map;
+import com.kohub.domain.ticket.entity.Activity;
+import com.kohub.domain.ticket.entity.ActivityType;
 import com.kohub.domain.ticket.entity.Ticket;
 import com.kohub.domain.ticket.entity.TicketPriority;
 import com.kohub.domain.ticket.entity.TicketSource;
 import com.kohub.domain.ticket.entity.TicketStatus;
+import com.kohub.domain.ticket.event.TicketChangedEvent;
+import com.kohub.domain.ticket.repository.ActivityRepository;
 import com.kohub.domain.ticket.repository.TicketRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,17 +30,28 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -46,6 +65,24 @@ class TicketServiceTest {
     @Mock
     private TicketRepository ticketRepository;
 
+    @Mock
+    private ActivityRepository activityRepository;
+
+    @Mock
+    private RowCountEstimator rowCountEstimator;
+
+    @Mock
+    private TicketCounterService ticketCounterService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private OptimisticLockRetry optimisticLockRetry;
+
+    @Mock
+    private TicketAutoAssigner autoAssigner;
+
     @InjectMocks
     private TicketService ticketService;
 
@@ -59,6 +96,10 @@ class TicketServiceTest {
         testId = UUID.randomUUID();
         reporterId = UUID.randomUUID();
 
+        // 재시도 래퍼는 작업을 그대로 실행
+        lenient().when(optimisticLockRetry.execute(anyString(), any()))
+                .thenAnswer(inv -> inv.<Supplier<?>>getArgument(1).get());
+
         testTicket = Ticket.builder()
                 .id(testId)
                 .title("서버 다운")
@@ -162,6 +203,54 @@ class TicketServiceTest {
             assertThat(response.getTitle()).isEqualTo("서버 다운");
         }
 
+        @Test
+        @DisplayName("상세 조회 - 최근 활동만 시간순으로 포함")
+        void testGetById_EmbedsLatestActivities() {
+            // given: 최신순 활동 N + 1개
+            given(ticketRepository.findById(testId)).willReturn(Optional.of(testTicket));
+            Instant now = Instant.now();
+            List<Activity> latest = new ArrayList<>();
+            for (int i = 0; i <= TicketService.DETAIL_ACTIVITY_LIMIT; i++) {
+                latest.add(Activity.builder().id(UUID.randomUUID()).ticket(testTicket)
+                        .type(ActivityType.STATUS_CHANGE).content("변경 " + i)
+                        .createdAt(now.minusSeconds(i)).build());
+            }
+            given(activityRepository.findLatest(testId, Limit.of(TicketService.DETAIL_ACTIVITY_LIMIT + 1)))
+                    .willReturn(latest);
+
+            // when: 조회
+            TicketDetailResponse response = ticketService.getById(testId);
+
+            // then: N개, 마지막이 가장 최신, 이전 이력 존재 표시 및 이어보기 커서
+            assertThat(response.getActivities()).hasSize(TicketService.DETAIL_ACTIVITY_LIMIT);
+            assertThat(response.getActivities().get(TicketService.DETAIL_ACTIVITY_LIMIT - 1).getContent())
+                    .isEqualTo("변경 0");
+            assertThat(response.isHasMoreActivities()).isTrue();
+            Activity oldest = latest.get(TicketService.DETAIL_ACTIVITY_LIMIT - 1);
+            assertThat(CursorCodec.decode(response.getActivityCursor(), "activity", 2))
+                    .containsExactly(oldest.getCreatedAt().toString(), oldest.getId().toString());
+        }
+
+        @Test
+        @DisplayName("활동 타임라인 - 커서 이전 조회")
+        void testGetActivities_BeforeCursor() {
+            // given: 이전 페이지 커서
+            Instant createdAt = Instant.parse("2026-01-01T00:00:00Z");
+            UUID lastId = UUID.randomUUID();
+            given(ticketRepository.existsById(testId)).willReturn(true);
+            given(activityRepository.findBefore(testId, createdAt, lastId, Limit.of(11)))
+                    .willReturn(List.of(Activity.builder().id(UUID.randomUUID()).ticket(testTicket)
+                            .type(ActivityType.COMMENT).content("이전").createdAt(createdAt).build()));
+
+            // when: 다음 페이지 조회
+            CursorPage<ActivityResponse> page = ticketService.getActivities(
+                    testId, CursorCodec.encode("activity", createdAt, lastId), 10);
+
+            // then: 마지막 페이지
+            assertThat(page.content()).extracting(ActivityResponse::getContent).containsExactly("이전");
+            assertThat(page.hasNext()).isFalse();
+        }
+
         @Test
         @DisplayName("존재하지 않는 ID로 조회 - 실패")
         void testGetById_NotFound() {
@@ -189,6 +278,61 @@ class TicketServiceTest {
             assertThat(result).isNotNull();
             assertThat(result.getContent()).hasSize(1);
         }
+
+        @Test
+        @DisplayName("티켓 목록 Slice 조회 - COUNT 쿼리 없음")
+        void testGetSlice_NoCount() {
+            // given: Slice 결과
+            Pageable pageable = PageRequest.of(0, 10);
+            given(ticketRepository.sliceByFilters(any(), any(), any(), any(), any()))
+                    .willReturn(new SliceImpl<>(List.of(testTicket), pageable, true));
+
+            // when: Slice 조회
+            Slice<TicketResponse> result = ticketService.getSlice(null, null, null, null, pageable);
+
+            // then: hasNext만 제공, COUNT 미실행
+            assertThat(result.getContent()).hasSize(1);
+            assertThat(result.hasNext()).isTrue();
+            verify(ticketRepository, never()).findByFilters(any(), any(), any(), any(), any());
+            verify(ticketRepository, never()).countByFilters(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("전문 검색 - 상태 필터와 이스케이프된 부분 일치 패턴 전달")
+        void testSearch_Success() {
+            // given: 검색 결과
+            Pageable pageable = PageRequest.of(0, 10);
+            given(ticketRepository.search(eq("CPU 100%"), eq("%cpu 100\\%%"), eq("NEW"), isNull(), isNull(), any()))
+                    .willReturn(new SliceImpl<>(List.of(testTicket), pageable, false));
+
+            // when: 검색
+            Slice<TicketResponse> result = ticketService.search(" CPU 100% ", TicketStatus.NEW, null, null, pageable);
+
+            // then: 결과 검증
+            assertThat(result.getContent()).hasSize(1);
+            assertThat(result.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("전문 검색 - 빈 검색어 실패")
+        void testSearch_BlankKeyword() {
+            // when & then: 예외 발생
+            assertThatThrownBy(() -> ticketService.search("  ", null, null, null, PageRequest.of(0, 10)))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REQUEST);
+        }
+
+        @Test
+        @DisplayName("추정 건수 - 필터 없으면 테이블 통계, 필터 있으면 캐시된 COUNT")
+        void testEstimateCount() {
+            // given: 추정기 응답
+            given(rowCountEstimator.estimateTable(eq("tickets"), any())).willReturn(1000L);
+            given(rowCountEstimator.cached(startsWith("tickets:NEW"), any())).willReturn(42L);
+
+            // when & then
+            assertThat(ticketService.estimateCount(null, null, null, null)).isEqualTo(1000L);
+            assertThat(ticketService.estimateCount(TicketStatus.NEW, null, null, null)).isEqualTo(42L);
+        }
     }
 
     @Nested
@@ -204,8 +348,11 @@ class TicketServiceTest {
             // when: 접수
             TicketResponse response = ticketService.receive(testId, reporterId);
 
-            // then: 상태 변경 확인
+            // then: 상태 변경 확인 및 카운터 반영
             assertThat(response.getStatus()).isEqualTo(TicketStatus.RECEIVED);
+            verify(ticketCounterService).recordChange(
+                    TicketStatus.NEW, TicketStatus.RECEIVED, TicketPriority.CRITICAL, TicketPriority.CRITICAL);
+            verify(eventPublisher).publishEvent(any(TicketChangedEvent.class));
         }
 
         @Test
@@ -280,13 +427,15 @@ class TicketServiceTest {
         void testAddComment_Success() {
             // given: 티켓 존재
             given(ticketRepository.findById(testId)).willReturn(Optional.of(testTicket));
+            given(activityRepository.save(any(Activity.class))).willAnswer(invocation -> invocation.getArgument(0));
 
             // when: 코멘트 추가
-            TicketDetailResponse response = ticketService.addComment(testId, "분석 중입니다", reporterId);
+            ActivityResponse response = ticketService.addComment(testId, "분석 중입니다", reporterId);
 
-            // then: 활동 기록 확인
-            assertThat(response.getActivities()).isNotEmpty();
-            assertThat(response.getActivities().get(0).getContent()).isEqualTo("분석 중입니다");
+            // then: 새 활동만 반환, 기존 이력은 로딩하지 않음
+            assertThat(response.getType()).isEqualTo(ActivityType.COMMENT);
+            assertThat(response.getContent()).isEqualTo("분석 중입니다");
+            assertThat(testTicket.getActivities()).isEmpty();
         }
     }
 
@@ -297,18 +446,9 @@ class TicketServiceTest {
         @Test
         @DisplayName("티켓 통계 조회 - 성공")
         void testGetStats_Success() {
-            // given: 통계 데이터 (단일 쿼리 결과)
-            Map<String, Long> statsMap = new HashMap<>();
-            statsMap.put("total", 50L);
-            statsMap.put("newCount", 10L);
-            statsMap.put("inProgress", 15L);
-            statsMap.put("pending", 5L);
-            statsMap.put("resolved", 20L);
-            statsMap.put("completed", 0L);
-            statsMap.put("closed", 0L);
-            statsMap.put("critical", 5L);
-            statsMap.put("high", 10L);
-            given(ticketRepository.getStats()).willReturn(statsMap);
+            // given: 카운터 통계
+            given(ticketCounterService.getStats())
+                    .willReturn(TicketStatsResponse.of(50L, 10L, 15L, 5L, 20L, 0L, 0L, 5L, 10L));
 
             // when: 통계 조회
             TicketStatsResponse stats = ticketService.getStats();
@@ -322,4 +462,70 @@ class TicketServiceTest {
             assertThat(stats.getHigh()).isEqualTo(10L);
         }
     }
+
+    @Nested
+    @DisplayName("키셋 페이지네이션 테스트")
+    class CursorTests {
+
+        private Ticket ticketAt(TicketPriority priority, Instant createdAt) {
+            return Ticket.builder()
+                    .id(UUID.randomUUID())
+                    .title("티켓")
+                    .source(TicketSource.MANUAL)
+                    .priority(priority)
+                    .createdAt(createdAt)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("첫 페이지 - size + 1 조회 시 다음 커서 발급")
+        void testOpenTickets_FirstPageHasNext() {
+            // given: 요청 크기보다 1개 많은 결과
+            Instant now = Instant.now();
+            List<Ticket> rows = List.of(
+                    ticketAt(TicketPriority.CRITICAL, now),
+                    ticketAt(TicketPriority.HIGH, now.minusSeconds(10)),
+                    ticketAt(TicketPriority.LOW, now.minusSeconds(20)));
+            given(ticketRepository.findOpenTicketsFirst(Limit.of(3))).willReturn(rows);
+
+            // when: 2개 조회
+            CursorPage<TicketResponse> page = ticketService.getOpenTicketsByCursor(null, 2);
+
+            // then: 마지막 행의 정렬 키가 커서로 인코딩
+            assertThat(page.content()).hasSize(2);
+            assertThat(page.hasNext()).isTrue();
+            assertThat(CursorCodec.decode(page.nextCursor(), "open", 3))
+                    .containsExactly("2", rows.get(1).getCreatedAt().toString(), rows.get(1).getId().toString());
+        }
+
+        @Test
+        @DisplayName("커서 이후 조회 - 정렬 키로 시크")
+        void testOpenTickets_SeekAfterCursor() {
+            // given: 이전 페이지 커서
+            Instant createdAt = Instant.parse("2026-01-01T00:00:00Z");
+            UUID lastId = UUID.randomUUID();
+            String cursor = CursorCodec.encode("open", 2, createdAt, lastId);
+            given(ticketRepository.findOpenTicketsAfter((short) 2, createdAt, lastId, Limit.of(3)))
+                    .willReturn(List.of(ticketAt(TicketPriority.MEDIUM, createdAt)));
+
+            // when: 다음 페이지 조회
+            CursorPage<TicketResponse> page = ticketService.getOpenTicketsByCursor(cursor, 2);
+
+            // then: 마지막 페이지
+            assertThat(page.content()).hasSize(1);
+            assertThat(page.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("다른 목록의 커서 사용 - 실패")
+        void testList_RejectsForeignCursor() {
+            // given: 미완료 목록 커서
+            String cursor = CursorCodec.encode("open", 1, Instant.now(), UUID.randomUUID());
+
+            // when & then: 전체 목록에 사용 시 예외 발생
+            assertThatThrownBy(() -> ticketService.getListByCursor(null, null, null, null, cursor, 20))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REQUEST);
+        }
+    }
 }
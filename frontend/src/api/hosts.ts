@@ -39,15 +39,21 @@ export interface HostStats {
   maintenance: number
 }
 
+// 전체 건수 계산 방식 (NONE: COUNT 생략, ESTIMATE: 추정치)
+export type CountMode = 'EXACT' | 'NONE' | 'ESTIMATE'
+
 export interface PageResponse<T> {
   data: T[]
   page: {
     number: number
     size: number
-    totalElements: number
-    totalPages: number
+    // count=NONE이면 없음
+    totalElements?: number
+    totalPages?: number
+    totalEstimated?: boolean
     first: boolean
     last: boolean
+    hasNext: boolean
   }
 }
 
@@ -69,6 +75,7 @@ export async function getHosts(params?: {
   keyword?: string
   page?: number
   size?: number
+  count?: CountMode
 }): Promise<PageResponse<Host>> {
   const response = await apiClient.get<ApiResponse<PageResponse<Host>>>('/api/v1/hosts', { params })
   return response.data.data
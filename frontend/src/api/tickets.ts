@@ -1,5 +1,5 @@
 import apiClient from './client'
-import type { ApiResponse, PageResponse } from './hosts'
+import type { ApiResponse, CountMode, PageResponse } from './hosts'
 
 export interface Ticket {
   id: string
@@ -32,14 +32,27 @@ export type TicketStatus =
 
 export interface Activity {
   id: string
-  type: 'STATUS_CHANGE' | 'COMMENT' | 'ASSIGNMENT' | 'TERMINAL_ACCESS'
+  type: 'STATUS_CHANGE' | 'COMMENT' | 'ASSIGNMENT' | 'TERMINAL_ACCESS' | 'ESCALATION' | 'CORRELATED_ALERT'
   content: string
   actorId: string | null
   createdAt: string
 }
 
 export interface TicketDetail extends Ticket {
+  // 최근 활동 (시간순), 이전 이력은 getTicketActivities로 조회
   activities: Activity[]
+  hasMoreActivities: boolean
+  // 이전 활동 조회 커서 (hasMoreActivities일 때만)
+  activityCursor: string | null
+}
+
+export interface CursorPageResponse<T> {
+  data: T[]
+  cursor: {
+    size: number
+    hasNext: boolean
+    nextCursor: string | null
+  }
 }
 
 export interface TicketRequest {
@@ -69,6 +82,7 @@ export async function getTickets(params?: {
   keyword?: string
   page?: number
   size?: number
+  count?: CountMode
 }): Promise<PageResponse<Ticket>> {
   const response = await apiClient.get<ApiResponse<PageResponse<Ticket>>>('/api/v1/tickets', { params })
   return response.data.data
@@ -78,6 +92,7 @@ export async function getTickets(params?: {
 export async function getOpenTickets(params?: {
   page?: number
   size?: number
+  count?: CountMode
 }): Promise<PageResponse<Ticket>> {
   const response = await apiClient.get<ApiResponse<PageResponse<Ticket>>>('/api/v1/tickets/open', { params })
   return response.data.data
@@ -131,14 +146,54 @@ export async function resolveTicket(id: string, summary: string): Promise<Ticket
   return response.data.data
 }
 
+// 일괄 처리 (ID 목록 또는 필터 대상)
+export interface TicketBulkRequest {
+  ticketIds?: string[]
+  filter?: {
+    status?: TicketStatus
+    priority?: Ticket['priority']
+    assigneeId?: string
+    keyword?: string
+  }
+  assigneeId?: string
+  status?: TicketStatus
+  reason?: string
+  summary?: string
+}
+
+export interface TicketBulkResult {
+  requested: number
+  succeeded: number
+  failed: number
+  updatedIds: string[]
+  failures: { ticketId: string; code: string; message: string }[]
+  durationMs: number
+}
+
+export type TicketBulkAction = 'assign' | 'transition' | 'resolve' | 'close'
+
+export async function bulkUpdateTickets(action: TicketBulkAction, request: TicketBulkRequest): Promise<TicketBulkResult> {
+  const response = await apiClient.post<ApiResponse<TicketBulkResult>>(`/api/v1/tickets/bulk/${action}`, request)
+  return response.data.data
+}
+
 // 코멘트 추가
-export async function addComment(id: string, content: string): Promise<TicketDetail> {
-  const response = await apiClient.post<ApiResponse<TicketDetail>>(`/api/v1/tickets/${id}/comments`, null, {
+export async function addComment(id: string, content: string): Promise<Activity> {
+  const response = await apiClient.post<ApiResponse<Activity>>(`/api/v1/tickets/${id}/comments`, null, {
     params: { content }
   })
   return response.data.data
 }
 
+// 활동 타임라인 (최신순, 커서 페이지네이션)
+export async function getTicketActivities(id: string, params?: {
+  cursor?: string
+  size?: number
+}): Promise<CursorPageResponse<Activity>> {
+  const response = await apiClient.get<ApiResponse<CursorPageResponse<Activity>>>(`/api/v1/tickets/${id}/activities`, { params })
+  return response.data.data
+}
+
 // 티켓 통계
 export async function getTicketStats(): Promise<TicketStats> {
   const response = await apiClient.get<ApiResponse<TicketStats>>('/api/v1/tickets/stats')
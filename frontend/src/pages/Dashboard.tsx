@@ -55,7 +55,7 @@ export default function Dashboard() {
   // 최근 티켓
   const { data: openTickets, isLoading: ticketsLoading } = useQuery({
     queryKey: ['openTickets'],
-    queryFn: () => getOpenTickets({ size: 5 }),
+    queryFn: () => getOpenTickets({ size: 5, count: 'NONE' }),
     refetchInterval: 15000,
   })
 
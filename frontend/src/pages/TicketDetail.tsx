@@ -2,7 +2,7 @@ import { useState } from 'react'
 import { useParams, useNavigate, Link } from 'react-router-dom'
 import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query'
 import { ArrowLeft, MessageCircle, Send, CheckCircle, Play, Pause, RotateCcw, Clock, User, Terminal, Server, ExternalLink } from 'lucide-react'
-import { getTicket, receiveTicket, transitionTicket, resolveTicket, addComment, type TicketStatus } from '../api/tickets'
+import { getTicket, receiveTicket, transitionTicket, resolveTicket, addComment, getTicketActivities, type Activity, type TicketDetail as TicketDetailData, type TicketStatus } from '../api/tickets'
 import { getHost, getTerminalUrl } from '../api/hosts'
 import { Card, CardHeader, StatusBadge, PriorityBadge, Loading, Button } from '../components/common'
 
@@ -18,6 +18,16 @@ const activityIcons: Record<string, { bg: string; icon: typeof MessageCircle }>
   COMMENT: { bg: 'bg-gray-100 text-gray-600', icon: MessageCircle },
   ASSIGNMENT: { bg: 'bg-purple-100 text-purple-600', icon: User },
   TERMINAL_ACCESS: { bg: 'bg-green-100 text-green-600', icon: Play },
+  CORRELATED_ALERT: { bg: 'bg-orange-100 text-orange-600', icon: Server },
+}
+
+const ACTIVITY_PAGE_SIZE = 50
+
+// 상세 응답 이전의 활동 (from: 조회를 시작한 상세 응답 커서, 상세가 바뀌면 무효)
+interface OlderActivities {
+  from: string
+  activities: Activity[]
+  cursor: string | null
 }
 
 export default function TicketDetail() {
@@ -27,6 +37,7 @@ export default function TicketDetail() {
   const [commentText, setCommentText] = useState('')
   const [resolutionText, setResolutionText] = useState('')
   const [showResolveModal, setShowResolveModal] = useState(false)
+  const [older, setOlder] = useState<OlderActivities | null>(null)
 
   const { data: ticket, isLoading, error } = useQuery({
     queryKey: ['ticket', id],
@@ -73,12 +84,28 @@ export default function TicketDetail() {
 
   const commentMutation = useMutation({
     mutationFn: (content: string) => addComment(id!, content),
-    onSuccess: () => {
-      queryClient.invalidateQueries({ queryKey: ['ticket', id] })
+    onSuccess: (activity) => {
+      // 새 활동만 캐시에 추가 (상세 재조회 없음)
+      queryClient.setQueryData<TicketDetailData>(['ticket', id], (prev) =>
+        prev ? { ...prev, activities: [...prev.activities, activity] } : prev
+      )
       setCommentText('')
     },
   })
 
+  // 이전 활동 더 보기 (최신순 커서 페이지를 시간순으로 앞에 붙임)
+  const olderMutation = useMutation({
+    mutationFn: ({ cursor }: { from: string; cursor: string }) =>
+      getTicketActivities(id!, { cursor, size: ACTIVITY_PAGE_SIZE }),
+    onSuccess: (page, { from }) => {
+      setOlder((prev) => ({
+        from,
+        activities: [...[...page.data].reverse(), ...(prev?.from === from ? prev.activities : [])],
+        cursor: page.cursor.hasNext ? page.cursor.nextCursor : null,
+      }))
+    },
+  })
+
   const handleAddComment = () => {
     if (commentText.trim()) {
       commentMutation.mutate(commentText)
@@ -109,6 +136,17 @@ export default function TicketDetail() {
     )
   }
 
+  const detailCursor = ticket.hasMoreActivities ? ticket.activityCursor : null
+  const loadedOlder = older && older.from === detailCursor ? older : null
+  const activities = loadedOlder ? [...loadedOlder.activities, ...ticket.activities] : ticket.activities
+  const nextActivityCursor = loadedOlder ? loadedOlder.cursor : detailCursor
+
+  const handleLoadOlder = () => {
+    if (detailCursor && nextActivityCursor) {
+      olderMutation.mutate({ from: detailCursor, cursor: nextActivityCursor })
+    }
+  }
+
   return (
     <div className="p-6 space-y-6">
       {/* 헤더 */}
@@ -220,10 +258,19 @@ export default function TicketDetail() {
             <CardHeader title="활동 기록" />
             
             <div className="space-y-4 mb-6">
-              {ticket.activities.length === 0 ? (
+              {nextActivityCursor && (
+                <button
+                  onClick={handleLoadOlder}
+                  disabled={olderMutation.isPending}
+                  className="w-full py-2 text-sm text-[var(--kecp-gray-500)] hover:text-[var(--kecp-primary)] disabled:opacity-50 transition-colors"
+                >
+                  {olderMutation.isPending ? '불러오는 중...' : '이전 활동 더 보기'}
+                </button>
+              )}
+              {activities.length === 0 ? (
                 <p className="text-[var(--kecp-gray-500)] text-sm py-4">활동 기록이 없습니다.</p>
               ) : (
-                ticket.activities.map((activity) => {
+                activities.map((activity) => {
                   const config = activityIcons[activity.type] || activityIcons.COMMENT
                   const Icon = config.icon
                   return (
@@ -205,7 +205,7 @@ export default function TicketList() {
             </div>
 
             {/* 페이지네이션 */}
-            {data.page.totalPages > 1 && (
+            {(data.page.hasNext || !data.page.first) && (
               <div className="px-6 py-4 border-t border-[var(--kecp-gray-200)] flex items-center justify-between">
                 <p className="text-sm text-[var(--kecp-gray-500)]">
                   총 {data.page.totalElements}개